@@ -0,0 +1,209 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api;
+
+import io.ocfl.api.model.FileChangeHistory;
+import io.ocfl.api.model.ObjectDetails;
+import io.ocfl.api.model.ObjectVersionId;
+import io.ocfl.api.model.OcflObjectVersion;
+import io.ocfl.api.model.ValidationResults;
+import io.ocfl.api.model.VersionDetails;
+import io.ocfl.api.model.VersionInfo;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking interface for interacting with an OCFL repository. Each method performs the same operation as its
+ * {@link OcflRepository} counterpart, but returns immediately with a future that completes with the result. If the
+ * operation fails, the future completes exceptionally with the same exception the synchronous method would throw.
+ *
+ * <p>Implementations may limit the number of operations that execute concurrently and the number that may wait to be
+ * executed. Operations that exceed these limits complete exceptionally with a {@link RejectedExecutionException}.
+ */
+public interface AsyncOcflRepository {
+
+    /**
+     * See {@link OcflRepository#putObject(ObjectVersionId, Path, VersionInfo, OcflOption...)}
+     *
+     * @param objectVersionId the id to store the object under
+     * @param path the path to the object content
+     * @param versionInfo information about the changes to the object. Can be null.
+     * @param options optional config options
+     * @return future that completes with the objectId and version of the new object version
+     */
+    CompletableFuture<ObjectVersionId> putObject(
+            ObjectVersionId objectVersionId, Path path, VersionInfo versionInfo, OcflOption... options);
+
+    /**
+     * See {@link OcflRepository#updateObject(ObjectVersionId, VersionInfo, Consumer)}. The updater is executed on the
+     * repository's executor.
+     *
+     * @param objectVersionId the id of the object
+     * @param versionInfo information about the changes to the object. Can be null.
+     * @param objectUpdater code block within which updates to an object may be made
+     * @return future that completes with the objectId and version of the new object version
+     */
+    CompletableFuture<ObjectVersionId> updateObject(
+            ObjectVersionId objectVersionId, VersionInfo versionInfo, Consumer<OcflObjectUpdater> objectUpdater);
+
+    /**
+     * See {@link OcflRepository#getObject(ObjectVersionId, Path)}
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param outputPath the directory to write the object files to, must NOT exist
+     * @return future that completes when the object has been written
+     */
+    CompletableFuture<Void> getObject(ObjectVersionId objectVersionId, Path outputPath);
+
+    /**
+     * See {@link OcflRepository#getObject(ObjectVersionId)}
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @return future that completes with the lazy-loading object version
+     */
+    CompletableFuture<OcflObjectVersion> getObject(ObjectVersionId objectVersionId);
+
+    /**
+     * See {@link OcflRepository#describeObject(String)}
+     *
+     * @param objectId the id of the object to describe
+     * @return future that completes with the details about the object
+     */
+    CompletableFuture<ObjectDetails> describeObject(String objectId);
+
+    /**
+     * See {@link OcflRepository#describeVersion(ObjectVersionId)}
+     *
+     * @param objectVersionId the id and version of the object to describe
+     * @return future that completes with the details about the object version
+     */
+    CompletableFuture<VersionDetails> describeVersion(ObjectVersionId objectVersionId);
+
+    /**
+     * See {@link OcflRepository#fileChangeHistory(String, String)}
+     *
+     * @param objectId the id of the object
+     * @param logicalPath the logical path
+     * @return future that completes with the change history for the logical path
+     */
+    CompletableFuture<FileChangeHistory> fileChangeHistory(String objectId, String logicalPath);
+
+    /**
+     * See {@link OcflRepository#containsObject(String)}
+     *
+     * @param objectId the id of the object
+     * @return future that completes with true if the object exists and false otherwise
+     */
+    CompletableFuture<Boolean> containsObject(String objectId);
+
+    /**
+     * See {@link OcflRepository#purgeObject(String)}
+     *
+     * @param objectId the id of the object to purge
+     * @return future that completes when the object has been purged
+     */
+    CompletableFuture<Void> purgeObject(String objectId);
+
+    /**
+     * See {@link OcflRepository#validateObject(String, boolean)}
+     *
+     * @param objectId the id of the object to validate
+     * @param contentFixityCheck true if the fixity of the content files should be verified
+     * @return future that completes with the validation results
+     */
+    CompletableFuture<ValidationResults> validateObject(String objectId, boolean contentFixityCheck);
+
+    /**
+     * See {@link OcflRepository#replicateVersionAsHead(ObjectVersionId, VersionInfo)}
+     *
+     * @param objectVersionId the id of the object and version to replicate
+     * @param versionInfo information about the changes to the object. Can be null.
+     * @return future that completes with the objectId and version of the new object version
+     */
+    CompletableFuture<ObjectVersionId> replicateVersionAsHead(ObjectVersionId objectVersionId, VersionInfo versionInfo);
+
+    /**
+     * See {@link OcflRepository#rollbackToVersion(ObjectVersionId)}
+     *
+     * @param objectVersionId the id of the object and version to rollback to
+     * @return future that completes when the object has been rolled back
+     */
+    CompletableFuture<Void> rollbackToVersion(ObjectVersionId objectVersionId);
+
+    /**
+     * See {@link OcflRepository#exportVersion(ObjectVersionId, Path, OcflOption...)}
+     *
+     * @param objectVersionId the id of the object and version to export
+     * @param outputPath the directory to write the exported version to
+     * @param options optional config options
+     * @return future that completes when the version has been exported
+     */
+    CompletableFuture<Void> exportVersion(ObjectVersionId objectVersionId, Path outputPath, OcflOption... options);
+
+    /**
+     * See {@link OcflRepository#exportObject(String, Path, OcflOption...)}
+     *
+     * @param objectId the id of the object to export
+     * @param outputPath the directory to write the exported object to
+     * @param options optional config options
+     * @return future that completes when the object has been exported
+     */
+    CompletableFuture<Void> exportObject(String objectId, Path outputPath, OcflOption... options);
+
+    /**
+     * See {@link OcflRepository#importVersion(Path, OcflOption...)}
+     *
+     * @param versionPath path to the OCFL object version to import on disk
+     * @param options optional config options
+     * @return future that completes when the version has been imported
+     */
+    CompletableFuture<Void> importVersion(Path versionPath, OcflOption... options);
+
+    /**
+     * See {@link OcflRepository#importObject(Path, OcflOption...)}
+     *
+     * @param objectPath path to the OCFL object to import on disk
+     * @param options optional config options
+     * @return future that completes when the object has been imported
+     */
+    CompletableFuture<Void> importObject(Path objectPath, OcflOption... options);
+
+    /**
+     * Returns the synchronous repository that operations are delegated to. Calls made directly against it are not
+     * subject to this repository's concurrency limits.
+     *
+     * @return the synchronous repository
+     */
+    OcflRepository syncRepository();
+
+    /**
+     * Closes the underlying repository and any executor the repository created. Once closed, additional requests
+     * will be rejected, and requests that are waiting to be executed are completed exceptionally with an
+     * {@link io.ocfl.api.exception.OcflStateException}.
+     */
+    void close();
+}
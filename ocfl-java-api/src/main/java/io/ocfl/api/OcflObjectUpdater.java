@@ -27,6 +27,7 @@ package io.ocfl.api;
 import io.ocfl.api.exception.FixityCheckException;
 import io.ocfl.api.exception.OverwriteException;
 import io.ocfl.api.io.FixityCheckInputStream;
+import io.ocfl.api.model.ArchiveFormat;
 import io.ocfl.api.model.DigestAlgorithm;
 import io.ocfl.api.model.VersionNum;
 import java.io.InputStream;
@@ -131,6 +132,32 @@ public interface OcflObjectUpdater {
      */
     OcflObjectUpdater writeFile(InputStream input, String destinationPath, OcflOption... options);
 
+    /**
+     * Writes every file in a tar or zip archive to the object, as the archive is streamed. Each file is written to the
+     * logical path formed by joining the destinationPath with the file's path within the archive. Directory entries are
+     * ignored, and the archive is not extracted to disk first; each file is staged exactly as it would be if it were
+     * passed to {@link #writeFile(InputStream, String, OcflOption...)}.
+     *
+     * <p>The InputStream is read to the end of the archive, but it is not closed.
+     *
+     * <p>By default, the change will be rejected if there is already a file in the object at one of the archive's
+     * paths. To overwrite, specify {@link OcflOption#OVERWRITE}.
+     *
+     * @param archive InputStream containing the archive
+     * @param format the format of the archive
+     * @param destinationPath the logical path to write the archive's files under, or an empty string to write them to
+     *                        the object's root
+     * @param options optional config options. Use {@link OcflOption#OVERWRITE} to overwrite existing files within
+     *                    an object
+     * @return this
+     * @throws OverwriteException if there is already a file at one of the archive's paths and
+     *                            {@link OcflOption#OVERWRITE} was not specified
+     * @throws io.ocfl.api.exception.OcflInputException if the archive is malformed or contains entries other than
+     *                                                  files and directories
+     */
+    OcflObjectUpdater writeArchive(
+            InputStream archive, ArchiveFormat format, String destinationPath, OcflOption... options);
+
     /**
      * Removes a file from the object. An exception is not thrown if there is nothing at the path.
      *
@@ -25,18 +25,45 @@
 package io.ocfl.api;
 
 import io.ocfl.api.exception.AlreadyExistsException;
+import io.ocfl.api.exception.FixityCheckException;
 import io.ocfl.api.exception.NotFoundException;
 import io.ocfl.api.exception.ObjectOutOfSyncException;
+import io.ocfl.api.exception.OcflIOException;
+import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.exception.OcflStateException;
 import io.ocfl.api.exception.ValidationException;
+import io.ocfl.api.model.ArchiveFormat;
 import io.ocfl.api.model.FileChangeHistory;
+import io.ocfl.api.model.FileDetails;
+import io.ocfl.api.model.FileDiff;
+import io.ocfl.api.model.FileDiffType;
+import io.ocfl.api.model.FileListing;
+import io.ocfl.api.model.FileListingEntry;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectDetails;
+import io.ocfl.api.model.ObjectResult;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflObjectVersion;
+import io.ocfl.api.model.OcflObjectVersionFile;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.api.model.VersionDetails;
 import io.ocfl.api.model.VersionInfo;
+import io.ocfl.api.model.VersionNum;
+import io.ocfl.api.util.Enforce;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -73,6 +100,65 @@ public interface OcflRepository {
     ObjectVersionId putObject(
             ObjectVersionId objectVersionId, Path path, VersionInfo versionInfo, OcflOption... options);
 
+    /**
+     * Adds the contents of a tar or zip archive to the OCFL repository under the given objectVersionId. The archive's
+     * root is the object's root. The archive is read as it is streamed, and it is not extracted to disk before its
+     * files are staged. As with {@link #putObject(ObjectVersionId, Path, VersionInfo, OcflOption...)}, this is NOT an
+     * additive operation; the new version only contains the files in the archive.
+     *
+     * <p>The InputStream is read to the end of the archive, but it is not closed.
+     *
+     * @param objectVersionId the id to store the object under. If set to a specific version, then the update will only occur
+     *                 if the specified version matches the head object version in the repository.
+     * @param archive InputStream containing the archive
+     * @param format the format of the archive
+     * @param versionInfo information about the changes to the object. Can be null.
+     * @param options optional config options
+     * @return The objectId and version of the new object version
+     * @throws ObjectOutOfSyncException when the object was modified by another process before these changes could be committed
+     * @throws io.ocfl.api.exception.OcflInputException when the archive is malformed or contains entries other than
+     *                                                  files and directories
+     */
+    default ObjectVersionId putObject(
+            ObjectVersionId objectVersionId,
+            InputStream archive,
+            ArchiveFormat format,
+            VersionInfo versionInfo,
+            OcflOption... options) {
+        return updateObject(objectVersionId, versionInfo, updater -> updater.clearVersionState()
+                .writeArchive(archive, format, "", options));
+    }
+
+    /**
+     * Puts many objects into the repository in a single call. Each entry in the map is an object id and the path to the
+     * object's content, which is processed as if it were passed to {@link #putObject} with a HEAD version id. The
+     * same versionInfo and options are applied to every object.
+     *
+     * <p>A failure to put one object does not abort the batch. Instead, the outcome of each object is reported in the
+     * returned map, which is in the same iteration order as the input map. Implementations may process multiple
+     * objects concurrently.
+     *
+     * @param objects map of object id to the path of the object's content
+     * @param versionInfo information about the changes to the objects. Can be null.
+     * @param options optional config options. Use {@link OcflOption#MOVE_SOURCE} to move files into the repo instead of copying.
+     * @return map of object id to the outcome of putting the object
+     */
+    default Map<String, ObjectResult<ObjectVersionId>> putObjects(
+            Map<String, Path> objects, VersionInfo versionInfo, OcflOption... options) {
+        var results = new LinkedHashMap<String, ObjectResult<ObjectVersionId>>();
+        objects.forEach((objectId, path) -> {
+            try {
+                results.put(
+                        objectId,
+                        ObjectResult.success(
+                                objectId, putObject(ObjectVersionId.head(objectId), path, versionInfo, options)));
+            } catch (RuntimeException e) {
+                results.put(objectId, ObjectResult.failure(objectId, e));
+            }
+        });
+        return results;
+    }
+
     /**
      * Updates an existing object OR create a new object by selectively adding, removing, moving files within the object,
      * and creating a new version that encapsulates all of the changes. It always operates on the HEAD version of an object,
@@ -102,6 +188,75 @@ public interface OcflRepository {
      */
     void getObject(ObjectVersionId objectVersionId, Path outputPath);
 
+    /**
+     * Writes the files in the object version whose logical paths match the filter to the outputPath, preserving their
+     * logical paths. Only the matching files are read from storage, and each file's fixity is checked as it is copied.
+     * The outputPath MUST NOT exist, but its parent MUST exist. If no files match, an empty directory is created.
+     *
+     * <p>The default implementation copies the matching files using {@link #getObject(ObjectVersionId)}, and should
+     * be overridden by implementations that are able to locate the matching files without mapping the entire version.
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param outputPath the directory to write the matching files to, must NOT exist
+     * @param filter selects the logical paths to retrieve, see {@link LogicalPathFilter#prefix(String)},
+     *               {@link LogicalPathFilter#glob(String)}, and {@link LogicalPathFilter#matching(java.util.function.Predicate)}
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     * @throws FixityCheckException when the content of a file does not match its digest
+     */
+    default void getObject(ObjectVersionId objectVersionId, Path outputPath, LogicalPathFilter filter) {
+        Enforce.notNull(filter, "filter cannot be null");
+        Enforce.notNull(outputPath, "outputPath cannot be null");
+        Enforce.expressionTrue(Files.notExists(outputPath), outputPath, "outputPath must not exist");
+
+        var objectVersion = getObject(objectVersionId);
+
+        try {
+            Files.createDirectory(outputPath);
+            for (var file : objectVersion.getFiles()) {
+                if (filter.test(file.getPath())) {
+                    var destination = outputPath.resolve(file.getPath());
+                    Files.createDirectories(destination.getParent());
+                    try (var stream = file.getStream()) {
+                        Files.copy(stream, destination);
+                        stream.checkFixity();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    /**
+     * Streams the entire contents of the object at the specified version to the output stream as an archive. The
+     * archive contains the version's logical files, in logical path order. No temporary files are written, and the
+     * fixity of each file is verified as it is streamed. The output stream is NOT closed.
+     *
+     * <p>If a file fails its fixity check, a {@link FixityCheckException} is thrown after its entry has been written,
+     * and the archive is left incomplete.
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param format the archive format
+     * @param outputStream the stream to write the archive to
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     * @throws FixityCheckException when a file fails its fixity check
+     */
+    void getObject(ObjectVersionId objectVersionId, ArchiveFormat format, OutputStream outputStream);
+
+    /**
+     * Streams the entire contents of the object at the specified version to the channel as an archive. See
+     * {@link #getObject(ObjectVersionId, ArchiveFormat, OutputStream)}. The channel is NOT closed.
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param format the archive format
+     * @param channel the channel to write the archive to
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     * @throws FixityCheckException when a file fails its fixity check
+     */
+    default void getObject(ObjectVersionId objectVersionId, ArchiveFormat format, WritableByteChannel channel) {
+        getObject(objectVersionId, format, Channels.newOutputStream(channel));
+    }
+
     /**
      * Returns the details about a specific version of an object along with lazy-loading handles to all of the files in
      * the object.
@@ -112,6 +267,124 @@ public interface OcflRepository {
      */
     OcflObjectVersion getObject(ObjectVersionId objectVersionId);
 
+    /**
+     * Returns the details about a single file in a specific version of an object, along with a lazy-loading handle to
+     * its content. Unlike {@link #getObject(ObjectVersionId)}, details and handles are not created for any of the other
+     * files in the version.
+     *
+     * <p>The default implementation looks up the file using {@link #getObject(ObjectVersionId)}, and should be
+     * overridden by implementations that are able to load a single file without mapping the entire version.
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param logicalPath the logical path of the file within the object version
+     * @return lazy-loading object version file, or null if the version does not contain the logical path
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     */
+    default OcflObjectVersionFile getObjectFile(ObjectVersionId objectVersionId, String logicalPath) {
+        Enforce.notNull(logicalPath, "logicalPath cannot be null");
+        return getObject(objectVersionId).getFile(logicalPath);
+    }
+
+    /**
+     * Returns the details about multiple files in a specific version of an object, along with lazy-loading handles to
+     * their content. The object's inventory is only loaded once, and details and handles are not created for any of
+     * the files in the version that were not requested.
+     *
+     * <p>The default implementation looks up the files using {@link #getObject(ObjectVersionId)}, and should be
+     * overridden by implementations that are able to load individual files without mapping the entire version.
+     *
+     * @param objectVersionId the id and version of an object to retrieve
+     * @param logicalPaths the logical paths of the files within the object version
+     * @return map of logical path to lazy-loading object version file, in the same iteration order as the requested
+     *         paths. Paths that the version does not contain are omitted.
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     */
+    default Map<String, OcflObjectVersionFile> getObjectFiles(
+            ObjectVersionId objectVersionId, Collection<String> logicalPaths) {
+        Enforce.notNull(logicalPaths, "logicalPaths cannot be null");
+
+        var objectVersion = getObject(objectVersionId);
+        var files = new LinkedHashMap<String, OcflObjectVersionFile>();
+
+        logicalPaths.forEach(logicalPath -> {
+            var file = objectVersion.getFile(logicalPath);
+            if (file != null) {
+                files.put(logicalPath, file);
+            }
+        });
+
+        return files;
+    }
+
+    /**
+     * Lists a page of the logical files in a specific version of an object, in logical path order. When the listing is
+     * not recursive, only the immediate children of the directory are listed, and subdirectories are listed as
+     * directory entries. Only the files in the page are mapped, so this is suitable for browsing very large versions.
+     *
+     * <p>The default implementation pages through the files returned by {@link #describeVersion(ObjectVersionId)},
+     * and should be overridden by implementations that are able to list a page without mapping the entire version.
+     *
+     * @param objectVersionId the id and version of an object to list
+     * @param directory the logical directory to list, or an empty string to list the object's root
+     * @param recursive true to list every file under the directory, false to list its immediate children
+     * @param cursor the cursor returned by {@link FileListing#getNextCursor()} on the previous page, or null to list
+     *               the first page
+     * @param limit the maximum number of entries to return, must be greater than 0
+     * @return a page of files
+     * @throws NotFoundException when no object can be found for the specified objectVersionId
+     */
+    default FileListing listObjectFiles(
+            ObjectVersionId objectVersionId, String directory, boolean recursive, String cursor, int limit) {
+        Enforce.notNull(directory, "directory cannot be null");
+        Enforce.expressionTrue(limit > 0, limit, "limit must be greater than 0");
+
+        var trimmed = directory.replaceAll("^/+|/+$", "");
+        var prefix = trimmed.isEmpty() ? "" : trimmed + "/";
+
+        if (cursor != null && (!cursor.startsWith(prefix) || cursor.length() == prefix.length())) {
+            throw new OcflInputException(String.format("Cursor %s is not valid for directory '%s'", cursor, trimmed));
+        }
+
+        var files = new TreeMap<String, FileDetails>();
+        describeVersion(objectVersionId).getFiles().forEach(file -> {
+            if (file.getPath().startsWith(prefix)) {
+                files.put(file.getPath(), file);
+            }
+        });
+
+        var entries = new ArrayList<FileListingEntry>();
+        var lastCursor = cursor;
+        String nextCursor = null;
+
+        while (true) {
+            // Every path within a directory cursor sorts before the cursor followed by the greatest character
+            var current = lastCursor == null
+                    ? files.firstEntry()
+                    : files.higherEntry(lastCursor.endsWith("/") ? lastCursor + Character.MAX_VALUE : lastCursor);
+
+            if (current == null) {
+                break;
+            }
+            if (entries.size() == limit) {
+                nextCursor = lastCursor;
+                break;
+            }
+
+            var path = current.getKey();
+            var slash = recursive ? -1 : path.indexOf('/', prefix.length());
+
+            if (slash == -1) {
+                entries.add(FileListingEntry.file(current.getValue()));
+                lastCursor = path;
+            } else {
+                entries.add(FileListingEntry.directory(path.substring(0, slash)));
+                lastCursor = path.substring(0, slash + 1);
+            }
+        }
+
+        return new FileListing().setEntries(entries).setNextCursor(nextCursor);
+    }
+
     /**
      * Returns all of the details about an object and all of its versions.
      *
@@ -121,6 +394,27 @@ public interface OcflRepository {
      */
     ObjectDetails describeObject(String objectId);
 
+    /**
+     * Returns all of the details about many objects and all of their versions. A failure to describe one object, such
+     * as the object not existing, does not abort the batch. Instead, the outcome of each object is reported in the
+     * returned map, which is in the same iteration order as the input ids. Implementations may load the objects
+     * concurrently.
+     *
+     * @param objectIds the ids of the objects to describe
+     * @return map of object id to the outcome of describing the object
+     */
+    default Map<String, ObjectResult<ObjectDetails>> describeObjects(Collection<String> objectIds) {
+        var results = new LinkedHashMap<String, ObjectResult<ObjectDetails>>();
+        objectIds.forEach(objectId -> {
+            try {
+                results.put(objectId, ObjectResult.success(objectId, describeObject(objectId)));
+            } catch (RuntimeException e) {
+                results.put(objectId, ObjectResult.failure(objectId, e));
+            }
+        });
+        return results;
+    }
+
     /**
      * Returns the details about a specific version of an object.
      *
@@ -142,6 +436,123 @@ public interface OcflRepository {
      */
     FileChangeHistory fileChangeHistory(String objectId, String logicalPath);
 
+    /**
+     * Retrieves the change histories of many logical paths within an object. The object's versions are only traversed
+     * once, rather than once per path. See {@link #fileChangeHistory(String, String)}.
+     *
+     * <p>The default implementation calls {@link #fileChangeHistory(String, String)} once per path, and should be
+     * overridden by implementations that are able to traverse the object's versions once.
+     *
+     * @param objectId the id of the object
+     * @param logicalPaths the logical paths
+     * @return map of logical path to change history, in the same iteration order as the requested paths. Paths that
+     *         never existed in the object are omitted.
+     * @throws NotFoundException when the object cannot be found
+     */
+    default Map<String, FileChangeHistory> fileChangeHistories(String objectId, Collection<String> logicalPaths) {
+        Enforce.notNull(logicalPaths, "logicalPaths cannot be null");
+
+        if (!containsObject(objectId)) {
+            throw new NotFoundException(String.format("Object %s was not found.", objectId));
+        }
+
+        var histories = new LinkedHashMap<String, FileChangeHistory>();
+
+        logicalPaths.forEach(logicalPath -> {
+            try {
+                histories.put(logicalPath, fileChangeHistory(objectId, logicalPath));
+            } catch (NotFoundException e) {
+                // the path never existed in the object
+            }
+        });
+
+        return histories;
+    }
+
+    /**
+     * Returns the logical paths that were added, removed, modified, or renamed between two versions of an object. The
+     * differences are computed by comparing the versions' states directly, and are not in any particular order. The
+     * fromVersionNum does not need to be older than the toVersionNum; the differences describe how to get from the
+     * first to the second.
+     *
+     * <p>The default implementation compares the versions' files as returned by {@link #describeObject(String)}.
+     *
+     * @param objectId the id of the object
+     * @param fromVersionNum the version to compare from
+     * @param toVersionNum the version to compare to
+     * @return stream of differences
+     * @throws NotFoundException when the object or either of the versions cannot be found
+     */
+    default Stream<FileDiff> diffVersions(String objectId, VersionNum fromVersionNum, VersionNum toVersionNum) {
+        Enforce.notNull(fromVersionNum, "fromVersionNum cannot be null");
+        Enforce.notNull(toVersionNum, "toVersionNum cannot be null");
+
+        var object = describeObject(objectId);
+        var algorithm = object.getDigestAlgorithm();
+        var from = object.getVersion(fromVersionNum);
+        var to = object.getVersion(toVersionNum);
+
+        if (from == null || to == null) {
+            throw new NotFoundException(String.format(
+                    "Object %s version %s was not found.", objectId, from == null ? fromVersionNum : toVersionNum));
+        }
+
+        var diffs = new ArrayList<FileDiff>();
+        var added = new HashMap<String, List<String>>();
+        var removed = new HashMap<String, List<String>>();
+
+        to.getFiles().forEach(file -> {
+            var digest = file.getFixity().get(algorithm);
+            var previous = from.getFile(file.getPath());
+            if (previous == null) {
+                added.computeIfAbsent(digest, k -> new ArrayList<>()).add(file.getPath());
+            } else if (!digest.equals(previous.getFixity().get(algorithm))) {
+                diffs.add(new FileDiff()
+                        .setDiffType(FileDiffType.MODIFIED)
+                        .setPath(file.getPath())
+                        .setPreviousPath(file.getPath())
+                        .setDigest(digest)
+                        .setPreviousDigest(previous.getFixity().get(algorithm)));
+            }
+        });
+
+        from.getFiles().forEach(file -> {
+            if (!to.containsFile(file.getPath())) {
+                removed.computeIfAbsent(file.getFixity().get(algorithm), k -> new ArrayList<>())
+                        .add(file.getPath());
+            }
+        });
+
+        // Paths with the same content that were both added and removed are reported as renames
+        added.forEach((digest, paths) -> {
+            var previousPaths = removed.getOrDefault(digest, List.of());
+            for (var i = 0; i < paths.size(); i++) {
+                if (i < previousPaths.size()) {
+                    diffs.add(new FileDiff()
+                            .setDiffType(FileDiffType.RENAMED)
+                            .setPath(paths.get(i))
+                            .setPreviousPath(previousPaths.get(i))
+                            .setDigest(digest)
+                            .setPreviousDigest(digest));
+                } else {
+                    diffs.add(new FileDiff()
+                            .setDiffType(FileDiffType.ADDED)
+                            .setPath(paths.get(i))
+                            .setDigest(digest));
+                }
+            }
+            removed.computeIfPresent(digest, (k, v) -> v.subList(Math.min(paths.size(), v.size()), v.size()));
+        });
+
+        removed.forEach((digest, paths) -> paths.forEach(path -> diffs.add(new FileDiff()
+                .setDiffType(FileDiffType.REMOVED)
+                .setPath(path)
+                .setPreviousPath(path)
+                .setPreviousDigest(digest))));
+
+        return diffs.stream();
+    }
+
     /**
      * Returns true if an object with the specified id exists in the repository.
      *
@@ -244,6 +655,40 @@ public interface OcflRepository {
      */
     void exportObject(String objectId, Path outputPath, OcflOption... options);
 
+    /**
+     * Streams a raw OCFL object to the output stream as an archive. The archive contains everything in the object's
+     * root directory, with paths relative to the object root. No temporary files are written, and the fixity of each
+     * content file is verified against the object's root inventory as it is streamed. The output stream is NOT closed.
+     *
+     * <p>The object is not locked while it is streamed. The archive contains the object as of its HEAD version when the
+     * export began; versions created while it is streamed are not included. Objects with a mutable HEAD are locked
+     * for the duration of the export.
+     *
+     * <p>If a content file fails its fixity check, a {@link FixityCheckException} is thrown after its entry has been
+     * written, and the archive is left incomplete.
+     *
+     * @param objectId the id of the object to export
+     * @param format the archive format
+     * @param outputStream the stream to write the archive to
+     * @throws NotFoundException when no object can be found for the specified objectId
+     * @throws FixityCheckException when a content file fails its fixity check
+     */
+    void exportObject(String objectId, ArchiveFormat format, OutputStream outputStream);
+
+    /**
+     * Streams a raw OCFL object to the channel as an archive. See
+     * {@link #exportObject(String, ArchiveFormat, OutputStream)}. The channel is NOT closed.
+     *
+     * @param objectId the id of the object to export
+     * @param format the archive format
+     * @param channel the channel to write the archive to
+     * @throws NotFoundException when no object can be found for the specified objectId
+     * @throws FixityCheckException when a content file fails its fixity check
+     */
+    default void exportObject(String objectId, ArchiveFormat format, WritableByteChannel channel) {
+        exportObject(objectId, format, Channels.newOutputStream(channel));
+    }
+
     /**
      * Imports the OCFL object version at the specified path into the repository. In order to successfully import the
      * version the following conditions must be met:
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api.model;
+
+import java.util.Objects;
+
+/**
+ * A difference between a logical path in two versions of an object
+ */
+public class FileDiff {
+
+    private FileDiffType diffType;
+    private String path;
+    private String previousPath;
+    private String digest;
+    private String previousDigest;
+
+    /**
+     * The type of the difference
+     *
+     * @return diff type
+     */
+    public FileDiffType getDiffType() {
+        return diffType;
+    }
+
+    public FileDiff setDiffType(FileDiffType diffType) {
+        this.diffType = diffType;
+        return this;
+    }
+
+    /**
+     * The logical path in the newer version, or, if the path was removed, the logical path in the older version
+     *
+     * @return logical path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public FileDiff setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * The logical path in the older version. This is the same as {@link #getPath()} unless the path was renamed, and is
+     * null if the path was added.
+     *
+     * @return previous logical path or null
+     */
+    public String getPreviousPath() {
+        return previousPath;
+    }
+
+    public FileDiff setPreviousPath(String previousPath) {
+        this.previousPath = previousPath;
+        return this;
+    }
+
+    /**
+     * The digest of the content in the newer version, or null if the path was removed. The digest is computed using
+     * the object's digest algorithm.
+     *
+     * @return digest or null
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    public FileDiff setDigest(String digest) {
+        this.digest = digest;
+        return this;
+    }
+
+    /**
+     * The digest of the content in the older version, or null if the path was added
+     *
+     * @return previous digest or null
+     */
+    public String getPreviousDigest() {
+        return previousDigest;
+    }
+
+    public FileDiff setPreviousDigest(String previousDigest) {
+        this.previousDigest = previousDigest;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileDiff fileDiff = (FileDiff) o;
+        return diffType == fileDiff.diffType
+                && Objects.equals(path, fileDiff.path)
+                && Objects.equals(previousPath, fileDiff.previousPath)
+                && Objects.equals(digest, fileDiff.digest)
+                && Objects.equals(previousDigest, fileDiff.previousDigest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(diffType, path, previousPath, digest, previousDigest);
+    }
+
+    @Override
+    public String toString() {
+        return "FileDiff{" + "diffType="
+                + diffType + ", path='"
+                + path + '\'' + ", previousPath='"
+                + previousPath + '\'' + ", digest='"
+                + digest + '\'' + ", previousDigest='"
+                + previousDigest + '\'' + '}';
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api.model;
+
+import java.util.List;
+
+/**
+ * A single page of the logical files, and optionally directories, in an object version, in logical path order.
+ */
+public class FileListing {
+
+    private List<FileListingEntry> entries;
+    private String nextCursor;
+
+    /**
+     * The entries in the page, in logical path order
+     *
+     * @return entries
+     */
+    public List<FileListingEntry> getEntries() {
+        return entries;
+    }
+
+    public FileListing setEntries(List<FileListingEntry> entries) {
+        this.entries = entries;
+        return this;
+    }
+
+    /**
+     * An opaque cursor to pass to the next listing request to retrieve the next page, or null if this is the last page
+     *
+     * @return next cursor or null
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public FileListing setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+        return this;
+    }
+
+    /**
+     * @return true if there are more entries after this page
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "FileListing{" + "entries=" + entries + ", nextCursor='" + nextCursor + '\'' + '}';
+    }
+}
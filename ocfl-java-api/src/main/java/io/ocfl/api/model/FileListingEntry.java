@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api.model;
+
+import java.util.Objects;
+
+/**
+ * An entry in a {@link FileListing}. Directories are only listed when a listing is not recursive, and are implied by
+ * the logical paths of the files they contain.
+ */
+public class FileListingEntry {
+
+    private String path;
+    private boolean directory;
+    private FileDetails fileDetails;
+
+    /**
+     * Creates an entry for a file
+     *
+     * @param fileDetails the file's details
+     * @return entry
+     */
+    public static FileListingEntry file(FileDetails fileDetails) {
+        return new FileListingEntry()
+                .setPath(fileDetails.getPath())
+                .setDirectory(false)
+                .setFileDetails(fileDetails);
+    }
+
+    /**
+     * Creates an entry for a directory
+     *
+     * @param path the directory's logical path, without a trailing slash
+     * @return entry
+     */
+    public static FileListingEntry directory(String path) {
+        return new FileListingEntry().setPath(path).setDirectory(true);
+    }
+
+    /**
+     * The logical path of the file or directory
+     *
+     * @return logical path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public FileListingEntry setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * @return true if the entry is a directory
+     */
+    public boolean isDirectory() {
+        return directory;
+    }
+
+    public FileListingEntry setDirectory(boolean directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    /**
+     * The file's details, or null if the entry is a directory
+     *
+     * @return file details or null
+     */
+    public FileDetails getFileDetails() {
+        return fileDetails;
+    }
+
+    public FileListingEntry setFileDetails(FileDetails fileDetails) {
+        this.fileDetails = fileDetails;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileListingEntry that = (FileListingEntry) o;
+        return directory == that.directory
+                && Objects.equals(path, that.path)
+                && Objects.equals(fileDetails, that.fileDetails);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, directory, fileDetails);
+    }
+
+    @Override
+    public String toString() {
+        return "FileListingEntry{" + "path='"
+                + path + '\'' + ", directory="
+                + directory + ", fileDetails="
+                + fileDetails + '}';
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api.model;
+
+import io.ocfl.api.exception.OcflInputException;
+import io.ocfl.api.util.Enforce;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Selects a subset of the logical paths in an object version. Every filter has a literal prefix that all of the paths
+ * it matches start with, which allows implementations to locate candidate paths using a sorted index rather than
+ * testing every path in the version.
+ */
+public class LogicalPathFilter implements Predicate<String> {
+
+    private static final LogicalPathFilter ALL = new LogicalPathFilter("", path -> true, "all");
+
+    private final String prefix;
+    private final Predicate<String> predicate;
+    private final String description;
+
+    /**
+     * @return a filter that matches every logical path
+     */
+    public static LogicalPathFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Creates a filter that matches logical paths that start with the prefix. To select a directory, include a trailing
+     * slash, otherwise the prefix {@code a/b} also matches {@code a/bc.txt}.
+     *
+     * @param prefix the logical path prefix
+     * @return filter
+     */
+    public static LogicalPathFilter prefix(String prefix) {
+        Enforce.notNull(prefix, "prefix cannot be null");
+        return new LogicalPathFilter(prefix, path -> true, "prefix=" + prefix);
+    }
+
+    /**
+     * Creates a filter that matches logical paths against a glob. {@code *} matches any characters within a path
+     * segment, {@code **} matches any characters across segments, and {@code **}{@code /} matches zero or more
+     * directories. {@code ?}, {@code [...]}, {@code [!...]}, and {@code {a,b}} are also supported, and {@code \} escapes
+     * the character that follows it.
+     *
+     * @param glob the glob to match logical paths against
+     * @return filter
+     * @throws OcflInputException if the glob is malformed
+     */
+    public static LogicalPathFilter glob(String glob) {
+        Enforce.notBlank(glob, "glob cannot be blank");
+        var pattern = Pattern.compile(globToRegex(glob));
+        return new LogicalPathFilter(
+                globPrefix(glob), path -> pattern.matcher(path).matches(), "glob=" + glob);
+    }
+
+    /**
+     * Creates a filter that matches logical paths that the predicate accepts. Every path in the version must be tested,
+     * so prefer {@link #prefix(String)} or {@link #glob(String)} when possible.
+     *
+     * @param predicate the predicate to test logical paths with
+     * @return filter
+     */
+    public static LogicalPathFilter matching(Predicate<String> predicate) {
+        Enforce.notNull(predicate, "predicate cannot be null");
+        return new LogicalPathFilter("", predicate, "predicate");
+    }
+
+    private LogicalPathFilter(String prefix, Predicate<String> predicate, String description) {
+        this.prefix = prefix;
+        this.predicate = predicate;
+        this.description = description;
+    }
+
+    /**
+     * @return the literal prefix that every matching logical path starts with, may be empty
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * @param logicalPath logical path
+     * @return true if the filter matches the logical path
+     */
+    @Override
+    public boolean test(String logicalPath) {
+        return logicalPath.startsWith(prefix) && predicate.test(logicalPath);
+    }
+
+    private static String globPrefix(String glob) {
+        for (var i = 0; i < glob.length(); i++) {
+            switch (glob.charAt(i)) {
+                case '*':
+                case '?':
+                case '[':
+                case '{':
+                case '\\':
+                    return glob.substring(0, i);
+                default:
+                    break;
+            }
+        }
+        return glob;
+    }
+
+    private static String globToRegex(String glob) {
+        var regex = new StringBuilder();
+        var inGroup = false;
+
+        for (var i = 0; i < glob.length(); i++) {
+            var c = glob.charAt(i);
+            switch (c) {
+                case '*':
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                        i++;
+                        if (i + 1 < glob.length() && glob.charAt(i + 1) == '/') {
+                            i++;
+                            regex.append("(?:.*/)?");
+                        } else {
+                            regex.append(".*");
+                        }
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                case '[':
+                    var end = glob.indexOf(']', i + 2);
+                    if (end == -1) {
+                        throw new OcflInputException("Glob has an unclosed character class: " + glob);
+                    }
+                    var negate = glob.charAt(i + 1) == '!';
+                    var chars = glob.substring(negate ? i + 2 : i + 1, end)
+                            .replace("\\", "\\\\")
+                            .replace("[", "\\[");
+                    regex.append('[').append(negate ? "^" : "").append(chars).append(']');
+                    i = end;
+                    break;
+                case '{':
+                    if (inGroup) {
+                        throw new OcflInputException("Glob groups cannot be nested: " + glob);
+                    }
+                    inGroup = true;
+                    regex.append("(?:");
+                    break;
+                case '}':
+                    if (!inGroup) {
+                        throw new OcflInputException("Glob has an unopened group: " + glob);
+                    }
+                    inGroup = false;
+                    regex.append(')');
+                    break;
+                case ',':
+                    regex.append(inGroup ? "|" : ",");
+                    break;
+                case '\\':
+                    if (++i == glob.length()) {
+                        throw new OcflInputException("Glob ends with an escape character: " + glob);
+                    }
+                    regex.append(Pattern.quote(String.valueOf(glob.charAt(i))));
+                    break;
+                default:
+                    regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+
+        if (inGroup) {
+            throw new OcflInputException("Glob has an unclosed group: " + glob);
+        }
+
+        return regex.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "LogicalPathFilter{" + description + '}';
+    }
+}
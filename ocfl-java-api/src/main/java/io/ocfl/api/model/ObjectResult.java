@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.api.model;
+
+import io.ocfl.api.util.Enforce;
+
+/**
+ * The outcome of a single object's operation within a bulk request. Either the operation succeeded and there is a
+ * result, or it failed and there is an exception.
+ *
+ * @param <T> the type of the result
+ */
+public class ObjectResult<T> {
+
+    private final String objectId;
+    private final T result;
+    private final RuntimeException exception;
+
+    /**
+     * Creates a result for an operation that succeeded
+     *
+     * @param objectId the id of the object
+     * @param result the result of the operation
+     * @return new ObjectResult
+     * @param <T> the type of the result
+     */
+    public static <T> ObjectResult<T> success(String objectId, T result) {
+        return new ObjectResult<>(objectId, result, null);
+    }
+
+    /**
+     * Creates a result for an operation that failed
+     *
+     * @param objectId the id of the object
+     * @param exception the exception the operation failed with
+     * @return new ObjectResult
+     * @param <T> the type of the result
+     */
+    public static <T> ObjectResult<T> failure(String objectId, RuntimeException exception) {
+        return new ObjectResult<>(objectId, null, Enforce.notNull(exception, "exception cannot be null"));
+    }
+
+    private ObjectResult(String objectId, T result, RuntimeException exception) {
+        this.objectId = objectId;
+        this.result = result;
+        this.exception = exception;
+    }
+
+    /**
+     * The id of the object the operation was performed on
+     *
+     * @return object id
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * True if the operation completed successfully
+     *
+     * @return true if the operation succeeded
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * The result of the operation, or null if it failed
+     *
+     * @return result
+     */
+    public T getResult() {
+        return result;
+    }
+
+    /**
+     * The exception the operation failed with, or null if it succeeded
+     *
+     * @return exception
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectResult{" + "objectId='"
+                + objectId + '\'' + ", result="
+                + result + ", exception="
+                + exception + '}';
+    }
+}
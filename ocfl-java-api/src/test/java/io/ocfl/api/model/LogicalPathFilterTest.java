@@ -0,0 +1,81 @@
+package io.ocfl.api.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.ocfl.api.exception.OcflInputException;
+import org.junit.jupiter.api.Test;
+
+public class LogicalPathFilterTest {
+
+    @Test
+    public void shouldMatchPathsWithPrefix() {
+        var filter = LogicalPathFilter.prefix("dir/sub/");
+
+        assertEquals("dir/sub/", filter.getPrefix());
+        assertTrue(filter.test("dir/sub/file.txt"));
+        assertTrue(filter.test("dir/sub/deeper/file.txt"));
+        assertFalse(filter.test("dir/subfile.txt"));
+        assertFalse(filter.test("dir/file.txt"));
+    }
+
+    @Test
+    public void shouldMatchSingleSegmentWildcardsWithinSegment() {
+        var filter = LogicalPathFilter.glob("dir/*.txt");
+
+        assertEquals("dir/", filter.getPrefix());
+        assertTrue(filter.test("dir/file.txt"));
+        assertFalse(filter.test("dir/sub/file.txt"));
+        assertFalse(filter.test("dir/file.xml"));
+    }
+
+    @Test
+    public void shouldMatchDoubleWildcardsAcrossSegments() {
+        var filter = LogicalPathFilter.glob("**/*.txt");
+
+        assertEquals("", filter.getPrefix());
+        assertTrue(filter.test("file.txt"));
+        assertTrue(filter.test("dir/sub/file.txt"));
+        assertFalse(filter.test("dir/file.xml"));
+
+        var trailing = LogicalPathFilter.glob("dir/**");
+        assertTrue(trailing.test("dir/a/b/c"));
+        assertFalse(trailing.test("other/a"));
+    }
+
+    @Test
+    public void shouldSupportClassesGroupsAndEscapes() {
+        var filter = LogicalPathFilter.glob("data/file[0-9].{txt,xml}");
+
+        assertEquals("data/file", filter.getPrefix());
+        assertTrue(filter.test("data/file1.txt"));
+        assertTrue(filter.test("data/file2.xml"));
+        assertFalse(filter.test("data/fileA.txt"));
+        assertFalse(filter.test("data/file1.json"));
+
+        assertTrue(LogicalPathFilter.glob("file[!a].txt").test("fileb.txt"));
+        assertFalse(LogicalPathFilter.glob("file[!a].txt").test("filea.txt"));
+        assertTrue(LogicalPathFilter.glob("a\\*b?.txt").test("a*bc.txt"));
+        assertFalse(LogicalPathFilter.glob("a\\*b?.txt").test("axbc.txt"));
+        assertTrue(LogicalPathFilter.glob("file (1).txt").test("file (1).txt"));
+    }
+
+    @Test
+    public void shouldMatchPredicate() {
+        var filter = LogicalPathFilter.matching(path -> path.length() == 5);
+
+        assertEquals("", filter.getPrefix());
+        assertTrue(filter.test("a.txt"));
+        assertFalse(filter.test("ab.txt"));
+    }
+
+    @Test
+    public void shouldFailWhenGlobMalformed() {
+        assertThrows(OcflInputException.class, () -> LogicalPathFilter.glob("file[a.txt"));
+        assertThrows(OcflInputException.class, () -> LogicalPathFilter.glob("file{a,b.txt"));
+        assertThrows(OcflInputException.class, () -> LogicalPathFilter.glob("file}.txt"));
+        assertThrows(OcflInputException.class, () -> LogicalPathFilter.glob("file\\"));
+    }
+}
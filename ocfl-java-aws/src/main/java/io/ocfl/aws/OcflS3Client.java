@@ -25,18 +25,19 @@
 package io.ocfl.aws;
 
 import io.ocfl.api.OcflRepository;
-import io.ocfl.api.exception.OcflIOException;
 import io.ocfl.api.util.Enforce;
 import io.ocfl.core.storage.cloud.CloudClient;
 import io.ocfl.core.storage.cloud.CloudObjectKey;
 import io.ocfl.core.storage.cloud.HeadResult;
 import io.ocfl.core.storage.cloud.KeyNotFoundException;
 import io.ocfl.core.storage.cloud.ListResult;
+import io.ocfl.core.util.FutureUtil;
 import io.ocfl.core.util.UncheckedFiles;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,12 +47,16 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
@@ -74,11 +79,17 @@ public class OcflS3Client implements CloudClient {
 
     private static final long EIGHT_MB = 8 * 1024 * 1024;
 
+    /**
+     * The max number of parts of a streamed upload that are buffered in memory at once
+     */
+    private static final int MAX_STREAM_PARTS_IN_FLIGHT = 2;
+
     private final S3AsyncClient s3Client;
     private final S3TransferManager transferManager;
     private final String bucket;
     private final String repoPrefix;
     private final CloudObjectKey.Builder keyBuilder;
+    private final int maxConcurrency;
 
     private final BiConsumer<String, PutObjectRequest.Builder> putObjectModifier;
 
@@ -116,12 +127,34 @@ public class OcflS3Client implements CloudClient {
             String prefix,
             S3TransferManager transferManager,
             BiConsumer<String, PutObjectRequest.Builder> putObjectModifier) {
+        this(s3Client, bucket, prefix, transferManager, putObjectModifier, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * @see OcflS3Client#builder()
+     *
+     * @param s3Client aws sdk s3 client, not null
+     * @param bucket s3 bucket, not null
+     * @param prefix key prefix, may be null
+     * @param transferManager aws sdk s3 transfer manager, not null
+     * @param putObjectModifier hook for modifying putObject requests, may be null
+     * @param maxConcurrency maximum number of asynchronous requests to issue at once, must be positive
+     */
+    public OcflS3Client(
+            S3AsyncClient s3Client,
+            String bucket,
+            String prefix,
+            S3TransferManager transferManager,
+            BiConsumer<String, PutObjectRequest.Builder> putObjectModifier,
+            int maxConcurrency) {
         this.s3Client = Enforce.notNull(s3Client, "s3Client cannot be null");
         this.bucket = Enforce.notBlank(bucket, "bucket cannot be blank");
         this.repoPrefix = sanitizeRepoPrefix(prefix == null ? "" : prefix);
         this.transferManager = Enforce.notNull(transferManager, "transferManager cannot be null");
         this.keyBuilder = CloudObjectKey.builder().prefix(repoPrefix);
         this.putObjectModifier = putObjectModifier != null ? putObjectModifier : (k, b) -> {};
+        this.maxConcurrency =
+                Enforce.expressionTrue(maxConcurrency > 0, maxConcurrency, "maxConcurrency must be positive");
     }
 
     private static String sanitizeRepoPrefix(String repoPrefix) {
@@ -161,6 +194,14 @@ public class OcflS3Client implements CloudClient {
         return repoPrefix;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -225,6 +266,14 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public CloudObjectKey uploadBytes(String dstPath, byte[] bytes, String contentType) {
+        return FutureUtil.join(uploadBytesAsync(dstPath, bytes, contentType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<CloudObjectKey> uploadBytesAsync(String dstPath, byte[] bytes, String contentType) {
         var dstKey = keyBuilder.buildFromPath(dstPath);
         LOG.debug("Writing bytes to bucket {} key {}", bucket, dstKey);
 
@@ -232,14 +281,72 @@ public class OcflS3Client implements CloudClient {
 
         putObjectModifier.accept(dstKey.getKey(), builder);
 
+        return translate(
+                        () -> s3Client.putObject(
+                                builder.bucket(bucket).key(dstKey.getKey()).build(), AsyncRequestBody.fromBytes(bytes)),
+                        cause -> new OcflS3Exception("Failed to upload bytes to " + dstKey, cause))
+                .thenApply(response -> dstKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Streams that are smaller than 8MB are uploaded in a single request. Larger streams are uploaded using a
+     * multipart upload, with 8MB parts. The next part is read from the stream while the previous part is uploading, and
+     * no more than two parts are held in memory at once.
+     */
+    @Override
+    public CloudObjectKey uploadStream(String dstPath, InputStream stream, String contentType) {
+        var dstKey = keyBuilder.buildFromPath(dstPath);
+        LOG.debug("Streaming to bucket {} key {}", bucket, dstKey);
+
+        var firstPart = readPart(stream, dstKey);
+
+        if (firstPart.length < EIGHT_MB) {
+            return uploadBytes(dstPath, firstPart, contentType);
+        }
+
+        var builder = PutObjectRequest.builder().contentType(contentType);
+        putObjectModifier.accept(dstKey.getKey(), builder);
+        var putRequest = builder.build();
+
+        var uploadId = FutureUtil.join(translate(
+                        () -> s3Client.createMultipartUpload(createMultipartUploadRequest(putRequest, dstKey)),
+                        cause -> new OcflS3Exception("Failed to create multipart upload for " + dstKey, cause)))
+                .uploadId();
+
+        var inFlight = new ArrayDeque<CompletableFuture<CompletedPart>>();
+
         try {
-            s3Client.putObject(builder.bucket(bucket).key(dstKey.getKey()).build(), AsyncRequestBody.fromBytes(bytes))
-                    .join();
+            var parts = new ArrayList<CompletedPart>();
+            var partNumber = 1;
+            var part = firstPart;
+
+            while (part.length > 0) {
+                if (inFlight.size() >= MAX_STREAM_PARTS_IN_FLIGHT) {
+                    parts.add(FutureUtil.join(inFlight.poll()));
+                }
+                inFlight.add(uploadPart(dstKey, uploadId, partNumber++, part));
+                part = part.length < EIGHT_MB ? new byte[0] : readPart(stream, dstKey);
+            }
+
+            while (!inFlight.isEmpty()) {
+                parts.add(FutureUtil.join(inFlight.poll()));
+            }
+
+            FutureUtil.join(translate(
+                    () -> s3Client.completeMultipartUpload(req -> req.bucket(bucket)
+                            .key(dstKey.getKey())
+                            .uploadId(uploadId)
+                            .multipartUpload(upload -> upload.parts(parts))),
+                    cause -> new OcflS3Exception("Failed to complete multipart upload for " + dstKey, cause)));
+
+            return dstKey;
         } catch (RuntimeException e) {
-            throw new OcflS3Exception("Failed to upload bytes to " + dstKey, OcflS3Util.unwrapCompletionEx(e));
+            FutureUtil.awaitAll(inFlight);
+            abortMultipartUpload(dstKey, uploadId);
+            throw e;
         }
-
-        return dstKey;
     }
 
     /**
@@ -247,28 +354,33 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public CloudObjectKey copyObject(String srcPath, String dstPath) {
+        return FutureUtil.join(copyObjectAsync(srcPath, dstPath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<CloudObjectKey> copyObjectAsync(String srcPath, String dstPath) {
         var srcKey = keyBuilder.buildFromPath(srcPath);
         var dstKey = keyBuilder.buildFromPath(dstPath);
 
         LOG.debug("Copying {} to {} in bucket {}", srcKey, dstKey, bucket);
 
-        try {
-            var copy = s3Client.copyObject(req -> req.destinationBucket(bucket)
-                    .destinationKey(dstKey.getKey())
-                    .sourceBucket(bucket)
-                    .sourceKey(srcKey.getKey())
-                    .build());
-
-            copy.join();
-        } catch (RuntimeException e) {
-            var cause = OcflS3Util.unwrapCompletionEx(e);
-            if (wasNotFound(cause)) {
-                throw new KeyNotFoundException("Key " + srcKey + " not found in bucket " + bucket, cause);
-            }
-            throw new OcflS3Exception("Failed to copy object from " + srcKey + " to " + dstKey, cause);
-        }
-
-        return dstKey;
+        return translate(
+                        () -> s3Client.copyObject(req -> req.destinationBucket(bucket)
+                                .destinationKey(dstKey.getKey())
+                                .sourceBucket(bucket)
+                                .sourceKey(srcKey.getKey())
+                                .build()),
+                        cause -> {
+                            if (wasNotFound(cause)) {
+                                return new KeyNotFoundException(
+                                        "Key " + srcKey + " not found in bucket " + bucket, cause);
+                            }
+                            return new OcflS3Exception("Failed to copy object from " + srcKey + " to " + dstKey, cause);
+                        })
+                .thenApply(response -> dstKey);
     }
 
     /**
@@ -354,11 +466,32 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public String downloadString(String srcPath) {
-        try (var stream = downloadStream(srcPath)) {
-            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new OcflIOException(e);
-        }
+        return FutureUtil.join(downloadStringAsync(srcPath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<String> downloadStringAsync(String srcPath) {
+        var srcKey = keyBuilder.buildFromPath(srcPath);
+        LOG.debug("Downloading string from bucket {} key {}", bucket, srcKey);
+
+        return translate(
+                        () -> s3Client.getObject(
+                                GetObjectRequest.builder()
+                                        .bucket(bucket)
+                                        .key(srcKey.getKey())
+                                        .build(),
+                                AsyncResponseTransformer.toBytes()),
+                        cause -> {
+                            if (wasNotFound(cause)) {
+                                return new KeyNotFoundException(
+                                        "Key " + srcKey + " not found in bucket " + bucket, cause);
+                            }
+                            return new OcflS3Exception("Failed to download " + srcKey, cause);
+                        })
+                .thenApply(response -> response.asString(StandardCharsets.UTF_8));
     }
 
     /**
@@ -366,27 +499,32 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public HeadResult head(String path) {
-        var key = keyBuilder.buildFromPath(path);
+        return FutureUtil.join(headAsync(path));
+    }
 
-        try {
-            var s3Result = s3Client.headObject(HeadObjectRequest.builder()
-                            .bucket(bucket)
-                            .key(key.getKey())
-                            .build())
-                    .join();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<HeadResult> headAsync(String path) {
+        var key = keyBuilder.buildFromPath(path);
 
-            return new HeadResult()
-                    .setContentEncoding(s3Result.contentEncoding())
-                    .setContentLength(s3Result.contentLength())
-                    .setETag(s3Result.eTag())
-                    .setLastModified(s3Result.lastModified());
-        } catch (RuntimeException e) {
-            var cause = OcflS3Util.unwrapCompletionEx(e);
-            if (wasNotFound(cause)) {
-                throw new KeyNotFoundException("Key " + key + " not found in bucket " + bucket, cause);
-            }
-            throw new OcflS3Exception("Failed to HEAD " + key, cause);
-        }
+        return translate(
+                        () -> s3Client.headObject(HeadObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(key.getKey())
+                                .build()),
+                        cause -> {
+                            if (wasNotFound(cause)) {
+                                return new KeyNotFoundException("Key " + key + " not found in bucket " + bucket, cause);
+                            }
+                            return new OcflS3Exception("Failed to HEAD " + key, cause);
+                        })
+                .thenApply(s3Result -> new HeadResult()
+                        .setContentEncoding(s3Result.contentEncoding())
+                        .setContentLength(s3Result.contentLength())
+                        .setETag(s3Result.eTag())
+                        .setLastModified(s3Result.lastModified()));
     }
 
     /**
@@ -394,6 +532,14 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public ListResult list(String prefix) {
+        return FutureUtil.join(listAsync(prefix));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ListResult> listAsync(String prefix) {
         var prefixedPrefix = keyBuilder.buildFromPath(prefix);
         return toListResult(ListObjectsV2Request.builder().bucket(bucket).prefix(prefixedPrefix.getKey()));
     }
@@ -403,6 +549,14 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public ListResult listDirectory(String path) {
+        return FutureUtil.join(listDirectoryAsync(path));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ListResult> listDirectoryAsync(String path) {
         var prefix = keyBuilder.buildFromPath(path).getKey();
 
         if (!prefix.isEmpty() && !prefix.endsWith("/")) {
@@ -451,11 +605,12 @@ public class OcflS3Client implements CloudClient {
     public void deletePath(String path) {
         LOG.debug("Deleting path {} in bucket {}", path, bucket);
 
-        var keys = list(path).getObjects().stream()
-                .map(ListResult.ObjectListing::getKey)
-                .collect(Collectors.toList());
-
-        deleteObjectsInternal(keys);
+        FutureUtil.join(listAsync(path).thenCompose(result -> {
+            var keys = result.getObjects().stream()
+                    .map(ListResult.ObjectListing::getKey)
+                    .collect(Collectors.toList());
+            return deleteObjectsInternal(keys);
+        }));
     }
 
     /**
@@ -463,42 +618,49 @@ public class OcflS3Client implements CloudClient {
      */
     @Override
     public void deleteObjects(Collection<String> objectPaths) {
-        if (!objectPaths.isEmpty()) {
-            var objectKeys = objectPaths.stream()
-                    .filter(Objects::nonNull)
-                    .map(keyBuilder::buildFromPath)
-                    .collect(Collectors.toList());
+        FutureUtil.join(deleteObjectsAsync(objectPaths));
+    }
 
-            deleteObjectsInternal(objectKeys);
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> deleteObjectsAsync(Collection<String> objectPaths) {
+        var objectKeys = objectPaths.stream()
+                .filter(Objects::nonNull)
+                .map(keyBuilder::buildFromPath)
+                .collect(Collectors.toList());
+
+        return deleteObjectsInternal(objectKeys);
     }
 
-    private void deleteObjectsInternal(Collection<CloudObjectKey> objectKeys) {
+    private CompletableFuture<Void> deleteObjectsInternal(Collection<CloudObjectKey> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         LOG.debug("Deleting objects in bucket {}: {}", bucket, objectKeys);
 
-        if (!objectKeys.isEmpty()) {
-            var objectIds = objectKeys.stream()
-                    .map(key -> ObjectIdentifier.builder().key(key.getKey()).build())
-                    .collect(Collectors.toList());
+        var objectIds = objectKeys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key.getKey()).build())
+                .collect(Collectors.toList());
 
-            try {
-                var futures = new ArrayList<CompletableFuture<?>>();
+        return translate(
+                () -> {
+                    var futures = new ArrayList<CompletableFuture<?>>();
 
-                // Can only delete at most 1,000 objects per request
-                for (int i = 0; i < objectIds.size(); i += 999) {
-                    var toDelete = objectIds.subList(i, Math.min(objectIds.size(), i + 999));
-                    futures.add(s3Client.deleteObjects(DeleteObjectsRequest.builder()
-                            .bucket(bucket)
-                            .delete(builder -> builder.objects(toDelete))
-                            .build()));
-                }
+                    // Can only delete at most 1,000 objects per request
+                    for (int i = 0; i < objectIds.size(); i += 999) {
+                        var toDelete = objectIds.subList(i, Math.min(objectIds.size(), i + 999));
+                        futures.add(s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                                .bucket(bucket)
+                                .delete(builder -> builder.objects(toDelete))
+                                .build()));
+                    }
 
-                CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {}))
-                        .join();
-            } catch (RuntimeException e) {
-                throw new OcflS3Exception("Failed to delete objects " + objectIds, OcflS3Util.unwrapCompletionEx(e));
-            }
-        }
+                    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[] {}));
+                },
+                cause -> new OcflS3Exception("Failed to delete objects " + objectIds, cause));
     }
 
     /**
@@ -539,32 +701,120 @@ public class OcflS3Client implements CloudClient {
         }
     }
 
-    private ListResult toListResult(ListObjectsV2Request.Builder requestBuilder) {
-        try {
-            var result = s3Client.listObjectsV2(requestBuilder.build()).join();
+    private CompletableFuture<ListResult> toListResult(ListObjectsV2Request.Builder requestBuilder) {
+        var objects = new ArrayList<ListResult.ObjectListing>();
+        var dirs = new ArrayList<ListResult.DirectoryListing>();
+
+        return translate(
+                        () -> listPages(requestBuilder, objects, dirs),
+                        cause -> new OcflS3Exception("Failed to list objects", cause))
+                .thenApply(nothing -> new ListResult().setObjects(objects).setDirectories(dirs));
+    }
 
+    // Requests pages one after the other, without blocking, until all of the pages have been collected
+    private CompletableFuture<Void> listPages(
+            ListObjectsV2Request.Builder requestBuilder,
+            List<ListResult.ObjectListing> objects,
+            List<ListResult.DirectoryListing> dirs) {
+        return s3Client.listObjectsV2(requestBuilder.build()).thenCompose(result -> {
             var prefixLength = prefixLength(result.prefix());
             var repoPrefixLength = repoPrefix.isBlank() ? 0 : repoPrefix.length() + 1;
 
-            var objects = toObjectListings(result, prefixLength);
-            var dirs = toDirectoryListings(result, repoPrefixLength);
-
-            while (Boolean.TRUE.equals(result.isTruncated())) {
-                result = s3Client.listObjectsV2(requestBuilder
-                                .continuationToken(result.nextContinuationToken())
-                                .build())
-                        .join();
+            objects.addAll(toObjectListings(result, prefixLength));
+            dirs.addAll(toDirectoryListings(result, repoPrefixLength));
 
-                objects.addAll(toObjectListings(result, prefixLength));
-                dirs.addAll(toDirectoryListings(result, repoPrefixLength));
+            if (Boolean.TRUE.equals(result.isTruncated())) {
+                return listPages(requestBuilder.continuationToken(result.nextContinuationToken()), objects, dirs);
             }
+            return CompletableFuture.completedFuture(null);
+        });
+    }
 
-            return new ListResult().setObjects(objects).setDirectories(dirs);
+    private byte[] readPart(InputStream stream, CloudObjectKey dstKey) {
+        try {
+            return stream.readNBytes((int) EIGHT_MB);
+        } catch (IOException e) {
+            throw new OcflS3Exception("Failed to read stream to upload to " + dstKey, e);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(
+            CloudObjectKey dstKey, String uploadId, int partNumber, byte[] part) {
+        LOG.debug("Uploading part {} of {} to bucket {}", partNumber, dstKey, bucket);
+
+        return translate(
+                        () -> s3Client.uploadPart(
+                                req -> req.bucket(bucket)
+                                        .key(dstKey.getKey())
+                                        .uploadId(uploadId)
+                                        .partNumber(partNumber)
+                                        .contentLength((long) part.length),
+                                AsyncRequestBody.fromBytes(part)),
+                        cause -> new OcflS3Exception("Failed to upload part " + partNumber + " of " + dstKey, cause))
+                .thenApply(response -> CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .checksumCRC32(response.checksumCRC32())
+                        .checksumCRC32C(response.checksumCRC32C())
+                        .checksumSHA1(response.checksumSHA1())
+                        .checksumSHA256(response.checksumSHA256())
+                        .build());
+    }
+
+    private void abortMultipartUpload(CloudObjectKey dstKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(
+                            req -> req.bucket(bucket).key(dstKey.getKey()).uploadId(uploadId))
+                    .join();
         } catch (RuntimeException e) {
-            throw new OcflS3Exception("Failed to list objects", OcflS3Util.unwrapCompletionEx(e));
+            LOG.warn("Failed to abort multipart upload {} of {}", uploadId, dstKey, e);
         }
     }
 
+    // Carries the putObjectModifier's customizations over to the multipart upload
+    private CreateMultipartUploadRequest createMultipartUploadRequest(PutObjectRequest put, CloudObjectKey dstKey) {
+        return CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(dstKey.getKey())
+                .acl(put.acl())
+                .cacheControl(put.cacheControl())
+                .contentDisposition(put.contentDisposition())
+                .contentEncoding(put.contentEncoding())
+                .contentLanguage(put.contentLanguage())
+                .contentType(put.contentType())
+                .expires(put.expires())
+                .metadata(put.hasMetadata() ? put.metadata() : null)
+                .serverSideEncryption(put.serverSideEncryption())
+                .ssekmsKeyId(put.ssekmsKeyId())
+                .ssekmsEncryptionContext(put.ssekmsEncryptionContext())
+                .bucketKeyEnabled(put.bucketKeyEnabled())
+                .storageClass(put.storageClass())
+                .tagging(put.tagging())
+                .objectLockMode(put.objectLockMode())
+                .objectLockRetainUntilDate(put.objectLockRetainUntilDate())
+                .objectLockLegalHoldStatus(put.objectLockLegalHoldStatus())
+                .build();
+    }
+
+    // Executes the request, and translates any failure into an OCFL exception. Exceptions thrown while creating the
+    // request are returned in the future as well.
+    private <T> CompletableFuture<T> translate(
+            Supplier<CompletableFuture<T>> request, Function<Throwable, RuntimeException> exceptionMapper) {
+        CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((result, e) -> {
+            if (e != null) {
+                throw exceptionMapper.apply(OcflS3Util.unwrapCompletionEx(e));
+            }
+            return result;
+        });
+    }
+
     private List<ListResult.ObjectListing> toObjectListings(ListObjectsV2Response result, int prefixLength) {
         return result.contents().stream()
                 .map(o -> {
@@ -619,6 +869,7 @@ public class OcflS3Client implements CloudClient {
         private S3TransferManager transferManager;
         private String bucket;
         private String repoPrefix;
+        private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
 
         private BiConsumer<String, PutObjectRequest.Builder> putObjectModifier;
 
@@ -697,6 +948,20 @@ public class OcflS3Client implements CloudClient {
             return this;
         }
 
+        /**
+         * The maximum number of asynchronous requests to issue at once when many independent requests are made
+         * together, such as when copying all of the files in a directory. This should not exceed the max concurrency
+         * configured on the S3 client. Default: 50
+         *
+         * @param maxConcurrency maximum number of concurrent requests
+         * @return builder
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency =
+                    Enforce.expressionTrue(maxConcurrency > 0, maxConcurrency, "maxConcurrency must be positive");
+            return this;
+        }
+
         /**
          * Constructs a new {@link OcflS3Client}. {@link #s3Client(S3AsyncClient)} and {@link #bucket(String)} must be set.
          * <p>
@@ -706,7 +971,7 @@ public class OcflS3Client implements CloudClient {
          * @return OcflS3Client
          */
         public OcflS3Client build() {
-            return new OcflS3Client(s3Client, bucket, repoPrefix, transferManager, putObjectModifier);
+            return new OcflS3Client(s3Client, bucket, repoPrefix, transferManager, putObjectModifier, maxConcurrency);
         }
     }
 }
@@ -37,10 +37,10 @@ final class OcflS3Util {
      * @param e the exception
      * @return the exception or its cause
      */
-    static Throwable unwrapCompletionEx(RuntimeException e) {
+    static Throwable unwrapCompletionEx(Throwable e) {
         Throwable cause = e;
-        if (e instanceof CompletionException) {
-            cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
         return cause;
     }
@@ -2,8 +2,10 @@ package io.ocfl.aws;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -13,6 +15,7 @@ import com.adobe.testing.s3mock.junit5.S3MockExtension;
 import io.ocfl.core.storage.cloud.KeyNotFoundException;
 import io.ocfl.core.storage.cloud.ListResult;
 import io.ocfl.core.util.FileUtil;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -22,6 +25,8 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +41,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -103,6 +109,8 @@ public class OcflS3ClientTest {
                                     .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
                                     .build()))
                     .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("foo", "bar")))
+                    // s3mock does not decode aws-chunked part uploads that include checksum trailers
+                    .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
                     .build();
             tmClient = S3AsyncClient.crtBuilder()
                     .endpointOverride(URI.create(S3_MOCK.getServiceEndpoint()))
@@ -392,6 +400,83 @@ public class OcflS3ClientTest {
         });
     }
 
+    @Test
+    public void copyObjectsAsyncConcurrently() {
+        var content = "something";
+        client.uploadBytes("src/f1", bytes(content), null);
+        client.uploadBytes("src/f2", bytes(content), null);
+
+        var copies = List.of(client.copyObjectAsync("src/f1", "dst/f1"), client.copyObjectAsync("src/f2", "dst/f2"));
+        copies.forEach(CompletableFuture::join);
+
+        assertObjectsExist(bucket, List.of("src/f1", "src/f2", "dst/f1", "dst/f2"));
+        assertEquals(content, client.downloadStringAsync("dst/f2").join());
+    }
+
+    @Test
+    public void failCopyAsyncWhenSrcDoesNotExist() {
+        var future = client.copyObjectAsync("bogus", "dst");
+
+        var e = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(KeyNotFoundException.class, e.getCause());
+    }
+
+    @Test
+    public void headAndListAsync() {
+        client.uploadBytes("dir/f1", bytes("content"), null);
+        client.uploadBytes("dir/sub/f2", bytes("content"), null);
+
+        var head = client.headAsync("dir/f1");
+        var list = client.listAsync("dir");
+        var listDir = client.listDirectoryAsync("dir");
+
+        assertEquals(7, head.join().getContentLength());
+        assertEquals(2, list.join().getObjects().size());
+        assertEquals(1, listDir.join().getObjects().size());
+        assertEquals(1, listDir.join().getDirectories().size());
+
+        var e = assertThrows(
+                CompletionException.class, () -> client.headAsync("bogus").join());
+        assertInstanceOf(KeyNotFoundException.class, e.getCause());
+    }
+
+    @Test
+    public void uploadSmallStreamInSingleRequest() {
+        var key = "dir/small.txt";
+
+        client.uploadStream(key, new ByteArrayInputStream(bytes("content")), "text/plain");
+
+        assertObjectsExist(bucket, List.of(key));
+        assertEquals("content", client.downloadString(key));
+    }
+
+    @Test
+    public void uploadLargeStreamAsMultipartUpload() throws IOException {
+        var key = "dir/large.bin";
+        var content = new byte[20 * 1024 * 1024 + 13];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        client.uploadStream(key, new ByteArrayInputStream(content), null);
+
+        assertObjectsExist(bucket, List.of(key));
+        try (var stream = client.downloadStream(key)) {
+            assertArrayEquals(content, stream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void uploadStreamExactlyOnePartLong() throws IOException {
+        var key = "dir/one-part.bin";
+        var content = new byte[8 * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        client.uploadStream(key, new ByteArrayInputStream(content), null);
+
+        try (var stream = client.downloadStream(key)) {
+            assertArrayEquals(content, stream.readAllBytes());
+        }
+    }
+
     private Path createFile(String content) {
         try {
             return Files.writeString(
@@ -0,0 +1,385 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core;
+
+import io.ocfl.api.AsyncOcflRepository;
+import io.ocfl.api.OcflObjectUpdater;
+import io.ocfl.api.OcflOption;
+import io.ocfl.api.OcflRepository;
+import io.ocfl.api.exception.OcflStateException;
+import io.ocfl.api.model.FileChangeHistory;
+import io.ocfl.api.model.ObjectDetails;
+import io.ocfl.api.model.ObjectVersionId;
+import io.ocfl.api.model.OcflObjectVersion;
+import io.ocfl.api.model.ValidationResults;
+import io.ocfl.api.model.VersionDetails;
+import io.ocfl.api.model.VersionInfo;
+import io.ocfl.api.util.Enforce;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncOcflRepository} implementation that executes the operations of a synchronous {@link OcflRepository} on
+ * an executor. At most {@code maxConcurrency} operations are executed at once. Additional operations wait in a queue
+ * that holds at most {@code maxQueued} operations, and operations submitted while the queue is full are rejected.
+ * Queued operations do not occupy an executor thread. When an operation completes, the next queued operation is
+ * executed on the same thread.
+ *
+ * <p>If an executor is not provided, then virtual threads are used when running on a JVM that supports them, and a
+ * cached pool of daemon threads is used otherwise.
+ */
+public class DefaultAsyncOcflRepository implements AsyncOcflRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultAsyncOcflRepository.class);
+
+    private final OcflRepository repository;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int maxConcurrency;
+    private final int maxQueued;
+
+    private final Queue<Task<?>> queue;
+    private int running;
+    private boolean closed;
+
+    /**
+     * @see OcflRepositoryBuilder
+     *
+     * @param repository the synchronous repository to delegate to
+     * @param executor the executor to execute operations on, or null to use the default executor
+     * @param maxConcurrency the maximum number of operations to execute at the same time
+     * @param maxQueued the maximum number of operations that may wait to be executed
+     */
+    public DefaultAsyncOcflRepository(OcflRepository repository, Executor executor, int maxConcurrency, int maxQueued) {
+        this.repository = Enforce.notNull(repository, "repository cannot be null");
+        this.maxConcurrency =
+                Enforce.expressionTrue(maxConcurrency > 0, maxConcurrency, "maxConcurrency must be greater than 0");
+        this.maxQueued = Enforce.expressionTrue(maxQueued >= 0, maxQueued, "maxQueued cannot be negative");
+        this.queue = new ArrayDeque<>();
+
+        if (executor == null) {
+            this.ownedExecutor = defaultExecutor();
+            this.executor = ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ObjectVersionId> putObject(
+            ObjectVersionId objectVersionId, Path path, VersionInfo versionInfo, OcflOption... options) {
+        return submit(() -> repository.putObject(objectVersionId, path, versionInfo, options));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ObjectVersionId> updateObject(
+            ObjectVersionId objectVersionId, VersionInfo versionInfo, Consumer<OcflObjectUpdater> objectUpdater) {
+        return submit(() -> repository.updateObject(objectVersionId, versionInfo, objectUpdater));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> getObject(ObjectVersionId objectVersionId, Path outputPath) {
+        return submit(() -> {
+            repository.getObject(objectVersionId, outputPath);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<OcflObjectVersion> getObject(ObjectVersionId objectVersionId) {
+        return submit(() -> repository.getObject(objectVersionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ObjectDetails> describeObject(String objectId) {
+        return submit(() -> repository.describeObject(objectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<VersionDetails> describeVersion(ObjectVersionId objectVersionId) {
+        return submit(() -> repository.describeVersion(objectVersionId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<FileChangeHistory> fileChangeHistory(String objectId, String logicalPath) {
+        return submit(() -> repository.fileChangeHistory(objectId, logicalPath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> containsObject(String objectId) {
+        return submit(() -> repository.containsObject(objectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> purgeObject(String objectId) {
+        return submit(() -> {
+            repository.purgeObject(objectId);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ValidationResults> validateObject(String objectId, boolean contentFixityCheck) {
+        return submit(() -> repository.validateObject(objectId, contentFixityCheck));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ObjectVersionId> replicateVersionAsHead(
+            ObjectVersionId objectVersionId, VersionInfo versionInfo) {
+        return submit(() -> repository.replicateVersionAsHead(objectVersionId, versionInfo));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> rollbackToVersion(ObjectVersionId objectVersionId) {
+        return submit(() -> {
+            repository.rollbackToVersion(objectVersionId);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> exportVersion(
+            ObjectVersionId objectVersionId, Path outputPath, OcflOption... options) {
+        return submit(() -> {
+            repository.exportVersion(objectVersionId, outputPath, options);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> exportObject(String objectId, Path outputPath, OcflOption... options) {
+        return submit(() -> {
+            repository.exportObject(objectId, outputPath, options);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> importVersion(Path versionPath, OcflOption... options) {
+        return submit(() -> {
+            repository.importVersion(versionPath, options);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> importObject(Path objectPath, OcflOption... options) {
+        return submit(() -> {
+            repository.importObject(objectPath, options);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflRepository syncRepository() {
+        return repository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        LOG.debug("Close async OCFL repository");
+
+        List<Task<?>> queued;
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queued = new ArrayList<>(queue);
+            queue.clear();
+        }
+
+        // Operations that have not started yet will never be run
+        queued.forEach(task -> task.future.completeExceptionally(
+                new OcflStateException(DefaultAsyncOcflRepository.class.getName() + " is closed.")));
+
+        repository.close();
+
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        var task = new Task<>(operation);
+
+        synchronized (queue) {
+            if (closed) {
+                return CompletableFuture.failedFuture(
+                        new OcflStateException(DefaultAsyncOcflRepository.class.getName() + " is closed."));
+            }
+            if (running >= maxConcurrency) {
+                if (queue.size() >= maxQueued) {
+                    return CompletableFuture.failedFuture(new RejectedExecutionException(String.format(
+                            "Rejected OCFL operation because %s operations are running and %s are queued",
+                            running, queue.size())));
+                }
+                queue.add(task);
+                return task.future;
+            }
+            running++;
+        }
+
+        dispatch(task);
+        return task.future;
+    }
+
+    private void dispatch(Task<?> task) {
+        var current = task;
+        while (current != null) {
+            try {
+                executor.execute(current);
+                return;
+            } catch (RuntimeException e) {
+                current.future.completeExceptionally(e);
+                current = next();
+            }
+        }
+    }
+
+    // Called when a task completes to take the next queued task, if there is one. The caller's slot is released when
+    // there is not.
+    private Task<?> next() {
+        synchronized (queue) {
+            var task = queue.poll();
+            if (task == null) {
+                running--;
+            }
+            return task;
+        }
+    }
+
+    private static ExecutorService defaultExecutor() {
+        try {
+            // Virtual threads are only available on Java 21+
+            var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOG.debug("Virtual threads are not supported. Using a thread pool instead.");
+            var count = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable, "ocfl-async-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private class Task<T> implements Runnable {
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> future;
+
+        Task(Supplier<T> operation) {
+            this.operation = operation;
+            this.future = new CompletableFuture<>();
+        }
+
+        @Override
+        public void run() {
+            // Queued tasks are run on the same thread in a loop, rather than recursively, until the queue is empty
+            Task<?> current = this;
+            while (current != null) {
+                current.execute();
+                current = next();
+            }
+        }
+
+        private void execute() {
+            try {
+                future.complete(operation.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
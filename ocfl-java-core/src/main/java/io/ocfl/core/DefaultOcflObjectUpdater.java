@@ -31,22 +31,33 @@ import io.ocfl.api.exception.FixityCheckException;
 import io.ocfl.api.exception.OcflIOException;
 import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.io.FixityCheckInputStream;
+import io.ocfl.api.model.ArchiveFormat;
 import io.ocfl.api.model.DigestAlgorithm;
 import io.ocfl.api.model.VersionNum;
 import io.ocfl.api.util.Enforce;
+import io.ocfl.core.archive.ArchiveReader;
 import io.ocfl.core.inventory.AddFileProcessor;
 import io.ocfl.core.inventory.InventoryUpdater;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.storage.StreamStager;
 import io.ocfl.core.util.DigestUtil;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.MultiDigestInputStream;
 import io.ocfl.core.util.UncheckedFiles;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.security.DigestInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,6 +75,11 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultOcflObjectUpdater.class);
 
+    // The largest array that can safely be allocated
+    private static final long MAX_MEMORY_FILE_SIZE = Integer.MAX_VALUE - 8;
+    // The amount of the memory staging budget that's reserved at a time while reading a file into memory
+    private static final int MEMORY_CHUNK_SIZE = 64 * 1024;
+
     private final Inventory inventory;
     private final InventoryUpdater inventoryUpdater;
     private final Path stagingDir;
@@ -71,6 +87,15 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
     private final FileLocker fileLocker;
     private final Map<String, Path> stagedFileMap;
     private final AtomicBoolean checkForEmptyDirs;
+    private final StreamStager streamStager;
+    private final Map<String, String> streamStagedFileMap;
+    private final Map<String, String> streamStagedContent;
+    private final long memoryStagingThreshold;
+    private final Object memoryLock;
+    private final Map<String, MemoryFile> memoryStagedContent;
+    private final Map<String, String> memoryStagedFileMap;
+    private long memoryStagedBytes;
+    private volatile boolean spilled;
 
     public DefaultOcflObjectUpdater(
             Inventory inventory,
@@ -78,6 +103,44 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
             Path stagingDir,
             AddFileProcessor addFileProcessor,
             FileLocker fileLocker) {
+        this(inventory, inventoryUpdater, stagingDir, addFileProcessor, fileLocker, null);
+    }
+
+    /**
+     * @param inventory the inventory of the object that's being updated
+     * @param inventoryUpdater the inventory updater
+     * @param stagingDir the directory new content files are staged in
+     * @param addFileProcessor the processor for adding files
+     * @param fileLocker the file locker
+     * @param streamStager stages streamed content directly in storage, may be null to stage it in stagingDir
+     */
+    public DefaultOcflObjectUpdater(
+            Inventory inventory,
+            InventoryUpdater inventoryUpdater,
+            Path stagingDir,
+            AddFileProcessor addFileProcessor,
+            FileLocker fileLocker,
+            StreamStager streamStager) {
+        this(inventory, inventoryUpdater, stagingDir, addFileProcessor, fileLocker, streamStager, 0);
+    }
+
+    /**
+     * @param inventory the inventory of the object that's being updated
+     * @param inventoryUpdater the inventory updater
+     * @param stagingDir the directory new content files are staged in, it is not created until it's needed
+     * @param addFileProcessor the processor for adding files
+     * @param fileLocker the file locker
+     * @param streamStager stages streamed content directly in storage, may be null to stage it in stagingDir
+     * @param memoryStagingThreshold the maximum number of bytes of streamed content to stage in memory, 0 to disable
+     */
+    public DefaultOcflObjectUpdater(
+            Inventory inventory,
+            InventoryUpdater inventoryUpdater,
+            Path stagingDir,
+            AddFileProcessor addFileProcessor,
+            FileLocker fileLocker,
+            StreamStager streamStager,
+            long memoryStagingThreshold) {
         this.inventory = Enforce.notNull(inventory, "inventory cannot be null");
         this.inventoryUpdater = Enforce.notNull(inventoryUpdater, "inventoryUpdater cannot be null");
         this.stagingDir = Enforce.notNull(stagingDir, "stagingDir cannot be null");
@@ -85,6 +148,15 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
         this.fileLocker = Enforce.notNull(fileLocker, "fileLocker cannot be null");
         this.stagedFileMap = new ConcurrentHashMap<>();
         this.checkForEmptyDirs = new AtomicBoolean(false);
+        this.streamStager = streamStager;
+        this.streamStagedFileMap = new ConcurrentHashMap<>();
+        this.streamStagedContent = new ConcurrentHashMap<>();
+        this.memoryStagingThreshold = Enforce.expressionTrue(
+                memoryStagingThreshold >= 0, memoryStagingThreshold, "memoryStagingThreshold must be at least 0");
+        this.memoryLock = new Object();
+        this.memoryStagedContent = new HashMap<>();
+        this.memoryStagedFileMap = new HashMap<>();
+        this.spilled = memoryStagingThreshold == 0;
     }
 
     @Override
@@ -102,6 +174,7 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
 
         LOG.debug("Add <{}> to object <{}> at logical path <{}>", sourcePath, inventory.getId(), destinationPath);
 
+        spillToStagingDir();
         var newStagedFiles = addFileProcessor.processPath(sourcePath, destinationPath, options);
         stagedFileMap.putAll(newStagedFiles);
 
@@ -122,6 +195,7 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
                 destinationPath,
                 digest);
 
+        spillToStagingDir();
         var newStagedFiles = addFileProcessor.processFileWithDigest(digest, sourcePath, destinationPath, options);
         stagedFileMap.putAll(newStagedFiles);
 
@@ -139,50 +213,296 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
         return fileLocker.withLock(destinationPath, () -> {
             LOG.debug("Write stream to object <{}> at logical path <{}>", inventory.getId(), destinationPath);
 
-            var stagingFullPath = stagingFullPath(inventoryUpdater.innerContentPath(destinationPath));
-
             var digestInput = wrapInDigestInputStream(input);
-            LOG.debug("Writing input stream to: {}", stagingFullPath);
-            if (Files.notExists(stagingFullPath.getParent())) {
-                UncheckedFiles.createDirectories(stagingFullPath.getParent());
+            var fixityInput = wrapInFixityInputStream(digestInput);
+            InputStream content = fixityInput == null ? digestInput : fixityInput;
+
+            if (memoryStagingThreshold > 0) {
+                var buffered = writeFileToMemory(input, digestInput, fixityInput, content, destinationPath, options);
+                if (buffered == null) {
+                    return this;
+                }
+                // The bytes that were read while attempting to buffer the file must be written first
+                content = new SequenceInputStream(new ByteArrayInputStream(buffered), content);
             }
-            UncheckedFiles.copy(digestInput, stagingFullPath, StandardCopyOption.REPLACE_EXISTING);
 
-            if (input instanceof FixityCheckInputStream) {
-                try {
-                    ((FixityCheckInputStream) input).checkFixity();
-                } catch (FixityCheckException e) {
-                    FileUtil.safeDelete(stagingFullPath);
-                    checkForEmptyDirs.set(true);
-                    throw e;
+            if (streamStager != null) {
+                writeFileToStorage(input, digestInput, fixityInput, content, destinationPath, options);
+            } else {
+                writeFileToStagingDir(input, digestInput, fixityInput, content, destinationPath, options);
+            }
+
+            return this;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflObjectUpdater writeArchive(
+            InputStream archive, ArchiveFormat format, String destinationPath, OcflOption... options) {
+        Enforce.notNull(archive, "archive cannot be null");
+        Enforce.notNull(format, "format cannot be null");
+        Enforce.notNull(destinationPath, "destinationPath cannot be null");
+
+        LOG.debug("Write {} archive to object <{}> at logical path <{}>", format, inventory.getId(), destinationPath);
+
+        var reader = ArchiveReader.create(format, archive);
+
+        try {
+            for (var entry = reader.nextFile(); entry != null; entry = reader.nextFile()) {
+                writeFile(entry.getContent(), FileUtil.pathJoinIgnoreEmpty(destinationPath, entry.getPath()), options);
+            }
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+
+        return this;
+    }
+
+    // Buffers the content in memory if it fits within what remains of the memory staging threshold. Returns null if
+    // the content was buffered, otherwise the bytes that were read before the threshold was exceeded.
+    private byte[] writeFileToMemory(
+            InputStream input,
+            DigestInputStream digestInput,
+            MultiDigestInputStream fixityInput,
+            InputStream content,
+            String destinationPath,
+            OcflOption... options) {
+        // The content is read outside of the lock, so that concurrent writes are not serialized. Only reserving budget
+        // for the next chunk, and releasing it once the file is staged, happens under the lock.
+        var buffer = new ByteArrayOutputStream();
+        var reserved = 0L;
+        var exceeded = false;
+
+        try {
+            while (true) {
+                var chunk = reserveMemory(reserved);
+                if (chunk < 0) {
+                    // spilled by another write, which also discarded all reservations
+                    return buffer.toByteArray();
+                }
+                reserved += chunk;
+
+                // When no budget is left, a single byte is read to determine if the file has ended
+                var bytes = content.readNBytes(chunk == 0 ? 1 : chunk);
+                buffer.write(bytes, 0, bytes.length);
+
+                if (chunk == 0) {
+                    exceeded = bytes.length > 0;
+                    break;
+                } else if (bytes.length < chunk) {
+                    break;
                 }
             }
+        } catch (IOException | RuntimeException e) {
+            releaseMemory(reserved);
+            if (e instanceof IOException) {
+                throw OcflIOException.from((IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
 
-            String digest;
+        var bytes = buffer.toByteArray();
 
-            if (digestInput instanceof FixityCheckInputStream) {
-                digest = ((FixityCheckInputStream) digestInput)
-                        .getActualDigestValue()
-                        .get();
-            } else {
-                digest = Bytes.wrap(digestInput.getMessageDigest().digest()).encodeHex();
+        synchronized (memoryLock) {
+            if (spilled) {
+                return bytes;
             }
 
-            var result = inventoryUpdater.addFile(digest, destinationPath, options);
+            memoryStagedBytes -= reserved;
 
-            if (!result.isNew()) {
+            if (exceeded) {
                 LOG.debug(
-                        "Deleting file <{}> because a file with same digest <{}> is already present in the object",
-                        stagingFullPath,
-                        digest);
-                UncheckedFiles.delete(stagingFullPath);
-                checkForEmptyDirs.set(true);
+                        "Memory staging threshold of {} bytes exceeded while writing <{}> to object <{}>",
+                        memoryStagingThreshold,
+                        destinationPath,
+                        inventory.getId());
+                if (streamStager == null) {
+                    spillToStagingDir();
+                }
+                return bytes;
+            }
+
+            checkFixity(input, () -> {});
+
+            var result = inventoryUpdater.addFile(digestValue(digestInput), destinationPath, options);
+
+            if (result.isNew()) {
+                addComputedFixity(destinationPath, fixityInput);
+                var previous = memoryStagedContent.put(
+                        result.getContentPath(), new MemoryFile(result.getPathUnderContentDir(), bytes));
+                memoryStagedBytes += bytes.length - (previous == null ? 0 : previous.content.length);
+                memoryStagedFileMap.put(destinationPath, result.getContentPath());
+
+                var stagedPath = streamStagedContent.remove(result.getContentPath());
+                if (stagedPath != null) {
+                    streamStager.delete(List.of(stagedPath));
+                }
             } else {
-                stagedFileMap.put(destinationPath, stagingFullPath);
+                discardReplacedContent(destinationPath);
             }
 
-            return this;
+            return null;
+        }
+    }
+
+    // Reserves up to the next chunk of the memory staging budget. Returns -1 if memory staging was spilled.
+    private int reserveMemory(long alreadyReserved) {
+        synchronized (memoryLock) {
+            if (spilled) {
+                return -1;
+            }
+            var chunk = Math.max(
+                    0,
+                    Math.min(
+                            MEMORY_CHUNK_SIZE,
+                            Math.min(
+                                    memoryStagingThreshold - memoryStagedBytes,
+                                    MAX_MEMORY_FILE_SIZE - alreadyReserved)));
+            memoryStagedBytes += chunk;
+            return (int) chunk;
+        }
+    }
+
+    private void releaseMemory(long reserved) {
+        synchronized (memoryLock) {
+            if (!spilled) {
+                memoryStagedBytes -= reserved;
+            }
+        }
+    }
+
+    private void writeFileToStagingDir(
+            InputStream input,
+            DigestInputStream digestInput,
+            MultiDigestInputStream fixityInput,
+            InputStream content,
+            String destinationPath,
+            OcflOption... options) {
+        var stagingFullPath = stagingFullPath(inventoryUpdater.innerContentPath(destinationPath));
+
+        LOG.debug("Writing input stream to: {}", stagingFullPath);
+        if (Files.notExists(stagingFullPath.getParent())) {
+            UncheckedFiles.createDirectories(stagingFullPath.getParent());
+        }
+        UncheckedFiles.copy(content, stagingFullPath, StandardCopyOption.REPLACE_EXISTING);
+
+        checkFixity(input, () -> {
+            FileUtil.safeDelete(stagingFullPath);
+            checkForEmptyDirs.set(true);
         });
+
+        var digest = digestValue(digestInput);
+        var result = inventoryUpdater.addFile(digest, destinationPath, options);
+
+        if (!result.isNew()) {
+            LOG.debug(
+                    "Deleting file <{}> because a file with same digest <{}> is already present in the object",
+                    stagingFullPath,
+                    digest);
+            UncheckedFiles.delete(stagingFullPath);
+            checkForEmptyDirs.set(true);
+        } else {
+            addComputedFixity(destinationPath, fixityInput);
+            stagedFileMap.put(destinationPath, stagingFullPath);
+        }
+    }
+
+    // Streams the content directly to storage, rather than to the local staging directory
+    private void writeFileToStorage(
+            InputStream input,
+            DigestInputStream digestInput,
+            MultiDigestInputStream fixityInput,
+            InputStream content,
+            String destinationPath,
+            OcflOption... options) {
+        LOG.debug(
+                "Write stream to object <{}> at logical path <{}> via storage staging",
+                inventory.getId(),
+                destinationPath);
+
+        var stagedPath = streamStager.stage(content);
+
+        checkFixity(input, () -> streamStager.delete(List.of(stagedPath)));
+
+        var digest = digestValue(digestInput);
+        InventoryUpdater.AddFileResult result;
+
+        try {
+            result = inventoryUpdater.addFile(digest, destinationPath, options);
+        } catch (RuntimeException e) {
+            streamStager.delete(List.of(stagedPath));
+            throw e;
+        }
+
+        if (!result.isNew()) {
+            LOG.debug(
+                    "Deleting staged file <{}> because a file with same digest <{}> is already present in the object",
+                    stagedPath,
+                    digest);
+            streamStager.delete(List.of(stagedPath));
+            discardReplacedContent(destinationPath);
+        } else {
+            addComputedFixity(destinationPath, fixityInput);
+            var previous = streamStagedContent.put(result.getContentPath(), stagedPath);
+            if (previous != null) {
+                streamStager.delete(List.of(previous));
+            }
+            streamStagedFileMap.put(destinationPath, stagedPath);
+            discardMemoryStagedFile(result.getContentPath());
+        }
+    }
+
+    // When a logical path is overwritten with content that's already in the object, the content that an earlier write
+    // staged for the path is discarded, unless another logical path still references it
+    private void discardReplacedContent(String logicalPath) {
+        streamStagedFileMap.remove(logicalPath);
+        synchronized (memoryLock) {
+            memoryStagedFileMap.remove(logicalPath);
+        }
+
+        var contentPath = inventoryUpdater.contentPath(logicalPath);
+
+        if (inventoryUpdater.containsContentPath(contentPath)) {
+            return;
+        }
+
+        discardMemoryStagedFile(contentPath);
+
+        var stagedPath = streamStagedContent.remove(contentPath);
+        if (stagedPath != null) {
+            LOG.debug("Deleting {} because the content at {} was replaced.", stagedPath, logicalPath);
+            streamStager.delete(List.of(stagedPath));
+        }
+    }
+
+    private void checkFixity(InputStream input, Runnable onFailure) {
+        if (input instanceof FixityCheckInputStream) {
+            try {
+                ((FixityCheckInputStream) input).checkFixity();
+            } catch (FixityCheckException e) {
+                onFailure.run();
+                throw e;
+            }
+        }
+    }
+
+    // Records the fixity digests that were computed in the same pass as the content digest
+    private void addComputedFixity(String logicalPath, MultiDigestInputStream fixityInput) {
+        if (fixityInput != null) {
+            fixityInput
+                    .getResults()
+                    .forEach((algorithm, digest) -> inventoryUpdater.addFixity(logicalPath, algorithm, digest));
+        }
+    }
+
+    private String digestValue(DigestInputStream digestInput) {
+        if (digestInput instanceof FixityCheckInputStream) {
+            return ((FixityCheckInputStream) digestInput).getActualDigestValue().get();
+        }
+        return Bytes.wrap(digestInput.getMessageDigest().digest()).encodeHex();
     }
 
     /**
@@ -288,22 +608,32 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
                 }
 
                 var file = stagedFileMap.get(logicalPath);
+                var stagedPath = streamStagedFileMap.get(logicalPath);
+                var memoryFile = memoryStagedFile(logicalPath);
 
-                if (file == null) {
+                if (file == null && stagedPath == null && memoryFile == null) {
                     throw new OcflInputException(String.format(
                             "%s was not newly added in this update. Fixity information can only be added on new files.",
                             logicalPath));
                 }
 
-                LOG.debug("Computing {} hash of {}", algorithm.getJavaStandardName(), file);
-                if ("size".equals(algorithm.getOcflName())) {
-                    try {
-                        digest = String.valueOf(Files.size(file));
-                    } catch (IOException e) {
-                        throw OcflIOException.from(e);
-                    }
+                if (memoryFile != null) {
+                    LOG.debug("Computing {} hash of {} in memory", algorithm.getJavaStandardName(), logicalPath);
+                    digest = computeFixity(algorithm, new ByteArrayInputStream(memoryFile));
+                } else if (file == null) {
+                    LOG.debug("Computing {} hash of staged file {}", algorithm.getJavaStandardName(), stagedPath);
+                    digest = computeFixity(algorithm, streamStager.read(stagedPath));
                 } else {
-                    digest = DigestUtil.computeDigestHex(algorithm, file);
+                    LOG.debug("Computing {} hash of {}", algorithm.getJavaStandardName(), file);
+                    if ("size".equals(algorithm.getOcflName())) {
+                        try {
+                            digest = String.valueOf(Files.size(file));
+                        } catch (IOException e) {
+                            throw OcflIOException.from(e);
+                        }
+                    } else {
+                        digest = DigestUtil.computeDigestHex(algorithm, file);
+                    }
                 }
             }
 
@@ -341,8 +671,146 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
         return checkForEmptyDirs.get() || addFileProcessor.checkForEmptyDirs();
     }
 
+    /**
+     * Returns the content that was staged directly in storage, as a map of content paths, relative the object root, to
+     * the storage paths of the staged files.
+     *
+     * @return staged content
+     */
+    public Map<String, String> streamStagedContent() {
+        return Map.copyOf(streamStagedContent);
+    }
+
+    /**
+     * Deletes all of the content that was staged directly in storage. This must be called after the update completes,
+     * regardless of whether it was successful.
+     */
+    public void deleteStreamStagedContent() {
+        if (streamStager != null && !streamStagedContent.isEmpty()) {
+            streamStager.delete(new ArrayList<>(streamStagedContent.values()));
+            streamStagedContent.clear();
+            streamStagedFileMap.clear();
+        }
+    }
+
+    /**
+     * Returns true if all of the new content in the version is staged in memory, and nothing was written to the staging
+     * directory.
+     *
+     * @return true if the version is staged in memory
+     */
+    public boolean isStagedInMemory() {
+        return !spilled;
+    }
+
+    /**
+     * Returns the content that's staged in memory, as a map of content paths, relative the object root, to file
+     * contents.
+     *
+     * @return content staged in memory
+     */
+    public Map<String, byte[]> memoryStagedContent() {
+        synchronized (memoryLock) {
+            var content = new HashMap<String, byte[]>(memoryStagedContent.size());
+            memoryStagedContent.forEach((contentPath, file) -> content.put(contentPath, file.content));
+            return content;
+        }
+    }
+
+    // Writes everything that's staged in memory to the staging directory, and stages all subsequent content there
+    private void spillToStagingDir() {
+        if (spilled) {
+            return;
+        }
+
+        synchronized (memoryLock) {
+            if (spilled) {
+                return;
+            }
+
+            LOG.debug(
+                    "Spilling {} files staged in memory for object <{}> to {}",
+                    memoryStagedContent.size(),
+                    inventory.getId(),
+                    stagingDir);
+
+            UncheckedFiles.createDirectories(stagingDir);
+
+            var spilledFiles = new HashMap<String, Path>(memoryStagedContent.size());
+            memoryStagedContent.forEach((contentPath, file) -> {
+                var stagingFullPath = stagingFullPath(file.pathUnderContentDir);
+                UncheckedFiles.createDirectories(stagingFullPath.getParent());
+                try {
+                    Files.write(stagingFullPath, file.content);
+                } catch (IOException e) {
+                    throw OcflIOException.from(e);
+                }
+                spilledFiles.put(contentPath, stagingFullPath);
+            });
+
+            memoryStagedFileMap.forEach((logicalPath, contentPath) -> {
+                var file = spilledFiles.get(contentPath);
+                if (file != null) {
+                    stagedFileMap.put(logicalPath, file);
+                }
+            });
+
+            memoryStagedContent.clear();
+            memoryStagedFileMap.clear();
+            memoryStagedBytes = 0;
+            spilled = true;
+        }
+    }
+
+    private byte[] memoryStagedFile(String logicalPath) {
+        if (spilled) {
+            return null;
+        }
+
+        synchronized (memoryLock) {
+            var contentPath = memoryStagedFileMap.get(logicalPath);
+            var file = contentPath == null ? null : memoryStagedContent.get(contentPath);
+            return file == null ? null : file.content;
+        }
+    }
+
+    private void discardMemoryStagedFile(String contentPath) {
+        if (spilled) {
+            return;
+        }
+
+        synchronized (memoryLock) {
+            var file = memoryStagedContent.remove(contentPath);
+            if (file != null) {
+                LOG.debug("Discarding {} from memory because it was replaced or removed.", contentPath);
+                memoryStagedBytes -= file.content.length;
+            }
+        }
+    }
+
+    private String computeFixity(DigestAlgorithm algorithm, InputStream content) {
+        try (var stream = content) {
+            if ("size".equals(algorithm.getOcflName())) {
+                return String.valueOf(stream.transferTo(OutputStream.nullOutputStream()));
+            }
+            var digestStream = new DigestInputStream(stream, algorithm.getMessageDigest());
+            digestStream.transferTo(OutputStream.nullOutputStream());
+            return algorithm.encode(digestStream.getMessageDigest().digest());
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     private void removeUnneededStagedFiles(Set<InventoryUpdater.RemoveFileResult> removeFiles) {
         removeFiles.forEach(remove -> {
+            discardMemoryStagedFile(remove.getContentPath());
+
+            var stagedPath = streamStagedContent.remove(remove.getContentPath());
+            if (stagedPath != null) {
+                LOG.debug("Deleting {} because it was added and then removed in the same version.", stagedPath);
+                streamStager.delete(List.of(stagedPath));
+            }
+
             var stagingPath = stagingFullPath(remove.getPathUnderContentDir());
             if (Files.exists(stagingPath)) {
                 LOG.debug("Deleting {} because it was added and then removed in the same version.", stagingPath);
@@ -369,4 +837,22 @@ public class DefaultOcflObjectUpdater implements OcflObjectUpdater {
 
         return new DigestInputStream(input, inventory.getDigestAlgorithm().getMessageDigest());
     }
+
+    private MultiDigestInputStream wrapInFixityInputStream(InputStream input) {
+        var fixityAlgorithms = addFileProcessor.getFixityAlgorithms();
+        if (fixityAlgorithms.isEmpty()) {
+            return null;
+        }
+        return MultiDigestInputStream.create(input, fixityAlgorithms);
+    }
+
+    private static class MemoryFile {
+        private final String pathUnderContentDir;
+        private final byte[] content;
+
+        private MemoryFile(String pathUnderContentDir, byte[] content) {
+            this.pathUnderContentDir = pathUnderContentDir;
+            this.content = content;
+        }
+    }
 }
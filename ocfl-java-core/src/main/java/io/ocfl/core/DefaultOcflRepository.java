@@ -37,8 +37,14 @@ import io.ocfl.api.exception.OcflIOException;
 import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.exception.OcflStateException;
 import io.ocfl.api.exception.ValidationException;
+import io.ocfl.api.model.ArchiveFormat;
+import io.ocfl.api.model.DigestAlgorithm;
 import io.ocfl.api.model.FileChangeHistory;
+import io.ocfl.api.model.FileDiff;
+import io.ocfl.api.model.FileListing;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectDetails;
+import io.ocfl.api.model.ObjectResult;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflObjectVersion;
 import io.ocfl.api.model.OcflObjectVersionFile;
@@ -47,37 +53,57 @@ import io.ocfl.api.model.VersionDetails;
 import io.ocfl.api.model.VersionInfo;
 import io.ocfl.api.model.VersionNum;
 import io.ocfl.api.util.Enforce;
+import io.ocfl.core.archive.ArchiveWriter;
 import io.ocfl.core.inventory.AddFileProcessor;
 import io.ocfl.core.inventory.InventoryMapper;
 import io.ocfl.core.inventory.InventoryUpdater;
 import io.ocfl.core.inventory.SidecarMapper;
 import io.ocfl.core.lock.ObjectLock;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.model.Version;
 import io.ocfl.core.path.ContentPathMapper;
 import io.ocfl.core.path.constraint.ContentPathConstraintProcessor;
 import io.ocfl.core.path.mapper.LogicalPathMapper;
 import io.ocfl.core.storage.OcflStorage;
+import io.ocfl.core.storage.common.CopyOnReadStorage;
+import io.ocfl.core.storage.filesystem.FileSystemStorage;
 import io.ocfl.core.util.DigestUtil;
+import io.ocfl.core.util.ExecutorUtil;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.FutureUtil;
 import io.ocfl.core.util.ResponseMapper;
 import io.ocfl.core.util.UncheckedFiles;
 import io.ocfl.core.validation.InventoryValidator;
 import io.ocfl.core.validation.Validator;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -93,6 +119,11 @@ public class DefaultOcflRepository implements OcflRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultOcflRepository.class);
 
+    /**
+     * The maximum number of inventories that are loaded from storage in a single batch during bulk operations
+     */
+    private static final int MAX_BULK_BATCH_SIZE = 100;
+
     private final OcflConfig config;
     private final boolean verifyStaging;
     private final Duration fileLockTimeoutDuration;
@@ -105,6 +136,10 @@ public class DefaultOcflRepository implements OcflRepository {
     protected final AddFileProcessor.Builder addFileProcessorBuilder;
 
     private Clock clock;
+    private int bulkParallelism;
+    // Created on first use and shared by all bulk operations, and shut down when the repository is closed
+    private ExecutorService bulkExecutor;
+    private long memoryStagingThreshold;
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -147,6 +182,7 @@ public class DefaultOcflRepository implements OcflRepository {
 
         responseMapper = new ResponseMapper();
         clock = Clock.systemUTC();
+        bulkParallelism = 8;
 
         addFileProcessorBuilder = AddFileProcessor.builder();
     }
@@ -190,6 +226,39 @@ public class DefaultOcflRepository implements OcflRepository {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Objects are put concurrently, up to the configured bulk parallelism, so that the staging and writing of one
+     * object overlaps with the others.
+     */
+    @Override
+    public Map<String, ObjectResult<ObjectVersionId>> putObjects(
+            Map<String, Path> objects, VersionInfo versionInfo, OcflOption... options) {
+        ensureOpen();
+
+        Enforce.notNull(objects, "objects cannot be null");
+        objects.keySet().forEach(objectId -> Enforce.notNull(objectId, "objectIds cannot be null"));
+        validateVersionInfo(versionInfo);
+
+        LOG.debug("Putting {} objects into OCFL repo", objects.size());
+
+        var batches = new ArrayList<List<String>>();
+        objects.keySet().forEach(objectId -> batches.add(List.of(objectId)));
+
+        var results = this.<ObjectVersionId>runBulk(batches, (batch, batchResults) -> {
+            var objectId = batch.get(0);
+            batchResults.put(
+                    objectId,
+                    bulkResult(
+                            objectId,
+                            () -> putObject(
+                                    ObjectVersionId.head(objectId), objects.get(objectId), versionInfo, options)));
+        });
+
+        return orderedResults(objects.keySet(), results);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -208,24 +277,46 @@ public class DefaultOcflRepository implements OcflRepository {
         ensureNoMutableHead(inventory);
         enforceObjectVersionForUpdate(objectVersionId, inventory);
 
-        var stagingDir = createStagingDir(objectVersionId.getObjectId());
-        var contentDir = createStagingContentDir(inventory, stagingDir);
+        Path stagingDir;
+        Path contentDir;
+
+        if (memoryStagingThreshold > 0) {
+            // The staging directory is only created if the update spills out of memory
+            stagingDir = FileUtil.objectTempDirPath(workDir, objectVersionId.getObjectId());
+            contentDir = resolveContentDir(inventory, stagingDir);
+        } else {
+            stagingDir = createStagingDir(objectVersionId.getObjectId());
+            contentDir = createStagingContentDir(inventory, stagingDir);
+        }
 
         var inventoryUpdater = inventoryUpdaterBuilder.buildCopyState(inventory);
         var fileLocker = new FileLocker(fileLockTimeoutDuration);
         var addFileProcessor =
                 addFileProcessorBuilder.build(inventoryUpdater, fileLocker, contentDir, inventory.getDigestAlgorithm());
-        var updater =
-                new DefaultOcflObjectUpdater(inventory, inventoryUpdater, contentDir, addFileProcessor, fileLocker);
+        var updater = new DefaultOcflObjectUpdater(
+                inventory,
+                inventoryUpdater,
+                contentDir,
+                addFileProcessor,
+                fileLocker,
+                storage.streamStager(),
+                memoryStagingThreshold);
 
         try {
             objectUpdater.accept(updater);
             var upgrade = inventoryUpdater.upgradeInventory(config);
             var newInventory = buildNewInventory(inventoryUpdater, versionInfo);
-            writeNewVersion(newInventory, stagingDir, upgrade, updater.checkForEmptyDirs());
+            if (updater.isStagedInMemory()) {
+                writeNewVersionFromMemory(
+                        newInventory, updater.memoryStagedContent(), updater.streamStagedContent(), upgrade);
+            } else {
+                writeNewVersion(
+                        newInventory, stagingDir, updater.streamStagedContent(), upgrade, updater.checkForEmptyDirs());
+            }
             return ObjectVersionId.version(objectVersionId.getObjectId(), newInventory.getHead());
         } finally {
             FileUtil.safeDeleteDirectory(stagingDir);
+            updater.deleteStreamStagedContent();
         }
     }
 
@@ -244,7 +335,48 @@ public class DefaultOcflRepository implements OcflRepository {
         var inventory = requireInventory(objectVersionId);
         var versionNum = requireVersion(objectVersionId, inventory);
 
-        getObjectInternal(inventory, versionNum, outputPath);
+        getObjectInternal(inventory, versionNum, LogicalPathFilter.all(), outputPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getObject(ObjectVersionId objectVersionId, Path outputPath, LogicalPathFilter filter) {
+        ensureOpen();
+
+        Enforce.notNull(objectVersionId, "objectId cannot be null");
+        Enforce.notNull(filter, "filter cannot be null");
+        ensureOutputPath(outputPath);
+
+        LOG.debug("Get object <{}> files matching {} and copy to <{}>", objectVersionId, filter, outputPath);
+
+        var inventory = requireInventory(objectVersionId);
+        var versionNum = requireVersion(objectVersionId, inventory);
+
+        getObjectInternal(inventory, versionNum, filter, outputPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void getObject(ObjectVersionId objectVersionId, ArchiveFormat format, OutputStream outputStream) {
+        ensureOpen();
+
+        Enforce.notNull(objectVersionId, "objectId cannot be null");
+        Enforce.notNull(format, "format cannot be null");
+        Enforce.notNull(outputStream, "outputStream cannot be null");
+
+        LOG.debug("Get object <{}> as {} archive", objectVersionId, format);
+
+        var inventory = requireInventory(objectVersionId);
+        var versionNum = requireVersion(objectVersionId, inventory);
+        var created = inventory.getVersion(versionNum).getCreated().toInstant();
+
+        var archiveWriter = ArchiveWriter.create(format, outputStream, created);
+        storage.writeVersionArchive(inventory, versionNum, archiveWriter);
+        finishArchive(archiveWriter);
     }
 
     /**
@@ -275,6 +407,53 @@ public class DefaultOcflRepository implements OcflRepository {
         return new OcflObjectVersion(versionDetails, files);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflObjectVersionFile getObjectFile(ObjectVersionId objectVersionId, String logicalPath) {
+        ensureOpen();
+
+        Enforce.notNull(objectVersionId, "objectId cannot be null");
+        Enforce.notBlank(logicalPath, "logicalPath cannot be blank");
+
+        LOG.debug("Get object <{}> file <{}>", objectVersionId, logicalPath);
+
+        var inventory = requireInventory(objectVersionId);
+        var versionNum = requireVersion(objectVersionId, inventory);
+
+        return createObjectVersionFile(inventory, inventory.getVersion(versionNum), logicalPath);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, OcflObjectVersionFile> getObjectFiles(
+            ObjectVersionId objectVersionId, Collection<String> logicalPaths) {
+        ensureOpen();
+
+        Enforce.notNull(objectVersionId, "objectId cannot be null");
+        Enforce.notNull(logicalPaths, "logicalPaths cannot be null");
+
+        LOG.debug("Get object <{}> files <{}>", objectVersionId, logicalPaths);
+
+        var inventory = requireInventory(objectVersionId);
+        var versionNum = requireVersion(objectVersionId, inventory);
+        var version = inventory.getVersion(versionNum);
+
+        var files = new LinkedHashMap<String, OcflObjectVersionFile>();
+
+        for (var logicalPath : logicalPaths) {
+            var file = createObjectVersionFile(inventory, version, logicalPath);
+            if (file != null) {
+                files.put(logicalPath, file);
+            }
+        }
+
+        return files;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -291,6 +470,60 @@ public class DefaultOcflRepository implements OcflRepository {
         return responseMapper.mapInventory(inventory);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The ids are split into batches, and the inventories in each batch are loaded from storage together, which
+     * allows database backed storage to look them up in a single query. Batches are loaded concurrently, up to the
+     * configured bulk parallelism.
+     */
+    @Override
+    public Map<String, ObjectResult<ObjectDetails>> describeObjects(Collection<String> objectIds) {
+        ensureOpen();
+
+        Enforce.notNull(objectIds, "objectIds cannot be null");
+        objectIds.forEach(objectId -> Enforce.notNull(objectId, "objectIds cannot be null"));
+
+        LOG.debug("Describe {} objects", objectIds.size());
+
+        var uniqueIds = new ArrayList<>(new LinkedHashSet<>(objectIds));
+        var batchSize =
+                Math.max(1, Math.min(MAX_BULK_BATCH_SIZE, (uniqueIds.size() + bulkParallelism - 1) / bulkParallelism));
+
+        var batches = new ArrayList<List<String>>();
+        for (int i = 0; i < uniqueIds.size(); i += batchSize) {
+            batches.add(uniqueIds.subList(i, Math.min(i + batchSize, uniqueIds.size())));
+        }
+
+        var results = this.<ObjectDetails>runBulk(batches, (batch, batchResults) -> {
+            Map<String, Inventory> inventories = Map.of();
+            try {
+                var validIds = new ArrayList<String>();
+                batch.forEach(objectId -> {
+                    if (!objectId.isBlank()) {
+                        validIds.add(objectId);
+                    }
+                });
+                inventories = storage.loadInventories(validIds);
+            } catch (RuntimeException e) {
+                LOG.debug("Failed to load inventories in batch. Falling back to loading them individually.", e);
+            }
+
+            for (var objectId : batch) {
+                var inventory = inventories.get(objectId);
+                batchResults.put(
+                        objectId,
+                        bulkResult(
+                                objectId,
+                                () -> inventory == null
+                                        ? describeObject(objectId)
+                                        : responseMapper.mapInventory(inventory)));
+            }
+        });
+
+        return orderedResults(uniqueIds, results);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -331,6 +564,45 @@ public class DefaultOcflRepository implements OcflRepository {
         return changeHistory;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, FileChangeHistory> fileChangeHistories(String objectId, Collection<String> logicalPaths) {
+        ensureOpen();
+
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+        Enforce.notNull(logicalPaths, "logicalPaths cannot be null");
+
+        LOG.debug("Get file change histories for object <{}> logical paths <{}>", objectId, logicalPaths);
+
+        var inventory = requireInventory(ObjectVersionId.head(objectId));
+        var histories = responseMapper.fileChangeHistories(inventory, logicalPaths);
+
+        histories.values().removeIf(history -> history.getFileChanges().isEmpty());
+
+        return histories;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<FileDiff> diffVersions(String objectId, VersionNum fromVersionNum, VersionNum toVersionNum) {
+        ensureOpen();
+
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+        Enforce.notNull(fromVersionNum, "fromVersionNum cannot be null");
+        Enforce.notNull(toVersionNum, "toVersionNum cannot be null");
+
+        LOG.debug("Diff object <{}> versions <{}> and <{}>", objectId, fromVersionNum, toVersionNum);
+
+        var inventory = requireInventory(ObjectVersionId.head(objectId));
+
+        return responseMapper.diffVersions(
+                inventory.ensureVersion(fromVersionNum), inventory.ensureVersion(toVersionNum));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -476,14 +748,24 @@ public class DefaultOcflRepository implements OcflRepository {
         Enforce.notBlank(objectId, "objectId cannot be blank");
         ensureExportPath(outputPath);
 
-        requireInventory(ObjectVersionId.head(objectId));
+        var inventory = requireInventory(ObjectVersionId.head(objectId));
 
         LOG.debug("Export <{}> to <{}>", objectId, outputPath);
 
-        objectLock.doInWriteLock(objectId, () -> storage.exportObject(objectId, outputPath));
-
-        if (!OcflOption.contains(OcflOption.NO_VALIDATION, options)) {
-            var results = Validator.validateObject(outputPath, true);
+        if (OcflOption.contains(OcflOption.NO_VALIDATION, options)) {
+            objectLock.doInWriteLock(objectId, () -> storage.exportObject(objectId, outputPath));
+        } else {
+            ValidationResults results;
+            if (inventory.hasMutableHead()) {
+                // The contents of a mutable HEAD change in place, so they are only copied under the lock, and the
+                // exported copy is validated once the lock is released
+                objectLock.doInWriteLock(objectId, () -> storage.exportObject(objectId, outputPath));
+                results = Validator.validateObject(outputPath, true);
+            } else {
+                // Published versions are immutable, so the object is copied and validated, in a single pass, without
+                // holding the lock
+                results = storage.exportAndValidateObject(inventory, outputPath);
+            }
             if (results.hasErrors()) {
                 throw new ValidationException(
                         String.format("Object %s failed validation after export to %s", objectId, outputPath), results);
@@ -491,6 +773,39 @@ public class DefaultOcflRepository implements OcflRepository {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exportObject(String objectId, ArchiveFormat format, OutputStream outputStream) {
+        ensureOpen();
+
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+        Enforce.notNull(format, "format cannot be null");
+        Enforce.notNull(outputStream, "outputStream cannot be null");
+
+        LOG.debug("Export <{}> as {} archive", objectId, format);
+
+        // Published versions are immutable, so the archive is streamed without holding the lock. Only the contents of
+        // a mutable HEAD change in place.
+        var inventory = requireInventory(ObjectVersionId.head(objectId));
+
+        if (inventory.hasMutableHead()) {
+            objectLock.doInWriteLock(
+                    objectId,
+                    () -> writeObjectArchive(requireInventory(ObjectVersionId.head(objectId)), format, outputStream));
+        } else {
+            writeObjectArchive(inventory, format, outputStream);
+        }
+    }
+
+    private void writeObjectArchive(Inventory inventory, ArchiveFormat format, OutputStream outputStream) {
+        var created = inventory.getHeadVersion().getCreated().toInstant();
+        var archiveWriter = ArchiveWriter.create(format, outputStream, created);
+        storage.writeObjectArchive(inventory, archiveWriter);
+        finishArchive(archiveWriter);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -504,12 +819,17 @@ public class DefaultOcflRepository implements OcflRepository {
 
         var importInventory = createImportVersionInventory(versionPath);
 
-        ensureVersionHasAllFiles(importInventory, versionPath, !OcflOption.contains(OcflOption.NO_VALIDATION, options));
-
+        var fixityCheck = !OcflOption.contains(OcflOption.NO_VALIDATION, options);
         var stagingDir = createStagingDir(importInventory.getId());
 
         try {
-            importToStaging(versionPath, stagingDir, options);
+            if (OcflOption.contains(OcflOption.MOVE_SOURCE, options)) {
+                ensureVersionHasAllFiles(importInventory, versionPath, fixityCheck, null);
+                importToStaging(versionPath, stagingDir, options);
+            } else {
+                // The version is copied to the staging directory as its content is verified, so it's only read once
+                ensureVersionHasAllFiles(importInventory, versionPath, fixityCheck, stagingDir);
+            }
             objectLock.doInWriteLock(
                     importInventory.getId(), () -> storage.storeNewVersion(importInventory, stagingDir, false));
         } finally {
@@ -536,16 +856,33 @@ public class DefaultOcflRepository implements OcflRepository {
                     "Cannot import object at %s because an object already exists with ID %s.", objectPath, objectId));
         }
 
-        var results = Validator.validateObject(objectPath, !OcflOption.contains(OcflOption.NO_VALIDATION, options));
-        if (results.hasErrors()) {
-            throw new ValidationException(
-                    String.format("Object %s at %s failed validation.", objectId, objectPath), results);
+        var fixityCheck = !OcflOption.contains(OcflOption.NO_VALIDATION, options);
+        var moveSource = OcflOption.contains(OcflOption.MOVE_SOURCE, options);
+
+        if (!moveSource && storage.importObjectRetainsSource()) {
+            // The storage reads the object directly from the source, so there's no need to stage a copy
+            ensureImportObjectValid(objectId, objectPath, Validator.validateObject(objectPath, fixityCheck));
+            objectLock.doInWriteLock(objectId, () -> storage.importObject(objectId, objectPath));
+            return;
         }
 
         var stagingDir = createStagingDir(objectId);
 
         try {
-            importToStaging(objectPath, stagingDir, options);
+            if (moveSource) {
+                ensureImportObjectValid(objectId, objectPath, Validator.validateObject(objectPath, fixityCheck));
+                importToStaging(objectPath, stagingDir, options);
+            } else {
+                // The object is copied to the staging directory as it is validated, so it's only read once
+                var absolutePath = objectPath.toAbsolutePath();
+                var objectDir = absolutePath.getFileName().toString();
+                var copyingStorage =
+                        new CopyOnReadStorage(new FileSystemStorage(absolutePath.getParent()), objectDir, stagingDir);
+                var results = new Validator(copyingStorage).validateObject(objectDir, fixityCheck);
+                ensureImportObjectValid(objectId, objectPath, results);
+                copyingStorage.copyRemaining();
+            }
+
             objectLock.doInWriteLock(objectId, () -> storage.importObject(objectId, stagingDir));
         } finally {
             FileUtil.safeDeleteDirectory(stagingDir);
@@ -561,6 +898,12 @@ public class DefaultOcflRepository implements OcflRepository {
 
         if (closed.compareAndSet(false, true)) {
             storage.close();
+            objectLock.close();
+            synchronized (this) {
+                if (bulkExecutor != null) {
+                    bulkExecutor.shutdown();
+                }
+            }
         }
     }
 
@@ -619,11 +962,12 @@ public class DefaultOcflRepository implements OcflRepository {
         return InventoryValidator.validateShallow(inventoryUpdater.buildNewInventory(now(versionInfo), versionInfo));
     }
 
-    private void getObjectInternal(Inventory inventory, VersionNum versionNum, Path outputPath) {
+    private void getObjectInternal(
+            Inventory inventory, VersionNum versionNum, LogicalPathFilter filter, Path outputPath) {
         var stagingDir = createStagingDir(inventory.getId());
 
         try {
-            storage.reconstructObjectVersion(inventory, versionNum, stagingDir);
+            storage.reconstructObjectVersion(inventory, versionNum, filter, stagingDir);
             FileUtil.moveDirectory(stagingDir, outputPath);
         } catch (FileAlreadyExistsException e) {
             throw new OcflIOException(e);
@@ -634,6 +978,15 @@ public class DefaultOcflRepository implements OcflRepository {
 
     protected void writeNewVersion(
             Inventory inventory, Path stagingDir, boolean upgradedOcflVersion, boolean checkForEmptyDirs) {
+        writeNewVersion(inventory, stagingDir, Map.of(), upgradedOcflVersion, checkForEmptyDirs);
+    }
+
+    protected void writeNewVersion(
+            Inventory inventory,
+            Path stagingDir,
+            Map<String, String> stagedContent,
+            boolean upgradedOcflVersion,
+            boolean checkForEmptyDirs) {
         var finalInventory = writeInventory(inventory, stagingDir);
 
         var contentDir = stagingDir.resolve(inventory.resolveContentDirectory());
@@ -647,14 +1000,46 @@ public class DefaultOcflRepository implements OcflRepository {
         }
 
         if (verifyStaging) {
-            versionContentCheck(inventory, stagingDir, resolveContentDir(inventory, stagingDir));
+            versionContentCheck(
+                    inventory, stagingDir, resolveContentDir(inventory, stagingDir), stagedContent.keySet());
         }
 
         objectLock.doInWriteLock(
-                inventory.getId(), () -> storage.storeNewVersion(finalInventory, stagingDir, upgradedOcflVersion));
+                inventory.getId(),
+                () -> storage.storeNewVersion(finalInventory, stagingDir, stagedContent, upgradedOcflVersion));
     }
 
-    private void versionContentCheck(Inventory inventory, Path rootPath, Path contentPath) {
+    protected void writeNewVersionFromMemory(
+            Inventory inventory,
+            Map<String, byte[]> content,
+            Map<String, String> stagedContent,
+            boolean upgradedOcflVersion) {
+        var output = new ByteArrayOutputStream();
+        var digestStream =
+                new DigestOutputStream(output, inventory.getDigestAlgorithm().getMessageDigest());
+        inventoryMapper.write(digestStream, inventory);
+
+        var digest = inventory
+                .getDigestAlgorithm()
+                .encode(digestStream.getMessageDigest().digest());
+        var finalInventory = inventory.buildFrom().inventoryDigest(digest).build();
+        var inventoryBytes = output.toByteArray();
+
+        if (verifyStaging) {
+            var contentPaths = new HashSet<String>(content.keySet());
+            contentPaths.addAll(stagedContent.keySet());
+            versionContentCheck(inventory, null, null, contentPaths);
+        }
+
+        objectLock.doInWriteLock(
+                inventory.getId(),
+                () -> storage.storeNewVersionFromMemory(
+                        finalInventory, inventoryBytes, content, stagedContent, upgradedOcflVersion));
+    }
+
+    // rootPath and contentPath may be null when none of the content is staged on disk
+    private void versionContentCheck(
+            Inventory inventory, Path rootPath, Path contentPath, Set<String> stagedContentPaths) {
         var version = inventory.getHeadVersion();
         String prefix;
         Set<String> fileIds;
@@ -662,38 +1047,49 @@ public class DefaultOcflRepository implements OcflRepository {
         if (inventory.hasMutableHead()) {
             prefix = OcflConstants.MUTABLE_HEAD_VERSION_PATH + "/";
             fileIds = inventory.getFileIdsForMatchingFiles(
-                    prefix + FileUtil.pathToStringStandardSeparator(rootPath.relativize(contentPath)) + "/"
-                            + inventory.getRevisionNum());
+                    prefix + inventory.resolveContentDirectory() + "/" + inventory.getRevisionNum());
         } else {
             prefix = inventory.getHead() + "/";
-            fileIds = inventory.getFileIdsForMatchingFiles(
-                    prefix + FileUtil.pathToStringStandardSeparator(rootPath.relativize(contentPath)));
+            fileIds = inventory.getFileIdsForMatchingFiles(prefix + inventory.resolveContentDirectory());
         }
 
         var expected = new HashSet<String>(fileIds.size());
         expected.addAll(fileIds);
 
-        try (var paths = Files.find(contentPath, Integer.MAX_VALUE, (file, attrs) -> attrs.isRegularFile())) {
-            paths.forEach(file -> {
-                var fileContentPath = prefix + FileUtil.pathToStringStandardSeparator(rootPath.relativize(file));
-                var expectedDigest = inventory.getFileId(fileContentPath);
-
-                if (expectedDigest == null) {
-                    throw new OcflStateException(
-                            String.format("Staged version contains a file not in the manifest: %s", fileContentPath));
-                } else if (version.getPaths(expectedDigest) == null) {
-                    throw new OcflStateException(
-                            String.format("Staged version contains a file not in its state: %s", fileContentPath));
-                }
+        Consumer<String> checkFile = fileContentPath -> {
+            var expectedDigest = inventory.getFileId(fileContentPath);
 
-                expected.remove(expectedDigest);
-            });
+            if (expectedDigest == null) {
+                throw new OcflStateException(
+                        String.format("Staged version contains a file not in the manifest: %s", fileContentPath));
+            } else if (version.getPaths(expectedDigest) == null) {
+                throw new OcflStateException(
+                        String.format("Staged version contains a file not in its state: %s", fileContentPath));
+            }
+
+            expected.remove(expectedDigest);
+        };
+
+        stagedContentPaths.forEach(checkFile);
+
+        if (contentPath == null) {
+            ensureNoMissingFiles(inventory, expected);
+            return;
+        }
+
+        try (var paths = Files.find(contentPath, Integer.MAX_VALUE, (file, attrs) -> attrs.isRegularFile())) {
+            paths.forEach(file ->
+                    checkFile.accept(prefix + FileUtil.pathToStringStandardSeparator(rootPath.relativize(file))));
         } catch (NoSuchFileException e) {
             // ignore -- means there's no content dir
         } catch (IOException e) {
             throw new OcflIOException(e);
         }
 
+        ensureNoMissingFiles(inventory, expected);
+    }
+
+    private void ensureNoMissingFiles(Inventory inventory, Set<String> expected) {
         if (!expected.isEmpty()) {
             var filePaths = expected.stream().map(inventory::getContentPath).collect(Collectors.toList());
             throw new OcflStateException(String.format("Staged version is missing the following files: %s", filePaths));
@@ -776,6 +1172,21 @@ public class DefaultOcflRepository implements OcflRepository {
         return inventoryMapper.read(path.toString(), algorithm, inventoryPath);
     }
 
+    private void finishArchive(ArchiveWriter archiveWriter) {
+        try {
+            archiveWriter.finish();
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    private void ensureImportObjectValid(String objectId, Path objectPath, ValidationResults results) {
+        if (results.hasErrors()) {
+            throw new ValidationException(
+                    String.format("Object %s at %s failed validation.", objectId, objectPath), results);
+        }
+    }
+
     private void importToStaging(Path source, Path stagingDir, OcflOption... options) {
         if (OcflOption.contains(OcflOption.MOVE_SOURCE, options)) {
             // Delete the staging directory so that the move operation works
@@ -828,7 +1239,12 @@ public class DefaultOcflRepository implements OcflRepository {
         return objectId.getVersionNum();
     }
 
-    private void ensureVersionHasAllFiles(Inventory inventory, Path versionPath, boolean fixityCheck) {
+    /**
+     * Verifies that the version contains exactly the content files its manifest declares, optionally checking their
+     * digests. When copyTo is not null, every file in the version is copied to it, and content digests are computed
+     * while the files are copied.
+     */
+    private void ensureVersionHasAllFiles(Inventory inventory, Path versionPath, boolean fixityCheck, Path copyTo) {
         var contentDir = inventory.resolveContentDirectory();
         var versionContentPath = versionPath.resolve(contentDir);
         var prefix = inventory.getHead() + "/" + contentDir + "/";
@@ -852,12 +1268,17 @@ public class DefaultOcflRepository implements OcflRepository {
                 throw new OcflStateException(
                         "The version contains a content file that is not declared in its manifest: " + path);
             } else if (fixityCheck) {
-                var actualDigest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), path);
+                var actualDigest = copyTo == null
+                        ? DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), path)
+                        : copyAndComputeDigest(
+                                inventory.getDigestAlgorithm(), path, copyTo.resolve(versionPath.relativize(path)));
                 if (!digest.equalsIgnoreCase(actualDigest)) {
                     throw new FixityCheckException(String.format(
                             "Expected file %s to have %s digest %s, but it was %s",
                             path, inventory.getDigestAlgorithm().getOcflName(), digest, actualDigest));
                 }
+            } else if (copyTo != null) {
+                FileUtil.copyFileMakeParents(path, copyTo.resolve(versionPath.relativize(path)));
             }
         });
 
@@ -866,6 +1287,24 @@ public class DefaultOcflRepository implements OcflRepository {
                     "The version at %s was expected to contain %s/%s, but it did not",
                     versionPath, contentDir, contentFile));
         });
+
+        if (copyTo != null) {
+            // Copy everything outside the content directory, such as the inventory and its sidecar
+            FileUtil.findFiles(versionPath).stream()
+                    .filter(path -> !path.startsWith(versionContentPath))
+                    .forEach(path -> FileUtil.copyFileMakeParents(path, copyTo.resolve(versionPath.relativize(path))));
+        }
+    }
+
+    private String copyAndComputeDigest(DigestAlgorithm algorithm, Path source, Path destination) {
+        UncheckedFiles.createDirectories(destination.getParent());
+
+        try (var stream = new DigestInputStream(Files.newInputStream(source), algorithm.getMessageDigest())) {
+            Files.copy(stream, destination, StandardCopyOption.REPLACE_EXISTING);
+            return algorithm.encode(stream.getMessageDigest().digest());
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
     }
 
     protected Path createStagingDir(String objectId) {
@@ -880,6 +1319,47 @@ public class DefaultOcflRepository implements OcflRepository {
         return parent.resolve(inventory.resolveContentDirectory());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileListing listObjectFiles(
+            ObjectVersionId objectVersionId, String directory, boolean recursive, String cursor, int limit) {
+        ensureOpen();
+
+        Enforce.notNull(objectVersionId, "objectId cannot be null");
+        Enforce.notNull(directory, "directory cannot be null");
+        Enforce.expressionTrue(limit > 0, limit, "limit must be greater than 0");
+
+        LOG.debug(
+                "List object <{}> files in directory <{}> recursive <{}> after <{}>",
+                objectVersionId,
+                directory,
+                recursive,
+                cursor);
+
+        var inventory = requireInventory(objectVersionId);
+        var versionNum = requireVersion(objectVersionId, inventory);
+
+        return responseMapper.mapFileListing(
+                inventory,
+                inventory.getVersion(versionNum),
+                directory.replaceAll("^/+|/+$", ""),
+                recursive,
+                cursor,
+                limit);
+    }
+
+    private OcflObjectVersionFile createObjectVersionFile(Inventory inventory, Version version, String logicalPath) {
+        var fileId = version.getFileId(logicalPath);
+        if (fileId == null) {
+            return null;
+        }
+        return new OcflObjectVersionFile(
+                responseMapper.mapFileDetails(inventory, logicalPath, fileId),
+                storage.getFileRetriever(inventory, fileId));
+    }
+
     private VersionDetails createVersionDetails(Inventory inventory, VersionNum versionNum) {
         var version = inventory.getVersion(versionNum);
         return responseMapper.mapVersion(inventory, versionNum, version);
@@ -930,4 +1410,85 @@ public class DefaultOcflRepository implements OcflRepository {
     public void setClock(Clock clock) {
         this.clock = Enforce.notNull(clock, "clock cannot be null");
     }
+
+    /**
+     * Sets the maximum number of objects that are processed concurrently by bulk operations, such as
+     * {@link #putObjects(Map, VersionInfo, OcflOption...)} and {@link #describeObjects(Collection)}. Default: 8
+     *
+     * @param bulkParallelism the maximum number of objects to process concurrently
+     */
+    public void setBulkParallelism(int bulkParallelism) {
+        Enforce.expressionTrue(bulkParallelism > 0, bulkParallelism, "bulkParallelism must be greater than 0");
+        this.bulkParallelism = bulkParallelism;
+    }
+
+    /**
+     * Sets the maximum number of bytes of streamed content that an update may stage in memory before it's spilled to
+     * the staging directory in the work directory. Default: 0, which disables in-memory staging
+     *
+     * @param memoryStagingThreshold the maximum number of bytes to stage in memory per update, 0 to disable
+     */
+    public void setMemoryStagingThreshold(long memoryStagingThreshold) {
+        Enforce.expressionTrue(
+                memoryStagingThreshold >= 0, memoryStagingThreshold, "memoryStagingThreshold cannot be negative");
+        this.memoryStagingThreshold = memoryStagingThreshold;
+    }
+
+    /**
+     * Sets the algorithms of fixity digests that are computed for every new file, in the same pass as its content
+     * digest, and added to the fixity block. Default: none
+     *
+     * @param fixityAlgorithms the fixity algorithms to compute
+     */
+    public void setFixityAlgorithms(Set<DigestAlgorithm> fixityAlgorithms) {
+        addFileProcessorBuilder.fixityAlgorithms(fixityAlgorithms);
+    }
+
+    private <T> Map<String, ObjectResult<T>> runBulk(List<List<String>> batches, BulkBatchProcessor<T> processor) {
+        var results = new ConcurrentHashMap<String, ObjectResult<T>>();
+
+        if (batches.isEmpty()) {
+            return results;
+        }
+
+        if (batches.size() == 1 || bulkParallelism == 1) {
+            batches.forEach(batch -> processor.process(batch, results));
+            return results;
+        }
+
+        var executor = bulkExecutor();
+        var futures = new ArrayList<CompletableFuture<Void>>(batches.size());
+        batches.forEach(
+                batch -> futures.add(CompletableFuture.runAsync(() -> processor.process(batch, results), executor)));
+        FutureUtil.joinAll(futures);
+
+        return results;
+    }
+
+    private synchronized ExecutorService bulkExecutor() {
+        if (bulkExecutor == null) {
+            bulkExecutor = ExecutorUtil.newDaemonPool(bulkParallelism, "ocfl-bulk-");
+        }
+        return bulkExecutor;
+    }
+
+    private <T> ObjectResult<T> bulkResult(String objectId, Supplier<T> operation) {
+        try {
+            return ObjectResult.success(objectId, operation.get());
+        } catch (RuntimeException e) {
+            return ObjectResult.failure(objectId, e);
+        }
+    }
+
+    private <T> Map<String, ObjectResult<T>> orderedResults(
+            Collection<String> objectIds, Map<String, ObjectResult<T>> results) {
+        var ordered = new LinkedHashMap<String, ObjectResult<T>>();
+        objectIds.forEach(objectId -> ordered.put(objectId, results.get(objectId)));
+        return ordered;
+    }
+
+    @FunctionalInterface
+    private interface BulkBatchProcessor<T> {
+        void process(List<String> batch, Map<String, ObjectResult<T>> results);
+    }
 }
@@ -25,12 +25,16 @@
 package io.ocfl.core;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ocfl.api.AsyncOcflRepository;
 import io.ocfl.api.MutableOcflRepository;
 import io.ocfl.api.OcflConfig;
 import io.ocfl.api.OcflRepository;
+import io.ocfl.api.model.DigestAlgorithm;
 import io.ocfl.api.util.Enforce;
 import io.ocfl.core.cache.Cache;
 import io.ocfl.core.cache.CaffeineCache;
+import io.ocfl.core.cache.InventoryCacheBuilder;
+import io.ocfl.core.cache.NoOpCache;
 import io.ocfl.core.db.ObjectDetailsDatabase;
 import io.ocfl.core.db.ObjectDetailsDatabaseBuilder;
 import io.ocfl.core.extension.ExtensionSupportEvaluator;
@@ -50,16 +54,22 @@ import io.ocfl.core.path.mapper.DirectLogicalPathMapper;
 import io.ocfl.core.path.mapper.LogicalPathMapper;
 import io.ocfl.core.path.mapper.LogicalPathMappers;
 import io.ocfl.core.storage.CachingOcflStorage;
+import io.ocfl.core.storage.DefaultOcflStorage;
 import io.ocfl.core.storage.ObjectDetailsDbOcflStorage;
 import io.ocfl.core.storage.OcflStorage;
 import io.ocfl.core.storage.OcflStorageBuilder;
+import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.UncheckedFiles;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Constructs a local file system based OCFL repository sensible defaults that can be overridden prior to calling
@@ -69,21 +79,31 @@ import java.util.function.Consumer;
  */
 public class OcflRepositoryBuilder {
 
+    private static final Logger LOG = LoggerFactory.getLogger(OcflRepositoryBuilder.class);
+
     protected OcflStorage storage;
     protected OcflConfig config;
     protected OcflExtensionConfig defaultLayoutConfig;
     protected Path workDir;
+    protected boolean workDirInStorageRoot;
     protected boolean verifyStaging;
     protected Duration fileLockTimeoutDuration;
 
     protected ObjectLock objectLock;
     protected Cache<String, Inventory> inventoryCache;
+    protected Cache<String, Boolean> missingObjectCache;
     protected InventoryMapper inventoryMapper;
     protected LogicalPathMapper logicalPathMapper;
     protected ContentPathConstraintProcessor contentPathConstraintProcessor;
     protected ObjectDetailsDatabase objectDetailsDb;
     protected UnsupportedExtensionBehavior unsupportedBehavior;
     protected Set<String> ignoreUnsupportedExtensions;
+    protected Executor asyncExecutor;
+    protected int asyncMaxConcurrency;
+    protected int asyncMaxQueued;
+    protected int bulkParallelism;
+    protected long memoryStagingThreshold;
+    protected Set<DigestAlgorithm> fixityAlgorithms;
 
     /**
      * Constructs a local file system based OCFL repository sensible defaults that can be overridden prior to calling
@@ -105,6 +125,10 @@ public class OcflRepositoryBuilder {
         ignoreUnsupportedExtensions = Collections.emptySet();
         verifyStaging = true;
         fileLockTimeoutDuration = Duration.ofMinutes(1);
+        asyncMaxConcurrency = 64;
+        asyncMaxQueued = 1024;
+        bulkParallelism = 8;
+        fixityAlgorithms = Collections.emptySet();
     }
 
     /**
@@ -133,7 +157,12 @@ public class OcflRepositoryBuilder {
 
     /**
      * The temporary workspace the repository uses to assemble object versions. This directory cannot be located within
-     * the OCFL storage root. Required.
+     * the OCFL storage root. Required, unless {@link #workDirInStorageRoot(boolean)} is enabled and the storage is on
+     * the local filesystem.
+     *
+     * <p>When the storage is on the local filesystem, the work directory should be on the same filesystem as the
+     * storage root. Otherwise, every version is copied into storage file by file rather than moved with a single
+     * rename. A warning is logged when the repository is built if this is the case.
      *
      * @param workDir the work directory to assemble versions in before they're moved to storage -- cannot be within the OCFL storage root
      * @return builder
@@ -143,6 +172,21 @@ public class OcflRepositoryBuilder {
         return this;
     }
 
+    /**
+     * When enabled and the storage is on the local filesystem, versions are assembled in a reserved directory,
+     * {@link DefaultOcflStorage#STORAGE_ROOT_WORK_DIR}, within the storage root's extensions directory rather than in
+     * {@link #workDir(Path)}. This guarantees that the staging directories are on the same filesystem as the storage
+     * root, so that new versions are moved into storage with a single rename. If the storage is not on the local
+     * filesystem, then this setting has no effect and {@link #workDir(Path)} must be set. Default: false
+     *
+     * @param workDirInStorageRoot true to assemble versions within the storage root
+     * @return builder
+     */
+    public OcflRepositoryBuilder workDirInStorageRoot(boolean workDirInStorageRoot) {
+        this.workDirInStorageRoot = workDirInStorageRoot;
+        return this;
+    }
+
     /**
      * Used to lock objects when writing. The default is an {@link InMemoryObjectLock} instance that will wait 10 seconds
      * for the lock before failing. Override to change the wait period or implement a different type of lock.
@@ -177,6 +221,8 @@ public class OcflRepositoryBuilder {
     /**
      * Used to cache deserialized inventories. The default is an in memory {@link CaffeineCache} instance that has a maximum size
      * of 1,000 objects and an expiry of 10 minutes. Override to adjust the settings or change the cache implementation.
+     * Use {@link InventoryCacheBuilder} to create a cache that's bounded by the estimated size of its inventories in
+     * bytes.
      *
      * @param inventoryCache inventory cache
      * @return builder
@@ -186,6 +232,29 @@ public class OcflRepositoryBuilder {
         return this;
     }
 
+    /**
+     * Used to cache the ids of objects that do not exist, so that repeated existence checks and inventory loads for new
+     * objects do not go to storage. Entries are removed when this repository writes to the object, but objects that
+     * are created by other processes are reported as missing until their entries expire, so the cache should have a
+     * short expiry. For example:
+     *
+     * <pre>{@code
+     * new CaffeineCache<>(Caffeine.newBuilder()
+     *         .expireAfterWrite(Duration.ofSeconds(30))
+     *         .maximumSize(100_000)
+     *         .build())
+     * }</pre>
+     *
+     * <p>By default, missing objects are not cached.
+     *
+     * @param missingObjectCache missing object cache
+     * @return builder
+     */
+    public OcflRepositoryBuilder missingObjectCache(Cache<String, Boolean> missingObjectCache) {
+        this.missingObjectCache = missingObjectCache;
+        return this;
+    }
+
     /**
      * Used to store details about OCFL objects in the repository. This is primarily intended to be used when working
      * with a cloud object store like S3. Use {@link ObjectDetailsDatabaseBuilder} to construct an {@link ObjectDetailsDatabase}
@@ -389,6 +458,87 @@ public class OcflRepositoryBuilder {
         return this;
     }
 
+    /**
+     * Sets the executor that operations on an {@link AsyncOcflRepository} are executed on. The executor is NOT shutdown
+     * when the repository is closed. By default, virtual threads are used if the JVM supports them, and a cached
+     * thread pool is used otherwise.
+     *
+     * @param asyncExecutor the executor to execute async operations on
+     * @return builder
+     */
+    public OcflRepositoryBuilder asyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = Enforce.notNull(asyncExecutor, "asyncExecutor cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of operations an {@link AsyncOcflRepository} executes at the same time, and the
+     * maximum number of operations that may wait to be executed. Operations that are submitted when the queue is full
+     * are rejected with a {@link java.util.concurrent.RejectedExecutionException}. Default: 64 concurrent and 1024
+     * queued operations.
+     *
+     * @param maxConcurrency the maximum number of operations to execute at the same time
+     * @param maxQueued the maximum number of operations that may wait to be executed
+     * @return builder
+     */
+    public OcflRepositoryBuilder asyncConcurrencyLimit(int maxConcurrency, int maxQueued) {
+        this.asyncMaxConcurrency =
+                Enforce.expressionTrue(maxConcurrency > 0, maxConcurrency, "maxConcurrency must be greater than 0");
+        this.asyncMaxQueued = Enforce.expressionTrue(maxQueued >= 0, maxQueued, "maxQueued cannot be negative");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of objects that bulk operations, such as
+     * {@link OcflRepository#putObjects(java.util.Map, io.ocfl.api.model.VersionInfo, io.ocfl.api.OcflOption...)} and
+     * {@link OcflRepository#describeObjects(java.util.Collection)}, process concurrently. The limit applies to all of
+     * the repository's bulk operations together, which share a pool of threads that's shut down when the repository is
+     * closed. Default: 8
+     *
+     * @param bulkParallelism the maximum number of objects to process concurrently
+     * @return builder
+     */
+    public OcflRepositoryBuilder bulkParallelism(int bulkParallelism) {
+        this.bulkParallelism =
+                Enforce.expressionTrue(bulkParallelism > 0, bulkParallelism, "bulkParallelism must be greater than 0");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of {@link io.ocfl.api.OcflObjectUpdater#writeFile} content that an update may
+     * stage in memory. Updates that stay within the threshold are written to storage directly from memory, without
+     * creating a staging directory in the work directory. When an update exceeds the threshold, or adds files using
+     * {@code addPath}, then everything it has staged in memory is spilled to the staging directory. Default: 0, which
+     * disables in-memory staging.
+     *
+     * @param memoryStagingThreshold the maximum number of bytes to stage in memory per update, 0 to disable
+     * @return builder
+     */
+    public OcflRepositoryBuilder memoryStagingThreshold(long memoryStagingThreshold) {
+        this.memoryStagingThreshold = Enforce.expressionTrue(
+                memoryStagingThreshold >= 0, memoryStagingThreshold, "memoryStagingThreshold cannot be negative");
+        return this;
+    }
+
+    /**
+     * Sets the algorithms of fixity digests that are automatically computed and added to the fixity block for every
+     * new file that's added to an object. The fixity digests are computed in the same pass over the content as the
+     * content digest, so they do not require the files to be read again. The object's content digest algorithm is
+     * ignored if included. Default: none
+     *
+     * @param fixityAlgorithms the fixity algorithms to compute, each must be mapped to a Java name
+     * @return builder
+     */
+    public OcflRepositoryBuilder fixityAlgorithms(Set<DigestAlgorithm> fixityAlgorithms) {
+        Enforce.notNull(fixityAlgorithms, "fixityAlgorithms cannot be null");
+        fixityAlgorithms.forEach(algorithm -> Enforce.expressionTrue(
+                algorithm.hasJavaStandardName(),
+                algorithm,
+                "The specified digest algorithm is not mapped to a Java name: " + algorithm));
+        this.fixityAlgorithms = fixityAlgorithms;
+        return this;
+    }
+
     /**
      * Constructs an OCFL repository. Brand new repositories are initialized.
      * <p>
@@ -411,13 +561,32 @@ public class OcflRepositoryBuilder {
         return buildInternal(DefaultMutableOcflRepository.class);
     }
 
+    /**
+     * Constructs an OCFL repository that returns {@link java.util.concurrent.CompletableFuture}s rather than blocking.
+     * Brand new repositories are initialized.
+     * <p>
+     * Remember to call {@link AsyncOcflRepository#close()} when you are done with the repository.
+     *
+     * @return AsyncOcflRepository
+     */
+    public AsyncOcflRepository buildAsync() {
+        return new DefaultAsyncOcflRepository(build(), asyncExecutor, asyncMaxConcurrency, asyncMaxQueued);
+    }
+
     private <T extends OcflRepository> T buildInternal(Class<T> clazz) {
         Enforce.notNull(storage, "storage cannot be null");
-        Enforce.notNull(workDir, "workDir cannot be null");
+        if (!workDirInStorageRoot) {
+            Enforce.notNull(workDir, "workDir cannot be null");
+        }
 
         var supportEvaluator = new ExtensionSupportEvaluator(unsupportedBehavior, ignoreUnsupportedExtensions);
 
         var wrappedStorage = cache(db(storage));
+        Enforce.expressionTrue(
+                wrappedStorage.streamStager() == null || wrappedStorage.supportsStagedContent(),
+                storage,
+                "Stream staging cannot be enabled because " + storage.getClass().getName()
+                        + " does not support content that's staged in storage");
         var initResult = wrappedStorage.initializeStorage(
                 config.getOcflVersion(), defaultLayoutConfig, inventoryMapper, supportEvaluator);
 
@@ -426,37 +595,71 @@ public class OcflRepositoryBuilder {
             config.setOcflVersion(initResult.getOcflVersion());
         }
 
-        Enforce.expressionTrue(Files.exists(workDir), workDir, "workDir must exist");
-        Enforce.expressionTrue(Files.isDirectory(workDir), workDir, "workDir must be a directory");
+        var resolvedWorkDir = resolveWorkDir(wrappedStorage.localStorageRoot());
+
+        DefaultOcflRepository repo;
 
         if (MutableOcflRepository.class.isAssignableFrom(clazz)) {
-            return clazz.cast(new DefaultMutableOcflRepository(
+            repo = new DefaultMutableOcflRepository(
                     wrappedStorage,
-                    workDir,
+                    resolvedWorkDir,
+                    objectLock,
+                    inventoryMapper,
+                    logicalPathMapper,
+                    contentPathConstraintProcessor,
+                    config,
+                    verifyStaging,
+                    fileLockTimeoutDuration);
+        } else {
+            repo = new DefaultOcflRepository(
+                    wrappedStorage,
+                    resolvedWorkDir,
                     objectLock,
                     inventoryMapper,
                     logicalPathMapper,
                     contentPathConstraintProcessor,
                     config,
                     verifyStaging,
-                    fileLockTimeoutDuration));
+                    fileLockTimeoutDuration);
+        }
+
+        repo.setBulkParallelism(bulkParallelism);
+        repo.setMemoryStagingThreshold(memoryStagingThreshold);
+        repo.setFixityAlgorithms(fixityAlgorithms);
+
+        return clazz.cast(repo);
+    }
+
+    private Path resolveWorkDir(Path localStorageRoot) {
+        if (workDirInStorageRoot && localStorageRoot != null) {
+            var storageRootWorkDir = UncheckedFiles.createDirectories(
+                    localStorageRoot.resolve(DefaultOcflStorage.STORAGE_ROOT_WORK_DIR));
+            LOG.debug("Assembling versions in storage root work directory {}", storageRootWorkDir);
+            return storageRootWorkDir;
+        }
+
+        Enforce.notNull(workDir, "workDir cannot be null when the storage is not on the local filesystem");
+        Enforce.expressionTrue(Files.exists(workDir), workDir, "workDir must exist");
+        Enforce.expressionTrue(Files.isDirectory(workDir), workDir, "workDir must be a directory");
+
+        if (localStorageRoot != null && !FileUtil.isSameFileStore(workDir, localStorageRoot)) {
+            LOG.warn(
+                    "The work directory {} is on a different filesystem than the storage root {}. New versions will be"
+                            + " copied into storage file by file rather than moved with a single rename. Move the work"
+                            + " directory to the storage root's filesystem or enable workDirInStorageRoot to avoid this.",
+                    workDir,
+                    localStorageRoot);
         }
 
-        return clazz.cast(new DefaultOcflRepository(
-                wrappedStorage,
-                workDir,
-                objectLock,
-                inventoryMapper,
-                logicalPathMapper,
-                contentPathConstraintProcessor,
-                config,
-                verifyStaging,
-                fileLockTimeoutDuration));
+        return workDir;
     }
 
     protected OcflStorage cache(OcflStorage storage) {
-        if (inventoryCache != null) {
-            return new CachingOcflStorage(inventoryCache, storage);
+        if (inventoryCache != null || missingObjectCache != null) {
+            return new CachingOcflStorage(
+                    inventoryCache == null ? new NoOpCache<>() : inventoryCache,
+                    missingObjectCache == null ? new NoOpCache<>() : missingObjectCache,
+                    storage);
         }
         return storage;
     }
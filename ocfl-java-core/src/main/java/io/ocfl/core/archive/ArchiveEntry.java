@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import io.ocfl.api.util.Enforce;
+import java.io.InputStream;
+
+/**
+ * A file entry that was read from an archive
+ */
+public class ArchiveEntry {
+
+    private final String path;
+    private final long size;
+    private final InputStream content;
+
+    public ArchiveEntry(String path, long size, InputStream content) {
+        this.path = Enforce.notBlank(path, "path cannot be blank");
+        this.size = size;
+        this.content = Enforce.notNull(content, "content cannot be null");
+    }
+
+    /**
+     * @return the path of the file within the archive, using / as the separator
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the size of the file in bytes, or -1 if it is not known before the content is read
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the file's content. The stream is only valid until the next entry is read. Closing it does not close
+     * the archive.
+     *
+     * @return the file content
+     */
+    public InputStream getContent() {
+        return content;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchiveEntry{" + "path='" + path + '\'' + ", size=" + size + '}';
+    }
+}
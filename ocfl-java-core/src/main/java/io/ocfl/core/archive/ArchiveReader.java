@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import io.ocfl.api.exception.OcflJavaException;
+import io.ocfl.api.model.ArchiveFormat;
+import io.ocfl.api.util.Enforce;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the file entries in an archive as they are streamed, without buffering file content in memory or on disk.
+ * Directory entries are skipped. The underlying input stream is never closed.
+ */
+public abstract class ArchiveReader {
+
+    protected final InputStream inputStream;
+
+    /**
+     * Creates a new archive reader
+     *
+     * @param format the archive format
+     * @param inputStream the stream to read the archive from, it is not closed
+     * @return archive reader
+     */
+    public static ArchiveReader create(ArchiveFormat format, InputStream inputStream) {
+        Enforce.notNull(format, "format cannot be null");
+        Enforce.notNull(inputStream, "inputStream cannot be null");
+
+        var buffered = new BufferedInputStream(inputStream, ArchiveWriter.BUFFER_SIZE);
+
+        switch (format) {
+            case TAR:
+                return new TarArchiveReader(buffered);
+            case ZIP:
+                return new ZipArchiveReader(buffered);
+            default:
+                throw new OcflJavaException("Unsupported archive format " + format);
+        }
+    }
+
+    protected ArchiveReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Reads the next file entry in the archive. The content of the previous entry is skipped if it was not read.
+     *
+     * @return the next file entry, or null if there are no more
+     * @throws IOException when the archive cannot be read
+     * @throws io.ocfl.api.exception.OcflInputException when the archive is malformed or contains unsupported entries
+     */
+    public abstract ArchiveEntry nextFile() throws IOException;
+
+    /**
+     * Removes leading ./ segments, which are common in archives created from within a directory
+     */
+    protected static String normalizePath(String path) {
+        var normalized = path;
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        return normalized;
+    }
+
+    /**
+     * Wraps an entry's content so that closing it does not close the archive
+     */
+    protected static class EntryInputStream extends FilterInputStream {
+
+        protected EntryInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import io.ocfl.api.exception.OcflJavaException;
+import io.ocfl.api.model.ArchiveFormat;
+import io.ocfl.api.util.Enforce;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * Writes files to an archive as they are streamed, without buffering file content in memory or on disk. Entries are
+ * written in the order they are added. {@link #finish()} must be called to complete the archive. The underlying output
+ * stream is never closed.
+ */
+public abstract class ArchiveWriter {
+
+    protected static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final OutputStream outputStream;
+    protected final Instant modified;
+
+    /**
+     * Creates a new archive writer
+     *
+     * @param format the archive format
+     * @param outputStream the stream to write the archive to, it is not closed
+     * @param modified the modification time to record on every entry
+     * @return archive writer
+     */
+    public static ArchiveWriter create(ArchiveFormat format, OutputStream outputStream, Instant modified) {
+        Enforce.notNull(format, "format cannot be null");
+        Enforce.notNull(outputStream, "outputStream cannot be null");
+        Enforce.notNull(modified, "modified cannot be null");
+
+        var buffered = new BufferedOutputStream(new NonClosingOutputStream(outputStream), BUFFER_SIZE);
+
+        switch (format) {
+            case TAR:
+                return new TarArchiveWriter(buffered, modified);
+            case ZIP:
+                return new ZipArchiveWriter(buffered, modified);
+            default:
+                throw new OcflJavaException("Unsupported archive format " + format);
+        }
+    }
+
+    protected ArchiveWriter(OutputStream outputStream, Instant modified) {
+        this.outputStream = outputStream;
+        this.modified = modified;
+    }
+
+    /**
+     * Writes a file entry to the archive. Exactly size bytes are read from the content stream, which is not closed.
+     *
+     * @param path the path of the file within the archive, using / as the separator
+     * @param size the size of the file in bytes
+     * @param content the file content
+     * @throws IOException when the content cannot be read, or the entry cannot be written
+     */
+    public abstract void putFile(String path, long size, InputStream content) throws IOException;
+
+    /**
+     * Writes an empty directory entry to the archive
+     *
+     * @param path the path of the directory within the archive, using / as the separator
+     * @throws IOException when the entry cannot be written
+     */
+    public abstract void putDirectory(String path) throws IOException;
+
+    /**
+     * Completes the archive and flushes it to the underlying stream, which is not closed
+     *
+     * @throws IOException when the archive cannot be written
+     */
+    public abstract void finish() throws IOException;
+
+    /**
+     * Copies exactly size bytes from the input to the output.
+     */
+    protected static void copyExactly(InputStream input, OutputStream output, long size, String path)
+            throws IOException {
+        var buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(size, 1))];
+        var remaining = size;
+
+        while (remaining > 0) {
+            var read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new IOException(String.format(
+                        "Expected %s to contain %s bytes, but it only contained %s", path, size, size - remaining));
+            }
+            output.write(buffer, 0, read);
+            remaining -= read;
+        }
+
+        if (input.read() != -1) {
+            throw new IOException(String.format("Expected %s to contain %s bytes, but it contained more", path, size));
+        }
+    }
+
+    /**
+     * Prevents archive implementations from closing the caller's stream
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import static io.ocfl.core.archive.TarArchiveWriter.BLOCK_SIZE;
+
+import io.ocfl.api.exception.OcflInputException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads ustar, pax, and GNU tar archives. Regular files are returned, directories and global pax headers are skipped,
+ * and any other entry type, such as links, is rejected.
+ */
+class TarArchiveReader extends ArchiveReader {
+
+    private static final byte TYPE_FILE_OLD = 0;
+    private static final byte TYPE_CONTIGUOUS = '7';
+    private static final byte TYPE_GLOBAL_PAX = 'g';
+    private static final byte TYPE_GNU_LONG_NAME = 'L';
+    private static final byte TYPE_GNU_LONG_LINK = 'K';
+
+    private long remaining;
+    private long padding;
+    private boolean finished;
+
+    TarArchiveReader(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArchiveEntry nextFile() throws IOException {
+        skipRemaining();
+
+        Map<String, String> paxHeaders = new HashMap<>();
+        String longName = null;
+
+        while (!finished) {
+            var header = inputStream.readNBytes(BLOCK_SIZE);
+
+            if (header.length == 0 || isZeroBlock(header)) {
+                // An archive ends with two zero blocks, but some writers omit them
+                finished = true;
+                return null;
+            } else if (header.length < BLOCK_SIZE) {
+                throw new EOFException("Unexpected end of tar archive");
+            }
+
+            verifyChecksum(header);
+
+            var type = header[156];
+            var size = parseSize(header);
+
+            if (type == TarArchiveWriter.TYPE_PAX) {
+                paxHeaders.putAll(parsePax(readEntry(size)));
+            } else if (type == TYPE_GNU_LONG_NAME) {
+                longName = trimNul(new String(readEntry(size), StandardCharsets.UTF_8));
+            } else if (type == TYPE_GLOBAL_PAX || type == TYPE_GNU_LONG_LINK) {
+                readEntry(size);
+            } else {
+                var path = paxHeaders.getOrDefault("path", longName == null ? parseName(header) : longName);
+                if (paxHeaders.containsKey("size")) {
+                    size = parseLong(paxHeaders.get("size"), "size");
+                }
+
+                remaining = size;
+                padding = paddingFor(size);
+
+                if (type == TarArchiveWriter.TYPE_DIRECTORY) {
+                    skipRemaining();
+                } else if (type == TarArchiveWriter.TYPE_FILE || type == TYPE_FILE_OLD || type == TYPE_CONTIGUOUS) {
+                    return new ArchiveEntry(normalizePath(path), size, new TarEntryInputStream());
+                } else {
+                    throw new OcflInputException(
+                            String.format("Tar entry %s has unsupported type '%s'", path, (char) type));
+                }
+
+                paxHeaders.clear();
+                longName = null;
+            }
+        }
+
+        return null;
+    }
+
+    private byte[] readEntry(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new OcflInputException("Tar extended header is too large: " + size);
+        }
+        var bytes = inputStream.readNBytes((int) size);
+        if (bytes.length < size) {
+            throw new EOFException("Unexpected end of tar archive");
+        }
+        skipFully(paddingFor(size));
+        return bytes;
+    }
+
+    /**
+     * Skips the unread content of the current entry, and the padding that follows it
+     */
+    private void skipRemaining() throws IOException {
+        skipFully(remaining + padding);
+        remaining = 0;
+        padding = 0;
+    }
+
+    private long paddingFor(long size) {
+        return (BLOCK_SIZE - (size % BLOCK_SIZE)) % BLOCK_SIZE;
+    }
+
+    private void skipFully(long count) throws IOException {
+        var toSkip = count;
+        while (toSkip > 0) {
+            var skipped = inputStream.skip(toSkip);
+            if (skipped <= 0) {
+                if (inputStream.read() == -1) {
+                    throw new EOFException("Unexpected end of tar archive");
+                }
+                skipped = 1;
+            }
+            toSkip -= skipped;
+        }
+    }
+
+    /**
+     * Pax records are formatted as "length key=value\n", where the length includes itself.
+     */
+    private Map<String, String> parsePax(byte[] content) {
+        var headers = new HashMap<String, String>();
+        var offset = 0;
+
+        while (offset < content.length) {
+            var space = offset;
+            while (space < content.length && content[space] != ' ') {
+                space++;
+            }
+            var length = (int) parseLong(new String(content, offset, space - offset, StandardCharsets.US_ASCII), "pax");
+            if (length <= 0 || offset + length > content.length) {
+                throw new OcflInputException("Invalid pax header record in tar archive");
+            }
+            var record = new String(content, space + 1, offset + length - space - 2, StandardCharsets.UTF_8);
+            var equals = record.indexOf('=');
+            if (equals > 0) {
+                headers.put(record.substring(0, equals), record.substring(equals + 1));
+            }
+            offset += length;
+        }
+
+        return headers;
+    }
+
+    private String parseName(byte[] header) {
+        var name = trimNul(new String(header, 0, 100, StandardCharsets.UTF_8));
+        var magic = new String(header, 257, 5, StandardCharsets.US_ASCII);
+        if ("ustar".equals(magic)) {
+            var prefix = trimNul(new String(header, 345, 155, StandardCharsets.UTF_8));
+            if (!prefix.isEmpty()) {
+                return prefix + "/" + name;
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Sizes are octal, unless the high bit is set, in which case they are big-endian binary (a GNU extension)
+     */
+    private long parseSize(byte[] header) {
+        if ((header[124] & 0x80) != 0) {
+            long size = 0;
+            for (var i = 125; i < 136; i++) {
+                size = (size << 8) | (header[i] & 0xff);
+            }
+            return size;
+        }
+        return parseOctal(header, 124, 12, "size");
+    }
+
+    private void verifyChecksum(byte[] header) {
+        var expected = parseOctal(header, 148, 8, "checksum");
+        long unsigned = 0;
+        long signed = 0;
+        for (var i = 0; i < header.length; i++) {
+            var b = i >= 148 && i < 156 ? (byte) ' ' : header[i];
+            unsigned += b & 0xff;
+            signed += b;
+        }
+        if (expected != unsigned && expected != signed) {
+            throw new OcflInputException("Invalid tar header checksum for entry " + parseName(header));
+        }
+    }
+
+    private long parseOctal(byte[] header, int offset, int length, String field) {
+        var value = trimNul(new String(header, offset, length, StandardCharsets.US_ASCII))
+                .trim();
+        if (value.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value, 8);
+        } catch (NumberFormatException e) {
+            throw new OcflInputException(String.format("Invalid tar header %s: %s", field, value), e);
+        }
+    }
+
+    private long parseLong(String value, String field) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new OcflInputException(String.format("Invalid tar header %s: %s", field, value), e);
+        }
+    }
+
+    private String trimNul(String value) {
+        var nul = value.indexOf('\0');
+        return nul == -1 ? value : value.substring(0, nul);
+    }
+
+    private boolean isZeroBlock(byte[] block) {
+        for (var b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the current entry's content, stopping at the end of the entry
+     */
+    private class TarEntryInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            var b = inputStream.read();
+            if (b == -1) {
+                throw new EOFException("Unexpected end of tar archive");
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            var read = inputStream.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                throw new EOFException("Unexpected end of tar archive");
+            }
+            remaining -= read;
+            return read;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes POSIX (pax) tar archives. A ustar header is written for every entry, preceded by a pax extended header when
+ * the entry's path does not fit in a ustar header, contains non-ASCII characters, or its size exceeds the ustar limit.
+ */
+class TarArchiveWriter extends ArchiveWriter {
+
+    static final int BLOCK_SIZE = 512;
+    private static final int RECORD_SIZE = 20 * BLOCK_SIZE;
+
+    static final long MAX_USTAR_SIZE = 077777777777L;
+    private static final int NAME_LENGTH = 100;
+
+    static final byte TYPE_FILE = '0';
+    static final byte TYPE_DIRECTORY = '5';
+    static final byte TYPE_PAX = 'x';
+
+    private long bytesWritten;
+
+    TarArchiveWriter(OutputStream outputStream, Instant modified) {
+        super(outputStream, modified);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putFile(String path, long size, InputStream content) throws IOException {
+        writeHeaders(path, size, TYPE_FILE, 0644);
+        copyExactly(content, outputStream, size, path);
+        bytesWritten += size;
+        pad();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDirectory(String path) throws IOException {
+        writeHeaders(path.endsWith("/") ? path : path + "/", 0, TYPE_DIRECTORY, 0755);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finish() throws IOException {
+        // The archive ends with two zero blocks, and is padded to a full record
+        write(new byte[2 * BLOCK_SIZE]);
+        var remainder = (int) (bytesWritten % RECORD_SIZE);
+        if (remainder != 0) {
+            write(new byte[RECORD_SIZE - remainder]);
+        }
+        outputStream.flush();
+    }
+
+    private void writeHeaders(String path, long size, byte type, int mode) throws IOException {
+        var nameBytes = path.getBytes(StandardCharsets.UTF_8);
+        var paxHeaders = new LinkedHashMap<String, String>();
+
+        if (nameBytes.length > NAME_LENGTH || !isAscii(nameBytes)) {
+            paxHeaders.put("path", path);
+        }
+        if (size > MAX_USTAR_SIZE) {
+            paxHeaders.put("size", String.valueOf(size));
+        }
+
+        if (!paxHeaders.isEmpty()) {
+            var paxContent = paxContent(paxHeaders);
+            write(header(asciiName("PaxHeaders/" + path), paxContent.length, TYPE_PAX, 0644));
+            write(paxContent);
+            pad();
+        }
+
+        write(header(asciiName(path), Math.min(size, MAX_USTAR_SIZE), type, mode));
+    }
+
+    private byte[] header(String name, long size, byte type, int mode) {
+        var header = new byte[BLOCK_SIZE];
+
+        putString(header, 0, NAME_LENGTH, name);
+        putOctal(header, 100, 8, mode);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, modified.getEpochSecond());
+        header[156] = type;
+        putString(header, 257, 6, "ustar");
+        putString(header, 263, 2, "00");
+
+        // The checksum is computed with the checksum field set to spaces
+        for (var i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (var b : header) {
+            checksum += b & 0xff;
+        }
+        putOctal(header, 148, 7, checksum);
+
+        return header;
+    }
+
+    /**
+     * Pax records are formatted as "length key=value\n", where the length includes itself.
+     */
+    private byte[] paxContent(Map<String, String> headers) {
+        var builder = new StringBuilder();
+
+        headers.forEach((key, value) -> {
+            var recordLength = key.length() + value.getBytes(StandardCharsets.UTF_8).length + 3;
+            var length = recordLength + String.valueOf(recordLength).length();
+            if (String.valueOf(length).length() != String.valueOf(recordLength).length()) {
+                length = recordLength + String.valueOf(length).length();
+            }
+            builder.append(length)
+                    .append(' ')
+                    .append(key)
+                    .append('=')
+                    .append(value)
+                    .append('\n');
+        });
+
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the name to put in the ustar name field, which is only used by readers that do not understand pax
+     */
+    private String asciiName(String path) {
+        var builder = new StringBuilder();
+        for (var c : path.toCharArray()) {
+            if (builder.length() == NAME_LENGTH) {
+                break;
+            }
+            builder.append(c < 0x80 ? c : '_');
+        }
+        return builder.toString();
+    }
+
+    private boolean isAscii(byte[] bytes) {
+        for (var b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putString(byte[] header, int offset, int length, String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, offset, Math.min(bytes.length, length));
+    }
+
+    /**
+     * Writes a zero padded octal number followed by a NUL terminator
+     */
+    private void putOctal(byte[] header, int offset, int length, long value) {
+        var octal = Long.toOctalString(value);
+        var padded = "0".repeat(Math.max(0, length - 1 - octal.length())) + octal;
+        putString(header, offset, length - 1, padded);
+        header[offset + length - 1] = 0;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        outputStream.write(bytes);
+        bytesWritten += bytes.length;
+    }
+
+    private void pad() throws IOException {
+        var remainder = (int) (bytesWritten % BLOCK_SIZE);
+        if (remainder != 0) {
+            write(new byte[BLOCK_SIZE - remainder]);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Reads zip archives using the local file headers, so that the archive can be read as it is streamed.
+ */
+class ZipArchiveReader extends ArchiveReader {
+
+    private final ZipInputStream zipStream;
+
+    ZipArchiveReader(InputStream inputStream) {
+        super(inputStream);
+        this.zipStream = new ZipInputStream(new EntryInputStream(inputStream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArchiveEntry nextFile() throws IOException {
+        for (var entry = zipStream.getNextEntry(); entry != null; entry = zipStream.getNextEntry()) {
+            if (!entry.isDirectory()) {
+                return new ArchiveEntry(
+                        normalizePath(entry.getName()), entry.getSize(), new EntryInputStream(zipStream));
+            }
+        }
+        return null;
+    }
+}
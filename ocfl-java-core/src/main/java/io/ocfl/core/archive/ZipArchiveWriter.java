@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes zip archives. Entries are deflated at the fastest compression level and streamed with data descriptors, so
+ * their sizes and checksums do not need to be known in advance.
+ */
+class ZipArchiveWriter extends ArchiveWriter {
+
+    private final ZipOutputStream zipStream;
+
+    ZipArchiveWriter(OutputStream outputStream, Instant modified) {
+        super(outputStream, modified);
+        this.zipStream = new ZipOutputStream(outputStream);
+        this.zipStream.setLevel(Deflater.BEST_SPEED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putFile(String path, long size, InputStream content) throws IOException {
+        zipStream.putNextEntry(entry(path));
+        copyExactly(content, zipStream, size, path);
+        zipStream.closeEntry();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putDirectory(String path) throws IOException {
+        zipStream.putNextEntry(entry(path.endsWith("/") ? path : path + "/"));
+        zipStream.closeEntry();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finish() throws IOException {
+        zipStream.finish();
+        outputStream.flush();
+    }
+
+    private ZipEntry entry(String path) {
+        var entry = new ZipEntry(path);
+        entry.setLastModifiedTime(FileTime.from(modified));
+        return entry;
+    }
+}
@@ -24,6 +24,11 @@
 
 package io.ocfl.core.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -47,6 +52,42 @@ public interface Cache<K, V> {
      */
     V get(K key, Function<K, V> loader);
 
+    /**
+     * Retrieves the values of many keys from the cache. All of the keys that are not cached are passed to the loader in
+     * a single call, and the values it returns are then cached and returned. Keys that the loader does not return a
+     * value for are omitted from the result.
+     *
+     * <p>The default implementation looks up each key with {@link #get(Object, Function)}, using a loader that records
+     * the key as a miss, so that a key that's evicted while the keys are being looked up is still loaded exactly once.
+     *
+     * @param keys to lookup in the cache
+     * @param loader function to call to load all of the keys that are not found
+     * @return map of key to value
+     */
+    default Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        var values = new HashMap<K, V>();
+        var misses = new LinkedHashSet<K>();
+
+        keys.forEach(key -> {
+            var value = get(key, k -> {
+                misses.add(k);
+                return null;
+            });
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+
+        if (!misses.isEmpty()) {
+            loader.apply(misses).forEach((key, value) -> {
+                put(key, value);
+                values.put(key, value);
+            });
+        }
+
+        return values;
+    }
+
     /**
      * Inserts a value into the cache.
      *
@@ -74,4 +115,14 @@ public interface Cache<K, V> {
      * @return true if the cache contains the key
      */
     boolean contains(K key);
+
+    /**
+     * Returns a snapshot of the cache's statistics. Implementations that do not record statistics return
+     * {@link CacheStats#empty()}.
+     *
+     * @return cache statistics
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.cache;
+
+import java.util.Objects;
+
+/**
+ * A point in time snapshot of a cache's statistics.
+ */
+public class CacheStats {
+
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long evictionWeight;
+    private final long entryCount;
+    private final long weightedSize;
+
+    /**
+     * @return stats for a cache that does not record statistics
+     */
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+
+    public CacheStats(
+            long hitCount,
+            long missCount,
+            long loadSuccessCount,
+            long loadFailureCount,
+            long totalLoadTime,
+            long evictionCount,
+            long evictionWeight,
+            long entryCount,
+            long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+        this.entryCount = entryCount;
+        this.weightedSize = weightedSize;
+    }
+
+    /**
+     * @return the number of lookups that found a cached value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that did not find a cached value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 1.0 when there have been no lookups
+     */
+    public double getHitRate() {
+        var requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * @return the number of values that were successfully loaded, including refreshes
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * @return the number of loads that failed or did not return a value
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * @return the total number of nanoseconds spent loading values
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * @return the average number of nanoseconds spent loading a value
+     */
+    public double getAverageLoadPenalty() {
+        var loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * @return the number of entries that were evicted because of the cache's size or expiry policies
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the sum of the weights of the evicted entries
+     */
+    public long getEvictionWeight() {
+        return evictionWeight;
+    }
+
+    /**
+     * @return the approximate number of entries in the cache
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return the approximate sum of the weights of the entries in the cache, or the entry count when the cache is
+     * not weighted
+     */
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheStats that = (CacheStats) o;
+        return hitCount == that.hitCount
+                && missCount == that.missCount
+                && loadSuccessCount == that.loadSuccessCount
+                && loadFailureCount == that.loadFailureCount
+                && totalLoadTime == that.totalLoadTime
+                && evictionCount == that.evictionCount
+                && evictionWeight == that.evictionWeight
+                && entryCount == that.entryCount
+                && weightedSize == that.weightedSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                hitCount,
+                missCount,
+                loadSuccessCount,
+                loadFailureCount,
+                totalLoadTime,
+                evictionCount,
+                evictionWeight,
+                entryCount,
+                weightedSize);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" + "hitCount="
+                + hitCount + ", missCount="
+                + missCount + ", loadSuccessCount="
+                + loadSuccessCount + ", loadFailureCount="
+                + loadFailureCount + ", totalLoadTime="
+                + totalLoadTime + ", evictionCount="
+                + evictionCount + ", evictionWeight="
+                + evictionWeight + ", entryCount="
+                + entryCount + ", weightedSize="
+                + weightedSize + '}';
+    }
+}
@@ -25,6 +25,10 @@
 package io.ocfl.core.cache;
 
 import io.ocfl.api.util.Enforce;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -35,9 +39,15 @@ import java.util.function.Function;
 public class CaffeineCache<K, V> implements Cache<K, V> {
 
     private final com.github.benmanes.caffeine.cache.Cache<K, V> cache;
+    private final RefreshingLoader<K, V> refreshingLoader;
 
     public CaffeineCache(com.github.benmanes.caffeine.cache.Cache cache) {
+        this(cache, null);
+    }
+
+    CaffeineCache(com.github.benmanes.caffeine.cache.Cache cache, RefreshingLoader<K, V> refreshingLoader) {
         this.cache = Enforce.notNull(cache, "cache cannot be null");
+        this.refreshingLoader = refreshingLoader;
     }
 
     /**
@@ -45,9 +55,20 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
      */
     @Override
     public V get(K key, Function<K, V> loader) {
+        if (refreshingLoader != null) {
+            refreshingLoader.setLoader(loader);
+        }
         return cache.get(key, loader);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        return new HashMap<>(cache.getAll(keys, misses -> loader.apply(Set.copyOf(misses))));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -79,4 +100,29 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
     public boolean contains(K key) {
         return cache.asMap().containsKey(key);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStats stats() {
+        var stats = cache.stats();
+        var entryCount = cache.estimatedSize();
+        var weightedSize = cache.policy()
+                .eviction()
+                .filter(eviction -> eviction.isWeighted())
+                .map(eviction -> eviction.weightedSize().orElse(entryCount))
+                .orElse(entryCount);
+
+        return new CacheStats(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.totalLoadTime(),
+                stats.evictionCount(),
+                stats.evictionWeight(),
+                entryCount,
+                weightedSize);
+    }
 }
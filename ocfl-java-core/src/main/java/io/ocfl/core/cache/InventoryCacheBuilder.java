@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ocfl.api.util.Enforce;
+import io.ocfl.core.model.Inventory;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Constructs an inventory {@link Cache} that is bounded by the estimated number of bytes that its inventories retain,
+ * rather than by the number of inventories it contains. This prevents a handful of very large inventories from
+ * exhausting the heap, while still allowing many small inventories to be cached. See {@link InventoryWeigher}.
+ *
+ * <p>The cache records statistics, which are available from {@link Cache#stats()}, and may optionally refresh
+ * entries in the background once they reach a configured age. An entry is only refreshed when it's accessed, so
+ * inventories that are not in use are left to expire. While an entry is being refreshed, the previous inventory
+ * continues to be returned.
+ */
+public class InventoryCacheBuilder {
+
+    private long maximumBytes;
+    private Duration expireAfterAccess;
+    private Duration refreshAfterWrite;
+    private Executor executor;
+    private boolean recordStats;
+
+    public InventoryCacheBuilder() {
+        maximumBytes = 128L * 1024 * 1024;
+        expireAfterAccess = Duration.ofMinutes(10);
+        executor = ForkJoinPool.commonPool();
+        recordStats = true;
+    }
+
+    /**
+     * Sets the maximum estimated number of bytes that cached inventories may retain. Default: 128 MiB
+     *
+     * @param maximumBytes maximum cache size in bytes
+     * @return builder
+     */
+    public InventoryCacheBuilder maximumBytes(long maximumBytes) {
+        this.maximumBytes = Enforce.expressionTrue(maximumBytes >= 0, maximumBytes, "maximumBytes must be at least 0");
+        return this;
+    }
+
+    /**
+     * Sets how long an inventory may go without being accessed before it's evicted. Default: 10 minutes
+     *
+     * @param expireAfterAccess expiry duration
+     * @return builder
+     */
+    public InventoryCacheBuilder expireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = Enforce.notNull(expireAfterAccess, "expireAfterAccess cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the age after which an inventory is reloaded in the background the next time it's accessed. This is useful
+     * when objects may be modified by other processes. By default, inventories are not refreshed.
+     *
+     * @param refreshAfterWrite refresh age, or null to disable refreshing
+     * @return builder
+     */
+    public InventoryCacheBuilder refreshAfterWrite(Duration refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+        return this;
+    }
+
+    /**
+     * Sets the executor that inventories are refreshed on. Default: {@link ForkJoinPool#commonPool()}
+     *
+     * @param executor refresh executor
+     * @return builder
+     */
+    public InventoryCacheBuilder executor(Executor executor) {
+        this.executor = Enforce.notNull(executor, "executor cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets whether hit, miss, load, and eviction statistics are recorded. Default: true
+     *
+     * @param recordStats true to record statistics
+     * @return builder
+     */
+    public InventoryCacheBuilder recordStats(boolean recordStats) {
+        this.recordStats = recordStats;
+        return this;
+    }
+
+    /**
+     * @return a new inventory cache
+     */
+    public Cache<String, Inventory> build() {
+        var builder = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher(new InventoryWeigher())
+                .expireAfterAccess(expireAfterAccess)
+                .executor(executor);
+
+        if (recordStats) {
+            builder.recordStats();
+        }
+
+        if (refreshAfterWrite != null) {
+            var loader = new RefreshingLoader<String, Inventory>();
+            return new CaffeineCache<>(
+                    builder.refreshAfterWrite(refreshAfterWrite).build(loader), loader);
+        }
+
+        return new CaffeineCache<>(builder.build());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.ocfl.core.model.Inventory;
+import io.ocfl.core.model.PathBiMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the number of bytes that a deserialized inventory retains on the heap. The estimate is based on the number
+ * of manifest, fixity, and version state entries, and the lengths of their digests and paths. It is not exact, but it
+ * grows in proportion to an inventory's actual footprint, which is what matters when bounding a cache by weight.
+ *
+ * <p>An inventory is only weighed when it's cached, but each {@link io.ocfl.core.model.Version} builds a sorted logical
+ * path index the first time it's listed or filtered. The index is always counted, so that an inventory's weight does not
+ * understate its footprint after it's been used.
+ */
+public class InventoryWeigher implements Weigher<String, Inventory> {
+
+    // Approximate shallow sizes, in bytes, on a 64-bit JVM with compressed oops
+    private static final long STRING_OVERHEAD = 40;
+    private static final long MAP_ENTRY_OVERHEAD = 48;
+    private static final long SET_ENTRY_OVERHEAD = 32;
+    private static final long TREE_ENTRY_OVERHEAD = 40;
+    private static final long COLLECTION_OVERHEAD = 64;
+    private static final long INVENTORY_OVERHEAD = 512;
+    private static final long VERSION_OVERHEAD = 256;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int weigh(String objectId, Inventory inventory) {
+        return (int) Math.min(Integer.MAX_VALUE, estimateSize(inventory));
+    }
+
+    /**
+     * Estimates the number of bytes that the inventory retains.
+     *
+     * @param inventory the inventory
+     * @return estimated size in bytes
+     */
+    public static long estimateSize(Inventory inventory) {
+        long size = INVENTORY_OVERHEAD + stringSize(inventory.getId()) + stringSize(inventory.getObjectRootPath());
+
+        size += fileIdMapSize(inventory.getManifest());
+
+        for (var fixity : inventory.getFixity().values()) {
+            size += fileIdMapSize(fixity);
+        }
+
+        for (var version : inventory.getVersions().values()) {
+            size += VERSION_OVERHEAD + stringSize(version.getMessage()) + fileIdMapSize(version.getState());
+            size += sortedPathIndexSize(version.getState());
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the size of a {@link PathBiMap}, which indexes each file id to its paths, and each path back to its file
+     * id. Paths are only counted once, because both indexes share the same instances.
+     */
+    private static long fileIdMapSize(Map<String, Set<String>> fileIdToPaths) {
+        long size = 2 * COLLECTION_OVERHEAD;
+
+        for (var entry : fileIdToPaths.entrySet()) {
+            size += MAP_ENTRY_OVERHEAD + COLLECTION_OVERHEAD + stringSize(entry.getKey());
+            for (var path : entry.getValue()) {
+                size += SET_ENTRY_OVERHEAD + MAP_ENTRY_OVERHEAD + stringSize(path);
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the size of a version's sorted logical path index, which shares its path and file id instances with the
+     * version state.
+     */
+    private static long sortedPathIndexSize(Map<String, Set<String>> fileIdToPaths) {
+        long size = 2 * COLLECTION_OVERHEAD;
+
+        for (var paths : fileIdToPaths.values()) {
+            size += paths.size() * TREE_ENTRY_OVERHEAD;
+        }
+
+        return size;
+    }
+
+    private static long stringSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return STRING_OVERHEAD + value.length();
+    }
+}
@@ -24,6 +24,10 @@
 
 package io.ocfl.core.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -36,6 +40,11 @@ public class NoOpCache<K, V> implements Cache<K, V> {
         return loader.apply(key);
     }
 
+    @Override
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        return new HashMap<>(loader.apply(Set.copyOf(keys)));
+    }
+
     @Override
     public void put(K key, V value) {
         // no op
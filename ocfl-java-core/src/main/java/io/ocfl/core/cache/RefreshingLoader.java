@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.function.Function;
+
+/**
+ * Caffeine only refreshes entries using the loader that the cache was built with, but {@link Cache#get} supplies the
+ * loader on each call. This loader delegates to the loader that was most recently passed to {@code get}, so that
+ * entries are refreshed the same way that they were loaded.
+ */
+class RefreshingLoader<K, V> implements CacheLoader<K, V> {
+
+    private volatile Function<K, V> loader;
+
+    void setLoader(Function<K, V> loader) {
+        if (this.loader != loader) {
+            this.loader = loader;
+        }
+    }
+
+    @Override
+    public V load(K key) {
+        var current = loader;
+        if (current == null) {
+            throw new IllegalStateException("No loader available to refresh " + key);
+        }
+        return current.apply(key);
+    }
+}
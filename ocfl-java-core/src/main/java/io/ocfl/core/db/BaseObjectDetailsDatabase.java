@@ -35,17 +35,29 @@ import io.ocfl.core.model.Inventory;
 import io.ocfl.core.model.RevisionNum;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,9 +66,17 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
 
     private static final Logger LOG = LoggerFactory.getLogger(BaseObjectDetailsDatabase.class);
 
+    /**
+     * The maximum number of object ids that are bound to a single {@code IN} query
+     */
+    private static final int MAX_IN_PARAMS = 500;
+
     private final String tableName;
     private final DataSource dataSource;
+    private final DataSource readDataSource;
     private final boolean storeInventory;
+    private final boolean compressInventory;
+    private final boolean optimisticLocking;
     private final long waitMillis;
 
     private final String lockFailCode;
@@ -65,8 +85,10 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
     private final String deleteDetailsQuery;
     private final String rowLockQuery;
     private final String updateDetailsQuery;
+    private final String compareAndSwapDetailsQuery;
     private final String insertDetailsQuery;
     private final String selectDigestQuery;
+    private final String selectStateQuery;
     private final String deleteAllQuery;
 
     public BaseObjectDetailsDatabase(
@@ -76,9 +98,36 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
             long waitTime,
             TimeUnit timeUnit,
             String lockFailCode) {
+        this(tableName, dataSource, null, storeInventory, false, false, waitTime, timeUnit, lockFailCode);
+    }
+
+    /**
+     * @param tableName the name of the object details table
+     * @param dataSource the primary DataSource, which all writes are made to
+     * @param readDataSource an optional read-only DataSource, such as a replica, to retrieve object details from
+     * @param storeInventory true if serialized inventories should be stored
+     * @param compressInventory true if stored inventories should be gzipped
+     * @param optimisticLocking true if rows should not be locked while updates are written to storage
+     * @param waitTime time to wait for a row lock
+     * @param timeUnit unit of wait time
+     * @param lockFailCode the SQL state code that indicates a lock could not be acquired
+     */
+    public BaseObjectDetailsDatabase(
+            String tableName,
+            DataSource dataSource,
+            DataSource readDataSource,
+            boolean storeInventory,
+            boolean compressInventory,
+            boolean optimisticLocking,
+            long waitTime,
+            TimeUnit timeUnit,
+            String lockFailCode) {
         this.tableName = Enforce.notBlank(tableName, "tableName cannot be blank");
         this.dataSource = Enforce.notNull(dataSource, "dataSource cannot be null");
+        this.readDataSource = readDataSource;
         this.storeInventory = storeInventory;
+        this.compressInventory = compressInventory;
+        this.optimisticLocking = optimisticLocking;
         this.lockFailCode = Enforce.notBlank(lockFailCode, "lockFailCode cannot be blank");
         this.waitMillis = timeUnit.toMillis(waitTime);
 
@@ -86,8 +135,10 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         this.deleteDetailsQuery = deleteDetailsQuery(tableName);
         this.rowLockQuery = rowLockQuery(tableName);
         this.updateDetailsQuery = updateDetailsQuery(tableName);
+        this.compareAndSwapDetailsQuery = compareAndSwapDetailsQuery(tableName);
         this.insertDetailsQuery = insertDetailsQuery(tableName);
         this.selectDigestQuery = selectDigestQuery(tableName);
+        this.selectStateQuery = selectStateQuery(tableName);
         this.deleteAllQuery = deleteAllQuery(tableName);
     }
 
@@ -128,6 +179,21 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
                 tableName);
     }
 
+    /**
+     * Constructs the query for selecting multiple object details entries at once
+     *
+     * @param tableName the name of the object details table
+     * @param count the number of object ids the query selects
+     * @return the query string
+     */
+    protected String selectDetailsInQuery(String tableName, int count) {
+        return String.format(
+                "SELECT"
+                        + " object_id, version_id, object_root_path, revision_id, inventory_digest, digest_algorithm, inventory, update_timestamp"
+                        + " FROM %s WHERE object_id IN (%s)",
+                tableName, inParams(count));
+    }
+
     /**
      * Constructs the query for deleting object details entries
      *
@@ -163,6 +229,17 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
                 tableName);
     }
 
+    /**
+     * Constructs the query for updating object details entries only if their inventory digest has not changed. The
+     * parameters are the same as the update query, followed by the expected inventory digest.
+     *
+     * @param tableName the name of the object details table
+     * @return the query string
+     */
+    protected String compareAndSwapDetailsQuery(String tableName) {
+        return updateDetailsQuery(tableName) + " AND inventory_digest = ?";
+    }
+
     /**
      * Constructs the query for inserting object details entries
      *
@@ -187,6 +264,28 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         return String.format("SELECT inventory_digest FROM %s WHERE object_id = ?", tableName);
     }
 
+    /**
+     * Constructs the query for selecting multiple inventory digests at once
+     *
+     * @param tableName the name of the object details table
+     * @param count the number of object ids the query selects
+     * @return the query string
+     */
+    protected String selectDigestsInQuery(String tableName, int count) {
+        return String.format(
+                "SELECT object_id, inventory_digest FROM %s WHERE object_id IN (%s)", tableName, inParams(count));
+    }
+
+    /**
+     * Constructs the query for selecting the current version state of object details entries without locking them
+     *
+     * @param tableName the name of the object details table
+     * @return the query string
+     */
+    protected String selectStateQuery(String tableName) {
+        return String.format("SELECT version_id, revision_id, inventory_digest FROM %s WHERE object_id = ?", tableName);
+    }
+
     /**
      * Constructs the query for deleting all object details entries
      *
@@ -199,28 +298,40 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
 
     /**
      * {@inheritDoc}
+     *
+     * <p>If a read DataSource is configured, the details are retrieved from it and are only returned if their
+     * inventory digest matches the digest in the primary database. Otherwise, the details are retrieved from the
+     * primary database.
      */
     @Override
     public OcflObjectDetails retrieveObjectDetails(String objectId) {
         Enforce.notBlank(objectId, "objectId cannot be blank");
 
+        if (readDataSource != null) {
+            var details = retrieveObjectDetails(readDataSource, objectId);
+            if (details != null) {
+                // Retrieving only the digest from the primary is much cheaper than retrieving the entire row
+                var primaryDigest = retrieveDigest(objectId);
+                if (details.getInventoryDigest().equalsIgnoreCase(primaryDigest)) {
+                    return details;
+                }
+                LOG.debug("Object details for object {} are stale in the read database", objectId);
+            }
+        }
+
+        return retrieveObjectDetails(dataSource, objectId);
+    }
+
+    private OcflObjectDetails retrieveObjectDetails(DataSource dataSource, String objectId) {
         OcflObjectDetails details = null;
 
-        try (var connection = dataSource.getConnection()) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
             try (var statement = connection.prepareStatement(selectDetailsQuery)) {
                 statement.setString(1, objectId);
 
                 try (var rs = statement.executeQuery()) {
                     if (rs.next()) {
-                        details = new OcflObjectDetails()
-                                .setObjectId(rs.getString(1))
-                                .setVersionNum(VersionNum.fromString(rs.getString(2)))
-                                .setObjectRootPath(rs.getString(3))
-                                .setRevisionNum(revisionNumFromString(rs.getString(4)))
-                                .setInventoryDigest(rs.getString(5))
-                                .setDigestAlgorithm(DigestAlgorithm.fromOcflName(rs.getString(6)))
-                                .setInventory(rs.getBytes(7))
-                                .setUpdateTimestamp(rs.getTimestamp(8).toLocalDateTime());
+                        details = mapDetails(rs);
                     }
                 }
             }
@@ -231,6 +342,102 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         return details;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The details are selected in batches using {@code WHERE object_id IN (...)} queries. If a read DataSource is
+     * configured, the details are retrieved from it, and the digests of all of the retrieved rows are then verified
+     * against the primary database in batch. Details that are stale or missing in the read database are retrieved from
+     * the primary database.
+     */
+    @Override
+    public Map<String, OcflObjectDetails> retrieveObjectDetails(Collection<String> objectIds) {
+        Enforce.notNull(objectIds, "objectIds cannot be null");
+
+        var remaining = new ArrayList<>(new LinkedHashSet<>(objectIds));
+        var results = new HashMap<String, OcflObjectDetails>();
+
+        if (remaining.isEmpty()) {
+            return results;
+        }
+
+        if (readDataSource != null) {
+            var replicaDetails = new HashMap<String, OcflObjectDetails>();
+            selectIn(readDataSource, remaining, count -> selectDetailsInQuery(tableName, count), rs -> {
+                var details = mapDetails(rs);
+                replicaDetails.put(details.getObjectId(), details);
+            });
+
+            if (!replicaDetails.isEmpty()) {
+                var primaryDigests = new HashMap<String, String>();
+                selectIn(
+                        dataSource,
+                        new ArrayList<>(replicaDetails.keySet()),
+                        count -> selectDigestsInQuery(tableName, count),
+                        rs -> primaryDigests.put(rs.getString(1), rs.getString(2)));
+
+                replicaDetails.forEach((objectId, details) -> {
+                    if (details.getInventoryDigest().equalsIgnoreCase(primaryDigests.get(objectId))) {
+                        results.put(objectId, details);
+                    } else {
+                        LOG.debug("Object details for object {} are stale in the read database", objectId);
+                    }
+                });
+                remaining.removeIf(results::containsKey);
+            }
+        }
+
+        selectIn(dataSource, remaining, count -> selectDetailsInQuery(tableName, count), rs -> {
+            var details = mapDetails(rs);
+            results.put(details.getObjectId(), details);
+        });
+
+        return results;
+    }
+
+    private void selectIn(
+            DataSource dataSource, List<String> objectIds, InQueryBuilder queryBuilder, RowHandler handler) {
+        if (objectIds.isEmpty()) {
+            return;
+        }
+
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
+            for (int i = 0; i < objectIds.size(); i += MAX_IN_PARAMS) {
+                var batch = objectIds.subList(i, Math.min(i + MAX_IN_PARAMS, objectIds.size()));
+
+                try (var statement = connection.prepareStatement(queryBuilder.build(batch.size()))) {
+                    for (int j = 0; j < batch.size(); j++) {
+                        statement.setString(j + 1, batch.get(j));
+                    }
+
+                    try (var rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            handler.handle(rs);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    private OcflObjectDetails mapDetails(ResultSet rs) throws SQLException {
+        return new OcflObjectDetails()
+                .setObjectId(rs.getString(1))
+                .setVersionNum(VersionNum.fromString(rs.getString(2)))
+                .setObjectRootPath(rs.getString(3))
+                .setRevisionNum(revisionNumFromString(rs.getString(4)))
+                .setInventoryDigest(rs.getString(5))
+                .setDigestAlgorithm(DigestAlgorithm.fromOcflName(rs.getString(6)))
+                .setInventory(decodeInventory(rs.getBytes(7)))
+                .setUpdateTimestamp(rs.getTimestamp(8).toLocalDateTime());
+    }
+
+    private static String inParams(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -263,6 +470,18 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         Enforce.notNull(inventoryFile, "inventoryFile cannot be null");
         Enforce.notNull(runnable, "runnable cannot be null");
 
+        if (optimisticLocking) {
+            byte[] inventoryBytes;
+            try {
+                // The inventory must be read before the runnable is executed because the runnable moves it into storage
+                inventoryBytes = Files.readAllBytes(inventoryFile);
+            } catch (IOException e) {
+                throw new OcflIOException(e);
+            }
+            updateObjectDetailsOptimistic(inventory, inventoryDigest, inventoryBytes, runnable);
+            return;
+        }
+
         try (var inventoryStream = new BufferedInputStream(Files.newInputStream(inventoryFile))) {
             updateObjectDetailsInternal(inventory, inventoryDigest, inventoryStream, runnable);
         } catch (IOException e) {
@@ -270,6 +489,24 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateObjectDetails(
+            Inventory inventory, String inventoryDigest, byte[] inventoryBytes, Runnable runnable) {
+        Enforce.notNull(inventory, "inventory cannot be null");
+        Enforce.notBlank(inventoryDigest, "inventoryDigest cannot be blank");
+        Enforce.notNull(inventoryBytes, "inventoryBytes cannot be null");
+        Enforce.notNull(runnable, "runnable cannot be null");
+
+        if (optimisticLocking) {
+            updateObjectDetailsOptimistic(inventory, inventoryDigest, inventoryBytes, runnable);
+        } else {
+            updateObjectDetailsInternal(inventory, inventoryDigest, new ByteArrayInputStream(inventoryBytes), runnable);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -277,7 +514,7 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
     public void deleteObjectDetails(String objectId) {
         Enforce.notBlank(objectId, "objectId cannot be blank");
 
-        try (var connection = dataSource.getConnection()) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
             connection.setAutoCommit(false);
             setLockWaitTimeout(connection, waitMillis);
 
@@ -303,7 +540,7 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
     @Override
     public void deleteAllDetails() {
         LOG.debug("Clearing all entries in the {} table", tableName);
-        try (var connection = dataSource.getConnection()) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
             setLockWaitTimeout(connection, waitMillis);
             try (var statement = connection.prepareStatement(deleteAllQuery)) {
                 statement.executeUpdate();
@@ -316,7 +553,7 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
 
     private void updateObjectDetailsInternal(
             Inventory inventory, String inventoryDigest, InputStream inventoryStream, Runnable runnable) {
-        try (var connection = dataSource.getConnection()) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
             connection.setAutoCommit(false);
             setLockWaitTimeout(connection, waitMillis);
 
@@ -335,6 +572,59 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         }
     }
 
+    private void updateObjectDetailsOptimistic(
+            Inventory inventory, String inventoryDigest, byte[] inventoryBytes, Runnable runnable) {
+        // The row is not locked while the runnable executes. Instead, it's only updated if its inventory digest has
+        // not changed since the object's state was verified.
+        var expectedDigest = verifyCurrentState(inventory);
+
+        runnable.run();
+
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
+            connection.setAutoCommit(false);
+            setLockWaitTimeout(connection, waitMillis);
+
+            try {
+                var inventoryStream = new ByteArrayInputStream(inventoryBytes);
+                if (expectedDigest == null) {
+                    executeInsertDetails(connection, inventory, inventoryDigest, inventoryStream);
+                } else {
+                    executeCompareAndSwapDetails(
+                            connection, inventory, inventoryDigest, inventoryStream, expectedDigest);
+                }
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                safeEnableAutoCommit(connection);
+            }
+        } catch (SQLException e) {
+            throwLockException(e, inventory.getId());
+            throw new OcflDbException(e);
+        }
+    }
+
+    private String verifyCurrentState(Inventory inventory) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
+            try (var statement = connection.prepareStatement(selectStateQuery)) {
+                statement.setString(1, inventory.getId());
+
+                try (var rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        var existingVersionNum = VersionNum.fromString(rs.getString(1));
+                        var existingRevisionNum = revisionNumFromString(rs.getString(2));
+                        verifyObjectDetailsState(existingVersionNum, existingRevisionNum, inventory);
+                        return rs.getString(3);
+                    }
+                    return null;
+                }
+            }
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
     private void insertInventory(
             Connection connection, Inventory inventory, String inventoryDigest, InputStream inventoryStream)
             throws SQLException {
@@ -361,22 +651,44 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
     private void executeUpdateDetails(
             Connection connection, Inventory inventory, String inventoryDigest, InputStream inventoryStream)
             throws SQLException {
-        try (var insertStatement = connection.prepareStatement(updateDetailsQuery)) {
-            insertStatement.setString(1, inventory.getHead().toString());
-            insertStatement.setString(2, inventory.getObjectRootPath());
-            insertStatement.setString(3, revisionNumStr(inventory.getRevisionNum()));
-            insertStatement.setString(4, inventoryDigest);
-            insertStatement.setString(5, inventory.getDigestAlgorithm().getOcflName());
-            if (storeInventory) {
-                insertStatement.setBinaryStream(6, inventoryStream);
-            } else {
-                insertStatement.setNull(6, Types.BINARY);
+        try (var updateStatement = connection.prepareStatement(updateDetailsQuery)) {
+            setUpdateDetailsParams(updateStatement, inventory, inventoryDigest, inventoryStream);
+            updateStatement.executeUpdate();
+        }
+    }
+
+    private void executeCompareAndSwapDetails(
+            Connection connection,
+            Inventory inventory,
+            String inventoryDigest,
+            InputStream inventoryStream,
+            String expectedDigest)
+            throws SQLException {
+        try (var updateStatement = connection.prepareStatement(compareAndSwapDetailsQuery)) {
+            setUpdateDetailsParams(updateStatement, inventory, inventoryDigest, inventoryStream);
+            updateStatement.setString(9, expectedDigest);
+
+            if (updateStatement.executeUpdate() != 1) {
+                throw outOfSyncException(inventory.getId());
             }
-            insertStatement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
-            insertStatement.setString(8, inventory.getId());
+        }
+    }
 
-            insertStatement.executeUpdate();
+    private void setUpdateDetailsParams(
+            PreparedStatement statement, Inventory inventory, String inventoryDigest, InputStream inventoryStream)
+            throws SQLException {
+        statement.setString(1, inventory.getHead().toString());
+        statement.setString(2, inventory.getObjectRootPath());
+        statement.setString(3, revisionNumStr(inventory.getRevisionNum()));
+        statement.setString(4, inventoryDigest);
+        statement.setString(5, inventory.getDigestAlgorithm().getOcflName());
+        if (storeInventory) {
+            statement.setBinaryStream(6, encodeInventory(inventoryStream));
+        } else {
+            statement.setNull(6, Types.BINARY);
         }
+        statement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+        statement.setString(8, inventory.getId());
     }
 
     private void executeInsertDetails(
@@ -390,7 +702,7 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
             insertStatement.setString(5, inventoryDigest);
             insertStatement.setString(6, inventory.getDigestAlgorithm().getOcflName());
             if (storeInventory) {
-                insertStatement.setBinaryStream(7, inventoryStream);
+                insertStatement.setBinaryStream(7, encodeInventory(inventoryStream));
             } else {
                 insertStatement.setNull(7, Types.BINARY);
             }
@@ -406,7 +718,7 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
     }
 
     private String retrieveDigest(String objectId) {
-        try (var connection = dataSource.getConnection()) {
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
             try (var statement = connection.prepareStatement(selectDigestQuery)) {
                 statement.setString(1, objectId);
 
@@ -423,6 +735,42 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
         }
     }
 
+    private InputStream encodeInventory(InputStream inventoryStream) {
+        if (!compressInventory) {
+            return inventoryStream;
+        }
+
+        var compressed = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(compressed)) {
+            inventoryStream.transferTo(gzip);
+        } catch (IOException e) {
+            throw new OcflIOException(e);
+        }
+        return new ByteArrayInputStream(compressed.toByteArray());
+    }
+
+    private byte[] decodeInventory(byte[] inventoryBytes) {
+        // Compressed rows are detected by their header rather than the current configuration so that compression can
+        // be toggled on an existing table. Rows are rewritten in the configured format the next time they're updated.
+        if (!isGzipped(inventoryBytes)) {
+            return inventoryBytes;
+        }
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(inventoryBytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new OcflIOException(e);
+        }
+    }
+
+    private boolean isGzipped(byte[] bytes) {
+        // Serialized inventories always start with '{' or whitespace, so this can never match an uncompressed inventory
+        return bytes != null
+                && bytes.length >= 2
+                && (bytes[0] & 0xff) == (GZIPInputStream.GZIP_MAGIC & 0xff)
+                && (bytes[1] & 0xff) == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+
     private String revisionNumStr(RevisionNum revisionNum) {
         return revisionNum == null ? null : revisionNum.toString();
     }
@@ -478,4 +826,14 @@ public abstract class BaseObjectDetailsDatabase implements ObjectDetailsDatabase
             LOG.warn("Failed to enable autocommit", e);
         }
     }
+
+    @FunctionalInterface
+    private interface InQueryBuilder {
+        String build(int count);
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.db;
+
+import io.ocfl.api.exception.OcflJavaException;
+import io.ocfl.api.util.Enforce;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import javax.sql.DataSource;
+
+/**
+ * Binds a database connection to the current thread so that every component that uses the same DataSource on that
+ * thread shares the connection, rather than checking out a new connection for each operation. This is used to
+ * execute an object lock, the object details update, and the lock release over a single connection when the lock and
+ * the object details database are configured with the same DataSource.
+ */
+public final class ConnectionBinder {
+
+    private static final ThreadLocal<Map<DataSource, Connection>> BOUND_CONNECTIONS = new ThreadLocal<>();
+
+    private ConnectionBinder() {}
+
+    /**
+     * Returns the connection that's bound to the current thread for the DataSource, or a new connection from the
+     * DataSource if there is not one. Closing a bound connection does nothing; it remains open until it is unbound.
+     *
+     * @param dataSource the DataSource
+     * @return a connection
+     * @throws SQLException on sql error
+     */
+    public static Connection getConnection(DataSource dataSource) throws SQLException {
+        var bound = BOUND_CONNECTIONS.get();
+        if (bound != null) {
+            var connection = bound.get(dataSource);
+            if (connection != null) {
+                return nonClosing(connection);
+            }
+        }
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Binds the connection to the current thread for the DataSource, executes the callable, and then unbinds it. The
+     * connection is not closed.
+     *
+     * @param dataSource the DataSource the connection belongs to
+     * @param connection the connection to bind
+     * @param callable the code to execute while the connection is bound
+     * @param <T> return type
+     * @return the result of the callable
+     */
+    public static <T> T callWithBoundConnection(DataSource dataSource, Connection connection, Callable<T> callable) {
+        Enforce.notNull(dataSource, "dataSource cannot be null");
+        Enforce.notNull(connection, "connection cannot be null");
+
+        var bound = BOUND_CONNECTIONS.get();
+        if (bound == null) {
+            bound = new HashMap<>();
+            BOUND_CONNECTIONS.set(bound);
+        }
+
+        var previous = bound.put(dataSource, connection);
+
+        try {
+            return callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OcflJavaException(e);
+        } finally {
+            if (previous != null) {
+                bound.put(dataSource, previous);
+            } else {
+                bound.remove(dataSource);
+                if (bound.isEmpty()) {
+                    BOUND_CONNECTIONS.remove();
+                }
+            }
+        }
+    }
+
+    private static Connection nonClosing(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionBinder.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -37,7 +37,28 @@ public class H2ObjectDetailsDatabase extends BaseObjectDetailsDatabase {
 
     public H2ObjectDetailsDatabase(
             String tableName, DataSource dataSource, boolean storeInventory, long waitTime, TimeUnit timeUnit) {
-        super(tableName, dataSource, storeInventory, waitTime, timeUnit, LOCK_FAIL_STATE);
+        this(tableName, dataSource, null, storeInventory, false, false, waitTime, timeUnit);
+    }
+
+    public H2ObjectDetailsDatabase(
+            String tableName,
+            DataSource dataSource,
+            DataSource readDataSource,
+            boolean storeInventory,
+            boolean compressInventory,
+            boolean optimisticLocking,
+            long waitTime,
+            TimeUnit timeUnit) {
+        super(
+                tableName,
+                dataSource,
+                readDataSource,
+                storeInventory,
+                compressInventory,
+                optimisticLocking,
+                waitTime,
+                timeUnit,
+                LOCK_FAIL_STATE);
     }
 
     /**
@@ -24,8 +24,15 @@
 
 package io.ocfl.core.db;
 
+import io.ocfl.api.exception.OcflIOException;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Interface for interacting with OCFL object details that are stored in a database.
@@ -40,6 +47,24 @@ public interface ObjectDetailsDatabase {
      */
     OcflObjectDetails retrieveObjectDetails(String objectId);
 
+    /**
+     * Retrieves ObjectDetails for many objects from the database. Objects that have no details are not included in
+     * the returned map.
+     *
+     * @param objectIds the OCFL object ids
+     * @return map of object id to ObjectDetails
+     */
+    default Map<String, OcflObjectDetails> retrieveObjectDetails(Collection<String> objectIds) {
+        var results = new HashMap<String, OcflObjectDetails>();
+        objectIds.forEach(objectId -> {
+            var details = retrieveObjectDetails(objectId);
+            if (details != null) {
+                results.put(objectId, details);
+            }
+        });
+        return results;
+    }
+
     /**
      * Adds ObjectDetails to the database. In the case of a concurrent update, this operation will only fail if the inventory
      * digests are different.
@@ -55,6 +80,9 @@ public interface ObjectDetailsDatabase {
      * is committed, the supplied runnable is executed. The transaction is only committed if the runnable completes without
      * exception.
      *
+     * <p>If optimistic locking is enabled, the runnable is instead executed outside of a transaction, and the details
+     * are only updated if they have not changed since before the runnable was executed.
+     *
      * @param inventory the object's inventory
      * @param inventoryDigest the digest of the inventory
      * @param inventoryFile the path to the inventory on disk
@@ -62,6 +90,34 @@ public interface ObjectDetailsDatabase {
      */
     void updateObjectDetails(Inventory inventory, String inventoryDigest, Path inventoryFile, Runnable runnable);
 
+    /**
+     * Same as {@link #updateObjectDetails(Inventory, String, Path, Runnable)}, except the inventory is held in memory
+     * rather than on disk.
+     *
+     * <p>The default implementation writes the inventory to a temporary file, and then updates the details with
+     * {@link #updateObjectDetails(Inventory, String, Path, Runnable)}.
+     *
+     * @param inventory the object's inventory
+     * @param inventoryDigest the digest of the inventory
+     * @param inventoryBytes the serialized inventory bytes
+     * @param runnable the code to execute within the update transaction
+     */
+    default void updateObjectDetails(
+            Inventory inventory, String inventoryDigest, byte[] inventoryBytes, Runnable runnable) {
+        Path inventoryFile = null;
+        try {
+            inventoryFile = Files.createTempFile("ocfl-inventory-", ".json");
+            Files.write(inventoryFile, inventoryBytes);
+            updateObjectDetails(inventory, inventoryDigest, inventoryFile, runnable);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        } finally {
+            if (inventoryFile != null) {
+                FileUtil.safeDelete(inventoryFile);
+            }
+        }
+    }
+
     /**
      * Removes ObjectDetails from the database.
      *
@@ -37,13 +37,18 @@ public class ObjectDetailsDatabaseBuilder {
     private static final String DEFAULT_TABLE_NAME = "ocfl_object_details";
 
     private boolean storeInventory;
+    private boolean compressInventory;
+    private boolean optimisticLocking;
     private long waitTime;
     private TimeUnit timeUnit;
     private DataSource dataSource;
+    private DataSource readDataSource;
     private String tableName;
 
     public ObjectDetailsDatabaseBuilder() {
         storeInventory = true;
+        compressInventory = false;
+        optimisticLocking = false;
         waitTime = 10;
         timeUnit = TimeUnit.SECONDS;
     }
@@ -59,6 +64,41 @@ public class ObjectDetailsDatabaseBuilder {
         return this;
     }
 
+    /**
+     * If serialized inventories should be gzipped before they are stored in the database. This significantly reduces
+     * the size of rows for objects with large manifests. Default: false.
+     *
+     * <p>This setting may be changed on an existing table. Both compressed and uncompressed inventories are always
+     * readable, and existing rows are rewritten in the configured format the next time their object is updated. Older
+     * versions of ocfl-java are NOT able to read compressed inventories.
+     *
+     * @param compressInventory true if serialized inventories should be compressed
+     * @return builder
+     */
+    public ObjectDetailsDatabaseBuilder compressInventory(boolean compressInventory) {
+        this.compressInventory = compressInventory;
+        return this;
+    }
+
+    /**
+     * If object details should be updated using optimistic locking. Default: false.
+     *
+     * <p>By default, an object's details row is locked for the entire time it takes to write a new version to storage,
+     * which holds open a database connection and transaction for the duration of potentially slow uploads. When
+     * optimistic locking is enabled, the object's state is verified before the version is written, and, afterwards,
+     * the row is only updated if its inventory digest has not changed in the meantime. If it has changed,
+     * an {@link io.ocfl.api.exception.ObjectOutOfSyncException} is thrown.
+     *
+     * <p>Objects should still be locked using an {@link io.ocfl.core.lock.ObjectLock} when this is enabled.
+     *
+     * @param optimisticLocking true if optimistic locking should be used
+     * @return builder
+     */
+    public ObjectDetailsDatabaseBuilder optimisticLocking(boolean optimisticLocking) {
+        this.optimisticLocking = optimisticLocking;
+        return this;
+    }
+
     /**
      * Used to override the amount of time the client will wait to obtain a lock. Default: 10 seconds.
      *
@@ -83,6 +123,22 @@ public class ObjectDetailsDatabaseBuilder {
         return this;
     }
 
+    /**
+     * Sets an optional read-only DataSource, such as a read replica, to retrieve object details from. All writes and
+     * row locks continue to use the primary DataSource.
+     *
+     * <p>Details retrieved from the read DataSource are verified by comparing their inventory digest to the digest in
+     * the primary database, which is significantly cheaper than retrieving the entire inventory from the primary. If
+     * the read DataSource is lagging, the details are retrieved from the primary instead.
+     *
+     * @param readDataSource the read-only DataSource
+     * @return builder
+     */
+    public ObjectDetailsDatabaseBuilder readDataSource(DataSource readDataSource) {
+        this.readDataSource = readDataSource;
+        return this;
+    }
+
     /**
      * Sets the name of the table to use to store object details. Default: ocfl_object_details
      *
@@ -111,15 +167,36 @@ public class ObjectDetailsDatabaseBuilder {
         switch (dbType) {
             case POSTGRES:
                 database = new PostgresObjectDetailsDatabase(
-                        resolvedTableName, dataSource, storeInventory, waitTime, timeUnit);
+                        resolvedTableName,
+                        dataSource,
+                        readDataSource,
+                        storeInventory,
+                        compressInventory,
+                        optimisticLocking,
+                        waitTime,
+                        timeUnit);
                 break;
             case MARIADB:
                 database = new MariaDbObjectDetailsDatabase(
-                        resolvedTableName, dataSource, storeInventory, waitTime, timeUnit);
+                        resolvedTableName,
+                        dataSource,
+                        readDataSource,
+                        storeInventory,
+                        compressInventory,
+                        optimisticLocking,
+                        waitTime,
+                        timeUnit);
                 break;
             case H2:
-                database =
-                        new H2ObjectDetailsDatabase(resolvedTableName, dataSource, storeInventory, waitTime, timeUnit);
+                database = new H2ObjectDetailsDatabase(
+                        resolvedTableName,
+                        dataSource,
+                        readDataSource,
+                        storeInventory,
+                        compressInventory,
+                        optimisticLocking,
+                        waitTime,
+                        timeUnit);
                 break;
             default:
                 throw new OcflJavaException(String.format(
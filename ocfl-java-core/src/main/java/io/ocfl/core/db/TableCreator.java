@@ -51,6 +51,7 @@ public class TableCreator {
 
     private static final String LOCK_TABLE_FILE = "ocfl_object_lock.ddl.tmpl";
     private static final String OBJECT_DETAILS_TABLE_FILE = "ocfl_object_details.ddl.tmpl";
+    private static final String VALIDATION_STATE_TABLE_FILE = "ocfl_validation_state.ddl.tmpl";
 
     private final Map<DbType, String> dbScriptDir = Map.of(
             DbType.POSTGRES, "db/postgresql",
@@ -73,6 +74,10 @@ public class TableCreator {
         createTable(tableName, OBJECT_DETAILS_TABLE_FILE);
     }
 
+    public void createValidationStateTable(String tableName) {
+        createTable(tableName, VALIDATION_STATE_TABLE_FILE);
+    }
+
     private void createTable(String tableName, String fileName) {
         Enforce.notBlank(tableName, "tableName cannot be blank");
         try (var connection = dataSource.getConnection()) {
@@ -27,6 +27,7 @@ package io.ocfl.core.extension;
 import io.ocfl.api.OcflConstants;
 import io.ocfl.api.exception.OcflExtensionException;
 import io.ocfl.api.util.Enforce;
+import io.ocfl.core.storage.DefaultOcflStorage;
 import java.util.Collections;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -39,8 +40,10 @@ public class ExtensionSupportEvaluator {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExtensionSupportEvaluator.class);
 
-    private static final Set<String> BUILTIN_EXTS =
-            Set.of(OcflConstants.MUTABLE_HEAD_EXT_NAME, OcflConstants.DIGEST_ALGORITHMS_EXT_NAME);
+    private static final Set<String> BUILTIN_EXTS = Set.of(
+            OcflConstants.MUTABLE_HEAD_EXT_NAME,
+            OcflConstants.DIGEST_ALGORITHMS_EXT_NAME,
+            DefaultOcflStorage.STORAGE_ROOT_WORK_EXT_NAME);
 
     private final UnsupportedExtensionBehavior behavior;
     private final Set<String> ignore;
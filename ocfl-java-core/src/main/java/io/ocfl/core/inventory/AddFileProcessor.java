@@ -31,9 +31,11 @@ import io.ocfl.api.util.Enforce;
 import io.ocfl.core.FileLocker;
 import io.ocfl.core.util.DigestUtil;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.MultiDigestInputStream;
 import io.ocfl.core.util.UncheckedFiles;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -42,10 +44,13 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.security.DigestOutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,6 +65,7 @@ public class AddFileProcessor {
     private final FileLocker fileLocker;
     private final Path stagingDir;
     private final DigestAlgorithm digestAlgorithm;
+    private final Set<DigestAlgorithm> fixityAlgorithms;
     private final AtomicBoolean checkForEmptyDirs;
 
     public static Builder builder() {
@@ -68,12 +74,26 @@ public class AddFileProcessor {
 
     public static class Builder {
 
+        private Set<DigestAlgorithm> fixityAlgorithms = Collections.emptySet();
+
+        /**
+         * Sets the algorithms of the fixity digests that are computed for every new file, in the same pass as its
+         * content digest.
+         *
+         * @param fixityAlgorithms the fixity algorithms, may be empty
+         * @return builder
+         */
+        public Builder fixityAlgorithms(Set<DigestAlgorithm> fixityAlgorithms) {
+            this.fixityAlgorithms = Set.copyOf(Enforce.notNull(fixityAlgorithms, "fixityAlgorithms cannot be null"));
+            return this;
+        }
+
         public AddFileProcessor build(
                 InventoryUpdater inventoryUpdater,
                 FileLocker fileLocker,
                 Path stagingDir,
                 DigestAlgorithm digestAlgorithm) {
-            return new AddFileProcessor(inventoryUpdater, fileLocker, stagingDir, digestAlgorithm);
+            return new AddFileProcessor(inventoryUpdater, fileLocker, stagingDir, digestAlgorithm, fixityAlgorithms);
         }
     }
 
@@ -89,10 +109,31 @@ public class AddFileProcessor {
             FileLocker fileLocker,
             Path stagingDir,
             DigestAlgorithm digestAlgorithm) {
+        this(inventoryUpdater, fileLocker, stagingDir, digestAlgorithm, Collections.emptySet());
+    }
+
+    /**
+     * @see Builder
+     *
+     * @param inventoryUpdater the inventory updater
+     * @param stagingDir the staging directory to move files into
+     * @param digestAlgorithm the digest algorithm
+     * @param fixityAlgorithms the algorithms of the fixity digests to compute for every new file
+     */
+    public AddFileProcessor(
+            InventoryUpdater inventoryUpdater,
+            FileLocker fileLocker,
+            Path stagingDir,
+            DigestAlgorithm digestAlgorithm,
+            Set<DigestAlgorithm> fixityAlgorithms) {
         this.inventoryUpdater = Enforce.notNull(inventoryUpdater, "inventoryUpdater cannot be null");
         this.fileLocker = Enforce.notNull(fileLocker, "fileLocker cannot be null");
         this.stagingDir = Enforce.notNull(stagingDir, "stagingDir cannot be null");
         this.digestAlgorithm = Enforce.notNull(digestAlgorithm, "digestAlgorithm cannot be null");
+        // The content digest is already recorded in the manifest, so it's never duplicated in the fixity block
+        this.fixityAlgorithms = Enforce.notNull(fixityAlgorithms, "fixityAlgorithms cannot be null").stream()
+                .filter(algorithm -> !algorithm.equals(digestAlgorithm))
+                .collect(Collectors.toUnmodifiableSet());
         this.checkForEmptyDirs = new AtomicBoolean(false);
     }
 
@@ -135,10 +176,21 @@ public class AddFileProcessor {
                 locks.add(fileLocker.lock(logicalPath));
 
                 if (isMove) {
-                    var digest = DigestUtil.computeDigestHex(messageDigest, digestAlgorithm, file);
+                    String digest;
+                    Map<DigestAlgorithm, String> fixity;
+
+                    if (fixityAlgorithms.isEmpty()) {
+                        digest = DigestUtil.computeDigestHex(messageDigest, digestAlgorithm, file);
+                        fixity = Collections.emptyMap();
+                    } else {
+                        fixity = computeDigests(file);
+                        digest = fixity.remove(digestAlgorithm);
+                    }
+
                     var result = inventoryUpdater.addFile(digest, logicalPath, options);
 
                     if (result.isNew()) {
+                        addFixity(logicalPath, fixity);
                         var stagingFullPath = stagingFullPath(result.getPathUnderContentDir());
 
                         results.put(logicalPath, stagingFullPath);
@@ -156,19 +208,24 @@ public class AddFileProcessor {
                     String digest;
                     InventoryUpdater.AddFileResult result;
 
-                    try (var stream = new DigestOutputStream(
-                            new BufferedOutputStream(Files.newOutputStream(
-                                    stagingFullPath,
-                                    StandardOpenOption.CREATE,
-                                    StandardOpenOption.WRITE,
-                                    StandardOpenOption.TRUNCATE_EXISTING)),
-                            messageDigest)) {
+                    try (var input = MultiDigestInputStream.create(Files.newInputStream(file), fixityAlgorithms);
+                            var stream = new DigestOutputStream(
+                                    new BufferedOutputStream(Files.newOutputStream(
+                                            stagingFullPath,
+                                            StandardOpenOption.CREATE,
+                                            StandardOpenOption.WRITE,
+                                            StandardOpenOption.TRUNCATE_EXISTING)),
+                                    messageDigest)) {
                         LOG.debug("Copying file <{}> to <{}>", file, stagingFullPath);
-                        Files.copy(file, stream);
+                        input.transferTo(stream);
 
                         digest =
                                 digestAlgorithm.encode(stream.getMessageDigest().digest());
                         result = inventoryUpdater.addFile(digest, logicalPath, options);
+
+                        if (result.isNew()) {
+                            addFixity(logicalPath, input.getResults());
+                        }
                     } catch (IOException e) {
                         throw new OcflIOException(e);
                     }
@@ -256,6 +313,34 @@ public class AddFileProcessor {
         return checkForEmptyDirs.get();
     }
 
+    /**
+     * Returns the algorithms of the fixity digests that are computed for every new file. The object's content digest
+     * algorithm is never included.
+     *
+     * @return fixity algorithms
+     */
+    public Set<DigestAlgorithm> getFixityAlgorithms() {
+        return fixityAlgorithms;
+    }
+
+    // Computes the content digest and all of the fixity digests in a single pass over the file
+    private Map<DigestAlgorithm, String> computeDigests(Path file) {
+        var algorithms = new ArrayList<DigestAlgorithm>(fixityAlgorithms.size() + 1);
+        algorithms.add(digestAlgorithm);
+        algorithms.addAll(fixityAlgorithms);
+
+        try (var stream = MultiDigestInputStream.create(Files.newInputStream(file), algorithms)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+            return stream.getResults();
+        } catch (IOException e) {
+            throw new OcflIOException(e);
+        }
+    }
+
+    private void addFixity(String logicalPath, Map<DigestAlgorithm, String> fixity) {
+        fixity.forEach((algorithm, digest) -> inventoryUpdater.addFixity(logicalPath, algorithm, digest));
+    }
+
     private String destinationPath(String path, Path sourcePath) {
         if (path.isBlank() && Files.isRegularFile(sourcePath)) {
             return sourcePath.getFileName().toString();
@@ -287,6 +287,31 @@ public class InventoryUpdater {
         return pathUnderContentDir(contentPathMapper.fromLogicalPath(logicalPath));
     }
 
+    /**
+     * Maps the logical path to the content path that a new file at the logical path is stored at.
+     *
+     * @param logicalPath the logical path
+     * @return content path
+     */
+    public String contentPath(String logicalPath) {
+        return contentPathMapper.fromLogicalPath(logicalPath);
+    }
+
+    /**
+     * Returns true if the manifest contains the content path.
+     *
+     * @param contentPath the content path
+     * @return true if the content path is in the manifest
+     */
+    public boolean containsContentPath(String contentPath) {
+        lock.lock();
+        try {
+            return inventoryBuilder.containsContentPath(contentPath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Adds an entry to the fixity block. An entry is not added if the algorithm is the same as the inventory's algorithm.
      *
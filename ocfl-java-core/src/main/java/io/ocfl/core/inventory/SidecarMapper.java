@@ -48,12 +48,16 @@ public final class SidecarMapper {
     public static void writeSidecar(Inventory inventory, String digest, Path dstDirectory) {
         try {
             var sidecarPath = ObjectPaths.inventorySidecarPath(dstDirectory, inventory);
-            Files.writeString(sidecarPath, String.format("%s  %s\n", digest, OcflConstants.INVENTORY_FILE));
+            Files.writeString(sidecarPath, sidecarContent(digest));
         } catch (IOException e) {
             throw new OcflIOException(e);
         }
     }
 
+    public static String sidecarContent(String digest) {
+        return String.format("%s  %s\n", digest, OcflConstants.INVENTORY_FILE);
+    }
+
     public static String readDigestRequired(Path sidecarPath) {
         try {
             return readDigestOptional(sidecarPath);
@@ -28,6 +28,7 @@ import io.ocfl.api.exception.LockException;
 import io.ocfl.api.exception.OcflDbException;
 import io.ocfl.api.exception.OcflJavaException;
 import io.ocfl.api.util.Enforce;
+import io.ocfl.core.db.ConnectionBinder;
 import io.ocfl.core.db.DbType;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -37,6 +38,11 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +50,16 @@ import org.slf4j.LoggerFactory;
 /**
  * Lock implementation that writes to a DB table to lock a resource. The row is deleted when the lock is released.
  * The lock expires if the row has not been deleted within a configurable period of time.
+ *
+ * <p>If the lock is held by another process, acquisition is retried with jittered exponential backoff until the
+ * configured wait time elapses. If lease renewal is enabled, held locks are periodically renewed so that they do not
+ * expire while the process that holds them is still alive, even if the work takes longer than the max lock duration.
+ *
+ * <p>If connection sharing is enabled, the connection that acquires the lock is also used to execute the code in the
+ * lock and to release the lock. Once the lock is acquired, the connection is bound to the current thread using
+ * {@link ConnectionBinder}, so that other components that use the same DataSource, such as the object details
+ * database, use it as well rather than checking out their own connections. While waiting for a held lock, the
+ * connection is returned to the pool between attempts.
  */
 public class DbObjectLock implements ObjectLock {
 
@@ -54,21 +70,77 @@ public class DbObjectLock implements ObjectLock {
             DbType.MARIADB, "23000",
             DbType.POSTGRES, "23505");
 
+    private static final long MIN_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
     private final String tableName;
     private final DataSource dataSource;
     private final Duration lockDuration;
+    private final Duration waitTime;
+    private final Duration renewInterval;
+    private final boolean shareConnection;
+    private final LockStats stats;
 
     private final String createRowLockQuery;
     private final String updateRowLockQuery;
+    private final String renewRowLockQuery;
     private final String deleteRowLockQuery;
 
     private final String duplicateStateCode;
 
+    private volatile ScheduledExecutorService renewalExecutor;
+
     public DbObjectLock(DbType dbType, String tableName, DataSource dataSource, Duration maxLockDuration) {
+        this(dbType, tableName, dataSource, maxLockDuration, Duration.ZERO, false);
+    }
+
+    /**
+     * @param dbType the type of database
+     * @param tableName the name of the lock table
+     * @param dataSource the DataSource to use
+     * @param maxLockDuration the amount of time after which a lock that has not been renewed may be acquired by
+     *                        another process
+     * @param waitTime the maximum amount of time to wait for a lock that's held by another process
+     * @param renewLeases true if held locks should be renewed every third of the max lock duration
+     */
+    public DbObjectLock(
+            DbType dbType,
+            String tableName,
+            DataSource dataSource,
+            Duration maxLockDuration,
+            Duration waitTime,
+            boolean renewLeases) {
+        this(dbType, tableName, dataSource, maxLockDuration, waitTime, renewLeases, false);
+    }
+
+    /**
+     * @param dbType the type of database
+     * @param tableName the name of the lock table
+     * @param dataSource the DataSource to use
+     * @param maxLockDuration the amount of time after which a lock that has not been renewed may be acquired by
+     *                        another process
+     * @param waitTime the maximum amount of time to wait for a lock that's held by another process
+     * @param renewLeases true if held locks should be renewed every third of the max lock duration
+     * @param shareConnection true if a single connection should be used for the lock acquisition, the code executed
+     *                        in the lock, and the lock release
+     */
+    public DbObjectLock(
+            DbType dbType,
+            String tableName,
+            DataSource dataSource,
+            Duration maxLockDuration,
+            Duration waitTime,
+            boolean renewLeases,
+            boolean shareConnection) {
         Enforce.notNull(dbType, "dbType cannot be null");
         this.tableName = Enforce.notBlank(tableName, "tableName cannot be blank");
         this.dataSource = Enforce.notNull(dataSource, "dataSource cannot be null");
         this.lockDuration = Enforce.notNull(maxLockDuration, "maxLockDuration cannot be null");
+        this.waitTime = Enforce.notNull(waitTime, "waitTime cannot be null");
+        Enforce.expressionTrue(!waitTime.isNegative(), waitTime, "waitTime cannot be negative");
+        this.renewInterval = renewLeases ? maxLockDuration.dividedBy(3) : Duration.ZERO;
+        this.shareConnection = shareConnection;
+        this.stats = new LockStats();
 
         this.duplicateStateCode =
                 Enforce.notBlank(DUPLICATE_STATE_CODES.get(dbType), "duplicate state code cannot be blank");
@@ -77,6 +149,8 @@ public class DbObjectLock implements ObjectLock {
                 String.format("INSERT INTO %s (object_id, acquired_timestamp) VALUES (?, ?)", tableName);
         this.updateRowLockQuery = String.format(
                 "UPDATE %s SET acquired_timestamp = ? WHERE object_id = ? AND acquired_timestamp <= ?", tableName);
+        this.renewRowLockQuery = String.format(
+                "UPDATE %s SET acquired_timestamp = ? WHERE object_id = ? AND acquired_timestamp = ?", tableName);
         this.deleteRowLockQuery =
                 String.format("DELETE FROM %s WHERE object_id = ? AND acquired_timestamp = ?", tableName);
     }
@@ -97,32 +171,112 @@ public class DbObjectLock implements ObjectLock {
      */
     @Override
     public <T> T doInWriteLock(String objectId, Callable<T> doInLock) {
-        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        var lease = acquireLock(objectId);
 
-        try (var connection = dataSource.getConnection()) {
-            if (!createLockRow(objectId, now, connection)) {
-                // Try acquire twice to cover the case where the lock is released when the first UPDATE
-                // was attempted. More retries are possible, but you have to draw the line somewhere.
-                if (!createLockRow(objectId, now, connection)) {
-                    throw failedToAcquireLock(objectId);
-                }
+        if (lease.connection != null) {
+            // The connection that acquired the lock is only bound once the lock is held, so that it's not checked out
+            // while waiting
+            try (var connection = lease.connection) {
+                return ConnectionBinder.callWithBoundConnection(
+                        dataSource, connection, () -> doInLockInternal(lease, doInLock));
+            } catch (SQLException e) {
+                throw new OcflDbException(e);
+            }
+        }
+        return doInLockInternal(lease, doInLock);
+    }
+
+    /**
+     * Statistics about how this lock has been used, which may be used to monitor lock wait times and contention.
+     *
+     * @return lock statistics
+     */
+    public LockStats getLockStats() {
+        return stats;
+    }
+
+    /**
+     * Shuts down the lease renewal thread, if it was started.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (renewalExecutor != null) {
+                renewalExecutor.shutdownNow();
+                renewalExecutor = null;
             }
-        } catch (SQLException e) {
-            throw new OcflDbException(e);
         }
+    }
+
+    private <T> T doInLockInternal(Lease lease, Callable<T> doInLock) {
+        var objectId = lease.objectId;
+        var renewal = scheduleRenewal(lease);
+        T result;
 
         try {
-            return doInLock.call();
+            result = doInLock.call();
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
             throw new OcflJavaException(e);
         } finally {
-            releaseLock(objectId, now);
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            releaseLock(lease);
+        }
+
+        // The block's changes were made while another process may have held the lock, so they must not be reported
+        // as successful
+        if (lease.lost) {
+            throw new LockException("Lock on object " + objectId
+                    + " expired and was acquired by another process before the locked operation completed");
         }
+
+        return result;
     }
 
-    private boolean createLockRow(String objectId, Instant timestamp, Connection connection) throws SQLException {
+    private Lease acquireLock(String objectId) {
+        var startNanos = System.nanoTime();
+        var deadlineNanos = startNanos + waitTime.toNanos();
+        var attempt = 0;
+
+        while (true) {
+            var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            var connection = getConnection();
+            var acquired = false;
+
+            try {
+                acquired = createLockRow(connection, objectId, now);
+            } finally {
+                if (!acquired || !shareConnection) {
+                    closeConnection(connection);
+                }
+            }
+
+            if (acquired) {
+                stats.recordAcquired(System.nanoTime() - startNanos, attempt > 0);
+                return new Lease(objectId, now, shareConnection ? connection : null);
+            }
+
+            attempt++;
+            var remainingNanos = deadlineNanos - System.nanoTime();
+
+            // Always try at least twice to cover the case where the lock is released when the first UPDATE was
+            // attempted.
+            if (remainingNanos <= 0) {
+                if (attempt >= 2) {
+                    stats.recordFailed(System.nanoTime() - startNanos);
+                    throw failedToAcquireLock(objectId);
+                }
+            } else {
+                LOG.debug("Lock on object {} is held by another process. Attempt: {}", objectId, attempt);
+                sleep(objectId, Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, backoffMillis(attempt)));
+            }
+        }
+    }
+
+    private boolean createLockRow(Connection connection, String objectId, Instant timestamp) {
         try (var statement = connection.prepareStatement(createRowLockQuery)) {
             statement.setString(1, objectId);
             statement.setTimestamp(2, Timestamp.from(timestamp));
@@ -131,13 +285,13 @@ public class DbObjectLock implements ObjectLock {
         } catch (SQLException e) {
             if (duplicateStateCode.equals(e.getSQLState())) {
                 // this happens when there is already a lock entry for the object, but the lock could be expired
-                return updateLockRow(objectId, timestamp, connection);
+                return updateLockRow(connection, objectId, timestamp);
             }
-            throw e;
+            throw new OcflDbException(e);
         }
     }
 
-    private boolean updateLockRow(String objectId, Instant timestamp, Connection connection) throws SQLException {
+    private boolean updateLockRow(Connection connection, String objectId, Instant timestamp) {
         try (var statement = connection.prepareStatement(updateRowLockQuery)) {
             var expired = timestamp.minus(lockDuration);
             statement.setTimestamp(1, Timestamp.from(timestamp));
@@ -147,6 +301,100 @@ public class DbObjectLock implements ObjectLock {
             var updateCount = statement.executeUpdate();
 
             return updateCount == 1;
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    private Connection getConnection() {
+        try {
+            return ConnectionBinder.getConnection(dataSource);
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    private void closeConnection(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOG.warn("Failed to close connection", e);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(Lease lease) {
+        var intervalMillis = renewInterval.toMillis();
+        if (intervalMillis <= 0) {
+            return null;
+        }
+        return renewalExecutor()
+                .scheduleWithFixedDelay(() -> renewLease(lease), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewLease(Lease lease) {
+        synchronized (lease) {
+            if (lease.released || lease.lost) {
+                return;
+            }
+
+            var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+            if (!now.isAfter(lease.timestamp)) {
+                return;
+            }
+
+            // Renewals run on the renewal thread, so they never use the connection bound to the lock holder's thread
+            try (var connection = dataSource.getConnection();
+                    var statement = connection.prepareStatement(renewRowLockQuery)) {
+                statement.setTimestamp(1, Timestamp.from(now));
+                statement.setString(2, lease.objectId);
+                statement.setTimestamp(3, Timestamp.from(lease.timestamp));
+
+                if (statement.executeUpdate() == 1) {
+                    lease.timestamp = now;
+                    stats.recordLeaseRenewed();
+                } else {
+                    lease.lost = true;
+                    stats.recordLeaseLost();
+                    LOG.error(
+                            "Lock on object {} expired and was acquired by another process before it could be renewed",
+                            lease.objectId);
+                }
+            } catch (Exception e) {
+                // The lease is still valid until it expires, so it's retried on the next interval
+                LOG.warn("Failed to renew lock on object {}", lease.objectId, e);
+            }
+        }
+    }
+
+    private ScheduledExecutorService renewalExecutor() {
+        var executor = renewalExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = renewalExecutor;
+                if (executor == null) {
+                    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        var thread = new Thread(runnable, "ocfl-lock-renewal-" + tableName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    renewalExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private long backoffMillis(int attempt) {
+        var max = Math.min(MAX_BACKOFF_MILLIS, MIN_BACKOFF_MILLIS << Math.min(attempt, 16));
+        return ThreadLocalRandom.current().nextLong(MIN_BACKOFF_MILLIS, max + 1);
+    }
+
+    private void sleep(String objectId, long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockException("Interrupted while waiting for lock on object " + objectId);
         }
     }
 
@@ -154,14 +402,40 @@ public class DbObjectLock implements ObjectLock {
         return new LockException("Failed to acquire lock for object " + objectId);
     }
 
-    private void releaseLock(String objectId, Instant timestamp) {
-        try (var connection = dataSource.getConnection();
-                var statement = connection.prepareStatement(deleteRowLockQuery)) {
-            statement.setString(1, objectId);
-            statement.setTimestamp(2, Timestamp.from(timestamp));
-            statement.executeUpdate();
-        } catch (SQLException e) {
-            LOG.error("Failed to release lock on object {}", objectId, e);
+    private void releaseLock(Lease lease) {
+        synchronized (lease) {
+            lease.released = true;
+
+            try (var connection = ConnectionBinder.getConnection(dataSource);
+                    var statement = connection.prepareStatement(deleteRowLockQuery)) {
+                statement.setString(1, lease.objectId);
+                statement.setTimestamp(2, Timestamp.from(lease.timestamp));
+
+                // The row is only missing if the lock expired and another process acquired it
+                if (statement.executeUpdate() == 0 && !lease.lost) {
+                    lease.lost = true;
+                    stats.recordLeaseLost();
+                    LOG.error(
+                            "Lock on object {} was acquired by another process before it was released", lease.objectId);
+                }
+            } catch (SQLException e) {
+                LOG.error("Failed to release lock on object {}", lease.objectId, e);
+            }
+        }
+    }
+
+    private static class Lease {
+        final String objectId;
+        // Only set when connection sharing is enabled
+        final Connection connection;
+        Instant timestamp;
+        boolean released;
+        boolean lost;
+
+        Lease(String objectId, Instant timestamp, Connection connection) {
+            this.objectId = objectId;
+            this.timestamp = timestamp;
+            this.connection = connection;
         }
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.lock;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals describing how an {@link ObjectLock} has been used. This is intended to be polled and exported to
+ * a monitoring system. All counts are cumulative since the lock was created.
+ */
+public class LockStats {
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder leasesRenewed = new LongAdder();
+    private final LongAdder leasesLost = new LongAdder();
+
+    /**
+     * @return the number of times a lock was acquired
+     */
+    public long getAcquiredCount() {
+        return acquired.sum();
+    }
+
+    /**
+     * @return the number of lock requests, successful or not, that found the lock held by another process
+     */
+    public long getContendedCount() {
+        return contended.sum();
+    }
+
+    /**
+     * @return the number of lock requests that failed because the lock could not be acquired within the wait time
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the total amount of time spent waiting to acquire locks, including requests that failed
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(waitNanos.sum());
+    }
+
+    /**
+     * @return the number of times a held lock's lease was renewed
+     */
+    public long getLeasesRenewedCount() {
+        return leasesRenewed.sum();
+    }
+
+    /**
+     * @return the number of times a held lock's lease could not be renewed because it was acquired by another process
+     */
+    public long getLeasesLostCount() {
+        return leasesLost.sum();
+    }
+
+    void recordAcquired(long waitNanos, boolean contended) {
+        this.acquired.increment();
+        recordWait(waitNanos, contended);
+    }
+
+    void recordFailed(long waitNanos) {
+        this.failed.increment();
+        recordWait(waitNanos, true);
+    }
+
+    void recordLeaseRenewed() {
+        leasesRenewed.increment();
+    }
+
+    void recordLeaseLost() {
+        leasesLost.increment();
+    }
+
+    private void recordWait(long waitNanos, boolean contended) {
+        this.waitNanos.add(waitNanos);
+        if (contended) {
+            this.contended.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LockStats{" + "acquired="
+                + getAcquiredCount() + ", contended="
+                + getContendedCount() + ", failed="
+                + getFailedCount() + ", totalWaitTime="
+                + getTotalWaitTime() + ", leasesRenewed="
+                + getLeasesRenewedCount() + ", leasesLost="
+                + getLeasesLostCount() + '}';
+    }
+}
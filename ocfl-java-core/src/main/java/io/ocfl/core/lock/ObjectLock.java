@@ -51,4 +51,12 @@ public interface ObjectLock {
      * @return object
      */
     <T> T doInWriteLock(String objectId, Callable<T> doInLock);
+
+    /**
+     * Releases any resources, such as background threads, that the lock holds. This is called when the repository that
+     * uses the lock is closed.
+     */
+    default void close() {
+        // no op
+    }
 }
@@ -24,6 +24,7 @@
 
 package io.ocfl.core.lock;
 
+import io.ocfl.api.exception.OcflJavaException;
 import io.ocfl.api.util.Enforce;
 import io.ocfl.core.db.DbType;
 import io.ocfl.core.db.TableCreator;
@@ -43,18 +44,20 @@ public class ObjectLockBuilder {
     private DataSource dataSource;
     private String tableName;
     private Duration maxLockDuration;
+    private boolean advisoryLock;
+    private boolean renewLeases;
+    private boolean shareConnection;
 
     public ObjectLockBuilder() {
         waitTime = 10;
         timeUnit = TimeUnit.SECONDS;
         maxLockDuration = Duration.ofHours(1);
+        renewLeases = true;
     }
 
     /**
      * Used to override the amount of time the client will wait to obtain an object lock. Default: 10 seconds.
      *
-     * <p>This only applies to in-memory locks
-     *
      * @param waitTime wait time
      * @param timeUnit unit of time
      * @return builder
@@ -92,8 +95,8 @@ public class ObjectLockBuilder {
      * Default: 1 hour
      *
      * <p>This only applies for database locks, and is used to avoid permanently locking an object if the process
-     * that acquired the lock dies without releasing the lock. This duration should be fairly generous to allow
-     * sufficient time for slow S3 writes.
+     * that acquired the lock dies without releasing the lock. Held locks are renewed every third of this duration, so
+     * it does not need to cover the time it takes to complete slow S3 writes unless lease renewal is disabled.
      *
      * @param maxLockDuration the maximum amount of time a lock may be held for
      * @return builder
@@ -103,6 +106,56 @@ public class ObjectLockBuilder {
         return this;
     }
 
+    /**
+     * Sets whether database locks should periodically renew their lease while they are held. Default: true
+     *
+     * <p>When enabled, a held lock is renewed every third of the max lock duration, and is only able to expire if
+     * the process that holds it stops renewing it. When disabled, locks expire after the max lock duration regardless
+     * of whether they are still in use.
+     *
+     * @param renewLeases true if held locks should be renewed
+     * @return builder
+     */
+    public ObjectLockBuilder renewLeases(boolean renewLeases) {
+        this.renewLeases = renewLeases;
+        return this;
+    }
+
+    /**
+     * Sets whether a PostgreSQL advisory lock should be used instead of a table based DB lock. Default: false
+     *
+     * <p>Advisory locks do not write to any table, wait up to the configured wait time to be acquired, and are
+     * automatically released if the process that holds them dies. However, a database connection is held for the
+     * entire time a lock is held, including while waiting for it, so the DataSource's pool must allow one connection
+     * per concurrent writer in addition to the connections that the object details database uses. The connection is
+     * not left idle in a transaction. This may only be enabled when the DataSource is a PostgreSQL database.
+     *
+     * @param advisoryLock true if a PostgreSQL advisory lock should be used
+     * @return builder
+     * @see PostgresAdvisoryObjectLock
+     */
+    public ObjectLockBuilder advisoryLock(boolean advisoryLock) {
+        this.advisoryLock = advisoryLock;
+        return this;
+    }
+
+    /**
+     * Sets whether a table based DB lock should use a single connection to acquire the lock, execute the code in the
+     * lock, and release the lock. Default: false
+     *
+     * <p>When enabled, the connection is shared with the object details database if it is configured with the same
+     * DataSource instance, so that an object update only checks out one connection rather than one for each lock and
+     * details operation. The connection is held for the entire time a lock is held, but is returned to the pool between
+     * attempts while waiting for a lock that's held by another process. This does not apply to advisory locks.
+     *
+     * @param shareConnection true if the lock's connection should be shared
+     * @return builder
+     */
+    public ObjectLockBuilder shareConnection(boolean shareConnection) {
+        this.shareConnection = shareConnection;
+        return this;
+    }
+
     /**
      * Constructs a new {@link ObjectLock}. If a DataSource was set, then a DB lock is created; otherwise, an in-memory
      * lock is used.
@@ -123,7 +176,23 @@ public class ObjectLockBuilder {
         var resolvedTableName = tableName == null ? DEFAULT_TABLE_NAME : tableName;
 
         var dbType = DbType.fromDataSource(dataSource);
-        var lock = new DbObjectLock(dbType, resolvedTableName, dataSource, maxLockDuration);
+
+        if (advisoryLock) {
+            if (dbType != DbType.POSTGRES) {
+                throw new OcflJavaException(
+                        String.format("Advisory locks are only supported on PostgreSQL. Found: %s", dbType));
+            }
+            return new PostgresAdvisoryObjectLock(dataSource, waitTime, timeUnit);
+        }
+
+        var lock = new DbObjectLock(
+                dbType,
+                resolvedTableName,
+                dataSource,
+                maxLockDuration,
+                Duration.ofMillis(timeUnit.toMillis(waitTime)),
+                renewLeases,
+                shareConnection);
 
         new TableCreator(dbType, dataSource).createObjectLockTable(resolvedTableName);
 
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.lock;
+
+import com.google.common.hash.Hashing;
+import io.ocfl.api.exception.LockException;
+import io.ocfl.api.exception.OcflDbException;
+import io.ocfl.api.exception.OcflJavaException;
+import io.ocfl.api.util.Enforce;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lock implementation that uses PostgreSQL session level advisory locks to lock a resource. Unlike
+ * {@link DbObjectLock}, no table is written to. Object ids are hashed to 64-bit lock keys. The lock is explicitly
+ * released when the locked code block completes, and PostgreSQL releases it if the connection is lost, so there is no
+ * need for locks to expire.
+ *
+ * <p>Acquiring a lock waits, in the order the lock was requested, for up to the configured wait time. Session level
+ * locks are used so that the connection is not left idle in a transaction while the locked code runs. However, an
+ * advisory lock belongs to the session that acquired it, so a database connection is held for the entire time a lock
+ * is held. The connection pool must be sized for one connection per concurrent writer, in addition to the connections
+ * used by the object details database. Distinct object ids that happen to hash to the same key contend for the same
+ * lock.
+ */
+public class PostgresAdvisoryObjectLock implements ObjectLock {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresAdvisoryObjectLock.class);
+
+    private static final String LOCK_FAIL_STATE = "55P03";
+
+    private static final String LOCK_QUERY = "SELECT pg_advisory_lock(?)";
+    private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+
+    private final DataSource dataSource;
+    private final long waitMillis;
+
+    /**
+     * @param dataSource the PostgreSQL DataSource to acquire locks through
+     * @param waitTime how long to wait for the lock
+     * @param timeUnit unit of wait time
+     */
+    public PostgresAdvisoryObjectLock(DataSource dataSource, long waitTime, TimeUnit timeUnit) {
+        this.dataSource = Enforce.notNull(dataSource, "dataSource cannot be null");
+        Enforce.expressionTrue(waitTime > 0, waitTime, "waitTime must be greater than 0");
+        this.waitMillis = Enforce.notNull(timeUnit, "timeUnit cannot be null").toMillis(waitTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void doInWriteLock(String objectId, Runnable doInLock) {
+        doInWriteLock(objectId, () -> {
+            doInLock.run();
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T doInWriteLock(String objectId, Callable<T> doInLock) {
+        try (var connection = dataSource.getConnection()) {
+            acquireLock(objectId, connection);
+
+            try {
+                return doInLock.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new OcflJavaException(e);
+            } finally {
+                releaseLock(objectId, connection);
+            }
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    /**
+     * Computes the 64-bit advisory lock key for an object id
+     *
+     * @param objectId the object id
+     * @return the lock key
+     */
+    static long lockKey(String objectId) {
+        return Hashing.murmur3_128()
+                .hashString(objectId, StandardCharsets.UTF_8)
+                .asLong();
+    }
+
+    private void acquireLock(String objectId, Connection connection) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(String.format("SET lock_timeout = %s", waitMillis));
+        }
+
+        try (var statement = connection.prepareStatement(LOCK_QUERY)) {
+            statement.setLong(1, lockKey(objectId));
+            statement.execute();
+        } catch (SQLException e) {
+            if (LOCK_FAIL_STATE.equals(e.getSQLState())) {
+                var lockException = new LockException("Failed to acquire lock for object " + objectId);
+                resetLockTimeout(connection, lockException);
+                throw lockException;
+            }
+            resetLockTimeout(connection, e);
+            throw e;
+        }
+
+        resetLockTimeout(connection, null);
+    }
+
+    /**
+     * Resets the session's lock timeout. If the reset fails, the connection is aborted so that neither the timeout nor
+     * an acquired lock outlive it, and the failure is added to the acquisition's failure, if there was one, rather
+     * than replacing it.
+     */
+    private void resetLockTimeout(Connection connection, Exception acquireFailure) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("RESET lock_timeout");
+        } catch (SQLException e) {
+            abort(connection);
+            if (acquireFailure == null) {
+                throw e;
+            }
+            acquireFailure.addSuppressed(e);
+        }
+    }
+
+    private void releaseLock(String objectId, Connection connection) {
+        try (var statement = connection.prepareStatement(UNLOCK_QUERY)) {
+            statement.setLong(1, lockKey(objectId));
+            try (var rs = statement.executeQuery()) {
+                if (rs.next() && !rs.getBoolean(1)) {
+                    LOG.warn("Lock on object {} was not held when it was released", objectId);
+                }
+            }
+        } catch (SQLException e) {
+            // A session level lock outlives the block if it's not unlocked, so the connection must not be reused
+            LOG.error("Failed to release lock on object {}", objectId, e);
+            abort(connection);
+        }
+    }
+
+    private void abort(Connection connection) {
+        try {
+            connection.abort(Runnable::run);
+        } catch (SQLException e) {
+            LOG.warn("Failed to abort connection", e);
+        }
+    }
+}
@@ -31,9 +31,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.ocfl.api.util.Enforce;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * OCFL version object. A Version describes the state of an object at a particular point in time. Versions are immutable.
@@ -50,6 +53,9 @@ public class Version {
     @JsonIgnore
     private final PathBiMap stateBiMap;
 
+    @JsonIgnore
+    private volatile NavigableMap<String, String> sortedPaths;
+
     public static VersionBuilder builder() {
         return new VersionBuilder();
     }
@@ -133,6 +139,31 @@ public class Version {
         return stateBiMap.getPaths(fileId);
     }
 
+    /**
+     * Returns the logical paths in the version that start with the prefix, mapped to their file ids, in sorted order.
+     * The sorted index is built the first time it's needed, after which a lookup only visits the matching paths. Its
+     * footprint is included in the size that {@link io.ocfl.core.cache.InventoryWeigher} estimates for cached inventories.
+     *
+     * @param prefix logical path prefix, may be empty
+     * @return immutable sorted logical path =&gt; file id map
+     */
+    public NavigableMap<String, String> getPathsWithPrefix(String prefix) {
+        var index = sortedPathIndex();
+        if (prefix.isEmpty()) {
+            return index;
+        }
+        return index.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private NavigableMap<String, String> sortedPathIndex() {
+        var index = sortedPaths;
+        if (index == null) {
+            index = Collections.unmodifiableNavigableMap(new TreeMap<>(stateBiMap.getPathToFileId()));
+            sortedPaths = index;
+        }
+        return index;
+    }
+
     @Override
     public String toString() {
         return "Version{" + "created="
@@ -26,29 +26,61 @@ package io.ocfl.core.storage;
 
 import io.ocfl.api.OcflFileRetriever;
 import io.ocfl.api.exception.ObjectOutOfSyncException;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflVersion;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.api.model.VersionNum;
 import io.ocfl.api.util.Enforce;
+import io.ocfl.core.archive.ArchiveWriter;
 import io.ocfl.core.cache.Cache;
+import io.ocfl.core.cache.NoOpCache;
 import io.ocfl.core.extension.OcflExtensionConfig;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.util.SingleFlight;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Stream;
 
 /**
  * Adds an Inventory caching layer on top of an OcflStorage implementation.
+ *
+ * <p>The ids of objects that were not found in storage may also be cached, so that repeated existence checks for
+ * objects that do not exist do not go to storage. Objects that are written through this instance are removed from the
+ * missing object cache, but objects that are created by other processes are not seen until their entries expire.
+ * Concurrent lookups of the same object that miss the caches are coalesced into a single storage request.
  */
 public class CachingOcflStorage extends AbstractOcflStorage {
 
+    private static final int WRITE_STAMP_STRIPES = 256;
+
     private final Cache<String, Inventory> inventoryCache;
+    private final Cache<String, Boolean> missingObjectCache;
     private final OcflStorage delegate;
 
+    // Only used when the inventory cache does not already coalesce concurrent loads of the same object
+    private final SingleFlight<String, Inventory> inventoryLoads;
+    private final SingleFlight<String, Boolean> existenceChecks;
+    // Incremented when an object is written, so that lookups that raced with the write do not cache the object as
+    // missing
+    private final AtomicLongArray writeStamps;
+
     public CachingOcflStorage(Cache<String, Inventory> inventoryCache, OcflStorage delegate) {
+        this(inventoryCache, new NoOpCache<>(), delegate);
+    }
+
+    public CachingOcflStorage(
+            Cache<String, Inventory> inventoryCache, Cache<String, Boolean> missingObjectCache, OcflStorage delegate) {
         this.inventoryCache = Enforce.notNull(inventoryCache, "inventoryCache cannot be null");
+        this.missingObjectCache = Enforce.notNull(missingObjectCache, "missingObjectCache cannot be null");
         this.delegate = Enforce.notNull(delegate, "delegate cannot be null");
+        this.inventoryLoads = inventoryCache instanceof NoOpCache ? new SingleFlight<>() : null;
+        this.existenceChecks = new SingleFlight<>();
+        this.writeStamps = new AtomicLongArray(WRITE_STAMP_STRIPES);
     }
 
     /**
@@ -60,7 +92,8 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     }
 
     /**
-     * If the inventory is cached, it's returned immediately. Otherwise, it's fetched from the delegate storage.
+     * If the inventory is cached, it's returned immediately. If the object is cached as missing, null is returned.
+     * Otherwise, it's fetched from the delegate storage.
      *
      * @param objectId the id of the object to load
      * @return inventory
@@ -69,7 +102,44 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     public Inventory loadInventory(String objectId) {
         ensureOpen();
 
-        return inventoryCache.get(objectId, delegate::loadInventory);
+        if (missingObjectCache.contains(objectId)) {
+            return null;
+        }
+
+        return inventoryCache.get(objectId, this::loadInventoryFromDelegate);
+    }
+
+    /**
+     * Returns cached inventories immediately, and loads all of the inventories that are not cached from the delegate
+     * storage in a single call. The newly loaded inventories are added to the cache.
+     *
+     * @param objectIds the ids of the objects to load
+     * @return map of object id to inventory
+     */
+    @Override
+    public Map<String, Inventory> loadInventories(Collection<String> objectIds) {
+        ensureOpen();
+
+        var candidates = new ArrayList<String>();
+        objectIds.forEach(objectId -> {
+            if (!missingObjectCache.contains(objectId)) {
+                candidates.add(objectId);
+            }
+        });
+
+        var misses = new HashMap<String, Long>();
+        var inventories = inventoryCache.getAll(candidates, missingIds -> {
+            missingIds.forEach(objectId -> misses.put(objectId, writeStamp(objectId)));
+            return delegate.loadInventories(missingIds);
+        });
+
+        misses.forEach((objectId, stamp) -> {
+            if (!inventories.containsKey(objectId)) {
+                cacheMissing(objectId, stamp);
+            }
+        });
+
+        return inventories;
     }
 
     /**
@@ -89,17 +159,88 @@ public class CachingOcflStorage extends AbstractOcflStorage {
      */
     @Override
     public void storeNewVersion(Inventory inventory, Path stagingDir, boolean upgradeOcflVersion) {
+        storeNewVersion(inventory, stagingDir, Map.of(), upgradeOcflVersion);
+    }
+
+    /**
+     * Stores a new version of an object and writes the inventory to the cache.
+     *
+     * @param inventory the updated object inventory
+     * @param stagingDir the directory that contains the composed contents of the new object version
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     */
+    @Override
+    public void storeNewVersion(
+            Inventory inventory, Path stagingDir, Map<String, String> stagedContent, boolean upgradeOcflVersion) {
         ensureOpen();
 
         try {
-            delegate.storeNewVersion(inventory, stagingDir, upgradeOcflVersion);
+            delegate.storeNewVersion(inventory, stagingDir, stagedContent, upgradeOcflVersion);
             inventoryCache.put(inventory.getId(), inventory);
         } catch (ObjectOutOfSyncException e) {
             inventoryCache.invalidate(inventory.getId());
             throw e;
+        } finally {
+            objectWritten(inventory.getId());
         }
     }
 
+    /**
+     * Stores a new version of an object that's staged in memory and writes the inventory to the cache.
+     *
+     * @param inventory the updated object inventory, including its inventory digest
+     * @param inventoryBytes the serialized inventory
+     * @param content map of content paths, relative the object root, to file contents
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     */
+    @Override
+    public void storeNewVersionFromMemory(
+            Inventory inventory,
+            byte[] inventoryBytes,
+            Map<String, byte[]> content,
+            Map<String, String> stagedContent,
+            boolean upgradeOcflVersion) {
+        ensureOpen();
+
+        try {
+            delegate.storeNewVersionFromMemory(inventory, inventoryBytes, content, stagedContent, upgradeOcflVersion);
+            inventoryCache.put(inventory.getId(), inventory);
+        } catch (ObjectOutOfSyncException e) {
+            inventoryCache.invalidate(inventory.getId());
+            throw e;
+        } finally {
+            objectWritten(inventory.getId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamStager streamStager() {
+        return delegate.streamStager();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsStagedContent() {
+        return delegate.supportsStagedContent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path localStorageRoot() {
+        return delegate.localStorageRoot();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +251,16 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         return delegate.getObjectStreams(inventory, versionNum);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflFileRetriever getFileRetriever(Inventory inventory, String fileId) {
+        ensureOpen();
+
+        return delegate.getFileRetriever(inventory, fileId);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -120,6 +271,37 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         delegate.reconstructObjectVersion(inventory, versionNum, stagingDir);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reconstructObjectVersion(
+            Inventory inventory, VersionNum versionNum, LogicalPathFilter filter, Path stagingDir) {
+        ensureOpen();
+
+        delegate.reconstructObjectVersion(inventory, versionNum, filter, stagingDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeVersionArchive(Inventory inventory, VersionNum versionNum, ArchiveWriter archiveWriter) {
+        ensureOpen();
+
+        delegate.writeVersionArchive(inventory, versionNum, archiveWriter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeObjectArchive(Inventory inventory, ArchiveWriter archiveWriter) {
+        ensureOpen();
+
+        delegate.writeObjectArchive(inventory, archiveWriter);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -131,6 +313,7 @@ public class CachingOcflStorage extends AbstractOcflStorage {
             delegate.purgeObject(objectId);
         } finally {
             inventoryCache.invalidate(objectId);
+            objectWritten(objectId);
         }
     }
 
@@ -147,6 +330,8 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         } catch (ObjectOutOfSyncException e) {
             inventoryCache.invalidate(newInventory.getId());
             throw e;
+        } finally {
+            objectWritten(newInventory.getId());
         }
     }
 
@@ -164,6 +349,20 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollbackNewVersion(Inventory inventory) {
+        ensureOpen();
+
+        try {
+            delegate.rollbackNewVersion(inventory);
+        } finally {
+            inventoryCache.invalidate(inventory.getId());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -179,7 +378,11 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     }
 
     /**
-     * {@inheritDoc}
+     * Returns true immediately if the object's inventory is cached, and false if the object is cached as missing.
+     * Otherwise, the delegate storage is checked, and the object is cached as missing if it does not exist.
+     *
+     * @param objectId the id of the object
+     * @return true if the object exists
      */
     @Override
     public boolean containsObject(String objectId) {
@@ -188,8 +391,19 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         if (inventoryCache.contains(objectId)) {
             return true;
         }
+        if (missingObjectCache.contains(objectId)) {
+            return false;
+        }
+
+        var stamp = writeStamp(objectId);
 
-        return delegate.containsObject(objectId);
+        return existenceChecks.execute(objectId, stamp, () -> {
+            var exists = delegate.containsObject(objectId);
+            if (!exists) {
+                cacheMissing(objectId, stamp);
+            }
+            return exists;
+        });
     }
 
     /**
@@ -232,6 +446,16 @@ public class CachingOcflStorage extends AbstractOcflStorage {
         delegate.exportObject(objectId, outputPath);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResults exportAndValidateObject(Inventory inventory, Path outputPath) {
+        ensureOpen();
+
+        return delegate.exportAndValidateObject(inventory, outputPath);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -239,7 +463,19 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     public void importObject(String objectId, Path objectPath) {
         ensureOpen();
 
-        delegate.importObject(objectId, objectPath);
+        try {
+            delegate.importObject(objectId, objectPath);
+        } finally {
+            objectWritten(objectId);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean importObjectRetainsSource() {
+        return delegate.importObjectRetainsSource();
     }
 
     /**
@@ -266,6 +502,7 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     @Override
     public void invalidateCache(String objectId) {
         inventoryCache.invalidate(objectId);
+        missingObjectCache.invalidate(objectId);
         delegate.invalidateCache(objectId);
     }
 
@@ -275,6 +512,51 @@ public class CachingOcflStorage extends AbstractOcflStorage {
     @Override
     public void invalidateCache() {
         inventoryCache.invalidateAll();
+        missingObjectCache.invalidateAll();
         delegate.invalidateCache();
     }
+
+    private Inventory loadInventoryFromDelegate(String objectId) {
+        var stamp = writeStamp(objectId);
+
+        if (inventoryLoads == null) {
+            return loadInventoryFromDelegate(objectId, stamp);
+        }
+
+        return inventoryLoads.execute(objectId, stamp, () -> loadInventoryFromDelegate(objectId, stamp));
+    }
+
+    private Inventory loadInventoryFromDelegate(String objectId, long stamp) {
+        var inventory = delegate.loadInventory(objectId);
+        if (inventory == null) {
+            cacheMissing(objectId, stamp);
+        }
+        return inventory;
+    }
+
+    /**
+     * Caches the object as missing, provided that it has not been written since the stamp was taken.
+     */
+    private void cacheMissing(String objectId, long stamp) {
+        if (writeStamp(objectId) == stamp) {
+            missingObjectCache.put(objectId, Boolean.TRUE);
+            // the object may have been written between the check and the put
+            if (writeStamp(objectId) != stamp) {
+                missingObjectCache.invalidate(objectId);
+            }
+        }
+    }
+
+    private void objectWritten(String objectId) {
+        writeStamps.incrementAndGet(stripe(objectId));
+        missingObjectCache.invalidate(objectId);
+    }
+
+    private long writeStamp(String objectId) {
+        return writeStamps.get(stripe(objectId));
+    }
+
+    private int stripe(String objectId) {
+        return Math.floorMod(objectId.hashCode(), WRITE_STAMP_STRIPES);
+    }
 }
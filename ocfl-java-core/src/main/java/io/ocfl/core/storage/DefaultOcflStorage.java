@@ -40,12 +40,14 @@ import io.ocfl.api.exception.OcflNoSuchFileException;
 import io.ocfl.api.exception.OcflStateException;
 import io.ocfl.api.io.FixityCheckInputStream;
 import io.ocfl.api.model.DigestAlgorithm;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflVersion;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.api.model.VersionNum;
 import io.ocfl.api.util.Enforce;
 import io.ocfl.core.ObjectPaths;
+import io.ocfl.core.archive.ArchiveWriter;
 import io.ocfl.core.extension.OcflExtensionConfig;
 import io.ocfl.core.extension.storage.layout.OcflStorageLayoutExtension;
 import io.ocfl.core.inventory.SidecarMapper;
@@ -53,30 +55,45 @@ import io.ocfl.core.model.Inventory;
 import io.ocfl.core.model.RevisionNum;
 import io.ocfl.core.path.constraint.LogicalPathConstraints;
 import io.ocfl.core.path.constraint.PathConstraintProcessor;
+import io.ocfl.core.storage.common.CopyOnReadStorage;
 import io.ocfl.core.storage.common.Listing;
 import io.ocfl.core.storage.common.ObjectProperties;
 import io.ocfl.core.storage.common.Storage;
+import io.ocfl.core.util.ExecutorUtil;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.FutureUtil;
 import io.ocfl.core.util.NamasteTypeFile;
 import io.ocfl.core.util.UncheckedFiles;
 import io.ocfl.core.validation.Validator;
+import io.ocfl.core.validation.state.ValidationStateStore;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -92,16 +109,47 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultOcflStorage.class);
 
     private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern VERSION_DIR = Pattern.compile("v\\d+");
 
     private static final String MEDIA_TYPE_TEXT = "text/plain; charset=UTF-8";
     private static final String MEDIA_TYPE_JSON = "application/json; charset=UTF-8";
 
+    /**
+     * The name of the storage root extension directory that ocfl-java keeps its working files in
+     */
+    public static final String STORAGE_ROOT_WORK_EXT_NAME = "ocfl-java-work";
+
+    /**
+     * The directory, relative the storage root, that versions are assembled in when the work directory is located
+     * within the storage root. It is under the storage root's extensions directory so that it is never mistaken for
+     * part of an object.
+     */
+    public static final String STORAGE_ROOT_WORK_DIR = OcflConstants.EXTENSIONS_DIR + "/" + STORAGE_ROOT_WORK_EXT_NAME;
+
+    /**
+     * The directory, relative the storage root, that streamed content is staged in when stream staging is enabled
+     */
+    public static final String STREAM_STAGING_DIR = STORAGE_ROOT_WORK_DIR + "/stream-staging";
+
+    /**
+     * Staged streams that are older than this when the storage is initialized were orphaned by a process that did not
+     * finish its update, and are deleted
+     */
+    static final Duration STALE_STAGED_STREAM_AGE = Duration.ofDays(1);
+
     private final PathConstraintProcessor logicalPathConstraints;
     private final Storage storage;
     private final OcflStorageInitializer initializer;
     private OcflStorageLayoutExtension storageLayoutExtension;
     private final Validator validator;
+    private final int validationParallelism;
+    private final int reconstructionParallelism;
+    // Long-lived pools that are shared by all validations and reconstructions, and are shut down when closed
+    private final ExecutorService validationExecutor;
+    private final ExecutorService reconstructionExecutor;
+    private final ValidationStateStore validationStateStore;
     private final boolean verifyInventoryDigest;
+    private final StreamStager streamStager;
 
     /**
      * This retry policy is used for retrying failed inventory installs
@@ -129,11 +177,111 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
      * @param initializer initializes a new OCFL repo
      */
     public DefaultOcflStorage(Storage storage, boolean verifyInventoryDigest, OcflStorageInitializer initializer) {
+        this(storage, verifyInventoryDigest, initializer, false);
+    }
+
+    /**
+     * Creates a new DefaultOcflStorage object.
+     *
+     * <p>{@link #initializeStorage} must be called before using this object.
+     *
+     * @see OcflStorageBuilder
+     *
+     * @param storage the abstraction over the underlying storage system that contains the OCFL repository
+     * @param verifyInventoryDigest true if inventory digests should be verified on read
+     * @param initializer initializes a new OCFL repo
+     * @param streamStaging true if streamed content should be staged directly in storage under
+     *                      {@link #STREAM_STAGING_DIR}
+     */
+    public DefaultOcflStorage(
+            Storage storage, boolean verifyInventoryDigest, OcflStorageInitializer initializer, boolean streamStaging) {
+        this(storage, verifyInventoryDigest, initializer, streamStaging, null, null, 1);
+    }
+
+    /**
+     * Creates a new DefaultOcflStorage object.
+     *
+     * <p>{@link #initializeStorage} must be called before using this object.
+     *
+     * @see OcflStorageBuilder
+     *
+     * @param storage the abstraction over the underlying storage system that contains the OCFL repository
+     * @param verifyInventoryDigest true if inventory digests should be verified on read
+     * @param initializer initializes a new OCFL repo
+     * @param streamStaging true if streamed content should be staged directly in storage under
+     *                      {@link #STREAM_STAGING_DIR}
+     * @param validationStateStore where validation state is stored for incremental validation, may be null
+     * @param maxValidationStateAge the maximum amount of time between full validations when incremental validation is
+     *                              enabled
+     * @param validationParallelism the maximum number of version inventories of an object to validate concurrently
+     */
+    public DefaultOcflStorage(
+            Storage storage,
+            boolean verifyInventoryDigest,
+            OcflStorageInitializer initializer,
+            boolean streamStaging,
+            ValidationStateStore validationStateStore,
+            Duration maxValidationStateAge,
+            int validationParallelism) {
+        this(
+                storage,
+                verifyInventoryDigest,
+                initializer,
+                streamStaging,
+                validationStateStore,
+                maxValidationStateAge,
+                validationParallelism,
+                1);
+    }
+
+    /**
+     * Creates a new DefaultOcflStorage object.
+     *
+     * <p>{@link #initializeStorage} must be called before using this object.
+     *
+     * @see OcflStorageBuilder
+     *
+     * @param storage the abstraction over the underlying storage system that contains the OCFL repository
+     * @param verifyInventoryDigest true if inventory digests should be verified on read
+     * @param initializer initializes a new OCFL repo
+     * @param streamStaging true if streamed content should be staged directly in storage under
+     *                      {@link #STREAM_STAGING_DIR}
+     * @param validationStateStore where validation state is stored for incremental validation, may be null
+     * @param maxValidationStateAge the maximum amount of time between full validations when incremental validation is
+     *                              enabled
+     * @param validationParallelism the maximum number of version inventories of an object to validate concurrently
+     * @param reconstructionParallelism the maximum number of files to copy concurrently when reconstructing an object
+     *                                  version
+     */
+    public DefaultOcflStorage(
+            Storage storage,
+            boolean verifyInventoryDigest,
+            OcflStorageInitializer initializer,
+            boolean streamStaging,
+            ValidationStateStore validationStateStore,
+            Duration maxValidationStateAge,
+            int validationParallelism,
+            int reconstructionParallelism) {
         this.storage = Enforce.notNull(storage, "storage cannot be null");
         this.verifyInventoryDigest = verifyInventoryDigest;
         this.initializer = Enforce.notNull(initializer, "initializer cannot be null");
+        this.streamStager = streamStaging ? new StorageStreamStager() : null;
         this.logicalPathConstraints = LogicalPathConstraints.constraintsWithBackslashCheck();
-        this.validator = new Validator(storage);
+        this.validationStateStore = validationStateStore;
+        this.validationParallelism = Enforce.expressionTrue(
+                validationParallelism > 0, validationParallelism, "validationParallelism must be greater than 0");
+        this.reconstructionParallelism = Enforce.expressionTrue(
+                reconstructionParallelism > 0,
+                reconstructionParallelism,
+                "reconstructionParallelism must be greater than 0");
+        this.validationExecutor = validationParallelism > 1
+                ? ExecutorUtil.newDaemonPool(validationParallelism, "ocfl-validation-")
+                : null;
+        this.reconstructionExecutor = reconstructionParallelism > 1
+                ? ExecutorUtil.newDaemonPool(reconstructionParallelism, "ocfl-reconstruct-")
+                : null;
+        this.validator = new Validator(
+                storage, validationStateStore, maxValidationStateAge, validationParallelism, validationExecutor);
         this.invRetry = RetryPolicy.<Void>builder()
                 .handle(RuntimeException.class)
                 .withBackoff(10, 200, ChronoUnit.MILLIS, 1.5)
@@ -241,6 +389,15 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
      */
     @Override
     public void storeNewVersion(Inventory inventory, Path stagingDir, boolean upgradeOcflVersion) {
+        storeNewVersion(inventory, stagingDir, Map.of(), upgradeOcflVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storeNewVersion(
+            Inventory inventory, Path stagingDir, Map<String, String> stagedContent, boolean upgradeOcflVersion) {
         ensureOpen();
 
         LOG.debug(
@@ -251,12 +408,70 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
                 stagingDir);
 
         if (inventory.hasMutableHead()) {
+            if (!stagedContent.isEmpty()) {
+                throw new OcflStateException("Content that's staged in storage cannot be written to a mutable HEAD.");
+            }
             storeNewMutableHeadVersion(inventory, stagingDir);
         } else {
-            storeNewImmutableVersion(inventory, stagingDir, upgradeOcflVersion);
+            storeNewImmutableVersion(
+                    inventory,
+                    versionPath -> moveToVersionDirectory(inventory, stagingDir, versionPath),
+                    stagedContent,
+                    upgradeOcflVersion);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storeNewVersionFromMemory(
+            Inventory inventory,
+            byte[] inventoryBytes,
+            Map<String, byte[]> content,
+            Map<String, String> stagedContent,
+            boolean upgradeOcflVersion) {
+        ensureOpen();
+
+        LOG.debug("Store new version of object <{}> version <{}> from memory", inventory.getId(), inventory.getHead());
+
+        if (inventory.hasMutableHead()) {
+            throw new OcflStateException("Versions that are staged in memory cannot be written to a mutable HEAD.");
+        }
+
+        var versionFiles = versionFilesInMemory(inventory, inventoryBytes, content);
+
+        storeNewImmutableVersion(
+                inventory,
+                versionPath -> writeToVersionDirectory(inventory, versionFiles, versionPath),
+                stagedContent,
+                upgradeOcflVersion);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamStager streamStager() {
+        return streamStager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsStagedContent() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path localStorageRoot() {
+        return storage.localStorageRoot();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -281,41 +496,186 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         return map;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflFileRetriever getFileRetriever(Inventory inventory, String fileId) {
+        ensureOpen();
+
+        return storage.readLazy(inventory.storagePath(fileId), inventory.getDigestAlgorithm(), fileId);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void reconstructObjectVersion(Inventory inventory, VersionNum versionNum, Path stagingDir) {
+        reconstructObjectVersion(inventory, versionNum, LogicalPathFilter.all(), stagingDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reconstructObjectVersion(
+            Inventory inventory, VersionNum versionNum, LogicalPathFilter filter, Path stagingDir) {
+        ensureOpen();
+
+        LOG.debug(
+                "Reconstruct object <{}> version <{}> files matching {} in directory <{}>",
+                inventory.getId(),
+                versionNum,
+                filter,
+                stagingDir);
+
+        var version = inventory.ensureVersion(versionNum);
+        var files = new ArrayList<Map.Entry<String, String>>();
+
+        version.getPathsWithPrefix(filter.getPrefix()).entrySet().forEach(entry -> {
+            if (filter.test(entry.getKey())) {
+                files.add(entry);
+            }
+        });
+
+        if (reconstructionExecutor == null || files.size() < 2) {
+            files.forEach(entry -> reconstructFile(inventory, entry.getKey(), entry.getValue(), stagingDir));
+            return;
+        }
+
+        // Files that have not started copying are skipped after the first failure
+        var failed = new AtomicBoolean(false);
+        var futures = new ArrayList<CompletableFuture<Void>>(files.size());
+
+        for (var entry : files) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> {
+                        if (failed.get()) {
+                            return;
+                        }
+                        try {
+                            reconstructFile(inventory, entry.getKey(), entry.getValue(), stagingDir);
+                        } catch (RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    },
+                    reconstructionExecutor));
+        }
+
+        FutureUtil.joinAll(futures);
+    }
+
+    private void reconstructFile(Inventory inventory, String logicalPath, String id, Path stagingDir) {
+        logicalPathConstraints.apply(logicalPath);
+        var destination = Paths.get(FileUtil.pathJoinFailEmpty(stagingDir.toString(), logicalPath));
+
+        UncheckedFiles.createDirectories(destination.getParent());
+
+        try (var stream = new FixityCheckInputStream(
+                new BufferedInputStream(storage.read(inventory.storagePath(id))), inventory.getDigestAlgorithm(), id)) {
+            Files.copy(stream, destination);
+            stream.checkFixity();
+        } catch (FixityCheckException e) {
+            throw new FixityCheckException(
+                    String.format("File %s in object %s failed its fixity check.", logicalPath, inventory.getId()), e);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeVersionArchive(Inventory inventory, VersionNum versionNum, ArchiveWriter archiveWriter) {
         ensureOpen();
 
-        LOG.debug("Reconstruct object <{}> version <{}> in directory <{}>", inventory.getId(), versionNum, stagingDir);
+        LOG.debug("Write object <{}> version <{}> to archive", inventory.getId(), versionNum);
 
         var version = inventory.ensureVersion(versionNum);
-        var digestAlgorithm = inventory.getDigestAlgorithm();
+        var logicalPaths = new TreeMap<String, String>();
 
         version.getState().forEach((id, files) -> {
-            var srcPath = inventory.storagePath(id);
-
-            for (var logicalPath : files) {
-                logicalPathConstraints.apply(logicalPath);
-                var destination = Paths.get(FileUtil.pathJoinFailEmpty(stagingDir.toString(), logicalPath));
-
-                UncheckedFiles.createDirectories(destination.getParent());
-
-                try (var stream = new FixityCheckInputStream(
-                        new BufferedInputStream(storage.read(srcPath)), digestAlgorithm, id)) {
-                    Files.copy(stream, destination);
-                    stream.checkFixity();
-                } catch (FixityCheckException e) {
-                    throw new FixityCheckException(
-                            String.format(
-                                    "File %s in object %s failed its fixity check.", logicalPath, inventory.getId()),
-                            e);
+            files.forEach(logicalPath -> logicalPaths.put(logicalPath, id));
+        });
+
+        logicalPaths.forEach((logicalPath, id) -> {
+            writeArchiveFile(inventory, archiveWriter, inventory.storagePath(id), logicalPath, id);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeObjectArchive(Inventory inventory, ArchiveWriter archiveWriter) {
+        ensureOpen();
+
+        LOG.debug("Write object <{}> to archive", inventory.getId());
+
+        var objectRootPath = inventory.getObjectRootPath();
+        var listings = new ArrayList<>(storage.listRecursive(objectRootPath));
+        listings.sort(Comparator.comparing(Listing::getRelativePath));
+
+        // Version directories are immutable once written, so only the root inventory may change while the archive is
+        // written. The head version's identical copy of the inventory is used instead, and any newer versions are
+        // excluded, so that the archive matches the inventory. A mutable HEAD is exported under the object lock.
+        var snapshot = !inventory.hasMutableHead();
+        var versions = new HashSet<String>();
+        inventory.getVersions().keySet().forEach(versionNum -> versions.add(versionNum.toString()));
+
+        for (var listing : listings) {
+            var relativePath = listing.getRelativePath();
+            var storagePath = FileUtil.pathJoinFailEmpty(objectRootPath, relativePath);
+
+            if (snapshot) {
+                var firstPart = relativePath.split("/", 2)[0];
+                if (VERSION_DIR.matcher(firstPart).matches() && !versions.contains(firstPart)) {
+                    continue;
+                }
+                if (isRootInventoryFile(relativePath)) {
+                    storagePath = FileUtil.pathJoinFailEmpty(
+                            objectRootPath, inventory.getHead().toString(), relativePath);
+                }
+            }
+
+            if (listing.isDirectory()) {
+                try {
+                    archiveWriter.putDirectory(relativePath);
                 } catch (IOException e) {
                     throw OcflIOException.from(e);
                 }
+            } else if (listing.isFile()) {
+                // Files that are not in the manifest, such as inventories and extensions, are not fixity checked
+                writeArchiveFile(
+                        inventory, archiveWriter, storagePath, relativePath, inventory.getFileId(relativePath));
             }
-        });
+        }
+    }
+
+    private boolean isRootInventoryFile(String relativePath) {
+        return relativePath.equals(OcflConstants.INVENTORY_FILE)
+                || relativePath.startsWith(INVENTORY_SIDECAR_PREFIX) && !relativePath.contains("/");
+    }
+
+    private void writeArchiveFile(
+            Inventory inventory, ArchiveWriter archiveWriter, String storagePath, String archivePath, String digest) {
+        var size = storage.fileSize(storagePath);
+
+        try (var stream = digest == null
+                ? storage.read(storagePath)
+                : new FixityCheckInputStream(storage.read(storagePath), inventory.getDigestAlgorithm(), digest)) {
+            archiveWriter.putFile(archivePath, size, stream);
+            if (stream instanceof FixityCheckInputStream) {
+                ((FixityCheckInputStream) stream).checkFixity();
+            }
+        } catch (FixityCheckException e) {
+            throw new FixityCheckException(
+                    String.format("File %s in object %s failed its fixity check.", archivePath, inventory.getId()), e);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
     }
 
     /**
@@ -344,6 +704,37 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         } catch (RuntimeException e) {
             LOG.warn("Failed to cleanup parent directories when purging object {}.", objectId, e);
         }
+
+        deleteValidationState(objectId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollbackNewVersion(Inventory inventory) {
+        ensureOpen();
+
+        LOG.info("Rollback new version {} of object <{}>", inventory.getHead(), inventory.getId());
+
+        deleteValidationState(inventory.getId());
+
+        if (inventory.hasMutableHead()) {
+            if (RevisionNum.R1.equals(inventory.getRevisionNum())) {
+                purgeMutableHead(inventory.getId());
+            } else {
+                LOG.error(
+                        "Cannot rollback object {} version {} revision {}. The object may need to be fixed manually.",
+                        inventory.getId(),
+                        inventory.getHead(),
+                        inventory.getRevisionNum());
+            }
+        } else if (isFirstVersion(inventory)) {
+            purgeObject(inventory.getId());
+        } else {
+            rollbackInventory(inventory);
+            storage.deleteDirectory(objectVersionPath(inventory, inventory.getHead()));
+        }
     }
 
     /**
@@ -355,6 +746,8 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
 
         LOG.info("Rollback object <{}> to version {}", inventory.getId(), versionNum);
 
+        deleteValidationState(inventory.getId());
+
         var versionPath = objectVersionPath(inventory, versionNum);
 
         try {
@@ -566,6 +959,42 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The object is validated against a view of the storage that writes every file to the output directory as the
+     * validator reads it, so content digests are verified while the bytes are copied and inventories are validated
+     * from the bytes that are exported. Files the validator does not read, such as extension files, are copied
+     * afterwards. Unless the object has a mutable HEAD, the view is a snapshot of the object at the inventory's head
+     * version.
+     */
+    @Override
+    public ValidationResults exportAndValidateObject(Inventory inventory, Path outputPath) {
+        ensureOpen();
+
+        var objectId = inventory.getId();
+
+        if (!containsObject(objectId)) {
+            throw new NotFoundException(String.format("Object %s was not found.", objectId));
+        }
+
+        var objectRootPath = objectRootPath(objectId);
+
+        LOG.debug("Copying and validating <{}> to <{}>", objectRootPath, outputPath);
+
+        var copyingStorage = new CopyOnReadStorage(
+                storage, objectRootPath, outputPath, inventory.hasMutableHead() ? null : inventory.getHead());
+
+        try {
+            var results = new Validator(copyingStorage, null, null, validationParallelism, validationExecutor)
+                    .validateObject(objectRootPath, true);
+            copyingStorage.copyRemaining();
+            return results;
+        } catch (OcflNoSuchFileException e) {
+            throw new NotFoundException(String.format("Object %s was not found.", objectId), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -594,6 +1023,14 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean importObjectRetainsSource() {
+        return storage.moveDirectoryIntoRetainsSource();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -620,16 +1057,77 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         LOG.debug("Closing {}", this.getClass().getName());
         super.close();
         storage.close();
+        if (validationExecutor != null) {
+            validationExecutor.shutdown();
+        }
+        if (reconstructionExecutor != null) {
+            reconstructionExecutor.shutdown();
+        }
     }
 
     @Override
     protected RepositoryConfig doInitialize(OcflVersion ocflVersion, OcflExtensionConfig layoutConfig) {
         var result = this.initializer.initializeStorage(ocflVersion, layoutConfig, supportEvaluator);
         this.storageLayoutExtension = result.getStorageLayoutExtension();
+        if (streamStager != null) {
+            deleteStaleStagedStreams();
+        }
         return result;
     }
 
-    private void storeNewImmutableVersion(Inventory inventory, Path stagingDir, boolean upgradeOcflVersion) {
+    /**
+     * Deletes streams that were staged longer ago than {@link #STALE_STAGED_STREAM_AGE}. Staged streams are named
+     * with the epoch millis they were staged at, so that their age is known without relying on storage timestamps.
+     */
+    private void deleteStaleStagedStreams() {
+        var staleBefore = System.currentTimeMillis() - STALE_STAGED_STREAM_AGE.toMillis();
+
+        try {
+            var stalePaths = storage.listDirectory(STREAM_STAGING_DIR).stream()
+                    .filter(Listing::isFile)
+                    .map(Listing::getRelativePath)
+                    .filter(name -> stagedAtMillis(name) < staleBefore)
+                    .map(name -> FileUtil.pathJoinFailEmpty(STREAM_STAGING_DIR, name))
+                    .collect(Collectors.toList());
+
+            if (!stalePaths.isEmpty()) {
+                LOG.info("Deleting {} stale staged streams from {}", stalePaths.size(), STREAM_STAGING_DIR);
+                storage.deleteFiles(stalePaths);
+            }
+        } catch (OcflNoSuchFileException e) {
+            // nothing has been staged
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to delete stale staged streams from {}", STREAM_STAGING_DIR, e);
+        }
+    }
+
+    private static long stagedAtMillis(String stagedName) {
+        var separator = stagedName.indexOf('-');
+        if (separator > 0) {
+            try {
+                return Long.parseLong(stagedName.substring(0, separator));
+            } catch (NumberFormatException e) {
+                // not staged by this class
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void deleteValidationState(String objectId) {
+        if (validationStateStore != null) {
+            try {
+                validationStateStore.delete(objectId);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to delete the validation state of object {}", objectId, e);
+            }
+        }
+    }
+
+    private void storeNewImmutableVersion(
+            Inventory inventory,
+            Consumer<String> versionWriter,
+            Map<String, String> stagedContent,
+            boolean upgradeOcflVersion) {
         var objectRoot = ObjectPaths.objectRoot(inventory);
 
         ensureNoMutableHead(inventory.getId(), objectRoot.path());
@@ -643,9 +1141,10 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
                 writeObjectNamasteFile(inventory.getType().getOcflVersion(), objectRoot.path());
             }
 
-            moveToVersionDirectory(inventory, stagingDir, versionPath);
+            versionWriter.accept(versionPath);
 
             try {
+                copyStagedContent(inventory, stagedContent);
                 verifyPriorInventory(inventory, objectRoot.inventorySidecar());
                 copyInventoryToRootWithRollback(inventory, versionPath);
             } catch (RuntimeException e) {
@@ -784,6 +1283,59 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    private void writeToVersionDirectory(Inventory inventory, Map<String, byte[]> versionFiles, String destination) {
+        try {
+            storage.writeDirectory(versionFiles, destination);
+        } catch (OcflFileAlreadyExistsException e) {
+            throw new ObjectOutOfSyncException(String.format(
+                    "Failed to create a new version of object %s. Changes are out of sync with the current object state.",
+                    inventory.getId()));
+        }
+    }
+
+    // Maps the inventory, sidecar, and content files to paths relative the version directory
+    private Map<String, byte[]> versionFilesInMemory(
+            Inventory inventory, byte[] inventoryBytes, Map<String, byte[]> content) {
+        var versionPrefix = inventory.getHead().toString() + "/";
+        var versionFiles = new HashMap<String, byte[]>(content.size() + 2);
+
+        versionFiles.put(OcflConstants.INVENTORY_FILE, inventoryBytes);
+        versionFiles.put(
+                INVENTORY_SIDECAR_PREFIX + inventory.getDigestAlgorithm().getOcflName(),
+                SidecarMapper.sidecarContent(inventory.getInventoryDigest()).getBytes(StandardCharsets.UTF_8));
+
+        content.forEach((contentPath, bytes) -> {
+            if (!contentPath.startsWith(versionPrefix)) {
+                throw new OcflStateException(String.format(
+                        "Content path %s is not within object %s version %s",
+                        contentPath, inventory.getId(), inventory.getHead()));
+            }
+            versionFiles.put(contentPath.substring(versionPrefix.length()), bytes);
+        });
+
+        return versionFiles;
+    }
+
+    private void copyStagedContent(Inventory inventory, Map<String, String> stagedContent) {
+        if (stagedContent.isEmpty()) {
+            return;
+        }
+
+        var futures = new ArrayList<CompletableFuture<Void>>(stagedContent.size());
+
+        try {
+            stagedContent.forEach((contentPath, stagedPath) -> {
+                var destination = FileUtil.pathJoinFailEmpty(inventory.getObjectRootPath(), contentPath);
+                futures.add(storage.copyFileInternalAsync(stagedPath, destination));
+            });
+            FutureUtil.joinAll(futures);
+        } catch (RuntimeException e) {
+            // All of the copies must be complete before the version directory is rolled back
+            FutureUtil.awaitAll(futures);
+            throw e;
+        }
+    }
+
     private void moveMutableHeadToVersionDirectory(Inventory inventory, String destination) {
         try {
             storage.moveDirectoryInternal(
@@ -868,10 +1420,12 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
 
     private void copyInventoryInternal(Inventory inventory, String sourcePath, String destinationPath) {
         Failsafe.with(invRetry).run(() -> {
-            storage.copyFileInternal(ObjectPaths.inventoryPath(sourcePath), ObjectPaths.inventoryPath(destinationPath));
-            storage.copyFileInternal(
-                    ObjectPaths.inventorySidecarPath(sourcePath, inventory),
-                    ObjectPaths.inventorySidecarPath(destinationPath, inventory));
+            FutureUtil.joinAll(List.of(
+                    storage.copyFileInternalAsync(
+                            ObjectPaths.inventoryPath(sourcePath), ObjectPaths.inventoryPath(destinationPath)),
+                    storage.copyFileInternalAsync(
+                            ObjectPaths.inventorySidecarPath(sourcePath, inventory),
+                            ObjectPaths.inventorySidecarPath(destinationPath, inventory))));
         });
     }
 
@@ -913,11 +1467,20 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
     private Inventory parseAndVerifyInventory(String objectId, DigestAlgorithm digestAlgorithm, String objectRootPath) {
         var inventoryPath = ObjectPaths.inventoryPath(objectRootPath);
 
+        // The sidecar is almost always for the same algorithm the inventory is in, so it's requested concurrently
+        // with the inventory
+        var sidecarPath =
+                FileUtil.pathJoinFailEmpty(objectRootPath, INVENTORY_SIDECAR_PREFIX + digestAlgorithm.getOcflName());
+        var sidecarFuture = verifyInventoryDigest ? storage.readToStringAsync(sidecarPath) : null;
+
         try (var stream = storage.read(inventoryPath)) {
             var inventory = inventoryMapper.read(objectRootPath, digestAlgorithm, stream);
 
             if (verifyInventoryDigest) {
-                var expectedDigest = getDigestFromSidecar(ObjectPaths.inventorySidecarPath(objectRootPath, inventory));
+                var inventorySidecarPath = ObjectPaths.inventorySidecarPath(objectRootPath, inventory);
+                var expectedDigest = inventorySidecarPath.equals(sidecarPath)
+                        ? getDigestFromSidecar(sidecarPath, sidecarFuture)
+                        : getDigestFromSidecar(inventorySidecarPath);
                 if (!expectedDigest.equalsIgnoreCase(inventory.getInventoryDigest())) {
                     throw new CorruptObjectException(String.format("Invalid root inventory in object %s", objectId));
                 }
@@ -928,6 +1491,12 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
             throw new CorruptObjectException(String.format("Object %s is missing its root inventory", objectId), e);
         } catch (IOException e) {
             throw new OcflIOException(e);
+        } finally {
+            // The sidecar request must not outlive the call when the inventory could not be read or the sidecar was
+            // not used
+            if (sidecarFuture != null) {
+                FutureUtil.awaitAll(List.of(sidecarFuture));
+            }
         }
     }
 
@@ -1088,8 +1657,12 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
     }
 
     private String getDigestFromSidecar(String sidecarPath) {
+        return getDigestFromSidecar(sidecarPath, storage.readToStringAsync(sidecarPath));
+    }
+
+    private String getDigestFromSidecar(String sidecarPath, CompletableFuture<String> sidecarFuture) {
         try {
-            var sidecarContents = storage.readToString(sidecarPath);
+            var sidecarContents = FutureUtil.join(sidecarFuture);
             var parts = WHITESPACE.split(sidecarContents);
             if (parts.length == 0) {
                 throw new CorruptObjectException("Invalid inventory sidecar file: " + sidecarPath);
@@ -1185,4 +1758,37 @@ public class DefaultOcflStorage extends AbstractOcflStorage {
             return Collections.emptySet();
         }
     }
+
+    /**
+     * Stages streamed content in the storage's {@link #STREAM_STAGING_DIR}
+     */
+    private class StorageStreamStager implements StreamStager {
+
+        @Override
+        public String stage(InputStream content) {
+            var stagedPath = FileUtil.pathJoinFailEmpty(
+                    STREAM_STAGING_DIR, System.currentTimeMillis() + "-" + UUID.randomUUID());
+            LOG.debug("Staging stream in storage at {}", stagedPath);
+            storage.writeStream(stagedPath, content, null);
+            return stagedPath;
+        }
+
+        @Override
+        public InputStream read(String stagedPath) {
+            return storage.read(stagedPath);
+        }
+
+        @Override
+        public void delete(Collection<String> stagedPaths) {
+            if (stagedPaths.isEmpty()) {
+                return;
+            }
+
+            try {
+                storage.deleteFiles(stagedPaths);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to delete staged files {}", stagedPaths, e);
+            }
+        }
+    }
 }
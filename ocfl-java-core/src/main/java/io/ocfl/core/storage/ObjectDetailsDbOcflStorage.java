@@ -27,12 +27,14 @@ package io.ocfl.core.storage;
 import io.ocfl.api.OcflFileRetriever;
 import io.ocfl.api.exception.FixityCheckException;
 import io.ocfl.api.exception.ObjectOutOfSyncException;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflVersion;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.api.model.VersionNum;
 import io.ocfl.api.util.Enforce;
 import io.ocfl.core.ObjectPaths;
+import io.ocfl.core.archive.ArchiveWriter;
 import io.ocfl.core.db.ObjectDetailsDatabase;
 import io.ocfl.core.db.OcflObjectDetails;
 import io.ocfl.core.extension.OcflExtensionConfig;
@@ -40,7 +42,12 @@ import io.ocfl.core.inventory.SidecarMapper;
 import io.ocfl.core.model.Inventory;
 import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,6 +103,48 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         return parseInventory(details);
     }
 
+    /**
+     * Retrieves the details of all of the objects from the database in batch. Inventories that are stored in the
+     * database are parsed from there, and the rest are loaded individually as described in {@link #loadInventory}.
+     *
+     * @param objectIds the ids of the objects to load
+     * @return map of object id to inventory
+     */
+    @Override
+    public Map<String, Inventory> loadInventories(Collection<String> objectIds) {
+        ensureOpen();
+
+        var inventories = new HashMap<String, Inventory>();
+        var misses = new ArrayList<String>();
+        var allDetails = objectDetailsDb.retrieveObjectDetails(objectIds);
+
+        objectIds.forEach(objectId -> {
+            var details = allDetails.get(objectId);
+            try {
+                if (details == null || details.getInventoryBytes() == null) {
+                    misses.add(objectId);
+                } else {
+                    inventories.put(objectId, parseInventory(details));
+                }
+            } catch (RuntimeException e) {
+                LOG.debug("Failed to parse inventory for object <{}>", objectId, e);
+            }
+        });
+
+        misses.forEach(objectId -> {
+            try {
+                var inventory = loadInventory(objectId);
+                if (inventory != null) {
+                    inventories.put(objectId, inventory);
+                }
+            } catch (RuntimeException e) {
+                LOG.debug("Failed to load inventory for object <{}>", objectId, e);
+            }
+        });
+
+        return inventories;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -114,9 +163,82 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
      */
     @Override
     public void storeNewVersion(Inventory inventory, Path stagingDir, boolean upgradeOcflVersion) {
+        storeNewVersion(inventory, stagingDir, Map.of(), upgradeOcflVersion);
+    }
+
+    /**
+     * Writes the new object version to the underlying storage within a transaction that updates the object details
+     * state within the database.
+     *
+     * @param inventory the updated object inventory
+     * @param stagingDir the directory that contains the composed contents of the new object version
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     */
+    @Override
+    public void storeNewVersion(
+            Inventory inventory, Path stagingDir, Map<String, String> stagedContent, boolean upgradeOcflVersion) {
+        ensureOpen();
+
+        rollbackWhenNotRecorded(
+                inventory,
+                storeVersion -> updateDetails(inventory, stagingDir, storeVersion),
+                () -> delegate.storeNewVersion(inventory, stagingDir, stagedContent, upgradeOcflVersion));
+    }
+
+    /**
+     * Writes the new object version, which is staged in memory, to the underlying storage within a transaction that
+     * updates the object details state within the database.
+     *
+     * @param inventory the updated object inventory, including its inventory digest
+     * @param inventoryBytes the serialized inventory
+     * @param content map of content paths, relative the object root, to file contents
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     */
+    @Override
+    public void storeNewVersionFromMemory(
+            Inventory inventory,
+            byte[] inventoryBytes,
+            Map<String, byte[]> content,
+            Map<String, String> stagedContent,
+            boolean upgradeOcflVersion) {
         ensureOpen();
 
-        updateDetails(inventory, stagingDir, () -> delegate.storeNewVersion(inventory, stagingDir, upgradeOcflVersion));
+        rollbackWhenNotRecorded(
+                inventory,
+                storeVersion -> updateDetails(
+                        inventory,
+                        () -> objectDetailsDb.updateObjectDetails(
+                                inventory, inventory.getInventoryDigest(), inventoryBytes, storeVersion)),
+                () -> delegate.storeNewVersionFromMemory(
+                        inventory, inventoryBytes, content, stagedContent, upgradeOcflVersion));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamStager streamStager() {
+        return delegate.streamStager();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsStagedContent() {
+        return delegate.supportsStagedContent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path localStorageRoot() {
+        return delegate.localStorageRoot();
     }
 
     /**
@@ -129,6 +251,16 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         return delegate.getObjectStreams(inventory, versionNum);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OcflFileRetriever getFileRetriever(Inventory inventory, String fileId) {
+        ensureOpen();
+
+        return delegate.getFileRetriever(inventory, fileId);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -139,6 +271,37 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         delegate.reconstructObjectVersion(inventory, versionNum, stagingDir);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reconstructObjectVersion(
+            Inventory inventory, VersionNum versionNum, LogicalPathFilter filter, Path stagingDir) {
+        ensureOpen();
+
+        delegate.reconstructObjectVersion(inventory, versionNum, filter, stagingDir);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeVersionArchive(Inventory inventory, VersionNum versionNum, ArchiveWriter archiveWriter) {
+        ensureOpen();
+
+        delegate.writeVersionArchive(inventory, versionNum, archiveWriter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeObjectArchive(Inventory inventory, ArchiveWriter archiveWriter) {
+        ensureOpen();
+
+        delegate.writeObjectArchive(inventory, archiveWriter);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -153,6 +316,20 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollbackNewVersion(Inventory inventory) {
+        ensureOpen();
+
+        try {
+            delegate.rollbackNewVersion(inventory);
+        } finally {
+            safeDeleteDetails(inventory.getId());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -242,6 +419,16 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         delegate.exportObject(objectId, outputPath);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResults exportAndValidateObject(Inventory inventory, Path outputPath) {
+        ensureOpen();
+
+        return delegate.exportAndValidateObject(inventory, outputPath);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -252,6 +439,14 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         delegate.importObject(objectId, objectPath);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean importObjectRetainsSource() {
+        return delegate.importObjectRetainsSource();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -292,8 +487,12 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         var inventoryPath = ObjectPaths.inventoryPath(stagingDir);
         var sidecarPath = ObjectPaths.inventorySidecarPath(stagingDir, inventory);
         var digest = SidecarMapper.readDigestRequired(sidecarPath);
+        updateDetails(inventory, () -> objectDetailsDb.updateObjectDetails(inventory, digest, inventoryPath, runnable));
+    }
+
+    private void updateDetails(Inventory inventory, Runnable update) {
         try {
-            objectDetailsDb.updateObjectDetails(inventory, digest, inventoryPath, runnable);
+            update.run();
         } catch (ObjectOutOfSyncException e) {
             // TODO it's possible that the ObjectDetails should be deleted on any SQLException
             safeDeleteDetails(inventory.getId());
@@ -301,6 +500,35 @@ public class ObjectDetailsDbOcflStorage extends AbstractOcflStorage {
         }
     }
 
+    /**
+     * With optimistic locking, the object details are only updated after the new version is written to storage. If the
+     * details were concurrently changed, the update fails, and the version that was written is rolled back so that the
+     * object does not contain a version that was reported as failed.
+     */
+    private void rollbackWhenNotRecorded(Inventory inventory, Consumer<Runnable> updateDetails, Runnable storeVersion) {
+        var stored = new AtomicBoolean(false);
+
+        try {
+            updateDetails.accept(() -> {
+                storeVersion.run();
+                stored.set(true);
+            });
+        } catch (ObjectOutOfSyncException e) {
+            if (stored.get()) {
+                try {
+                    delegate.rollbackNewVersion(inventory);
+                } catch (RuntimeException e1) {
+                    LOG.error(
+                            "Failed to rollback object {} version {} after its details could not be updated. The object may need to be fixed manually.",
+                            inventory.getId(),
+                            inventory.getHead(),
+                            e1);
+                }
+            }
+            throw e;
+        }
+    }
+
     private void safeDeleteDetails(String objectId) {
         try {
             objectDetailsDb.deleteObjectDetails(objectId);
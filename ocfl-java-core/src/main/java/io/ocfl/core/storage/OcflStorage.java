@@ -24,19 +24,31 @@
 
 package io.ocfl.core.storage;
 
+import io.ocfl.api.OcflConstants;
 import io.ocfl.api.OcflFileRetriever;
 import io.ocfl.api.exception.FixityCheckException;
 import io.ocfl.api.exception.NotFoundException;
 import io.ocfl.api.exception.ObjectOutOfSyncException;
+import io.ocfl.api.exception.OcflIOException;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflVersion;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.api.model.VersionNum;
+import io.ocfl.core.ObjectPaths;
+import io.ocfl.core.archive.ArchiveWriter;
 import io.ocfl.core.extension.ExtensionSupportEvaluator;
 import io.ocfl.core.extension.OcflExtensionConfig;
 import io.ocfl.core.inventory.InventoryMapper;
+import io.ocfl.core.inventory.SidecarMapper;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -80,6 +92,30 @@ public interface OcflStorage {
      */
     Inventory loadInventory(String objectId);
 
+    /**
+     * Returns verified copies of the most recent inventories of many objects. This is used to warm up bulk operations,
+     * and implementations should load the inventories as efficiently as they are able to. Objects that are not found
+     * or that cannot be loaded are omitted from the result; callers that need to know why an object is missing should
+     * call {@link #loadInventory(String)} for it.
+     *
+     * @param objectIds the ids of the objects to load
+     * @return map of object id to inventory
+     */
+    default Map<String, Inventory> loadInventories(Collection<String> objectIds) {
+        var inventories = new HashMap<String, Inventory>();
+        objectIds.forEach(objectId -> {
+            try {
+                var inventory = loadInventory(objectId);
+                if (inventory != null) {
+                    inventories.put(objectId, inventory);
+                }
+            } catch (RuntimeException e) {
+                // the failure is surfaced when the caller loads the inventory individually
+            }
+        });
+        return inventories;
+    }
+
     /**
      * Returns the raw inventory bytes for the specified object version
      *
@@ -109,6 +145,113 @@ public interface OcflStorage {
      */
     void storeNewVersion(Inventory inventory, Path stagingDir, boolean upgradeOcflVersion);
 
+    /**
+     * Same as {@link #storeNewVersion(Inventory, Path, boolean)}, except that some of the version's content files were
+     * staged directly in storage using the {@link #streamStager()} rather than in the staging directory. These files
+     * are copied into the version along with the files in the staging directory. The staged files are not deleted.
+     *
+     * <p>The default implementation delegates to {@link #storeNewVersion(Inventory, Path, boolean)}. Storage that
+     * returns a stream stager must return true from {@link #supportsStagedContent()} and override this method. The
+     * repository builder rejects storage that does not, so that staged content is never silently dropped.
+     *
+     * @param inventory the updated object inventory
+     * @param stagingDir the directory that contains the composed contents of the new object version
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     * @throws ObjectOutOfSyncException if the version cannot be created because it already exists
+     * @throws FixityCheckException if one of the files in the version fails its fixity check
+     */
+    default void storeNewVersion(
+            Inventory inventory, Path stagingDir, Map<String, String> stagedContent, boolean upgradeOcflVersion) {
+        if (!stagedContent.isEmpty()) {
+            throw new UnsupportedOperationException(
+                    this.getClass().getName() + " does not support content that's staged in storage.");
+        }
+        storeNewVersion(inventory, stagingDir, upgradeOcflVersion);
+    }
+
+    /**
+     * Stores a new version of an object whose content files are held in memory, rather than in a staging directory.
+     * The version's inventory and sidecar, as well as its content files, are written directly to the new version
+     * directory. Content that was staged in storage using the {@link #streamStager()} is copied into the version as
+     * well.
+     *
+     * <p>The default implementation writes the inventory, its sidecar, and the content files to a temporary staging
+     * directory, and then stores the version with {@link #storeNewVersion(Inventory, Path, Map, boolean)}.
+     *
+     * @param inventory the updated object inventory, including its inventory digest
+     * @param inventoryBytes the serialized inventory
+     * @param content map of content paths, relative the object root, to file contents
+     * @param stagedContent map of content paths, relative the object root, to the storage paths of the files that
+     *                      were staged in storage
+     * @param upgradeOcflVersion indicates if the OCFL spec version needs to be upgraded as part of the write operation
+     * @throws ObjectOutOfSyncException if the version cannot be created because it already exists
+     */
+    default void storeNewVersionFromMemory(
+            Inventory inventory,
+            byte[] inventoryBytes,
+            Map<String, byte[]> content,
+            Map<String, String> stagedContent,
+            boolean upgradeOcflVersion) {
+        var versionPrefix =
+                (inventory.hasMutableHead()
+                                ? OcflConstants.MUTABLE_HEAD_VERSION_PATH
+                                : inventory.getHead().toString()) + "/";
+        Path stagingDir = null;
+
+        try {
+            stagingDir = Files.createTempDirectory("ocfl-memory-staging-");
+            Files.write(ObjectPaths.inventoryPath(stagingDir), inventoryBytes);
+            SidecarMapper.writeSidecar(inventory, inventory.getInventoryDigest(), stagingDir);
+
+            for (var entry : content.entrySet()) {
+                var file = stagingDir.resolve(entry.getKey().substring(versionPrefix.length()));
+                Files.createDirectories(file.getParent());
+                Files.write(file, entry.getValue());
+            }
+
+            storeNewVersion(inventory, stagingDir, stagedContent, upgradeOcflVersion);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        } finally {
+            if (stagingDir != null) {
+                FileUtil.safeDeleteDirectory(stagingDir);
+            }
+        }
+    }
+
+    /**
+     * Returns the {@link StreamStager} that's used to stage streamed content directly in storage, or null if the
+     * storage does not stage content in storage.
+     *
+     * @return stream stager or null
+     */
+    default StreamStager streamStager() {
+        return null;
+    }
+
+    /**
+     * Returns true if the storage is able to store versions that contain content that was staged with its
+     * {@link #streamStager()}, using {@link #storeNewVersion(Inventory, Path, Map, boolean)}. Repositories cannot be
+     * built on storage that returns a stream stager but does not support staged content. Default: false
+     *
+     * @return true if content staged in storage is supported
+     */
+    default boolean supportsStagedContent() {
+        return false;
+    }
+
+    /**
+     * Returns the path to the storage root on the local filesystem, or null if the storage is not backed by the local
+     * filesystem.
+     *
+     * @return local storage root or null
+     */
+    default Path localStorageRoot() {
+        return null;
+    }
+
     /**
      * Returns a map of {@code OcflFileRetriever} objects that are used to lazy-load object files. The map keys are the
      * object relative file paths of all of the files in the specified version of the object.
@@ -119,6 +262,35 @@ public interface OcflStorage {
      */
     Map<String, OcflFileRetriever> getObjectStreams(Inventory inventory, VersionNum versionNum);
 
+    /**
+     * Returns an {@code OcflFileRetriever} that is used to lazy-load a single object file, without creating retrievers
+     * for any other files in the object.
+     *
+     * <p>The default implementation uses {@link #getObjectStreams(Inventory, VersionNum)} to create the retriever from
+     * the most recent version that contains the file.
+     *
+     * @param inventory the object's inventory
+     * @param fileId the digest of the file to load
+     * @return {@code OcflFileRetriever} for the file
+     * @throws NotFoundException if no version of the object contains the file
+     */
+    default OcflFileRetriever getFileRetriever(Inventory inventory, String fileId) {
+        var versionNum = inventory.getHead();
+
+        while (true) {
+            var paths = inventory.ensureVersion(versionNum).getPaths(fileId);
+            if (paths != null && !paths.isEmpty()) {
+                return getObjectStreams(inventory, versionNum)
+                        .get(paths.iterator().next());
+            }
+            if (versionNum.getVersionNum() == 1) {
+                throw new NotFoundException(
+                        String.format("Object %s does not contain file %s", inventory.getId(), fileId));
+            }
+            versionNum = versionNum.previousVersionNum();
+        }
+    }
+
     /**
      * Reconstructs a complete object at the specified version in the stagingDir.
      *
@@ -131,6 +303,69 @@ public interface OcflStorage {
      */
     void reconstructObjectVersion(Inventory inventory, VersionNum versionNum, Path stagingDir);
 
+    /**
+     * Reconstructs the files in an object version whose logical paths match the filter in the stagingDir. Candidate
+     * paths are located using the filter's prefix, so that the entire version state is not scanned.
+     *
+     * <p>The fixity of every file must be checked after copying it to the stagingDir.
+     *
+     * <p>The default implementation copies the matching files using {@link #getObjectStreams(Inventory, VersionNum)}.
+     *
+     * @param inventory the deserialized object inventory
+     * @param versionNum the id of the version to reconstruct
+     * @param filter selects the logical paths to reconstruct
+     * @param stagingDir the location the reconstructed files should be assembled in
+     * @throws FixityCheckException if one of the files fails its fixity check
+     */
+    default void reconstructObjectVersion(
+            Inventory inventory, VersionNum versionNum, LogicalPathFilter filter, Path stagingDir) {
+        var streams = getObjectStreams(inventory, versionNum);
+
+        try {
+            for (var entry : streams.entrySet()) {
+                if (filter.test(entry.getKey())) {
+                    var destination = Paths.get(FileUtil.pathJoinFailEmpty(stagingDir.toString(), entry.getKey()));
+                    Files.createDirectories(destination.getParent());
+                    try (var stream = entry.getValue().retrieveFile()) {
+                        Files.copy(stream, destination);
+                        stream.checkFixity();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    /**
+     * Streams the logical files of an object version to the archive writer, in logical path order. The archive writer
+     * is not finished.
+     *
+     * <p>The fixity of every file must be checked as it is written.
+     *
+     * @param inventory the deserialized object inventory
+     * @param versionNum the id of the version to write
+     * @param archiveWriter the archive to write the files to
+     * @throws FixityCheckException if one of the files fails its fixity check
+     */
+    void writeVersionArchive(Inventory inventory, VersionNum versionNum, ArchiveWriter archiveWriter);
+
+    /**
+     * Streams everything in an object's root directory to the archive writer, with paths relative to the object root.
+     * The archive writer is not finished.
+     *
+     * <p>The fixity of every content file must be checked against the object's inventory as it is written.
+     *
+     * <p>Unless the object has a mutable HEAD, this may be called without holding the object's lock. In that case,
+     * the archive must only contain the versions in the specified inventory, along with a root inventory that matches
+     * it, even if a new version is written concurrently.
+     *
+     * @param inventory the deserialized object inventory
+     * @param archiveWriter the archive to write the files to
+     * @throws FixityCheckException if one of the content files fails its fixity check
+     */
+    void writeObjectArchive(Inventory inventory, ArchiveWriter archiveWriter);
+
     /**
      * Permanently removes an object from the repository. Objects that have been purged are NOT recoverable. If an object
      * with the specified id cannot be found it is considered purged and no exception is thrown.
@@ -162,6 +397,17 @@ public interface OcflStorage {
      */
     void purgeMutableHead(String objectId);
 
+    /**
+     * Removes a new version that was written by {@link #storeNewVersion(Inventory, Path, Map, boolean)} or
+     * {@link #storeNewVersionFromMemory(Inventory, byte[], Map, Map, boolean)}, because the update failed after the
+     * version was written. The version is removed in the same way as when its commit fails: the previous root
+     * inventory is reinstated and the version directory is deleted, or the object is purged if it was the object's first
+     * version. A new mutable HEAD is purged, but later mutable HEAD revisions cannot be rolled back.
+     *
+     * @param inventory the inventory of the version to remove
+     */
+    void rollbackNewVersion(Inventory inventory);
+
     /**
      * Sets the head object version to the specified version by reinstating that version's inventory into the object
      * root, and purging all intermediary versions.
@@ -222,6 +468,24 @@ public interface OcflStorage {
      */
     void exportObject(String objectId, Path outputPath);
 
+    /**
+     * Copies a raw OCFL object to the specified directory, like {@link #exportObject(String, Path)}, and validates the
+     * exported object, including the fixity of its content files. Implementations should validate the object while
+     * it is copied so that each byte is only read once.
+     *
+     * <p>Unless the object has a mutable HEAD, this may be called without holding the object's lock. In that case,
+     * the export must only contain the versions in the specified inventory, along with a root inventory that matches
+     * it, even if a new version is written concurrently.
+     *
+     * <p>The outputPath MUST NOT exist, but its parent MUST exist.
+     *
+     * @param inventory the deserialized object inventory
+     * @param outputPath the directory to write the exported object to, must NOT exist
+     * @return the validation results
+     * @throws NotFoundException when no object can be found for the specified inventory
+     */
+    ValidationResults exportAndValidateObject(Inventory inventory, Path outputPath);
+
     /**
      * Moves an entire OCFL object into the repository. This object cannot already exist.
      *
@@ -230,6 +494,16 @@ public interface OcflStorage {
      */
     void importObject(String objectId, Path objectPath);
 
+    /**
+     * Indicates if {@link #importObject(String, Path)} leaves the imported directory in place. When it does, an object
+     * that must be retained can be imported directly, without first being copied to a staging directory.
+     *
+     * @return true if the imported directory is left in place
+     */
+    default boolean importObjectRetainsSource() {
+        return false;
+    }
+
     /**
      * Shutsdown any resources the OclfStorage may have open, such as ExecutorServices. Once closed, additional requests
      * will be rejected. Calling this method is optional, and it is more efficient to just let the shutdown hooks take care
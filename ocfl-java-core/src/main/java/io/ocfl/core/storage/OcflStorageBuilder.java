@@ -31,7 +31,9 @@ import io.ocfl.core.storage.cloud.CloudStorage;
 import io.ocfl.core.storage.common.Storage;
 import io.ocfl.core.storage.filesystem.FileSystemStorage;
 import io.ocfl.core.util.ObjectMappers;
+import io.ocfl.core.validation.state.ValidationStateStore;
 import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * Builder for constructing {@link OcflStorage} objects. It is configured with sensible defaults and can minimally be
@@ -43,6 +45,11 @@ public class OcflStorageBuilder {
     private Storage storage;
     private OcflStorageInitializer initializer;
     private boolean verifyInventoryDigest;
+    private boolean streamStaging;
+    private ValidationStateStore validationStateStore;
+    private Duration maxValidationStateAge;
+    private int validationParallelism;
+    private int reconstructionParallelism;
 
     public static OcflStorageBuilder builder() {
         return new OcflStorageBuilder();
@@ -51,6 +58,9 @@ public class OcflStorageBuilder {
     public OcflStorageBuilder() {
         objectMapper = ObjectMappers.prettyPrintMapper();
         this.verifyInventoryDigest = true;
+        this.maxValidationStateAge = Duration.ofDays(30);
+        this.validationParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+        this.reconstructionParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
     }
 
     /**
@@ -123,6 +133,82 @@ public class OcflStorageBuilder {
         return this;
     }
 
+    /**
+     * Configures whether content that's written to objects as streams, using
+     * {@link io.ocfl.api.OcflObjectUpdater#writeFile}, should be staged directly in storage rather than in the
+     * repository's local work directory. This is intended to be used with cloud storage, where it avoids writing
+     * streamed content to local disk and then reading it back to upload it. Staged files are written to temporary
+     * locations under {@value DefaultOcflStorage#STREAM_STAGING_DIR} in the storage root, and are copied into the new
+     * version when it's committed. Staged files are deleted after the update completes, whether it succeeds or not,
+     * and staged files that were orphaned by a process that did not finish its update are deleted when the storage is
+     * initialized once they are a day old. Default: false.
+     *
+     * @param streamStaging true if streamed content should be staged directly in storage
+     * @return builder
+     */
+    public OcflStorageBuilder streamStaging(boolean streamStaging) {
+        this.streamStaging = streamStaging;
+        return this;
+    }
+
+    /**
+     * Enables incremental object validation by persisting what passed validation in the specified store. Subsequent
+     * validations of the same object skip the version inventories and content files that have not changed since they
+     * passed. The root inventory and head version are always validated. See
+     * {@link io.ocfl.core.validation.state.ValidationStateStores} for the provided stores. Default: null, disabled.
+     *
+     * @param validationStateStore the store to persist validation state in, or null to disable incremental validation
+     * @return builder
+     */
+    public OcflStorageBuilder validationStateStore(ValidationStateStore validationStateStore) {
+        this.validationStateStore = validationStateStore;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of time after a full validation of an object that incremental validation is used. Once
+     * it's exceeded, the next validation of the object is a full validation. Default: 30 days.
+     *
+     * @param maxValidationStateAge the maximum age of validation state
+     * @return builder
+     */
+    public OcflStorageBuilder maxValidationStateAge(Duration maxValidationStateAge) {
+        this.maxValidationStateAge = Enforce.notNull(maxValidationStateAge, "maxValidationStateAge cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of version inventories of a single object that are parsed and validated concurrently
+     * when the object is validated. Checks that depend on the order of versions are still made one version at a time.
+     * The inventories are parsed on a pool of this many threads that's shared by all validations, and shut down when
+     * the storage is closed. Default: the lesser of 4 and the number of available processors.
+     *
+     * @param validationParallelism the maximum number of version inventories to validate concurrently
+     * @return builder
+     */
+    public OcflStorageBuilder validationParallelism(int validationParallelism) {
+        this.validationParallelism = Enforce.expressionTrue(
+                validationParallelism > 0, validationParallelism, "validationParallelism must be greater than 0");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of files that are copied out of storage concurrently when an object version, or a subset
+     * of its files, is reconstructed outside of the repository. Each file's fixity is still checked as it is copied.
+     * The files are copied on a pool of this many threads that's shared by all reconstructions, and shut down when the
+     * storage is closed. Default: the lesser of 4 and the number of available processors.
+     *
+     * @param reconstructionParallelism the maximum number of files to copy concurrently
+     * @return builder
+     */
+    public OcflStorageBuilder reconstructionParallelism(int reconstructionParallelism) {
+        this.reconstructionParallelism = Enforce.expressionTrue(
+                reconstructionParallelism > 0,
+                reconstructionParallelism,
+                "reconstructionParallelism must be greater than 0");
+        return this;
+    }
+
     /**
      * Creates a {@link OcflStorage} object. One of {@link #storage(Storage)}, {@link #fileSystem(Path)}, or {@link #cloud(CloudClient)}
      * must be called before calling this method.
@@ -137,6 +223,14 @@ public class OcflStorageBuilder {
             init = new DefaultOcflStorageInitializer(storage, objectMapper);
         }
 
-        return new DefaultOcflStorage(storage, verifyInventoryDigest, init);
+        return new DefaultOcflStorage(
+                storage,
+                verifyInventoryDigest,
+                init,
+                streamStaging,
+                validationStateStore,
+                maxValidationStateAge,
+                validationParallelism,
+                reconstructionParallelism);
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.storage;
+
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * Stages streamed content directly in storage, rather than in a local staging directory. Staged files are written to
+ * temporary locations, and are promoted into an object version when it is stored with
+ * {@link OcflStorage#storeNewVersion(io.ocfl.core.model.Inventory, java.nio.file.Path, java.util.Map, boolean)}.
+ * Staged files are NOT deleted when they are promoted, and must be deleted by the caller once they are no longer needed.
+ */
+public interface StreamStager {
+
+    /**
+     * Writes the content of the stream to a new temporary location in storage. The stream is read to its end, but is
+     * not closed.
+     *
+     * @param content the content to stage
+     * @return the storage path of the staged file
+     */
+    String stage(InputStream content);
+
+    /**
+     * Returns a stream for reading a staged file
+     *
+     * @param stagedPath the storage path of the staged file
+     * @return stream of the file's content
+     */
+    InputStream read(String stagedPath);
+
+    /**
+     * Deletes staged files. Files that do not exist are ignored, and failures are logged rather than thrown.
+     *
+     * @param stagedPaths the storage paths of the staged files
+     */
+    void delete(Collection<String> stagedPaths);
+}
@@ -24,16 +24,30 @@
 
 package io.ocfl.core.storage.cloud;
 
+import io.ocfl.api.exception.OcflIOException;
+import io.ocfl.core.util.FutureUtil;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 /**
  * Wrapper interface abstracting cloud provider clients
+ *
+ * <p>The methods that return {@link CompletableFuture}s may be used to issue independent requests concurrently without
+ * blocking a thread per request. Failures are reported by completing the future exceptionally with the same exceptions
+ * the synchronous methods throw. The default implementations execute the synchronous methods on the calling thread, and
+ * should be overridden by clients that support non-blocking requests.
  */
 public interface CloudClient {
 
+    /**
+     * The default value of {@link #maxConcurrency()}
+     */
+    int DEFAULT_MAX_CONCURRENCY = 50;
+
     /**
      * Close any resources the client may have created. This will NOT close resources that were passed into the client.
      */
@@ -54,6 +68,17 @@ public interface CloudClient {
      */
     String prefix();
 
+    /**
+     * The maximum number of asynchronous requests that should be in flight at once when many independent requests are
+     * issued together, such as when copying all of the files in a directory. This should not exceed the maximum
+     * concurrency of the underlying client. Default: {@link #DEFAULT_MAX_CONCURRENCY}
+     *
+     * @return the maximum number of concurrent asynchronous requests
+     */
+    default int maxConcurrency() {
+        return DEFAULT_MAX_CONCURRENCY;
+    }
+
     /**
      * Asynchronously uploads a file to the destination, and returns the object key.
      *
@@ -101,6 +126,39 @@ public interface CloudClient {
      */
     CloudObjectKey uploadBytes(String dstPath, byte[] bytes, String contentType);
 
+    /**
+     * Uploads the content of a stream, which has an unknown length, to the destination. Implementations should send the
+     * content to the cloud as it's read rather than buffering all of it. The stream is read to its end, but is not
+     * closed.
+     *
+     * <p>The default implementation reads the entire stream into memory and calls
+     * {@link #uploadBytes(String, byte[], String)}.
+     *
+     * @param dstPath the path to upload to
+     * @param stream the content to upload
+     * @param contentType the content type of the data
+     * @return The storage key
+     */
+    default CloudObjectKey uploadStream(String dstPath, InputStream stream, String contentType) {
+        try {
+            return uploadBytes(dstPath, stream.readAllBytes(), contentType);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    /**
+     * Asynchronously uploads an object with byte content
+     *
+     * @param dstPath object path
+     * @param bytes the object content
+     * @param contentType the content type of the data
+     * @return future that completes with the object key
+     */
+    default CompletableFuture<CloudObjectKey> uploadBytesAsync(String dstPath, byte[] bytes, String contentType) {
+        return FutureUtil.completed(() -> uploadBytes(dstPath, bytes, contentType));
+    }
+
     /**
      * Copies an object from one location to another within the same bucket.
      *
@@ -111,6 +169,18 @@ public interface CloudClient {
      */
     CloudObjectKey copyObject(String srcPath, String dstPath);
 
+    /**
+     * Asynchronously copies an object from one location to another within the same bucket.
+     *
+     * @param srcPath source object key
+     * @param dstPath destination object path
+     * @return future that completes with the destination key, or with a {@link KeyNotFoundException} when srcPath
+     * is not found
+     */
+    default CompletableFuture<CloudObjectKey> copyObjectAsync(String srcPath, String dstPath) {
+        return FutureUtil.completed(() -> copyObject(srcPath, dstPath));
+    }
+
     /**
      * Downloads an object to the local filesystem.
      *
@@ -149,6 +219,17 @@ public interface CloudClient {
      */
     String downloadString(String srcPath);
 
+    /**
+     * Asynchronously downloads an object to a string. This assumes that the object is UTF-8 encoded.
+     *
+     * @param srcPath object key
+     * @return future that completes with the string content of the object, or with a {@link KeyNotFoundException}
+     * when srcPath is not found
+     */
+    default CompletableFuture<String> downloadStringAsync(String srcPath) {
+        return FutureUtil.completed(() -> downloadString(srcPath));
+    }
+
     /**
      * Heads the object at the specified path.
      *
@@ -158,6 +239,17 @@ public interface CloudClient {
      */
     HeadResult head(String path);
 
+    /**
+     * Asynchronously heads the object at the specified path.
+     *
+     * @param path object key
+     * @return future that completes with the head details, or with a {@link KeyNotFoundException} when path is not
+     * found
+     */
+    default CompletableFuture<HeadResult> headAsync(String path) {
+        return FutureUtil.completed(() -> head(path));
+    }
+
     /**
      * Lists all of the keys under a prefix. No delimiter is used.
      *
@@ -166,6 +258,16 @@ public interface CloudClient {
      */
     ListResult list(String prefix);
 
+    /**
+     * Asynchronously lists all of the keys under a prefix. No delimiter is used.
+     *
+     * @param prefix the key prefix
+     * @return future that completes with the list response
+     */
+    default CompletableFuture<ListResult> listAsync(String prefix) {
+        return FutureUtil.completed(() -> list(prefix));
+    }
+
     /**
      * Lists all of the keys within a virtual directory. Only keys that fall between the specified prefix and the next
      * '/' are returned.
@@ -175,6 +277,17 @@ public interface CloudClient {
      */
     ListResult listDirectory(String path);
 
+    /**
+     * Asynchronously lists all of the keys within a virtual directory. Only keys that fall between the specified
+     * prefix and the next '/' are returned.
+     *
+     * @param path the key prefix to list, if it does not end in a '/' one is appended
+     * @return future that completes with the list response
+     */
+    default CompletableFuture<ListResult> listDirectoryAsync(String path) {
+        return FutureUtil.completed(() -> listDirectory(path));
+    }
+
     /**
      * Returns true if the specified virtual directory exists.
      *
@@ -197,6 +310,19 @@ public interface CloudClient {
      */
     void deleteObjects(Collection<String> objectKeys);
 
+    /**
+     * Asynchronously deletes all of the specified objects. If an object does not exist, nothing happens.
+     *
+     * @param objectKeys keys to delete
+     * @return future that completes when the objects are deleted
+     */
+    default CompletableFuture<Void> deleteObjectsAsync(Collection<String> objectKeys) {
+        return FutureUtil.completed(() -> {
+            deleteObjects(objectKeys);
+            return null;
+        });
+    }
+
     /**
      * Deletes all of the objects and does not throw an exception on failure
      *
@@ -35,6 +35,7 @@ import io.ocfl.core.storage.common.Listing;
 import io.ocfl.core.storage.common.OcflObjectRootDirIterator;
 import io.ocfl.core.storage.common.Storage;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.FutureUtil;
 import io.ocfl.core.util.UncheckedFiles;
 import java.io.BufferedInputStream;
 import java.io.IOException;
@@ -44,7 +45,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -140,6 +144,18 @@ public class CloudStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fileSize(String filePath) {
+        try {
+            return client.head(filePath).getContentLength();
+        } catch (KeyNotFoundException e) {
+            throw new OcflNoSuchFileException(String.format("%s was not found", filePath), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -164,6 +180,23 @@ public class CloudStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<String> readToStringAsync(String filePath) {
+        return client.downloadStringAsync(filePath).handle((content, e) -> {
+            if (e != null) {
+                var cause = FutureUtil.unwrap(e);
+                if (cause instanceof KeyNotFoundException) {
+                    throw new OcflNoSuchFileException(String.format("%s was not found", filePath), cause);
+                }
+                throw cause;
+            }
+            return content;
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -181,6 +214,15 @@ public class CloudStorage implements Storage {
         client.uploadBytes(filePath, content, mediaType);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeStream(String filePath, InputStream content, String mediaType) {
+        failOnExistingFile(filePath);
+        client.uploadStream(filePath, content, mediaType);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -233,6 +275,23 @@ public class CloudStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> copyFileInternalAsync(String sourceFile, String destinationFile) {
+        return client.copyObjectAsync(sourceFile, destinationFile).handle((key, e) -> {
+            if (e != null) {
+                var cause = FutureUtil.unwrap(e);
+                if (cause instanceof KeyNotFoundException) {
+                    throw new OcflNoSuchFileException(String.format("%s was not found", sourceFile), cause);
+                }
+                throw cause;
+            }
+            return null;
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -291,6 +350,39 @@ public class CloudStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveDirectoryIntoRetainsSource() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeDirectory(Map<String, byte[]> files, String destination) {
+        failOnExistingDir(destination);
+
+        var keys = new ArrayList<String>(files.size());
+        var uploads = new ArrayList<CompletableFuture<CloudObjectKey>>(files.size());
+
+        try {
+            files.forEach((path, content) -> {
+                var key = FileUtil.pathJoinFailEmpty(destination, path);
+                keys.add(key);
+                uploads.add(client.uploadBytesAsync(key, content, null));
+            });
+            FutureUtil.joinAll(uploads);
+        } catch (RuntimeException e) {
+            // If any of the files failed to upload, then we must delete everything.
+            FutureUtil.awaitAll(uploads);
+            client.safeDeleteObjects(keys);
+            throw e;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -302,18 +394,30 @@ public class CloudStorage implements Storage {
 
         var srcKeys = new ArrayList<String>();
         var dstKeys = new ArrayList<String>();
+        var copies = new ArrayList<CompletableFuture<CloudObjectKey>>();
+        // The copies are independent of each other, so they are issued without waiting on each other, but no more
+        // than the client's max concurrency are in flight at once
+        var permits = new Semaphore(client.maxConcurrency());
 
         try {
             for (var file : files) {
                 if (file.isFile()) {
                     var srcFile = FileUtil.pathJoinIgnoreEmpty(source, file.getRelativePath());
                     var dstFile = FileUtil.pathJoinIgnoreEmpty(destination, file.getRelativePath());
-                    client.copyObject(srcFile, dstFile);
                     srcKeys.add(srcFile);
                     dstKeys.add(dstFile);
+                    acquirePermit(permits);
+                    try {
+                        copies.add(client.copyObjectAsync(srcFile, dstFile).whenComplete((k, e) -> permits.release()));
+                    } catch (RuntimeException e) {
+                        permits.release();
+                        throw e;
+                    }
                 }
             }
+            FutureUtil.joinAll(copies);
         } catch (RuntimeException e) {
+            FutureUtil.awaitAll(copies);
             client.safeDeleteObjects(dstKeys);
             throw e;
         }
@@ -321,6 +425,15 @@ public class CloudStorage implements Storage {
         client.safeDeleteObjects(srcKeys);
     }
 
+    private void acquirePermit(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OcflJavaException("Interrupted while waiting to issue request", e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
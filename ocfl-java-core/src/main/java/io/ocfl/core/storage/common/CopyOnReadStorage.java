@@ -0,0 +1,397 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.storage.common;
+
+import io.ocfl.api.OcflConstants;
+import io.ocfl.api.OcflFileRetriever;
+import io.ocfl.api.exception.OcflIOException;
+import io.ocfl.api.model.DigestAlgorithm;
+import io.ocfl.api.model.VersionNum;
+import io.ocfl.api.util.Enforce;
+import io.ocfl.core.util.UncheckedFiles;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only view of a storage that writes every file under an object root to a local directory as it is read. This
+ * allows an object to be validated and copied, when exporting or importing it, in a single pass over its bytes. Files
+ * that are not read, or not read to the end, are copied by {@link #copyRemaining()}.
+ *
+ * <p>When a head version is specified, the view is a snapshot of the object as of that version, so that the object
+ * may be read without holding its lock. Version directories are immutable once written, so only the root inventory,
+ * newer versions, and a mutable HEAD may change while the object is read. Newer versions and the mutable HEAD are
+ * hidden, and the root inventory is read from the head version's identical copy.
+ */
+public class CopyOnReadStorage implements Storage {
+
+    private static final Pattern VERSION_DIR = Pattern.compile("v\\d+");
+
+    private final Storage delegate;
+    private final String objectRootPath;
+    private final String objectRootPrefix;
+    private final Path outputPath;
+    private final VersionNum headVersion;
+
+    private final Set<String> inProgress;
+    private final Set<String> copied;
+
+    /**
+     * @param delegate the storage to read from
+     * @param objectRootPath the path to the object root within the delegate storage
+     * @param outputPath the local directory to copy the object root's files to
+     */
+    public CopyOnReadStorage(Storage delegate, String objectRootPath, Path outputPath) {
+        this(delegate, objectRootPath, outputPath, null);
+    }
+
+    /**
+     * @param delegate the storage to read from
+     * @param objectRootPath the path to the object root within the delegate storage
+     * @param outputPath the local directory to copy the object root's files to
+     * @param headVersion the immutable head version to snapshot the object at, or null to read the object as it is
+     */
+    public CopyOnReadStorage(Storage delegate, String objectRootPath, Path outputPath, VersionNum headVersion) {
+        this.delegate = Enforce.notNull(delegate, "delegate cannot be null");
+        this.objectRootPath = Enforce.notBlank(objectRootPath, "objectRootPath cannot be blank");
+        this.objectRootPrefix = objectRootPath + "/";
+        this.outputPath = Enforce.notNull(outputPath, "outputPath cannot be null");
+        this.headVersion = headVersion;
+        this.inProgress = ConcurrentHashMap.newKeySet();
+        this.copied = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Copies every file under the object root that has not already been completely written to the output directory,
+     * and creates any empty directories.
+     */
+    public void copyRemaining() {
+        UncheckedFiles.createDirectories(outputPath);
+
+        for (var listing : listRecursive(objectRootPath)) {
+            var destination = outputPath.resolve(listing.getRelativePath());
+
+            if (listing.isDirectory()) {
+                UncheckedFiles.createDirectories(destination);
+            } else if (listing.isFile()) {
+                var filePath = objectRootPrefix + listing.getRelativePath();
+                if (!copied.contains(filePath)) {
+                    UncheckedFiles.createDirectories(destination.getParent());
+                    try (var stream = delegate.read(sourcePath(filePath))) {
+                        UncheckedFiles.copy(stream, destination, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        throw OcflIOException.from(e);
+                    }
+                    copied.add(filePath);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Listing> listDirectory(String directoryPath) {
+        return inSnapshot(directoryPath, delegate.listDirectory(directoryPath));
+    }
+
+    @Override
+    public List<Listing> listRecursive(String directoryPath) {
+        return inSnapshot(directoryPath, delegate.listRecursive(directoryPath));
+    }
+
+    @Override
+    public boolean directoryIsEmpty(String directoryPath) {
+        return delegate.directoryIsEmpty(directoryPath);
+    }
+
+    @Override
+    public OcflObjectRootDirIterator iterateObjects() {
+        return delegate.iterateObjects();
+    }
+
+    @Override
+    public boolean fileExists(String filePath) {
+        return delegate.fileExists(sourcePath(filePath));
+    }
+
+    @Override
+    public long fileSize(String filePath) {
+        return delegate.fileSize(sourcePath(filePath));
+    }
+
+    /**
+     * Streams the content of the specified file, writing it to the output directory as it is read. A file is only
+     * written once; subsequent or concurrent reads of the same file are served directly from the delegate.
+     */
+    @Override
+    public InputStream read(String filePath) {
+        var stream = delegate.read(sourcePath(filePath));
+
+        if (!filePath.startsWith(objectRootPrefix) || copied.contains(filePath) || !inProgress.add(filePath)) {
+            return stream;
+        }
+
+        var destination = outputPath.resolve(filePath.substring(objectRootPrefix.length()));
+
+        try {
+            Files.createDirectories(destination.getParent());
+            return new CopyingInputStream(stream, filePath, destination);
+        } catch (IOException e) {
+            inProgress.remove(filePath);
+            try {
+                stream.close();
+            } catch (IOException e1) {
+                e.addSuppressed(e1);
+            }
+            throw OcflIOException.from(e);
+        }
+    }
+
+    @Override
+    public String readToString(String filePath) {
+        try (var stream = read(filePath)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
+    @Override
+    public OcflFileRetriever readLazy(String filePath, DigestAlgorithm algorithm, String digest) {
+        return delegate.readLazy(sourcePath(filePath), algorithm, digest);
+    }
+
+    @Override
+    public void write(String filePath, byte[] content, String mediaType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void createDirectories(String path) {
+        throw readOnly();
+    }
+
+    @Override
+    public void copyDirectoryOutOf(String source, Path destination) {
+        delegate.copyDirectoryOutOf(source, destination);
+    }
+
+    @Override
+    public void copyFileInto(Path source, String destination, String mediaType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void copyFileInternal(String sourceFile, String destinationFile) {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveDirectoryInto(Path source, String destination) {
+        throw readOnly();
+    }
+
+    @Override
+    public void writeDirectory(Map<String, byte[]> files, String destination) {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveDirectoryInternal(String source, String destination) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteDirectory(String path) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteFile(String path) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteFiles(Collection<String> paths) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteEmptyDirsDown(String path) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteEmptyDirsUp(String path) {
+        throw readOnly();
+    }
+
+    /**
+     * Does not close the delegate, which is owned by the caller.
+     */
+    @Override
+    public void close() {
+        // no-op
+    }
+
+    /**
+     * Returns the path to read a file from. In a snapshot, the root inventory and its sidecar are read from the head
+     * version.
+     */
+    private String sourcePath(String filePath) {
+        if (headVersion != null && filePath.startsWith(objectRootPrefix)) {
+            var relativePath = filePath.substring(objectRootPrefix.length());
+            if (relativePath.startsWith(OcflConstants.INVENTORY_FILE) && !relativePath.contains("/")) {
+                return objectRootPrefix + headVersion + "/" + relativePath;
+            }
+        }
+        return filePath;
+    }
+
+    private List<Listing> inSnapshot(String directoryPath, List<Listing> listings) {
+        if (headVersion == null
+                || !(directoryPath.equals(objectRootPath) || directoryPath.startsWith(objectRootPrefix))) {
+            return listings;
+        }
+
+        var directoryPrefix =
+                directoryPath.equals(objectRootPath) ? "" : directoryPath.substring(objectRootPrefix.length()) + "/";
+
+        return listings.stream()
+                .filter(listing -> inSnapshot(directoryPrefix + listing.getRelativePath()))
+                .collect(Collectors.toList());
+    }
+
+    private boolean inSnapshot(String relativePath) {
+        if (relativePath.equals(OcflConstants.MUTABLE_HEAD_EXT_PATH)
+                || relativePath.startsWith(OcflConstants.MUTABLE_HEAD_EXT_PATH + "/")) {
+            return false;
+        }
+
+        var firstPart = relativePath.split("/", 2)[0];
+        return !VERSION_DIR.matcher(firstPart).matches()
+                || VersionNum.fromString(firstPart).compareTo(headVersion) <= 0;
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Copy on read storage is read-only");
+    }
+
+    /**
+     * Writes every byte that is read to the output directory. The file is only marked as copied once the end of
+     * the stream is reached; a partially written file is deleted when the stream is closed.
+     */
+    private class CopyingInputStream extends FilterInputStream {
+
+        private final String filePath;
+        private final Path destination;
+        private final OutputStream output;
+        private boolean complete;
+
+        private CopyingInputStream(InputStream stream, String filePath, Path destination) throws IOException {
+            super(stream);
+            this.filePath = filePath;
+            this.destination = destination;
+            this.output = Files.newOutputStream(destination);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = super.read();
+            if (b == -1) {
+                complete();
+            } else {
+                output.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var n = super.read(b, off, len);
+            if (n == -1) {
+                complete();
+            } else {
+                output.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes must still be written to the destination
+            var buffer = new byte[(int) Math.min(8192, Math.max(n, 0))];
+            var skipped = 0L;
+            while (skipped < n) {
+                var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                try {
+                    output.close();
+                } finally {
+                    if (!complete) {
+                        UncheckedFiles.deleteIfExists(destination);
+                    }
+                    inProgress.remove(filePath);
+                }
+            }
+        }
+
+        private void complete() throws IOException {
+            if (!complete) {
+                complete = true;
+                output.close();
+                copied.add(filePath);
+            }
+        }
+    }
+}
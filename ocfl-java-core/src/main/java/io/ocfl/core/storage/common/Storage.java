@@ -2,12 +2,20 @@ package io.ocfl.core.storage.common;
 
 import io.ocfl.api.OcflFileRetriever;
 import io.ocfl.api.exception.OcflFileAlreadyExistsException;
+import io.ocfl.api.exception.OcflIOException;
 import io.ocfl.api.exception.OcflNoSuchFileException;
 import io.ocfl.api.model.DigestAlgorithm;
+import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.FutureUtil;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstraction over any storage implementation. Paths are represented as strings because forward-slashes MUST
@@ -59,6 +67,22 @@ public interface Storage {
      */
     boolean fileExists(String filePath);
 
+    /**
+     * Returns the size of the specified file in bytes. The default implementation reads the entire file to count its
+     * bytes.
+     *
+     * @param filePath path to the file
+     * @return file size in bytes
+     * @throws OcflNoSuchFileException when the file does not exist
+     */
+    default long fileSize(String filePath) {
+        try (var stream = read(filePath)) {
+            return stream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     /**
      * Streams the content of the specified file
      *
@@ -77,6 +101,18 @@ public interface Storage {
      */
     String readToString(String filePath);
 
+    /**
+     * Asynchronously read the contents of the specified file to a string. The default implementation reads the file
+     * on the calling thread.
+     *
+     * @param filePath path to the file
+     * @return future that completes with the file contents string, or with an {@link OcflNoSuchFileException} when
+     * the file does not exist
+     */
+    default CompletableFuture<String> readToStringAsync(String filePath) {
+        return FutureUtil.completed(() -> readToString(filePath));
+    }
+
     /**
      * Return an {@link OcflFileRetriever} that can be used to read the specified file at a later time.
      *
@@ -97,6 +133,25 @@ public interface Storage {
      */
     void write(String filePath, byte[] content, String mediaType);
 
+    /**
+     * Write the content of the specified stream to the specified path, without buffering the entire stream in memory.
+     * The file MUST NOT already exist. The stream is read to its end, but is not closed.
+     *
+     * <p>The default implementation reads the entire stream into memory and calls {@link #write(String, byte[], String)}.
+     *
+     * @param filePath path to the file to write
+     * @param content file content
+     * @param mediaType media type of the file, may be null
+     * @throws OcflFileAlreadyExistsException when the file already exists
+     */
+    default void writeStream(String filePath, InputStream content, String mediaType) {
+        try {
+            write(filePath, content.readAllBytes(), mediaType);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     /**
      * Create the specified directory and any missing ancestors.
      *
@@ -133,6 +188,22 @@ public interface Storage {
      */
     void copyFileInternal(String sourceFile, String destinationFile);
 
+    /**
+     * Asynchronously copy a file from inside this storage system to another destination inside it. If the destination
+     * already exists, then it will be overwritten. The default implementation copies the file on the calling thread.
+     *
+     * @param sourceFile internal file to copy
+     * @param destinationFile internal destination
+     * @return future that completes when the file is copied, or with an {@link OcflNoSuchFileException} when the
+     * source does not exist
+     */
+    default CompletableFuture<Void> copyFileInternalAsync(String sourceFile, String destinationFile) {
+        return FutureUtil.completed(() -> {
+            copyFileInternal(sourceFile, destinationFile);
+            return null;
+        });
+    }
+
     /**
      * Move a directory from outside this storage system to a destination inside. The destination MUST NOT already exist.
      *
@@ -142,6 +213,46 @@ public interface Storage {
      */
     void moveDirectoryInto(Path source, String destination);
 
+    /**
+     * Indicates if {@link #moveDirectoryInto(Path, String)} leaves the source directory in place, as is the case when
+     * its files are uploaded to a remote storage system rather than moved. When it does, callers do not need to make
+     * a copy of a directory that must be retained before moving it into storage.
+     *
+     * @return true if the source directory is left in place
+     */
+    default boolean moveDirectoryIntoRetainsSource() {
+        return false;
+    }
+
+    /**
+     * Write files that are held in memory to a new directory inside this storage system. The destination MUST NOT
+     * already exist. If any of the files fail to be written, then the files that were written are removed.
+     *
+     * <p>The default implementation writes each file with {@link #write(String, byte[], String)}, which fails if any
+     * of the files already exist, and deletes the files it wrote if one of them fails.
+     *
+     * @param files map of file paths, relative the destination, to file contents
+     * @param destination internal destination
+     * @throws OcflFileAlreadyExistsException when the destination already exists
+     */
+    default void writeDirectory(Map<String, byte[]> files, String destination) {
+        var written = new ArrayList<String>(files.size());
+        try {
+            files.forEach((path, content) -> {
+                var filePath = FileUtil.pathJoinFailEmpty(destination, path);
+                write(filePath, content, null);
+                written.add(filePath);
+            });
+        } catch (RuntimeException e) {
+            try {
+                deleteFiles(written);
+            } catch (RuntimeException e2) {
+                e.addSuppressed(e2);
+            }
+            throw e;
+        }
+    }
+
     /**
      * Move a directory from inside this storage system to another location inside. The destination MUST NOT already exist.
      *
@@ -189,6 +300,16 @@ public interface Storage {
      */
     void deleteEmptyDirsUp(String path);
 
+    /**
+     * Returns the path to the storage root on the local filesystem, or null if the storage is not backed by the local
+     * filesystem.
+     *
+     * @return local storage root or null
+     */
+    default Path localStorageRoot() {
+        return null;
+    }
+
     /**
      * Closes any resources the storage implementation may have open.
      */
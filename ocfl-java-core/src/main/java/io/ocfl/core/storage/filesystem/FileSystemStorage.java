@@ -48,6 +48,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -160,6 +161,18 @@ public class FileSystemStorage implements Storage {
         return Files.exists(storageRoot.resolve(filePath));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long fileSize(String filePath) {
+        try {
+            return Files.size(storageRoot.resolve(filePath));
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -207,6 +220,21 @@ public class FileSystemStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeStream(String filePath, InputStream content, String mediaType) {
+        var fullPath = storageRoot.resolve(filePath);
+
+        try {
+            Files.createDirectories(fullPath.getParent());
+            Files.copy(content, fullPath);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -269,6 +297,41 @@ public class FileSystemStorage implements Storage {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Path localStorageRoot() {
+        return storageRoot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeDirectory(Map<String, byte[]> files, String destination) {
+        var dstPath = storageRoot.resolve(destination);
+
+        try {
+            Files.createDirectories(dstPath.getParent());
+            // Fails if the destination exists, so that concurrent writers cannot write into the same directory
+            Files.createDirectory(dstPath);
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+
+        try {
+            for (var entry : files.entrySet()) {
+                var file = dstPath.resolve(entry.getKey());
+                Files.createDirectories(file.getParent());
+                Files.write(file, entry.getValue(), StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+            }
+        } catch (IOException e) {
+            FileUtil.safeDeleteDirectory(dstPath);
+            throw OcflIOException.from(e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -69,10 +69,21 @@ public final class FileUtil {
      * @return the path to the new directory
      */
     public static Path createObjectTempDir(Path parent, String objectId) {
-        var digest = DigestUtil.computeDigestHex(DigestAlgorithmRegistry.md5, objectId);
         UncheckedFiles.createDirectories(parent);
-        return UncheckedFiles.createDirectory(parent.resolve(digest + "-"
-                + Integer.toUnsignedString(ThreadLocalRandom.current().nextInt())));
+        return UncheckedFiles.createDirectory(objectTempDirPath(parent, objectId));
+    }
+
+    /**
+     * Returns a randomly named path for an object temp directory within the parent, without creating it.
+     *
+     * @param parent the parent directory
+     * @param objectId the object id
+     * @return temp directory path
+     */
+    public static Path objectTempDirPath(Path parent, String objectId) {
+        var digest = DigestUtil.computeDigestHex(DigestAlgorithmRegistry.md5, objectId);
+        return parent.resolve(digest + "-"
+                + Integer.toUnsignedString(ThreadLocalRandom.current().nextInt()));
     }
 
     /**
@@ -153,6 +164,22 @@ public final class FileUtil {
         }
     }
 
+    /**
+     * Returns true if both paths are located on the same file store, which means that a directory can be moved from one
+     * to the other with a single rename rather than by copying its contents.
+     *
+     * @param path1 first path, must exist
+     * @param path2 second path, must exist
+     * @return true if the paths are on the same file store
+     */
+    public static boolean isSameFileStore(Path path1, Path path2) {
+        try {
+            return Files.getFileStore(path1).equals(Files.getFileStore(path2));
+        } catch (IOException e) {
+            throw OcflIOException.from(e);
+        }
+    }
+
     public static void recursiveCopy(Path src, Path dst, StandardCopyOption... copyOptions) {
         try {
             Files.createDirectories(dst);
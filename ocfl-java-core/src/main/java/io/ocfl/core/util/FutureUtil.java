@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.util;
+
+import io.ocfl.api.exception.OcflJavaException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Utility methods for working with {@link CompletableFuture}s
+ */
+public final class FutureUtil {
+
+    private FutureUtil() {}
+
+    /**
+     * Executes the supplier on the current thread, and returns a future that is completed with its result, or
+     * completed exceptionally if it throws an exception.
+     *
+     * @param supplier the code to execute
+     * @param <T> the result type
+     * @return completed future
+     */
+    public static <T> CompletableFuture<T> completed(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits for the future to complete and returns its result. If the future completed exceptionally, then the
+     * exception that it completed with is thrown, rather than a {@link CompletionException}.
+     *
+     * @param future the future to wait on
+     * @param <T> the result type
+     * @return the result
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Waits for all of the futures to complete. If any of the futures completed exceptionally, then the exception
+     * from the first failed future is thrown after all of the futures have completed.
+     *
+     * @param futures the futures to wait on
+     */
+    public static void joinAll(Collection<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // allOf does not guarantee which exception it completes with
+            for (var future : futures) {
+                if (future.isCompletedExceptionally()) {
+                    join(future);
+                }
+            }
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Waits for all of the futures to complete, ignoring any failures.
+     *
+     * @param futures the futures to wait on
+     */
+    public static void awaitAll(Collection<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Returns the underlying cause of a {@link CompletionException} or {@link ExecutionException} as a runtime
+     * exception.
+     *
+     * @param e the exception
+     * @return the cause
+     */
+    public static RuntimeException unwrap(Throwable e) {
+        var cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new OcflJavaException(cause);
+    }
+}
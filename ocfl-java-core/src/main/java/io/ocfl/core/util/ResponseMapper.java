@@ -24,10 +24,15 @@
 
 package io.ocfl.core.util;
 
+import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.model.FileChange;
 import io.ocfl.api.model.FileChangeHistory;
 import io.ocfl.api.model.FileChangeType;
 import io.ocfl.api.model.FileDetails;
+import io.ocfl.api.model.FileDiff;
+import io.ocfl.api.model.FileDiffType;
+import io.ocfl.api.model.FileListing;
+import io.ocfl.api.model.FileListingEntry;
 import io.ocfl.api.model.ObjectDetails;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.VersionDetails;
@@ -36,12 +41,16 @@ import io.ocfl.api.model.VersionNum;
 import io.ocfl.core.model.Inventory;
 import io.ocfl.core.model.Version;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Used to map Inventory objects to API response objects
@@ -75,66 +84,244 @@ public class ResponseMapper {
     }
 
     public FileChangeHistory fileChangeHistory(Inventory inventory, String logicalPath) {
-        var changes = new ArrayList<FileChange>();
+        return fileChangeHistories(inventory, List.of(logicalPath)).get(logicalPath);
+    }
+
+    /**
+     * Computes the change histories of many logical paths in a single pass over the object's versions. A history is
+     * returned for every path, and it is empty if the path never existed.
+     *
+     * @param inventory the object's inventory
+     * @param logicalPaths the logical paths to compute histories for
+     * @return map of logical path to change history, in the same iteration order as the logical paths
+     */
+    public Map<String, FileChangeHistory> fileChangeHistories(Inventory inventory, Collection<String> logicalPaths) {
+        var changes = new LinkedHashMap<String, List<FileChange>>();
+        var lastFileIds = new HashMap<String, String>();
 
-        String lastFileId = null;
+        logicalPaths.forEach(logicalPath -> changes.put(logicalPath, new ArrayList<>()));
 
         for (var entry : inventory.getVersions().entrySet()) {
             var versionNum = entry.getKey();
             var version = entry.getValue();
-            var fileId = version.getFileId(logicalPath);
-
-            if (fileId != null && !Objects.equals(lastFileId, fileId)) {
-                lastFileId = fileId;
-                var contentPath = inventory.ensureContentPath(fileId);
-                var fixity = inventory.getFixityForContentPath(contentPath);
-                fixity.put(inventory.getDigestAlgorithm(), fileId);
-
-                changes.add(new FileChange()
-                        .setChangeType(FileChangeType.UPDATE)
-                        .setObjectVersionId(ObjectVersionId.version(inventory.getId(), versionNum))
-                        .setPath(logicalPath)
-                        .setTimestamp(version.getCreated())
-                        .setVersionInfo(versionInfo(version))
-                        .setStorageRelativePath(inventory.storagePath(fileId))
-                        .setFixity(fixity));
-            } else if (fileId == null && lastFileId != null) {
-                lastFileId = null;
-                changes.add(new FileChange()
-                        .setChangeType(FileChangeType.REMOVE)
-                        .setObjectVersionId(ObjectVersionId.version(inventory.getId(), versionNum))
-                        .setPath(logicalPath)
-                        .setTimestamp(version.getCreated())
-                        .setVersionInfo(versionInfo(version))
-                        .setFixity(Collections.emptyMap()));
+            var objectVersionId = ObjectVersionId.version(inventory.getId(), versionNum);
+
+            changes.forEach((logicalPath, pathChanges) -> {
+                var fileId = version.getFileId(logicalPath);
+                var lastFileId = lastFileIds.get(logicalPath);
+
+                if (fileId != null && !Objects.equals(lastFileId, fileId)) {
+                    lastFileIds.put(logicalPath, fileId);
+                    var contentPath = inventory.ensureContentPath(fileId);
+                    var fixity = inventory.getFixityForContentPath(contentPath);
+                    fixity.put(inventory.getDigestAlgorithm(), fileId);
+
+                    pathChanges.add(new FileChange()
+                            .setChangeType(FileChangeType.UPDATE)
+                            .setObjectVersionId(objectVersionId)
+                            .setPath(logicalPath)
+                            .setTimestamp(version.getCreated())
+                            .setVersionInfo(versionInfo(version))
+                            .setStorageRelativePath(inventory.storagePath(fileId))
+                            .setFixity(fixity));
+                } else if (fileId == null && lastFileId != null) {
+                    lastFileIds.remove(logicalPath);
+                    pathChanges.add(new FileChange()
+                            .setChangeType(FileChangeType.REMOVE)
+                            .setObjectVersionId(objectVersionId)
+                            .setPath(logicalPath)
+                            .setTimestamp(version.getCreated())
+                            .setVersionInfo(versionInfo(version))
+                            .setFixity(Collections.emptyMap()));
+                }
+            });
+        }
+
+        var histories = new LinkedHashMap<String, FileChangeHistory>();
+        changes.forEach((logicalPath, pathChanges) -> histories.put(
+                logicalPath, new FileChangeHistory().setPath(logicalPath).setFileChanges(pathChanges)));
+        return histories;
+    }
+
+    /**
+     * Lazily computes the differences between two versions of an object. Each file id in either version is visited
+     * once, and its paths in the two versions are compared. Paths that are only in the older version are paired with
+     * paths that are only in the newer version as renames, in path order. The differences are not in path order.
+     *
+     * @param from the older version
+     * @param to the newer version
+     * @return stream of differences
+     */
+    public Stream<FileDiff> diffVersions(Version from, Version to) {
+        var fromState = from.getState();
+        var toState = to.getState();
+
+        var fileIds = Stream.concat(
+                toState.keySet().stream(), fromState.keySet().stream().filter(fileId -> !toState.containsKey(fileId)));
+
+        return fileIds.flatMap(fileId -> diffFileId(from, to, fileId).stream());
+    }
+
+    private List<FileDiff> diffFileId(Version from, Version to, String fileId) {
+        var fromPaths = from.getPaths(fileId);
+        var toPaths = to.getPaths(fileId);
+
+        if (fromPaths.equals(toPaths)) {
+            return Collections.emptyList();
+        }
+
+        var diffs = new ArrayList<FileDiff>();
+        var added = new ArrayList<String>();
+        var removed = new ArrayList<String>();
+
+        for (var path : toPaths) {
+            if (!fromPaths.contains(path)) {
+                var previousFileId = from.getFileId(path);
+                if (previousFileId != null) {
+                    diffs.add(new FileDiff()
+                            .setDiffType(FileDiffType.MODIFIED)
+                            .setPath(path)
+                            .setPreviousPath(path)
+                            .setDigest(fileId)
+                            .setPreviousDigest(previousFileId));
+                } else {
+                    added.add(path);
+                }
+            }
+        }
+
+        // Paths that still exist with different content are reported as modified by their new file id
+        for (var path : fromPaths) {
+            if (!toPaths.contains(path) && to.getFileId(path) == null) {
+                removed.add(path);
+            }
+        }
+
+        var renames = Math.min(added.size(), removed.size());
+
+        for (var i = 0; i < renames; i++) {
+            diffs.add(new FileDiff()
+                    .setDiffType(FileDiffType.RENAMED)
+                    .setPath(added.get(i))
+                    .setPreviousPath(removed.get(i))
+                    .setDigest(fileId)
+                    .setPreviousDigest(fileId));
+        }
+        for (var i = renames; i < added.size(); i++) {
+            diffs.add(new FileDiff()
+                    .setDiffType(FileDiffType.ADDED)
+                    .setPath(added.get(i))
+                    .setDigest(fileId));
+        }
+        for (var i = renames; i < removed.size(); i++) {
+            diffs.add(new FileDiff()
+                    .setDiffType(FileDiffType.REMOVED)
+                    .setPath(removed.get(i))
+                    .setPreviousPath(removed.get(i))
+                    .setPreviousDigest(fileId));
+        }
+
+        return diffs;
+    }
+
+    /**
+     * Maps a page of the files in a version that are under the directory. Pages are located using the version's sorted
+     * logical path index, so that the cost of a page is proportional to its size rather than the size of the version.
+     * When the listing is not recursive, the files within a subdirectory are skipped by seeking past them in the index.
+     *
+     * @param inventory the object's inventory
+     * @param version the version to list
+     * @param directory the logical directory to list, or an empty string for the object root
+     * @param recursive true to list every file under the directory, false to list its immediate children
+     * @param cursor the cursor returned with the previous page, or null to list the first page
+     * @param limit the maximum number of entries to return
+     * @return file listing page
+     */
+    public FileListing mapFileListing(
+            Inventory inventory, Version version, String directory, boolean recursive, String cursor, int limit) {
+        var prefix = directory.isEmpty() ? "" : directory + "/";
+        var candidates = version.getPathsWithPrefix(prefix);
+
+        Map.Entry<String, String> current;
+
+        if (cursor == null) {
+            current = candidates.firstEntry();
+        } else {
+            if (!cursor.startsWith(prefix) || cursor.length() == prefix.length()) {
+                throw new OcflInputException(
+                        String.format("Cursor %s is not valid for directory '%s'", cursor, directory));
+            }
+            current = candidates.higherEntry(skipKey(cursor));
+        }
+
+        var entries = new ArrayList<FileListingEntry>();
+        String lastCursor = null;
+        String nextCursor = null;
+
+        while (current != null) {
+            if (entries.size() == limit) {
+                nextCursor = lastCursor;
+                break;
+            }
+
+            var path = current.getKey();
+            var slash = recursive ? -1 : path.indexOf('/', prefix.length());
+
+            if (slash == -1) {
+                entries.add(FileListingEntry.file(mapFileDetails(inventory, path, current.getValue())));
+                lastCursor = path;
+            } else {
+                // Directory cursors end with a slash so that the directory's contents are skipped when resuming
+                entries.add(FileListingEntry.directory(path.substring(0, slash)));
+                lastCursor = path.substring(0, slash + 1);
             }
+
+            current = candidates.higherEntry(skipKey(lastCursor));
         }
 
-        return new FileChangeHistory().setPath(logicalPath).setFileChanges(changes);
+        return new FileListing().setEntries(entries).setNextCursor(nextCursor);
+    }
+
+    /**
+     * Returns the key to seek past to resume a listing after the cursor. Every path within a directory cursor sorts
+     * before the directory cursor followed by the greatest character.
+     */
+    private String skipKey(String cursor) {
+        return cursor.endsWith("/") ? cursor + Character.MAX_VALUE : cursor;
     }
 
     private Map<String, FileDetails> mapFileDetails(Inventory inventory, Version version) {
         var fileDetailsMap = new HashMap<String, FileDetails>();
 
-        var digestAlgorithm = inventory.getDigestAlgorithm();
-
         version.getState().forEach((digest, paths) -> {
             paths.forEach(path -> {
-                var contentPath = inventory.getContentPath(digest);
-                var details = new FileDetails()
-                        .setPath(path)
-                        .setStorageRelativePath(inventory.storagePath(digest))
-                        .addDigest(digestAlgorithm, digest);
-
-                var digests = inventory.getFixityForContentPath(contentPath);
-                digests.forEach(details::addDigest);
-                fileDetailsMap.put(path, details);
+                fileDetailsMap.put(path, mapFileDetails(inventory, path, digest));
             });
         });
 
         return fileDetailsMap;
     }
 
+    /**
+     * Maps a single file in a version, without mapping any of the other files in the version.
+     *
+     * @param inventory the object's inventory
+     * @param logicalPath the file's logical path
+     * @param digest the file's digest
+     * @return file details
+     */
+    public FileDetails mapFileDetails(Inventory inventory, String logicalPath, String digest) {
+        var contentPath = inventory.getContentPath(digest);
+        var details = new FileDetails()
+                .setPath(logicalPath)
+                .setStorageRelativePath(inventory.storagePath(digest))
+                .addDigest(inventory.getDigestAlgorithm(), digest);
+
+        var digests = inventory.getFixityForContentPath(contentPath);
+        digests.forEach(details::addDigest);
+        return details;
+    }
+
     private VersionInfo versionInfo(Version version) {
         var versionInfo = new VersionInfo().setMessage(version.getMessage()).setCreated(version.getCreated());
 
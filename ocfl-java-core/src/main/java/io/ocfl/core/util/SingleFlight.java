@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key so that only one of them does the work. Callers that arrive while a
+ * call for the key is in flight wait for it and receive its result, or the exception that it threw. Results are not
+ * retained once the call completes.
+ *
+ * <p>Calls may be tagged with a stamp that increases whenever the underlying data changes. A caller only joins an
+ * in-flight call that started at the same or a later stamp, so that it's never handed a result that was computed before
+ * a change it has already observed.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the supplier, unless a call for the same key is already in flight, in which case that call's result is
+     * returned instead.
+     *
+     * @param key the key to coalesce calls on
+     * @param supplier the work to do
+     * @return the result
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        return execute(key, 0, supplier);
+    }
+
+    /**
+     * Executes the supplier, unless a call for the same key that started at the same or a later stamp is already in
+     * flight, in which case that call's result is returned instead. An in-flight call with an earlier stamp is replaced,
+     * so that callers that arrive later join this call instead.
+     *
+     * @param key the key to coalesce calls on
+     * @param stamp the caller's current stamp for the key
+     * @param supplier the work to do
+     * @return the result
+     */
+    public V execute(K key, long stamp, Supplier<V> supplier) {
+        var flight = new Flight<V>(stamp);
+
+        while (true) {
+            var existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                break;
+            }
+            if (existing.stamp >= stamp) {
+                return FutureUtil.join(existing.future);
+            }
+            if (inFlight.replace(key, existing, flight)) {
+                break;
+            }
+        }
+
+        try {
+            var result = supplier.get();
+            flight.future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static class Flight<V> {
+        private final long stamp;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        private Flight(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+}
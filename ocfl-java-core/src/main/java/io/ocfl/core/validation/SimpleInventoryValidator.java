@@ -46,6 +46,7 @@ import java.net.URISyntaxException;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
@@ -201,6 +202,32 @@ public class SimpleInventoryValidator {
         return results.build();
     }
 
+    /**
+     * Validates that the inventory's type relates to the specified OCFL version as expected. This is the same check that
+     * {@link #validateInventory} makes when it is given an OCFL version, except invalid types are not reported.
+     *
+     * @param inventory the inventory to validate
+     * @param inventoryPath  the path to the inventory
+     * @param ocflVersion  the OCFL version the inventory should adhere to
+     * @param equality  how the inventory version should relate to the expected version
+     * @return the validation results
+     */
+    public ValidationResults validateInventoryType(
+            SimpleInventory inventory, String inventoryPath, OcflVersion ocflVersion, VersionEquality equality) {
+        Enforce.notNull(inventory, "inventory cannot be null");
+        Enforce.notNull(inventoryPath, "inventoryPath cannot be null");
+
+        var results = new ValidationResultsBuilder();
+
+        var type = inventory.getType();
+        if (type != null
+                && Arrays.stream(InventoryType.values()).anyMatch(t -> t.getId().equalsIgnoreCase(type))) {
+            validateType(inventory, inventoryPath, ocflVersion, equality, results);
+        }
+
+        return results.build();
+    }
+
     private void validateType(
             SimpleInventory inventory,
             String inventoryPath,
@@ -46,25 +46,37 @@ import io.ocfl.core.extension.storage.layout.HashedNTupleLayoutExtension;
 import io.ocfl.core.storage.common.Listing;
 import io.ocfl.core.storage.common.Storage;
 import io.ocfl.core.storage.filesystem.FileSystemStorage;
+import io.ocfl.core.util.ExecutorUtil;
 import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.util.FutureUtil;
 import io.ocfl.core.util.MultiDigestInputStream;
 import io.ocfl.core.util.NamasteTypeFile;
 import io.ocfl.core.validation.model.SimpleInventory;
+import io.ocfl.core.validation.model.SimpleVersion;
+import io.ocfl.core.validation.state.ValidationState;
+import io.ocfl.core.validation.state.ValidationStateStore;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -73,7 +85,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Validates an object directory against the OCFL 1.0 and 1.1 spec
  */
-public class Validator {
+public class Validator implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Validator.class);
 
@@ -91,6 +103,11 @@ public class Validator {
     private final Storage fileSystem;
     private final SimpleInventoryParser inventoryParser;
     private final SimpleInventoryValidator inventoryValidator;
+    private final ValidationStateStore stateStore;
+    private final Duration maxStateAge;
+    private final int parallelism;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
 
     /**
      * Validates that object at the specified location on disk
@@ -116,9 +133,82 @@ public class Validator {
     }
 
     public Validator(Storage fileSystem) {
+        this(fileSystem, null, null, 1);
+    }
+
+    /**
+     * Creates a validator that validates objects incrementally when a state store is specified. Incremental validation
+     * skips version inventories and content files that passed a previous validation and have not changed since. The
+     * root inventory and head version are always validated. Warnings in skipped parts are not reported again.
+     *
+     * @param fileSystem the storage the objects are in
+     * @param stateStore where validation state is persisted, may be null to disable incremental validation
+     * @param maxStateAge the amount of time after a full validation before the next validation is forced to be a full
+     *                    validation again, required when a state store is specified
+     */
+    public Validator(Storage fileSystem, ValidationStateStore stateStore, Duration maxStateAge) {
+        this(fileSystem, stateStore, maxStateAge, 1);
+    }
+
+    /**
+     * Creates a validator that may validate objects incrementally, and that parses and validates the inventories of an
+     * object's versions concurrently. Checks that depend on the order of versions are still made one version at a
+     * time, in reverse order, and issues are reported in the same order regardless of parallelism.
+     *
+     * <p>The inventories are loaded on a pool of threads that the validator creates and shares across all of the
+     * objects it validates. The pool is shut down when the validator is closed.
+     *
+     * @param fileSystem the storage the objects are in
+     * @param stateStore where validation state is persisted, may be null to disable incremental validation
+     * @param maxStateAge the amount of time after a full validation before the next validation is forced to be a full
+     *                    validation again, required when a state store is specified
+     * @param parallelism the maximum number of version inventories of a single object to load concurrently
+     */
+    public Validator(Storage fileSystem, ValidationStateStore stateStore, Duration maxStateAge, int parallelism) {
+        this(fileSystem, stateStore, maxStateAge, parallelism, null);
+    }
+
+    /**
+     * Same as {@link #Validator(Storage, ValidationStateStore, Duration, int)}, except that the version inventories are
+     * loaded on the specified executor. The executor is not shut down when the validator is closed.
+     *
+     * @param fileSystem the storage the objects are in
+     * @param stateStore where validation state is persisted, may be null to disable incremental validation
+     * @param maxStateAge the amount of time after a full validation before the next validation is forced to be a full
+     *                    validation again, required when a state store is specified
+     * @param parallelism the maximum number of version inventories of a single object to load concurrently
+     * @param executor the executor to load version inventories on, or null to create a pool for the validator
+     */
+    public Validator(
+            Storage fileSystem,
+            ValidationStateStore stateStore,
+            Duration maxStateAge,
+            int parallelism,
+            Executor executor) {
         this.fileSystem = Enforce.notNull(fileSystem, "fileSystem cannot be null");
         this.inventoryParser = new SimpleInventoryParser();
         this.inventoryValidator = new SimpleInventoryValidator();
+        this.stateStore = stateStore;
+        this.maxStateAge = stateStore == null ? null : Enforce.notNull(maxStateAge, "maxStateAge cannot be null");
+        this.parallelism = Enforce.expressionTrue(parallelism > 0, parallelism, "parallelism must be greater than 0");
+
+        if (executor == null && parallelism > 1) {
+            this.ownedExecutor = ExecutorUtil.newDaemonPool(parallelism, "ocfl-validation-");
+            this.executor = ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * Shuts down the pool the validator created to load version inventories, if it created one.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
     }
 
     /**
@@ -220,6 +310,7 @@ public class Validator {
 
             var contentFiles = findAllContentFiles(objectRootPath, rootInventory, results);
             var manifests = new Manifests(rootInventory);
+            var incremental = loadIncrementalState(rootInventory);
 
             validateContentFiles(inventoryPath, rootInventory, contentFiles, manifests, results);
 
@@ -229,31 +320,53 @@ public class Validator {
 
             var previousVersion = ocflVersion;
 
-            // This MUST be done in reverse order
-            for (var versionStr : seenVersions.values()) {
-                if (Objects.equals(rootInventory.getHead(), versionStr)) {
-                    validateHeadVersion(objectRootPath, rootInventory, rootDigest, results);
-                } else {
-                    var currentVersion = validateVersion(
-                            objectRootPath,
-                            versionStr,
-                            rootInventory,
-                            previousVersion,
-                            contentFiles,
-                            manifests,
-                            inventoryMap,
-                            results);
-
-                    if (currentVersion != null) {
-                        previousVersion = currentVersion;
+            // Most versions are skipped when there is previous state, so there's no point loading them ahead
+            var loader = new VersionLoader(
+                    objectRootPath,
+                    rootInventory,
+                    seenVersions.values().stream()
+                            .filter(version -> !Objects.equals(rootInventory.getHead(), version))
+                            .collect(Collectors.toList()),
+                    incremental.hasPrevious() ? 1 : parallelism);
+
+            try (loader) {
+                // This MUST be done in reverse order
+                for (var versionStr : seenVersions.values()) {
+                    if (Objects.equals(rootInventory.getHead(), versionStr)) {
+                        validateHeadVersion(objectRootPath, rootInventory, rootDigest, results);
+                        incremental.recordVersion(versionStr, rootDigest);
+                    } else if (incremental.isChainIntact()
+                            && validateUnchangedVersion(
+                                    objectRootPath, versionStr, rootInventory, incremental, results)) {
+                        LOG.debug(
+                                "Skipped validation of unchanged version {} of object {}", versionStr, objectRootPath);
+                    } else {
+                        var currentVersion = validateVersion(
+                                objectRootPath,
+                                loader.load(versionStr),
+                                rootInventory,
+                                previousVersion,
+                                contentFiles,
+                                manifests,
+                                inventoryMap,
+                                incremental,
+                                results);
+
+                        if (currentVersion != null) {
+                            previousVersion = currentVersion;
+                        }
                     }
                 }
             }
 
             if (contentFixityCheck) {
                 // TODO digests from the non-root fixity blocks are not validated
-                fixityCheck(objectRootPath, rootInventory, manifests, results);
+                fixityCheck(objectRootPath, rootInventory, manifests, incremental, results);
+            } else {
+                carryOverContentState(rootInventory, manifests, incremental);
             }
+
+            saveIncrementalState(rootInventory, incremental, results);
         } else {
             LOG.debug(
                     "Skipping further validation of the object at {} because its inventory is invalid", objectRootPath);
@@ -262,42 +375,46 @@ public class Validator {
 
     /**
      * Validates the object version and returns the OCFL version the object version adheres too, or null if the
-     * inventory is invalid.
+     * inventory is invalid. The parts of the validation that do not depend on other versions were already done when
+     * the version was loaded.
      */
     private OcflVersion validateVersion(
             String objectRootPath,
-            String versionStr,
+            LoadedVersion loaded,
             SimpleInventory rootInventory,
             OcflVersion ocflVersion,
             ContentPaths contentFiles,
             Manifests manifests,
             Map<String, SimpleInventory> inventoryMap,
+            IncrementalState incremental,
             ValidationResultsBuilder results) {
         OcflVersion thisVersion = null;
-        var versionPath = FileUtil.pathJoinFailEmpty(objectRootPath, versionStr);
-        var inventoryPath = ObjectPaths.inventoryPath(versionPath);
+        String inventoryDigest = null;
+        var errorCount = results.getErrors().size();
+        var versionStr = loaded.versionStr;
+        var inventoryPath = loaded.inventoryPath;
         var contentDir = defaultedContentDir(rootInventory);
 
-        var files = listFiles(versionPath);
+        var files = loaded.files;
 
         var ignoreFiles = new HashSet<String>();
         ignoreFiles.add(contentDir);
 
-        if (files.contains(Listing.file(OcflConstants.INVENTORY_FILE))) {
+        results.addAll(loaded.results);
+
+        if (loaded.parseResult != null) {
             ignoreFiles.add(OcflConstants.INVENTORY_FILE);
+            loaded.sidecarFile.ifPresent(ignoreFiles::add);
 
-            var parseResult = parseInventory(inventoryPath, results, VALID_INVENTORY_ALGORITHMS);
+            var parseResult = loaded.parseResult;
             if (parseResult.inventory.isPresent()) {
                 var inventory = parseResult.inventory.get();
-                var validationResults = inventoryValidator.validateInventory(
+                var typeResults = inventoryValidator.validateInventoryType(
                         inventory,
                         inventoryPath,
                         ocflVersion,
                         SimpleInventoryValidator.VersionEquality.LESS_THAN_OR_EQUAL);
-                results.addAll(validationResults);
-
-                validateSidecar(inventoryPath, inventory, parseResult.digests, results)
-                        .ifPresent(ignoreFiles::add);
+                results.addAll(typeResults);
 
                 var versionContentDir = defaultedContentDir(inventory);
 
@@ -326,17 +443,27 @@ public class Validator {
                                 contentDir,
                                 versionContentDir));
 
-                if (parseResult.isValid && !validationResults.hasErrors()) {
+                if (parseResult.isValid && !loaded.inventoryHasErrors && !typeResults.hasErrors()) {
                     if (!Objects.equals(rootInventory.getDigestAlgorithm(), inventory.getDigestAlgorithm())
                             && !manifests.containsAlgorithm(inventory.getDigestAlgorithm())) {
                         manifests.addManifest(inventory);
                         inventoryMap.put(inventory.getDigestAlgorithm(), inventory);
                     }
 
-                    validateVersionIsConsistent(
-                            versionStr, rootInventory, inventory, inventoryPath, inventoryMap, results);
+                    if (loaded.consistencyResults != null) {
+                        results.addAll(loaded.consistencyResults);
+                    } else {
+                        validateVersionIsConsistent(
+                                versionStr, rootInventory, inventory, inventoryPath, inventoryMap, results);
+                    }
                     validateContentFiles(inventoryPath, inventory, contentFiles, manifests, results);
                     thisVersion = InventoryType.fromValue(inventory.getType()).getOcflVersion();
+
+                    // Versions that use a different algorithm are never skipped because their manifests are needed
+                    if (Objects.equals(rootInventory.getDigestAlgorithm(), inventory.getDigestAlgorithm())) {
+                        inventoryDigest = parseResult.digests.get(
+                                DigestAlgorithmRegistry.getAlgorithm(inventory.getDigestAlgorithm()));
+                    }
                 }
             }
         } else {
@@ -346,9 +473,117 @@ public class Validator {
 
         validateVersionDirContents(objectRootPath, versionStr, contentDir, files, ignoreFiles, results);
 
+        incremental.versionValidated(
+                versionStr, thisVersion != null && results.getErrors().size() == errorCount ? inventoryDigest : null);
+
         return thisVersion;
     }
 
+    /**
+     * Lists the files in a version directory, and parses, validates, and verifies the sidecar of the version's
+     * inventory. None of this depends on any other version, so it may be done concurrently. When the inventory uses
+     * the same algorithm as the root inventory, its consistency with the root inventory is checked as well, because
+     * it is always compared against the root inventory.
+     */
+    private LoadedVersion loadVersion(String objectRootPath, String versionStr, SimpleInventory rootInventory) {
+        var versionPath = FileUtil.pathJoinFailEmpty(objectRootPath, versionStr);
+        var inventoryPath = ObjectPaths.inventoryPath(versionPath);
+        var files = listFiles(versionPath);
+        var results = new ValidationResultsBuilder();
+
+        ParseResult parseResult = null;
+        Optional<String> sidecarFile = Optional.empty();
+        var inventoryHasErrors = false;
+        ValidationResultsBuilder consistencyResults = null;
+
+        if (files.contains(Listing.file(OcflConstants.INVENTORY_FILE))) {
+            parseResult = parseInventory(inventoryPath, results, VALID_INVENTORY_ALGORITHMS);
+            if (parseResult.inventory.isPresent()) {
+                var inventory = parseResult.inventory.get();
+                var validationResults = inventoryValidator.validateInventory(inventory, inventoryPath, null, null);
+                results.addAll(validationResults);
+                inventoryHasErrors = validationResults.hasErrors();
+
+                sidecarFile = validateSidecar(inventoryPath, inventory, parseResult.digests, results);
+
+                if (parseResult.isValid
+                        && !inventoryHasErrors
+                        && Objects.equals(rootInventory.getDigestAlgorithm(), inventory.getDigestAlgorithm())) {
+                    consistencyResults = new ValidationResultsBuilder();
+                    validateVersionIsConsistent(
+                            versionStr,
+                            rootInventory,
+                            inventory,
+                            inventoryPath,
+                            Map.of(rootInventory.getDigestAlgorithm(), rootInventory),
+                            consistencyResults);
+                }
+            }
+        }
+
+        return new LoadedVersion(
+                versionStr,
+                inventoryPath,
+                files,
+                parseResult,
+                sidecarFile,
+                inventoryHasErrors,
+                results,
+                consistencyResults);
+    }
+
+    /**
+     * Validates a version that passed a previous validation, if its inventory has not changed since. Only the
+     * inventory's sidecar and the contents of the version directory are validated. Returns false if the inventory
+     * changed, and the version must be fully validated.
+     */
+    private boolean validateUnchangedVersion(
+            String objectRootPath,
+            String versionStr,
+            SimpleInventory rootInventory,
+            IncrementalState incremental,
+            ValidationResultsBuilder results) {
+        var versionPath = FileUtil.pathJoinFailEmpty(objectRootPath, versionStr);
+        var inventoryPath = ObjectPaths.inventoryPath(versionPath);
+        var algorithm = DigestAlgorithmRegistry.getAlgorithm(rootInventory.getDigestAlgorithm());
+
+        String inventoryDigest;
+        try {
+            inventoryDigest = computeInventoryDigest(inventoryPath, algorithm);
+        } catch (OcflNoSuchFileException e) {
+            return false;
+        }
+
+        if (!incremental.isUnchanged(versionStr, inventoryDigest)) {
+            return false;
+        }
+
+        var contentDir = defaultedContentDir(rootInventory);
+        var files = listFiles(versionPath);
+        var ignoreFiles = new HashSet<String>();
+        ignoreFiles.add(contentDir);
+        ignoreFiles.add(OcflConstants.INVENTORY_FILE);
+        ignoreFiles.add(OcflConstants.INVENTORY_SIDECAR_PREFIX + rootInventory.getDigestAlgorithm());
+
+        var sidecarPath = inventoryPath + "." + rootInventory.getDigestAlgorithm();
+        var sidecarDigest = validateInventorySidecar(sidecarPath, results);
+
+        if (sidecarDigest != null && !sidecarDigest.equalsIgnoreCase(inventoryDigest)) {
+            results.addIssue(
+                    ValidationCode.E060,
+                    "Inventory at %s does not match expected %s digest. Expected: %s; Found: %s",
+                    inventoryPath,
+                    rootInventory.getDigestAlgorithm(),
+                    sidecarDigest,
+                    inventoryDigest);
+        }
+
+        validateVersionDirContents(objectRootPath, versionStr, contentDir, files, ignoreFiles, results);
+
+        incremental.recordVersion(versionStr, inventoryDigest);
+        return true;
+    }
+
     private void validateHeadVersion(
             String objectRootPath, SimpleInventory rootInventory, String rootDigest, ValidationResultsBuilder results) {
         var versionStr = rootInventory.getHead();
@@ -610,7 +845,11 @@ public class Validator {
     }
 
     private void fixityCheck(
-            String objectRootPath, SimpleInventory inventory, Manifests manifests, ValidationResultsBuilder results) {
+            String objectRootPath,
+            SimpleInventory inventory,
+            Manifests manifests,
+            IncrementalState incremental,
+            ValidationResultsBuilder results) {
         var invertedFixityMap = invertFixity(inventory);
         var contentAlgorithm = DigestAlgorithmRegistry.getAlgorithm(inventory.getDigestAlgorithm());
         var contentAlgorithms = new HashSet<DigestAlgorithm>();
@@ -622,39 +861,28 @@ public class Validator {
             for (var contentPath : entry.getValue()) {
                 var storagePath = FileUtil.pathJoinFailEmpty(objectRootPath, contentPath);
 
-                var expectations = new HashMap<DigestAlgorithm, String>();
-                expectations.put(contentAlgorithm, digest);
-
-                // This is necessary if there was an algorithm change over the course of an object's life
-                if (manifests.hasMultipleAlgorithms()) {
-                    manifests.getDigests(contentPath).entrySet().stream()
-                            .filter(e -> !Objects.equals(e.getKey(), contentAlgorithm.getOcflName()))
-                            .forEach(e -> {
-                                var algorithm = DigestAlgorithmRegistry.getAlgorithm(e.getKey());
-                                if (algorithm != null) {
-                                    expectations.put(algorithm, e.getValue());
-                                    contentAlgorithms.add(algorithm);
-                                }
-                            });
-                }
+                var expectations = contentExpectations(
+                        contentPath, digest, contentAlgorithm, manifests, invertedFixityMap, contentAlgorithms);
+                var signature = expectationsSignature(expectations);
 
-                var fixityDigests = invertedFixityMap.get(contentPath);
-                if (fixityDigests != null) {
-                    expectations.putAll(fixityDigests);
+                if (incremental.isUnchangedContent(contentPath, signature)) {
+                    incremental.recordContent(contentPath, signature);
+                    continue;
                 }
 
                 try (var contentStream = fileSystem.read(storagePath)) {
                     var wrapped = MultiDigestInputStream.create(contentStream, expectations.keySet());
-
-                    while (wrapped.read() != -1) {
-                        // read entire stream
-                    }
+                    wrapped.transferTo(OutputStream.nullOutputStream());
 
                     var actualDigests = wrapped.getResults();
+                    var passed = true;
 
-                    expectations.forEach((algorithm, expected) -> {
+                    for (var expectation : expectations.entrySet()) {
+                        var algorithm = expectation.getKey();
+                        var expected = expectation.getValue();
                         var actual = actualDigests.get(algorithm);
                         if (!expected.equalsIgnoreCase(actual)) {
+                            passed = false;
                             var code =
                                     contentAlgorithms.contains(algorithm) ? ValidationCode.E092 : ValidationCode.E093;
                             results.addIssue(
@@ -665,7 +893,11 @@ public class Validator {
                                     expected,
                                     actual);
                         }
-                    });
+                    }
+
+                    if (passed) {
+                        incremental.recordContent(contentPath, signature);
+                    }
                 } catch (OcflNoSuchFileException e) {
                     // Ignore this. We already reported missing files.
                 } catch (Exception e) {
@@ -676,6 +908,128 @@ public class Validator {
         }
     }
 
+    /**
+     * Retains the content files from the previous validation state that are still expected to have the same digests
+     * when fixity is not checked, so that they are not lost for the next validation that does check fixity.
+     */
+    private void carryOverContentState(SimpleInventory inventory, Manifests manifests, IncrementalState incremental) {
+        if (!incremental.hasPrevious()) {
+            return;
+        }
+
+        var invertedFixityMap = invertFixity(inventory);
+        var contentAlgorithm = DigestAlgorithmRegistry.getAlgorithm(inventory.getDigestAlgorithm());
+        var contentAlgorithms = new HashSet<DigestAlgorithm>();
+
+        for (var entry : inventory.getManifest().entrySet()) {
+            for (var contentPath : entry.getValue()) {
+                var signature = expectationsSignature(contentExpectations(
+                        contentPath,
+                        entry.getKey(),
+                        contentAlgorithm,
+                        manifests,
+                        invertedFixityMap,
+                        contentAlgorithms));
+                if (incremental.isUnchangedContent(contentPath, signature)) {
+                    incremental.recordContent(contentPath, signature);
+                }
+            }
+        }
+    }
+
+    private Map<DigestAlgorithm, String> contentExpectations(
+            String contentPath,
+            String digest,
+            DigestAlgorithm contentAlgorithm,
+            Manifests manifests,
+            Map<String, Map<DigestAlgorithm, String>> invertedFixityMap,
+            Set<DigestAlgorithm> contentAlgorithms) {
+        var expectations = new HashMap<DigestAlgorithm, String>();
+        expectations.put(contentAlgorithm, digest);
+
+        // This is necessary if there was an algorithm change over the course of an object's life
+        if (manifests.hasMultipleAlgorithms()) {
+            manifests.getDigests(contentPath).entrySet().stream()
+                    .filter(e -> !Objects.equals(e.getKey(), contentAlgorithm.getOcflName()))
+                    .forEach(e -> {
+                        var algorithm = DigestAlgorithmRegistry.getAlgorithm(e.getKey());
+                        if (algorithm != null) {
+                            expectations.put(algorithm, e.getValue());
+                            contentAlgorithms.add(algorithm);
+                        }
+                    });
+        }
+
+        var fixityDigests = invertedFixityMap.get(contentPath);
+        if (fixityDigests != null) {
+            expectations.putAll(fixityDigests);
+        }
+
+        return expectations;
+    }
+
+    /**
+     * Returns a string that uniquely identifies the set of digests a content file is expected to have
+     */
+    private String expectationsSignature(Map<DigestAlgorithm, String> expectations) {
+        return expectations.entrySet().stream()
+                .map(e -> e.getKey().getOcflName() + ":" + e.getValue().toLowerCase())
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private IncrementalState loadIncrementalState(SimpleInventory rootInventory) {
+        if (stateStore == null) {
+            return IncrementalState.disabled();
+        }
+
+        ValidationState previous = null;
+
+        try {
+            previous = stateStore.load(rootInventory.getId());
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to load the validation state of object {}", rootInventory.getId(), e);
+        }
+
+        if (previous != null) {
+            if (!Objects.equals(rootInventory.getDigestAlgorithm(), previous.getDigestAlgorithm())) {
+                LOG.debug(
+                        "Discarding validation state of object {} because its algorithm changed",
+                        rootInventory.getId());
+                previous = null;
+            } else if (previous.getFullValidationTimestamp() == null
+                    || previous.getFullValidationTimestamp().plus(maxStateAge).isBefore(OffsetDateTime.now())) {
+                LOG.debug("Discarding expired validation state of object {}", rootInventory.getId());
+                previous = null;
+            }
+        }
+
+        var next = new ValidationState();
+        next.setObjectId(rootInventory.getId());
+        next.setDigestAlgorithm(rootInventory.getDigestAlgorithm());
+        next.setFullValidationTimestamp(
+                previous == null ? OffsetDateTime.now() : previous.getFullValidationTimestamp());
+
+        return new IncrementalState(previous, next);
+    }
+
+    private void saveIncrementalState(
+            SimpleInventory rootInventory, IncrementalState incremental, ValidationResultsBuilder results) {
+        if (stateStore == null) {
+            return;
+        }
+
+        try {
+            if (results.hasErrors()) {
+                stateStore.delete(rootInventory.getId());
+            } else {
+                stateStore.save(incremental.next);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to update the validation state of object {}", rootInventory.getId(), e);
+        }
+    }
+
     private void validateVersionDirContents(
             String objectRootPath,
             String versionStr,
@@ -939,9 +1293,7 @@ public class Validator {
     private String computeInventoryDigest(String inventoryPath, DigestAlgorithm algorithm) {
         try (var stream = fileSystem.read(inventoryPath)) {
             var wrapped = MultiDigestInputStream.create(stream, List.of(algorithm));
-            while (wrapped.read() > 0) {
-                // consume stream
-            }
+            wrapped.transferTo(OutputStream.nullOutputStream());
             return wrapped.getResults().get(algorithm);
         } catch (IOException e) {
             throw new OcflIOException(e);
@@ -1030,6 +1382,159 @@ public class Validator {
         }
     }
 
+    /**
+     * Tracks what passed validation when incremental validation is enabled. When it is disabled, nothing is skipped.
+     */
+    private static class IncrementalState {
+        final ValidationState previous;
+        final ValidationState next;
+
+        /**
+         * Older versions may only be skipped after a more recent version was fully validated, passed, and had not
+         * changed since the previous validation. This ensures the skipped versions are consistent with the root.
+         */
+        boolean chainIntact;
+
+        static IncrementalState disabled() {
+            return new IncrementalState(null, null);
+        }
+
+        IncrementalState(ValidationState previous, ValidationState next) {
+            this.previous = previous;
+            this.next = next;
+        }
+
+        boolean hasPrevious() {
+            return previous != null;
+        }
+
+        boolean isChainIntact() {
+            return previous != null && chainIntact;
+        }
+
+        boolean isUnchanged(String versionStr, String inventoryDigest) {
+            return previous != null
+                    && inventoryDigest != null
+                    && inventoryDigest.equalsIgnoreCase(
+                            previous.getVersionInventories().get(versionStr));
+        }
+
+        boolean isUnchangedContent(String contentPath, String signature) {
+            return previous != null
+                    && signature.equals(previous.getContentFiles().get(contentPath));
+        }
+
+        void recordVersion(String versionStr, String inventoryDigest) {
+            if (next != null && inventoryDigest != null) {
+                next.getVersionInventories().put(versionStr, inventoryDigest.toLowerCase());
+            }
+        }
+
+        /**
+         * @param inventoryDigest the digest of the version's inventory if it passed validation, otherwise null
+         */
+        void versionValidated(String versionStr, String inventoryDigest) {
+            chainIntact = isUnchanged(versionStr, inventoryDigest);
+            recordVersion(versionStr, inventoryDigest);
+        }
+
+        void recordContent(String contentPath, String signature) {
+            if (next != null) {
+                next.getContentFiles().put(contentPath, signature);
+            }
+        }
+    }
+
+    /**
+     * Loads versions ahead of when they are validated, using the validator's executor. Versions must be requested in
+     * the order they were provided in. At most twice the parallelism number of versions are held in memory at once.
+     */
+    private class VersionLoader implements AutoCloseable {
+        private final String objectRootPath;
+        private final SimpleInventory rootInventory;
+        private final Iterator<String> remaining;
+        private final Map<String, CompletableFuture<LoadedVersion>> loading;
+        private final boolean concurrent;
+        private final int window;
+
+        VersionLoader(String objectRootPath, SimpleInventory rootInventory, List<String> versions, int parallelism) {
+            this.objectRootPath = objectRootPath;
+            this.rootInventory = rootInventory;
+            this.remaining = versions.iterator();
+            this.loading = new HashMap<>();
+            this.window = parallelism * 2;
+
+            this.concurrent = executor != null && parallelism > 1 && versions.size() > 1;
+
+            if (concurrent) {
+                // The root inventory is shared by all of the loads, so its lazily computed state must be computed first
+                rootInventory.getVersions().values().forEach(SimpleVersion::getInvertedState);
+            }
+        }
+
+        LoadedVersion load(String versionStr) {
+            if (!concurrent) {
+                return loadVersion(objectRootPath, versionStr, rootInventory);
+            }
+
+            fill();
+            var future = loading.remove(versionStr);
+            if (future == null) {
+                return loadVersion(objectRootPath, versionStr, rootInventory);
+            }
+            var loaded = FutureUtil.join(future);
+            fill();
+            return loaded;
+        }
+
+        private void fill() {
+            while (loading.size() < window && remaining.hasNext()) {
+                var versionStr = remaining.next();
+                loading.put(
+                        versionStr,
+                        CompletableFuture.supplyAsync(
+                                () -> loadVersion(objectRootPath, versionStr, rootInventory), executor));
+            }
+        }
+
+        @Override
+        public void close() {
+            // Loads that have not started yet are skipped
+            loading.values().forEach(future -> future.cancel(false));
+            loading.clear();
+        }
+    }
+
+    private static class LoadedVersion {
+        final String versionStr;
+        final String inventoryPath;
+        final List<Listing> files;
+        final ParseResult parseResult;
+        final Optional<String> sidecarFile;
+        final boolean inventoryHasErrors;
+        final ValidationResultsBuilder results;
+        final ValidationResultsBuilder consistencyResults;
+
+        LoadedVersion(
+                String versionStr,
+                String inventoryPath,
+                List<Listing> files,
+                ParseResult parseResult,
+                Optional<String> sidecarFile,
+                boolean inventoryHasErrors,
+                ValidationResultsBuilder results,
+                ValidationResultsBuilder consistencyResults) {
+            this.versionStr = versionStr;
+            this.inventoryPath = inventoryPath;
+            this.files = files;
+            this.parseResult = parseResult;
+            this.sidecarFile = sidecarFile;
+            this.inventoryHasErrors = inventoryHasErrors;
+            this.results = results;
+            this.consistencyResults = consistencyResults;
+        }
+    }
+
     private static class ParseResult {
         final Optional<SimpleInventory> inventory;
         final Map<DigestAlgorithm, String> digests;
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.validation.state;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ocfl.api.exception.OcflDbException;
+import io.ocfl.api.util.Enforce;
+import io.ocfl.core.db.ConnectionBinder;
+import io.ocfl.core.db.DbType;
+import io.ocfl.core.db.TableCreator;
+import io.ocfl.core.util.ObjectMappers;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores validation state as serialized JSON in a database table. The table is created if it does not exist.
+ */
+public class DbValidationStateStore implements ValidationStateStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DbValidationStateStore.class);
+
+    public static final String DEFAULT_TABLE_NAME = "ocfl_validation_state";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    private final String selectQuery;
+    private final String deleteQuery;
+    private final String insertQuery;
+
+    /**
+     * @param dataSource the DataSource to use
+     * @param tableName the name of the table to store validation state in
+     */
+    public DbValidationStateStore(DataSource dataSource, String tableName) {
+        this.dataSource = Enforce.notNull(dataSource, "dataSource cannot be null");
+        Enforce.notBlank(tableName, "tableName cannot be blank");
+        this.objectMapper = ObjectMappers.defaultMapper();
+
+        this.selectQuery = String.format("SELECT validation_state FROM %s WHERE object_id = ?", tableName);
+        this.deleteQuery = String.format("DELETE FROM %s WHERE object_id = ?", tableName);
+        this.insertQuery = String.format(
+                "INSERT INTO %s (object_id, validation_state, update_timestamp) VALUES (?, ?, ?)", tableName);
+
+        new TableCreator(DbType.fromDataSource(dataSource), dataSource).createValidationStateTable(tableName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationState load(String objectId) {
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+
+        byte[] bytes = null;
+
+        try (var connection = ConnectionBinder.getConnection(dataSource);
+                var statement = connection.prepareStatement(selectQuery)) {
+            statement.setString(1, objectId);
+            try (var rs = statement.executeQuery()) {
+                if (rs.next()) {
+                    bytes = rs.getBytes(1);
+                }
+            }
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+
+        if (bytes == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(bytes, ValidationState.class);
+        } catch (IOException e) {
+            // The state is only an optimization, so the object is validated from scratch if it cannot be read
+            LOG.warn("Failed to read validation state for object {}", objectId, e);
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(ValidationState state) {
+        Enforce.notNull(state, "state cannot be null");
+        Enforce.notBlank(state.getObjectId(), "state objectId cannot be blank");
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(state);
+        } catch (IOException e) {
+            throw new OcflDbException(e);
+        }
+
+        try (var connection = ConnectionBinder.getConnection(dataSource)) {
+            connection.setAutoCommit(false);
+
+            try (var deleteStatement = connection.prepareStatement(deleteQuery);
+                    var insertStatement = connection.prepareStatement(insertQuery)) {
+                deleteStatement.setString(1, state.getObjectId());
+                deleteStatement.executeUpdate();
+
+                insertStatement.setString(1, state.getObjectId());
+                insertStatement.setBytes(2, bytes);
+                insertStatement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                insertStatement.executeUpdate();
+
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                safeEnableAutoCommit(connection);
+            }
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String objectId) {
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+
+        try (var connection = ConnectionBinder.getConnection(dataSource);
+                var statement = connection.prepareStatement(deleteQuery)) {
+            statement.setString(1, objectId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new OcflDbException(e);
+        }
+    }
+
+    private void safeEnableAutoCommit(Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+        } catch (Exception e) {
+            LOG.warn("Failed to enable autocommit", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.validation.state;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ocfl.api.DigestAlgorithmRegistry;
+import io.ocfl.api.exception.OcflIOException;
+import io.ocfl.api.util.Enforce;
+import io.ocfl.core.util.DigestUtil;
+import io.ocfl.core.util.ObjectMappers;
+import io.ocfl.core.util.UncheckedFiles;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores validation state as JSON files in a directory on the local filesystem. The files are named using the sha256
+ * digest of the object id.
+ */
+public class FileSystemValidationStateStore implements ValidationStateStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileSystemValidationStateStore.class);
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param directory the directory to store validation state in, it is created if it does not exist
+     */
+    public FileSystemValidationStateStore(Path directory) {
+        this.directory = UncheckedFiles.createDirectories(Enforce.notNull(directory, "directory cannot be null"));
+        this.objectMapper = ObjectMappers.defaultMapper();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationState load(String objectId) {
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+
+        var file = statePath(objectId);
+
+        if (Files.notExists(file)) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(file.toFile(), ValidationState.class);
+        } catch (IOException e) {
+            // The state is only an optimization, so the object is validated from scratch if it cannot be read
+            LOG.warn("Failed to read validation state for object {} at {}", objectId, file, e);
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(ValidationState state) {
+        Enforce.notNull(state, "state cannot be null");
+        Enforce.notBlank(state.getObjectId(), "state objectId cannot be blank");
+
+        var file = statePath(state.getObjectId());
+        var tempFile = directory.resolve(file.getFileName() + "." + UUID.randomUUID());
+
+        try {
+            objectMapper.writeValue(tempFile.toFile(), state);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            UncheckedFiles.deleteIfExists(tempFile);
+            throw OcflIOException.from(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(String objectId) {
+        Enforce.notBlank(objectId, "objectId cannot be blank");
+        UncheckedFiles.deleteIfExists(statePath(objectId));
+    }
+
+    private Path statePath(String objectId) {
+        return directory.resolve(DigestUtil.computeDigestHex(DigestAlgorithmRegistry.sha256, objectId) + ".json");
+    }
+}
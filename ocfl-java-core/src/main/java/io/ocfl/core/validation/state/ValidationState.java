@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.validation.state;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The parts of an object that passed validation, and so do not need to be validated again during incremental
+ * validation. Version inventories are identified by their digests, and content files by their paths and the digests
+ * they were verified against.
+ */
+public class ValidationState {
+
+    private String objectId;
+    private String digestAlgorithm;
+    private OffsetDateTime fullValidationTimestamp;
+    private Map<String, String> versionInventories;
+    private Map<String, String> contentFiles;
+
+    public ValidationState() {
+        versionInventories = new HashMap<>();
+        contentFiles = new HashMap<>();
+    }
+
+    /**
+     * @return the id of the object that was validated
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    public void setObjectId(String objectId) {
+        this.objectId = objectId;
+    }
+
+    /**
+     * @return the object's content digest algorithm, which all of the digests in the state use
+     */
+    public String getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    public void setDigestAlgorithm(String digestAlgorithm) {
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * @return the timestamp of the last validation that did not skip anything, the state is discarded once it is too old
+     */
+    public OffsetDateTime getFullValidationTimestamp() {
+        return fullValidationTimestamp;
+    }
+
+    public void setFullValidationTimestamp(OffsetDateTime fullValidationTimestamp) {
+        this.fullValidationTimestamp = fullValidationTimestamp;
+    }
+
+    /**
+     * @return map of version numbers to the digests of the version inventories that passed validation
+     */
+    public Map<String, String> getVersionInventories() {
+        return versionInventories;
+    }
+
+    public void setVersionInventories(Map<String, String> versionInventories) {
+        this.versionInventories = versionInventories;
+    }
+
+    /**
+     * @return map of content paths to the expected digests the files passed a fixity check against
+     */
+    public Map<String, String> getContentFiles() {
+        return contentFiles;
+    }
+
+    public void setContentFiles(Map<String, String> contentFiles) {
+        this.contentFiles = contentFiles;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationState{" + "objectId='"
+                + objectId + '\'' + ", digestAlgorithm='"
+                + digestAlgorithm + '\'' + ", fullValidationTimestamp="
+                + fullValidationTimestamp + ", versionInventories="
+                + versionInventories.size() + ", contentFiles="
+                + contentFiles.size() + '}';
+    }
+}
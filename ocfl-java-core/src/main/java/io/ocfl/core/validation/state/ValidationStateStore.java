@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.validation.state;
+
+/**
+ * Persists the {@link ValidationState} of objects so that subsequent validations only need to validate what changed.
+ * Implementations must be thread safe.
+ *
+ * @see ValidationStateStores
+ */
+public interface ValidationStateStore {
+
+    /**
+     * Returns the validation state of the object, or null if the object has no state.
+     *
+     * @param objectId the id of the object
+     * @return the object's validation state or null
+     */
+    ValidationState load(String objectId);
+
+    /**
+     * Saves the validation state of an object, replacing any existing state.
+     *
+     * @param state the validation state
+     */
+    void save(ValidationState state);
+
+    /**
+     * Deletes the validation state of the object, if it exists.
+     *
+     * @param objectId the id of the object
+     */
+    void delete(String objectId);
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019-2021 University of Wisconsin Board of Regents
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package io.ocfl.core.validation.state;
+
+import java.nio.file.Path;
+import javax.sql.DataSource;
+
+/**
+ * Factory methods for creating the provided {@link ValidationStateStore} implementations.
+ */
+public final class ValidationStateStores {
+
+    private ValidationStateStores() {}
+
+    /**
+     * Creates a store that writes validation state to JSON files in the specified directory.
+     *
+     * @param directory the directory to write state files to
+     * @return the store
+     */
+    public static ValidationStateStore fileSystem(Path directory) {
+        return new FileSystemValidationStateStore(directory);
+    }
+
+    /**
+     * Creates a store that writes validation state to the {@code ocfl_validation_state} table.
+     *
+     * @param dataSource the DataSource to use
+     * @return the store
+     */
+    public static ValidationStateStore database(DataSource dataSource) {
+        return new DbValidationStateStore(dataSource, DbValidationStateStore.DEFAULT_TABLE_NAME);
+    }
+
+    /**
+     * Creates a store that writes validation state to the specified table.
+     *
+     * @param dataSource the DataSource to use
+     * @param tableName the name of the table to use, it is created if it does not exist
+     * @return the store
+     */
+    public static ValidationStateStore database(DataSource dataSource, String tableName) {
+        return new DbValidationStateStore(dataSource, tableName);
+    }
+}
@@ -0,0 +1,167 @@
+package io.ocfl.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.ocfl.api.AsyncOcflRepository;
+import io.ocfl.api.exception.NotFoundException;
+import io.ocfl.api.exception.OcflStateException;
+import io.ocfl.api.model.ObjectVersionId;
+import io.ocfl.api.model.VersionNum;
+import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DefaultAsyncOcflRepositoryTest {
+
+    @TempDir
+    public Path tempRoot;
+
+    private AsyncOcflRepository repo;
+
+    @AfterEach
+    public void after() {
+        if (repo != null) {
+            repo.close();
+        }
+    }
+
+    @Test
+    public void shouldCompleteWithResultOfOperation() {
+        repo = createRepo(4, 4);
+
+        var versionId = repo.updateObject(ObjectVersionId.head("o1"), null, updater -> {
+                    updater.writeFile(new ByteArrayInputStream("content".getBytes()), "file1");
+                })
+                .join();
+
+        assertEquals(VersionNum.V1, versionId.getVersionNum());
+        assertTrue(repo.containsObject("o1").join());
+        assertEquals("o1", repo.describeObject("o1").join().getId());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenOperationFails() {
+        repo = createRepo(4, 4);
+
+        var e = assertThrows(
+                CompletionException.class, () -> repo.describeObject("bogus").join());
+        assertInstanceOf(NotFoundException.class, e.getCause());
+    }
+
+    @Test
+    public void shouldQueueOperationsOverLimitAndRejectWhenQueueFull() throws InterruptedException {
+        repo = createRepo(1, 1);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var maxRunning = new AtomicInteger();
+        var running = new AtomicInteger();
+
+        var first = repo.updateObject(ObjectVersionId.head("o1"), null, updater -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            await(release);
+            updater.writeFile(new ByteArrayInputStream("1".getBytes()), "file1");
+            running.decrementAndGet();
+        });
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var second = repo.updateObject(ObjectVersionId.head("o2"), null, updater -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            updater.writeFile(new ByteArrayInputStream("2".getBytes()), "file1");
+            running.decrementAndGet();
+        });
+        var third = repo.describeObject("o1");
+
+        var e = assertThrows(CompletionException.class, third::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertFalse(second.isDone());
+
+        release.countDown();
+
+        assertEquals(VersionNum.V1, first.join().getVersionNum());
+        assertEquals(VersionNum.V1, second.join().getVersionNum());
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    public void shouldRejectOperationsWhenClosed() {
+        repo = createRepo(4, 4);
+        repo.close();
+
+        var e = assertThrows(
+                CompletionException.class, () -> repo.describeObject("o1").join());
+        assertInstanceOf(OcflStateException.class, e.getCause());
+    }
+
+    @Test
+    public void shouldFailQueuedOperationsWhenClosed() throws InterruptedException {
+        repo = createRepo(1, 2);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var ran = new AtomicInteger();
+
+        var first = repo.updateObject(ObjectVersionId.head("o1"), null, updater -> {
+            started.countDown();
+            await(release);
+            updater.writeFile(new ByteArrayInputStream("1".getBytes()), "file1");
+        });
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        var second = repo.updateObject(ObjectVersionId.head("o2"), null, updater -> {
+            ran.incrementAndGet();
+        });
+        var third = repo.containsObject("o1");
+
+        repo.close();
+
+        var e = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(OcflStateException.class, e.getCause());
+        e = assertThrows(CompletionException.class, third::join);
+        assertInstanceOf(OcflStateException.class, e.getCause());
+
+        release.countDown();
+        first.handle((result, error) -> null).join();
+        assertEquals(0, ran.get());
+    }
+
+    private AsyncOcflRepository createRepo(int maxConcurrency, int maxQueued) {
+        try {
+            var repoDir = Files.createDirectories(tempRoot.resolve("repo"));
+            var workDir = Files.createDirectories(tempRoot.resolve("work"));
+            return new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .storage(storage -> storage.fileSystem(repoDir))
+                    .workDir(workDir)
+                    .asyncConcurrencyLimit(maxConcurrency, maxQueued)
+                    .buildAsync();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
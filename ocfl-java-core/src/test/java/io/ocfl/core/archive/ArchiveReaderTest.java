@@ -0,0 +1,118 @@
+package io.ocfl.core.archive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ocfl.api.exception.OcflInputException;
+import io.ocfl.api.model.ArchiveFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveReaderTest {
+
+    private static final Instant MODIFIED = Instant.parse("2024-01-02T03:04:05Z");
+
+    @Test
+    public void readTarArchiveWithLongAndNonAsciiPaths() throws IOException {
+        var longPath = "dir/" + "a".repeat(150) + ".txt";
+        var unicodePath = "dir/fïlé.txt";
+
+        var bytes = writeArchive(
+                ArchiveFormat.TAR,
+                Map.of("file1.txt", "file1", longPath, "long", unicodePath, "unicode", "empty.txt", ""));
+
+        assertEquals(
+                Map.of("file1.txt", "file1", longPath, "long", unicodePath, "unicode", "empty.txt", ""),
+                readArchive(ArchiveFormat.TAR, bytes));
+    }
+
+    @Test
+    public void readZipArchiveAndSkipDirectories() throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(output)) {
+            zip.putNextEntry(new ZipEntry("./dir/"));
+            zip.putNextEntry(new ZipEntry("./dir/file1.txt"));
+            zip.write("file1".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("file2.txt"));
+            zip.write("file2".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(
+                Map.of("dir/file1.txt", "file1", "file2.txt", "file2"),
+                readArchive(ArchiveFormat.ZIP, output.toByteArray()));
+    }
+
+    @Test
+    public void skipUnreadContentWhenReadingNextEntry() throws IOException {
+        var files = new LinkedHashMap<String, String>();
+        files.put("file1.txt", "x".repeat(1000));
+        files.put("file2.txt", "file2");
+        var bytes = writeArchive(ArchiveFormat.TAR, files);
+
+        var reader = ArchiveReader.create(ArchiveFormat.TAR, new ByteArrayInputStream(bytes));
+
+        var first = reader.nextFile();
+        assertEquals("file1.txt", first.getPath());
+        assertEquals(1000, first.getSize());
+        assertEquals('x', first.getContent().read());
+
+        var second = reader.nextFile();
+        assertEquals("file2.txt", second.getPath());
+        assertEquals("file2", new String(second.getContent().readAllBytes(), StandardCharsets.UTF_8));
+
+        assertNull(reader.nextFile());
+    }
+
+    @Test
+    public void failWhenTarHeaderChecksumInvalid() throws IOException {
+        var bytes = writeArchive(ArchiveFormat.TAR, Map.of("file1.txt", "file1"));
+        bytes[0] = 'g';
+
+        var reader = ArchiveReader.create(ArchiveFormat.TAR, new ByteArrayInputStream(bytes));
+
+        var e = assertThrows(OcflInputException.class, reader::nextFile);
+        assertThat(e.getMessage(), containsString("checksum"));
+    }
+
+    @Test
+    public void failWhenTarTruncated() throws IOException {
+        var bytes = writeArchive(ArchiveFormat.TAR, Map.of("file1.txt", "x".repeat(1000)));
+
+        var reader = ArchiveReader.create(ArchiveFormat.TAR, new ByteArrayInputStream(bytes, 0, 1500));
+
+        var entry = reader.nextFile();
+        assertThrows(IOException.class, () -> entry.getContent().readAllBytes());
+    }
+
+    private byte[] writeArchive(ArchiveFormat format, Map<String, String> files) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = ArchiveWriter.create(format, output, MODIFIED);
+        writer.putDirectory("dir");
+        for (var file : files.entrySet()) {
+            var bytes = file.getValue().getBytes(StandardCharsets.UTF_8);
+            writer.putFile(file.getKey(), bytes.length, new ByteArrayInputStream(bytes));
+        }
+        writer.finish();
+        return output.toByteArray();
+    }
+
+    private Map<String, String> readArchive(ArchiveFormat format, byte[] bytes) throws IOException {
+        var entries = new LinkedHashMap<String, String>();
+        var reader = ArchiveReader.create(format, new ByteArrayInputStream(bytes));
+        for (var entry = reader.nextFile(); entry != null; entry = reader.nextFile()) {
+            entries.put(entry.getPath(), new String(entry.getContent().readAllBytes(), StandardCharsets.UTF_8));
+        }
+        return entries;
+    }
+}
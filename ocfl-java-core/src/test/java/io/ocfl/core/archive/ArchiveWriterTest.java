@@ -0,0 +1,150 @@
+package io.ocfl.core.archive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.ocfl.api.model.ArchiveFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveWriterTest {
+
+    private static final Instant MODIFIED = Instant.parse("2024-01-02T03:04:05Z");
+
+    @Test
+    public void writeZipArchiveThatCanBeRead() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = ArchiveWriter.create(ArchiveFormat.ZIP, output, MODIFIED);
+
+        putFile(writer, "file1.txt", "file1");
+        putFile(writer, "dir/file2.txt", "file2");
+        writer.putDirectory("empty");
+        writer.finish();
+
+        var entries = new LinkedHashMap<String, String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+                assertEquals(MODIFIED, entry.getLastModifiedTime().toInstant());
+            }
+        }
+
+        assertEquals(Map.of("file1.txt", "file1", "dir/file2.txt", "file2", "empty/", ""), entries);
+    }
+
+    @Test
+    public void writeTarArchiveWithPaxHeadersForLongAndNonAsciiPaths() throws IOException {
+        var longPath = "dir/" + "a".repeat(150) + ".txt";
+        var unicodePath = "dir/fïlé.txt";
+
+        var output = new ByteArrayOutputStream();
+        var writer = ArchiveWriter.create(ArchiveFormat.TAR, output, MODIFIED);
+
+        putFile(writer, "file1.txt", "file1");
+        putFile(writer, longPath, "long");
+        putFile(writer, unicodePath, "unicode");
+        writer.putDirectory("empty");
+        writer.finish();
+
+        var bytes = output.toByteArray();
+        assertEquals(0, bytes.length % (20 * TarArchiveWriter.BLOCK_SIZE));
+
+        var entries = readTar(bytes);
+        assertEquals(Map.of("file1.txt", "file1", longPath, "long", unicodePath, "unicode", "empty/", ""), entries);
+    }
+
+    @Test
+    public void writeTarHeadersWithValidChecksums() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var writer = ArchiveWriter.create(ArchiveFormat.TAR, output, MODIFIED);
+
+        putFile(writer, "file1.txt", "file1");
+        writer.finish();
+
+        var header = Arrays.copyOf(output.toByteArray(), TarArchiveWriter.BLOCK_SIZE);
+        var expected = parseOctal(header, 148, 8);
+        Arrays.fill(header, 148, 156, (byte) ' ');
+        long actual = 0;
+        for (var b : header) {
+            actual += b & 0xff;
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(MODIFIED.getEpochSecond(), parseOctal(header, 136, 12));
+        assertEquals("ustar", new String(header, 257, 5, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void failWhenContentIsShorterThanSize() {
+        var writer = ArchiveWriter.create(ArchiveFormat.TAR, new ByteArrayOutputStream(), MODIFIED);
+
+        var e = assertThrows(
+                IOException.class, () -> writer.putFile("file1.txt", 10, new ByteArrayInputStream("short".getBytes())));
+        assertThat(e.getMessage(), containsString("file1.txt"));
+    }
+
+    @Test
+    public void failWhenContentIsLongerThanSize() {
+        var writer = ArchiveWriter.create(ArchiveFormat.ZIP, new ByteArrayOutputStream(), MODIFIED);
+
+        var e = assertThrows(
+                IOException.class,
+                () -> writer.putFile("file1.txt", 2, new ByteArrayInputStream("too long".getBytes())));
+        assertThat(e.getMessage(), containsString("file1.txt"));
+    }
+
+    private void putFile(ArchiveWriter writer, String path, String content) throws IOException {
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        writer.putFile(path, bytes.length, new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Minimal tar reader that understands pax path records
+     */
+    private Map<String, String> readTar(byte[] bytes) {
+        var entries = new LinkedHashMap<String, String>();
+        var offset = 0;
+        String paxPath = null;
+
+        while (bytes[offset] != 0) {
+            var name = new String(bytes, offset, 100, StandardCharsets.US_ASCII).replaceAll("\0.*", "");
+            var size = (int) parseOctal(bytes, offset + 124, 12);
+            var type = bytes[offset + 156];
+            var content = new String(bytes, offset + 512, size, StandardCharsets.UTF_8);
+
+            if (type == TarArchiveWriter.TYPE_PAX) {
+                for (var record : content.split("\n")) {
+                    var keyValue = record.substring(record.indexOf(' ') + 1);
+                    assertEquals(
+                            record.getBytes(StandardCharsets.UTF_8).length + 1,
+                            Integer.parseInt(record.substring(0, record.indexOf(' '))));
+                    if (keyValue.startsWith("path=")) {
+                        paxPath = keyValue.substring(5);
+                    }
+                }
+            } else {
+                entries.put(paxPath == null ? name : paxPath, content);
+                paxPath = null;
+            }
+
+            offset += 512 + ((size + 511) / 512) * 512;
+        }
+
+        return entries;
+    }
+
+    private long parseOctal(byte[] bytes, int offset, int length) {
+        var value = new String(bytes, offset, length, StandardCharsets.US_ASCII).replaceAll("[\0 ]", "");
+        return Long.parseLong(value, 8);
+    }
+}
@@ -0,0 +1,141 @@
+package io.ocfl.core.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.ocfl.api.OcflConfig;
+import io.ocfl.api.OcflConstants;
+import io.ocfl.core.model.Inventory;
+import io.ocfl.core.model.Version;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class InventoryCacheBuilderTest {
+
+    @Test
+    public void weighInventoriesByFileCount() {
+        var small = inventory("o1", 1);
+        var large = inventory("o2", 1000);
+
+        var smallSize = InventoryWeigher.estimateSize(small);
+        var largeSize = InventoryWeigher.estimateSize(large);
+
+        assertTrue(largeSize > 500 * smallSize / 2, "large: " + largeSize + " small: " + smallSize);
+        assertTrue(largeSize < 1000 * smallSize, "large: " + largeSize + " small: " + smallSize);
+    }
+
+    @Test
+    public void evictInventoriesWhenMaximumBytesExceeded() {
+        var large1 = inventory("o1", 1000);
+        var large2 = inventory("o2", 1000);
+        var maximumBytes = InventoryWeigher.estimateSize(large1) * 3 / 2;
+
+        var cache = new InventoryCacheBuilder()
+                .maximumBytes(maximumBytes)
+                .executor(Runnable::run)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("small" + i, inventory("small" + i, 1));
+        }
+        cache.put("o1", large1);
+        cache.put("o2", large2);
+
+        var stats = cache.stats();
+
+        assertTrue(stats.getWeightedSize() <= maximumBytes, stats.toString());
+        assertTrue(stats.getEvictionCount() > 0, stats.toString());
+        assertTrue(stats.getEvictionWeight() > 0, stats.toString());
+    }
+
+    @Test
+    public void recordHitsMissesAndLoads() {
+        var inventory = inventory("o1", 2);
+        var cache = new InventoryCacheBuilder().executor(Runnable::run).build();
+
+        assertSame(inventory, cache.get("o1", id -> inventory));
+        assertSame(inventory, cache.get("o1", id -> inventory));
+        assertSame(inventory, cache.get("o1", id -> inventory));
+
+        var stats = cache.stats();
+
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(InventoryWeigher.estimateSize(inventory), stats.getWeightedSize());
+        assertEquals(2.0 / 3, stats.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void loadAllMissesInSingleCall() {
+        var cache = new InventoryCacheBuilder().executor(Runnable::run).build();
+        var o1 = inventory("o1", 1);
+        var o2 = inventory("o2", 1);
+        cache.put("o1", o1);
+
+        var loads = new ArrayList<Set<String>>();
+        var inventories = cache.getAll(List.of("o1", "o2", "o3"), ids -> {
+            loads.add(ids);
+            return Map.of("o2", o2);
+        });
+
+        assertEquals(Map.of("o1", o1, "o2", o2), inventories);
+        assertEquals(List.of(Set.of("o2", "o3")), loads);
+        assertSame(o2, cache.get("o2", id -> null));
+        assertFalse(cache.contains("o3"));
+    }
+
+    @Test
+    public void refreshInventoriesInBackgroundAfterConfiguredAge() throws InterruptedException {
+        var first = inventory("o1", 1);
+        var second = inventory("o1", 2);
+        var loads = new AtomicInteger();
+        var tasks = new ConcurrentLinkedQueue<Runnable>();
+
+        var cache = new InventoryCacheBuilder()
+                .refreshAfterWrite(Duration.ofMillis(50))
+                .executor(tasks::add)
+                .build();
+
+        assertSame(first, cache.get("o1", id -> loads.getAndIncrement() == 0 ? first : second));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        // the stale inventory is returned while the refresh runs in the background
+        assertSame(first, cache.get("o1", id -> loads.getAndIncrement() == 0 ? first : second));
+        assertEquals(1, loads.get());
+
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        assertSame(second, cache.get("o1", id -> loads.getAndIncrement() == 0 ? first : second));
+        assertEquals(2, loads.get());
+    }
+
+    private Inventory inventory(String id, int fileCount) {
+        var builder =
+                Inventory.builderFromStub(id, new OcflConfig().setOcflVersion(OcflConstants.DEFAULT_OCFL_VERSION), id);
+        var version = Version.builder().created(OffsetDateTime.now());
+
+        for (int i = 0; i < fileCount; i++) {
+            var digest = String.format("%0128d", i);
+            builder.addFileToManifest(digest, "v1/content/dir/file" + i + ".txt");
+            version.addFile(digest, "dir/file" + i + ".txt");
+        }
+
+        return builder.addHeadVersion(version.build()).build();
+    }
+}
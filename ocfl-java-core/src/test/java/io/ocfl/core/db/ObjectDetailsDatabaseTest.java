@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mchange.v2.c3p0.ComboPooledDataSource;
 import io.ocfl.api.OcflConfig;
@@ -18,15 +19,24 @@ import io.ocfl.core.model.Version;
 import io.ocfl.core.util.DigestUtil;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -134,6 +144,78 @@ public class ObjectDetailsDatabaseTest {
         assertObjectDetails(inventory, digest, invBytes, details);
     }
 
+    @Test
+    public void shouldApplyUpdateFromMemoryWhenRunnableSucceeds() {
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.updateObjectDetails(inventory, digest, invBytes, () -> {});
+        var details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inventory, digest, invBytes, details);
+
+        var inv2 = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        var invBytes2 = inventoryBytes(inv2);
+        var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+
+        assertThrows(IllegalStateException.class, () -> {
+            database.updateObjectDetails(inv2, digest2, invBytes2, () -> {
+                throw new IllegalStateException("failed");
+            });
+        });
+
+        assertObjectDetails(inventory, digest, invBytes, database.retrieveObjectDetails(inventory.getId()));
+
+        database.updateObjectDetails(inv2, digest2, invBytes2, () -> {});
+
+        assertObjectDetails(inv2, digest2, invBytes2, database.retrieveObjectDetails(inventory.getId()));
+    }
+
+    @Test
+    public void shouldUseBoundConnectionWhenBoundToThread() throws SQLException {
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+
+        var updated = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        var updatedBytes = inventoryBytes(updated);
+        var invPath = writeInventory(updatedBytes);
+        var updatedDigest = DigestUtil.computeDigestHex(updated.getDigestAlgorithm(), updatedBytes);
+
+        var connectionCount = new AtomicInteger();
+        var countingDataSource = countingDataSource(dataSource, connectionCount);
+        var countingDatabase = createDatabase(countingDataSource, tableName);
+
+        try (var connection = countingDataSource.getConnection()) {
+            var details = ConnectionBinder.callWithBoundConnection(countingDataSource, connection, () -> {
+                var connectionsBefore = connectionCount.get();
+                countingDatabase.updateObjectDetails(updated, updatedDigest, invPath, () -> {});
+                var result = countingDatabase.retrieveObjectDetails(updated.getId());
+                assertEquals(connectionsBefore, connectionCount.get());
+                return result;
+            });
+
+            assertObjectDetails(updated, updatedDigest, updatedBytes, details);
+            assertTrue(connection.getAutoCommit());
+            assertTrue(!connection.isClosed());
+        }
+    }
+
     @Test
     public void shouldRollbackDbChangesWhenRunnableFails() {
         var inventory = basicInventory();
@@ -241,6 +323,249 @@ public class ObjectDetailsDatabaseTest {
         assertObjectDetails(inventory, digest, null, details);
     }
 
+    @Test
+    public void shouldCompressInventoryBytesWhenFeatureEnabled() throws SQLException {
+        database = new ObjectDetailsDatabaseBuilder()
+                .compressInventory(true)
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+        var details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inventory, digest, invBytes, details);
+
+        var storedBytes = rawInventoryBytes(inventory.getId());
+        assertEquals((byte) 0x1f, storedBytes[0]);
+        assertEquals((byte) 0x8b, storedBytes[1]);
+        assertTrue(storedBytes.length < invBytes.length);
+    }
+
+    @Test
+    public void shouldReadUncompressedInventoryBytesWhenCompressionEnabled() throws SQLException {
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+
+        database = new ObjectDetailsDatabaseBuilder()
+                .compressInventory(true)
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var details = database.retrieveObjectDetails(inventory.getId());
+        assertObjectDetails(inventory, digest, invBytes, details);
+
+        inventory = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        invBytes = inventoryBytes(inventory);
+        digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+        details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inventory, digest, invBytes, details);
+        assertEquals((byte) 0x1f, rawInventoryBytes(inventory.getId())[0]);
+    }
+
+    @Test
+    public void shouldRetrieveDetailsFromReadDataSourceWhenCurrent() {
+        database = new ObjectDetailsDatabaseBuilder()
+                .dataSource(dataSource)
+                .readDataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+        var details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inventory, digest, invBytes, details);
+    }
+
+    @Test
+    public void shouldRetrieveDetailsFromPrimaryWhenReadDataSourceStale() {
+        var replicaDataSource = new ComboPooledDataSource();
+        replicaDataSource.setJdbcUrl("jdbc:h2:mem:replica");
+
+        try {
+            var replicaDatabase = createDatabase(replicaDataSource, tableName);
+            database = new ObjectDetailsDatabaseBuilder()
+                    .dataSource(dataSource)
+                    .readDataSource(replicaDataSource)
+                    .tableName(tableName)
+                    .build();
+
+            var inventory = basicInventory();
+            var invBytes = inventoryBytes(inventory);
+            var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+            database.addObjectDetails(inventory, digest, invBytes);
+            replicaDatabase.addObjectDetails(inventory, digest, invBytes);
+
+            var inv2 = inventory
+                    .buildFrom()
+                    .addHeadVersion(Version.builder()
+                            .created(OffsetDateTime.now())
+                            .addFile("f1", "file2.txt")
+                            .build())
+                    .build();
+            var invBytes2 = inventoryBytes(inv2);
+            var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+
+            database.addObjectDetails(inv2, digest2, invBytes2);
+
+            var details = database.retrieveObjectDetails(inventory.getId());
+            assertObjectDetails(inv2, digest2, invBytes2, details);
+
+            database.deleteObjectDetails(inventory.getId());
+            assertNull(database.retrieveObjectDetails(inventory.getId()));
+        } finally {
+            replicaDataSource.close();
+        }
+    }
+
+    @Test
+    public void shouldRetrieveDetailsFromPrimaryWhenAnotherInstanceUpdatedObjectAfterOldReplicaRow()
+            throws SQLException {
+        var replicaDataSource = new ComboPooledDataSource();
+        replicaDataSource.setJdbcUrl("jdbc:h2:mem:replica");
+
+        try {
+            var replicaDatabase = createDatabase(replicaDataSource, tableName);
+            var otherInstance = createDatabase(tableName);
+            database = new ObjectDetailsDatabaseBuilder()
+                    .dataSource(dataSource)
+                    .readDataSource(replicaDataSource)
+                    .tableName(tableName)
+                    .build();
+
+            var inventory = basicInventory();
+            var invBytes = inventoryBytes(inventory);
+            var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+            otherInstance.addObjectDetails(inventory, digest, invBytes);
+            replicaDatabase.addObjectDetails(inventory, digest, invBytes);
+
+            try (var connection = replicaDataSource.getConnection();
+                    var statement = connection.prepareStatement("UPDATE " + tableName + " SET update_timestamp = ?")) {
+                statement.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+                statement.executeUpdate();
+            }
+
+            var inv2 = inventory
+                    .buildFrom()
+                    .addHeadVersion(Version.builder()
+                            .created(OffsetDateTime.now())
+                            .addFile("f1", "file2.txt")
+                            .build())
+                    .build();
+            var invBytes2 = inventoryBytes(inv2);
+            var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+
+            otherInstance.addObjectDetails(inv2, digest2, invBytes2);
+
+            assertObjectDetails(inv2, digest2, invBytes2, database.retrieveObjectDetails(inventory.getId()));
+            assertObjectDetails(
+                    inv2,
+                    digest2,
+                    invBytes2,
+                    database.retrieveObjectDetails(List.of(inventory.getId())).get(inventory.getId()));
+        } finally {
+            replicaDataSource.close();
+        }
+    }
+
+    @Test
+    public void shouldRetrieveManyDetailsWhenSomeExist() {
+        var objectIds = new ArrayList<String>();
+        for (int i = 0; i < 1200; i++) {
+            objectIds.add("missing" + i);
+        }
+
+        var inventories = List.of(basicInventory("o1"), basicInventory("o2"), basicInventory("o3"));
+        var digests = new ArrayList<String>();
+        for (var inventory : inventories) {
+            var invBytes = inventoryBytes(inventory);
+            var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+            database.addObjectDetails(inventory, digest, invBytes);
+            digests.add(digest);
+            objectIds.add(600, inventory.getId());
+        }
+
+        var results = database.retrieveObjectDetails(objectIds);
+
+        assertEquals(3, results.size());
+        for (int i = 0; i < inventories.size(); i++) {
+            var inventory = inventories.get(i);
+            assertObjectDetails(inventory, digests.get(i), inventoryBytes(inventory), results.get(inventory.getId()));
+        }
+    }
+
+    @Test
+    public void shouldRetrieveManyDetailsFromPrimaryWhenReadDataSourceStaleOrMissing() {
+        var replicaDataSource = new ComboPooledDataSource();
+        replicaDataSource.setJdbcUrl("jdbc:h2:mem:replica");
+
+        try {
+            var replicaDatabase = createDatabase(replicaDataSource, tableName);
+            database = new ObjectDetailsDatabaseBuilder()
+                    .dataSource(dataSource)
+                    .readDataSource(replicaDataSource)
+                    .tableName(tableName)
+                    .build();
+
+            var current = basicInventory("o1");
+            var currentBytes = inventoryBytes(current);
+            var currentDigest = DigestUtil.computeDigestHex(current.getDigestAlgorithm(), currentBytes);
+            database.addObjectDetails(current, currentDigest, currentBytes);
+            replicaDatabase.addObjectDetails(current, currentDigest, currentBytes);
+
+            var stale = basicInventory("o2");
+            var staleBytes = inventoryBytes(stale);
+            replicaDatabase.addObjectDetails(
+                    stale, DigestUtil.computeDigestHex(stale.getDigestAlgorithm(), staleBytes), staleBytes);
+            var updated = stale.buildFrom()
+                    .addHeadVersion(Version.builder()
+                            .created(OffsetDateTime.now())
+                            .addFile("f1", "file2.txt")
+                            .build())
+                    .build();
+            var updatedBytes = inventoryBytes(updated);
+            var updatedDigest = DigestUtil.computeDigestHex(updated.getDigestAlgorithm(), updatedBytes);
+            database.addObjectDetails(updated, updatedDigest, updatedBytes);
+
+            var primaryOnly = basicInventory("o3");
+            var primaryOnlyBytes = inventoryBytes(primaryOnly);
+            var primaryOnlyDigest = DigestUtil.computeDigestHex(primaryOnly.getDigestAlgorithm(), primaryOnlyBytes);
+            database.addObjectDetails(primaryOnly, primaryOnlyDigest, primaryOnlyBytes);
+
+            var results = database.retrieveObjectDetails(List.of("o1", "o2", "o3", "o4"));
+
+            assertEquals(3, results.size());
+            assertObjectDetails(current, currentDigest, currentBytes, results.get("o1"));
+            assertObjectDetails(updated, updatedDigest, updatedBytes, results.get("o2"));
+            assertObjectDetails(primaryOnly, primaryOnlyDigest, primaryOnlyBytes, results.get("o3"));
+        } finally {
+            replicaDataSource.close();
+        }
+    }
+
     @Test
     public void shouldRejectUpdateWhenNewInventoryVersionIsNotNextVersion() {
         var inventory = basicInventory();
@@ -522,6 +847,128 @@ public class ObjectDetailsDatabaseTest {
         assertObjectDetails(inv2, digest2, invBytes2, details);
     }
 
+    @Test
+    public void shouldApplyUpdateWhenOptimisticLockingAndRunnableSucceeds() {
+        database = new ObjectDetailsDatabaseBuilder()
+                .optimisticLocking(true)
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+        var invPath = writeInventory(invBytes);
+
+        database.updateObjectDetails(inventory, digest, invPath, () -> {});
+        var details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inventory, digest, invBytes, details);
+
+        var inv2 = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        var invBytes2 = inventoryBytes(inv2);
+        var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+        var invPath2 = writeInventory(invBytes2);
+
+        database.updateObjectDetails(inv2, digest2, invPath2, () -> {});
+        details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inv2, digest2, invBytes2, details);
+    }
+
+    @Test
+    public void shouldNotLockRowWhileRunnableExecutesWhenOptimisticLocking() {
+        database = new ObjectDetailsDatabaseBuilder()
+                .optimisticLocking(true)
+                .waitTime(250, TimeUnit.MILLISECONDS)
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+
+        var inv2 = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        var invBytes2 = inventoryBytes(inv2);
+        var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+        var invPath2 = writeInventory(invBytes2);
+
+        // the delete would time out if the row were locked, and the update then fails because the row is gone
+        assertThrows(ObjectOutOfSyncException.class, () -> {
+            database.updateObjectDetails(inv2, digest2, invPath2, () -> {
+                try {
+                    executor.submit(() -> database.deleteObjectDetails(inventory.getId()))
+                            .get();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        });
+
+        assertNull(database.retrieveObjectDetails(inventory.getId()));
+    }
+
+    @Test
+    public void shouldFailWhenOptimisticLockingAndConcurrentUpdate() {
+        database = new ObjectDetailsDatabaseBuilder()
+                .optimisticLocking(true)
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .build();
+
+        var inventory = basicInventory();
+        var invBytes = inventoryBytes(inventory);
+        var digest = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes);
+
+        database.addObjectDetails(inventory, digest, invBytes);
+
+        var inv2 = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file2.txt")
+                        .build())
+                .build();
+        var invBytes2 = inventoryBytes(inv2);
+        var digest2 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes2);
+        var invPath2 = writeInventory(invBytes2);
+
+        var inv3 = inventory
+                .buildFrom()
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("f1", "file3.txt")
+                        .build())
+                .build();
+        var invBytes3 = inventoryBytes(inv3);
+        var digest3 = DigestUtil.computeDigestHex(inventory.getDigestAlgorithm(), invBytes3);
+
+        assertThrows(ObjectOutOfSyncException.class, () -> {
+            database.updateObjectDetails(inv2, digest2, invPath2, () -> {
+                database.addObjectDetails(inv3, digest3, invBytes3);
+            });
+        });
+
+        var details = database.retrieveObjectDetails(inventory.getId());
+
+        assertObjectDetails(inv3, digest3, invBytes3, details);
+    }
+
     @Test
     public void shouldSucceedWhenConcurrentAddAndSameDigest() throws InterruptedException, ExecutionException {
         database = new ObjectDetailsDatabaseBuilder()
@@ -602,9 +1049,39 @@ public class ObjectDetailsDatabaseTest {
         assertArrayEquals(inventoryBytes, details.getInventoryBytes());
     }
 
+    private DataSource countingDataSource(DataSource delegate, AtomicInteger connectionCount) {
+        return (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        connectionCount.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private byte[] rawInventoryBytes(String objectId) throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement =
+                        connection.prepareStatement("SELECT inventory FROM " + tableName + " WHERE object_id = ?")) {
+            statement.setString(1, objectId);
+            try (var rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getBytes(1);
+            }
+        }
+    }
+
     private Inventory basicInventory() {
+        return basicInventory("o1");
+    }
+
+    private Inventory basicInventory(String objectId) {
         return Inventory.builderFromStub(
-                        "o1", new OcflConfig().setOcflVersion(OcflConstants.DEFAULT_OCFL_VERSION), "o1")
+                        objectId, new OcflConfig().setOcflVersion(OcflConstants.DEFAULT_OCFL_VERSION), objectId)
                 .addFileToManifest("f1", "v1/content/file1.txt")
                 .addHeadVersion(Version.builder()
                         .created(OffsetDateTime.now())
@@ -630,6 +1107,10 @@ public class ObjectDetailsDatabaseTest {
     }
 
     private ObjectDetailsDatabase createDatabase(String tableName) {
+        return createDatabase(dataSource, tableName);
+    }
+
+    private ObjectDetailsDatabase createDatabase(DataSource dataSource, String tableName) {
         return new ObjectDetailsDatabaseBuilder()
                 .dataSource(dataSource)
                 .tableName(tableName)
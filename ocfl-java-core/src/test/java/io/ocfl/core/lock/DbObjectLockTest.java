@@ -1,11 +1,15 @@
 package io.ocfl.core.lock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mchange.v2.c3p0.ComboPooledDataSource;
 import io.ocfl.api.exception.LockException;
+import io.ocfl.core.db.ConnectionBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -14,6 +18,8 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -172,7 +178,10 @@ public class DbObjectLockTest {
         });
         assertTrue(result2.get());
 
-        future.get();
+        // the original holder's lock was taken over, so its operation must fail
+        var e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof LockException, e.getCause().toString());
+        assertEquals(1, ((DbObjectLock) lock).getLockStats().getLeasesLostCount());
     }
 
     @Test
@@ -243,12 +252,159 @@ public class DbObjectLockTest {
         assertTrue(result1.get() || result2.get());
     }
 
+    @Test
+    public void shouldWaitForLockWhenHeldByAnotherProcess() throws ExecutionException, InterruptedException {
+        var lock = createLock(Duration.ofHours(1), Duration.ofSeconds(5), true);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                try {
+                    Thread.sleep(TimeUnit.MILLISECONDS.toMillis(250));
+                } catch (InterruptedException e) {
+                    Thread.interrupted();
+                }
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        var result = new AtomicBoolean(false);
+        lock.doInWriteLock("obj1", () -> {
+            result.set(true);
+        });
+
+        assertTrue(result.get());
+        future.get();
+
+        var stats = lock.getLockStats();
+        assertEquals(2, stats.getAcquiredCount());
+        assertEquals(1, stats.getContendedCount());
+        assertEquals(0, stats.getFailedCount());
+        assertTrue(stats.getTotalWaitTime().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    public void shouldRenewLeaseWhileLockHeld() throws ExecutionException, InterruptedException {
+        var lock = createLock(Duration.ofMillis(300), Duration.ofMillis(10), true);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                try {
+                    Thread.sleep(TimeUnit.MILLISECONDS.toMillis(1000));
+                } catch (InterruptedException e) {
+                    Thread.interrupted();
+                }
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        Thread.sleep(TimeUnit.MILLISECONDS.toMillis(600));
+
+        var result = new AtomicBoolean(false);
+        assertThrows(LockException.class, () -> {
+            lock.doInWriteLock("obj1", () -> {
+                result.set(true);
+            });
+        });
+
+        assertFalse(result.get());
+        future.get();
+
+        var stats = lock.getLockStats();
+        assertEquals(1, stats.getFailedCount());
+        assertTrue(stats.getLeasesRenewedCount() > 0);
+        assertEquals(0, stats.getLeasesLostCount());
+    }
+
+    @Test
+    public void shouldStopRenewalThreadWhenClosed() throws InterruptedException {
+        var tableName = "lock_" + UUID.randomUUID().toString().replaceAll("-", "");
+        var lock = new ObjectLockBuilder()
+                .dataSource(dataSource)
+                .tableName(tableName)
+                .maxLockDuration(Duration.ofSeconds(30))
+                .build();
+
+        lock.doInWriteLock("obj1", () -> {});
+        assertEquals(1, renewalThreadCount(tableName));
+
+        lock.close();
+
+        for (int i = 0; i < 50 && renewalThreadCount(tableName) > 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        assertEquals(0, renewalThreadCount(tableName));
+    }
+
+    @Test
+    public void shouldUseSingleConnectionWhenSharingConnection() throws Exception {
+        var connectionCount = new AtomicInteger();
+        var countingDataSource = (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        connectionCount.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(dataSource, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+
+        var lock = (DbObjectLock) new ObjectLockBuilder()
+                .dataSource(countingDataSource)
+                .tableName("lock_" + UUID.randomUUID().toString().replaceAll("-", ""))
+                .shareConnection(true)
+                .build();
+
+        var connectionsBefore = connectionCount.get();
+
+        lock.doInWriteLock("obj1", () -> {
+            try (var connection = ConnectionBinder.getConnection(countingDataSource);
+                    var statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+            try (var connection = ConnectionBinder.getConnection(countingDataSource)) {
+                assertFalse(connection.isClosed());
+            }
+            assertEquals(connectionsBefore + 1, connectionCount.get());
+            return null;
+        });
+
+        var result = new AtomicBoolean(false);
+        lock.doInWriteLock("obj1", () -> {
+            result.set(true);
+        });
+
+        assertTrue(result.get());
+        assertEquals(2, lock.getLockStats().getAcquiredCount());
+        assertEquals(0, lock.getLockStats().getContendedCount());
+    }
+
     private ObjectLock createLock(Duration maxLockDuration) {
+        return createLock(maxLockDuration, Duration.ofMillis(10), false);
+    }
+
+    private DbObjectLock createLock(Duration maxLockDuration, Duration waitTime, boolean renewLeases) {
         var tableName = "lock_" + UUID.randomUUID().toString().replaceAll("-", "");
-        return new ObjectLockBuilder()
+        return (DbObjectLock) new ObjectLockBuilder()
                 .dataSource(dataSource)
                 .tableName(tableName)
                 .maxLockDuration(maxLockDuration)
+                .waitTime(waitTime.toMillis(), TimeUnit.MILLISECONDS)
+                .renewLeases(renewLeases)
                 .build();
     }
+
+    private long renewalThreadCount(String tableName) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("ocfl-lock-renewal-" + tableName))
+                .filter(Thread::isAlive)
+                .count();
+    }
 }
@@ -0,0 +1,275 @@
+package io.ocfl.core.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.mchange.v2.c3p0.ComboPooledDataSource;
+import io.ocfl.api.exception.LockException;
+import io.ocfl.api.exception.OcflDbException;
+import io.ocfl.api.exception.OcflJavaException;
+import io.ocfl.core.db.DbType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PostgresAdvisoryObjectLockTest {
+
+    private static ComboPooledDataSource dataSource;
+
+    private ExecutorService executor;
+
+    @BeforeAll
+    public static void beforeAll() {
+        dataSource = new ComboPooledDataSource();
+        dataSource.setJdbcUrl(System.getProperty("db.url", "jdbc:h2:mem:test"));
+        dataSource.setUser(System.getProperty("db.user", ""));
+        dataSource.setPassword(System.getProperty("db.password", ""));
+    }
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldRejectAdvisoryLockWhenNotPostgres() {
+        assumeTrue(DbType.fromDataSource(dataSource) != DbType.POSTGRES);
+
+        assertThrows(OcflJavaException.class, () -> createLock(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldAcquireLockWhenNotHeld() {
+        assumePostgres();
+        var lock = createLock(1, TimeUnit.SECONDS);
+
+        var result = new AtomicBoolean(false);
+        lock.doInWriteLock("obj1", () -> {
+            result.set(true);
+        });
+        assertTrue(result.get());
+
+        assertEquals("done", lock.doInWriteLock("obj1", () -> "done"));
+    }
+
+    @Test
+    public void shouldWaitForLockWhenHeld() throws ExecutionException, InterruptedException {
+        assumePostgres();
+        var lock = createLock(5, TimeUnit.SECONDS);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                try {
+                    Thread.sleep(TimeUnit.MILLISECONDS.toMillis(250));
+                } catch (InterruptedException e) {
+                    Thread.interrupted();
+                }
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        var result = new AtomicBoolean(false);
+        lock.doInWriteLock("obj1", () -> {
+            result.set(true);
+        });
+
+        assertTrue(result.get());
+        future.get();
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenCannotAcquireLockWithinWaitTime()
+            throws ExecutionException, InterruptedException {
+        assumePostgres();
+        var lock = createLock(100, TimeUnit.MILLISECONDS);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                try {
+                    Thread.sleep(TimeUnit.MILLISECONDS.toMillis(500));
+                } catch (InterruptedException e) {
+                    Thread.interrupted();
+                }
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        var result = new AtomicBoolean(false);
+        assertThrows(LockException.class, () -> {
+            lock.doInWriteLock("obj1", () -> {
+                result.set(true);
+            });
+        });
+
+        assertFalse(result.get());
+        future.get();
+    }
+
+    @Test
+    public void shouldNotBlockWhenDifferentObjects() throws ExecutionException, InterruptedException {
+        assumePostgres();
+        var lock = createLock(100, TimeUnit.MILLISECONDS);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                phaser.arriveAndAwaitAdvance();
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        var result = new AtomicBoolean(false);
+        lock.doInWriteLock("obj2", () -> {
+            result.set(true);
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        assertTrue(result.get());
+        future.get();
+    }
+
+    @Test
+    public void shouldNotHoldTransactionOpenWhileLocked() throws SQLException {
+        assumePostgres();
+        var lock = createLock(1, TimeUnit.SECONDS);
+
+        lock.doInWriteLock("obj1", () -> {
+            assertEquals(0, countQuery("SELECT count(*) FROM pg_stat_activity WHERE state = 'idle in transaction'"));
+            assertEquals(1, countQuery("SELECT count(*) FROM pg_locks WHERE locktype = 'advisory'"));
+            return null;
+        });
+
+        assertEquals(0, countQuery("SELECT count(*) FROM pg_locks WHERE locktype = 'advisory'"));
+    }
+
+    @Test
+    public void shouldThrowLockExceptionWhenLockTimeoutResetFailsAfterTimeout()
+            throws ExecutionException, InterruptedException {
+        assumePostgres();
+        var lock = createLock(5, TimeUnit.SECONDS);
+        var failingLock = new PostgresAdvisoryObjectLock(failResetDataSource(), 100, TimeUnit.MILLISECONDS);
+        var phaser = new Phaser(2);
+
+        var future = executor.submit(() -> {
+            lock.doInWriteLock("obj1", () -> {
+                phaser.arriveAndAwaitAdvance();
+                phaser.arriveAndAwaitAdvance();
+            });
+        });
+
+        phaser.arriveAndAwaitAdvance();
+
+        var e = assertThrows(LockException.class, () -> failingLock.doInWriteLock("obj1", () -> {}));
+        assertEquals(1, e.getSuppressed().length);
+        assertTrue(e.getSuppressed()[0] instanceof SQLException);
+
+        phaser.arriveAndAwaitAdvance();
+        future.get();
+    }
+
+    @Test
+    public void shouldReleaseLockWhenLockTimeoutResetFailsAfterAcquiring() throws SQLException {
+        assumePostgres();
+        var failingLock = new PostgresAdvisoryObjectLock(failResetDataSource(), 1, TimeUnit.SECONDS);
+
+        var result = new AtomicBoolean(false);
+        assertThrows(
+                OcflDbException.class,
+                () -> failingLock.doInWriteLock("obj1", () -> {
+                    result.set(true);
+                }));
+
+        assertFalse(result.get());
+        assertEquals(0, countQuery("SELECT count(*) FROM pg_locks WHERE locktype = 'advisory'"));
+        assertEquals("done", createLock(100, TimeUnit.MILLISECONDS).doInWriteLock("obj1", () -> "done"));
+    }
+
+    /**
+     * Returns a DataSource whose connections fail to reset the lock timeout
+     */
+    private DataSource failResetDataSource() {
+        return (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    var result = invoke(method, dataSource, args);
+                    return method.getName().equals("getConnection") ? failResetConnection((Connection) result) : result;
+                });
+    }
+
+    private Connection failResetConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    var result = invoke(method, connection, args);
+                    return method.getName().equals("createStatement") ? failResetStatement((Statement) result) : result;
+                });
+    }
+
+    private Statement failResetStatement(Statement statement) {
+        return (Statement) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("execute") && ((String) args[0]).startsWith("RESET")) {
+                        throw new SQLException("Failed to reset lock_timeout");
+                    }
+                    return invoke(method, statement, args);
+                });
+    }
+
+    private Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long countQuery(String query) throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement();
+                var rs = statement.executeQuery(query)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void assumePostgres() {
+        assumeTrue(DbType.fromDataSource(dataSource) == DbType.POSTGRES);
+    }
+
+    private ObjectLock createLock(long waitTime, TimeUnit timeUnit) {
+        return new ObjectLockBuilder()
+                .dataSource(dataSource)
+                .advisoryLock(true)
+                .waitTime(waitTime, timeUnit)
+                .build();
+    }
+}
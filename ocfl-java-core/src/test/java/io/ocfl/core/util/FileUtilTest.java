@@ -6,7 +6,9 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.io.FileMatchers.anExistingDirectory;
 import static org.hamcrest.io.FileMatchers.anExistingFile;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
@@ -214,4 +216,20 @@ public class FileUtilTest {
         assertThat(path.toFile(), anExistingDirectory());
         assertThat(path.resolve("1").toFile(), anExistingDirectory());
     }
+
+    @Test
+    public void shouldBeSameFileStoreWhenPathsOnSameFilesystem() throws IOException {
+        var path1 = Files.createDirectories(tempRoot.resolve("a/b"));
+        var path2 = Files.createDirectories(tempRoot.resolve("c"));
+
+        assertTrue(FileUtil.isSameFileStore(path1, path2));
+    }
+
+    @Test
+    public void shouldNotBeSameFileStoreWhenPathsOnDifferentFilesystems() throws IOException {
+        var fs = Jimfs.newFileSystem(Configuration.unix());
+        var path = Files.createDirectories(fs.getPath("/work"));
+
+        assertFalse(FileUtil.isSameFileStore(tempRoot, path));
+    }
 }
@@ -1,19 +1,27 @@
 package io.ocfl.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.ocfl.api.DigestAlgorithmRegistry;
 import io.ocfl.api.OcflConfig;
 import io.ocfl.api.OcflConstants;
+import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.model.FileChange;
 import io.ocfl.api.model.FileChangeType;
+import io.ocfl.api.model.FileDiff;
+import io.ocfl.api.model.FileDiffType;
+import io.ocfl.api.model.FileListing;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.VersionInfo;
+import io.ocfl.api.model.VersionNum;
 import io.ocfl.core.model.Inventory;
 import io.ocfl.core.model.Version;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -166,6 +174,149 @@ public class ResponseMapperTest {
                         .setFixity(Map.of(DigestAlgorithmRegistry.sha512, "i3")));
     }
 
+    @Test
+    public void shouldPageImmediateChildrenAndSkipSubdirectoryContents() {
+        var inventory = listingInventory();
+        var version = inventory.getHeadVersion();
+
+        var page1 = responseMapper.mapFileListing(inventory, version, "", false, null, 2);
+        assertThat(paths(page1)).containsExactly("a.txt", "dir.txt");
+        assertThat(page1.getEntries().get(0).getFileDetails().getStorageRelativePath())
+                .isEqualTo("o1/v1/content/a.txt");
+
+        var page2 = responseMapper.mapFileListing(inventory, version, "", false, page1.getNextCursor(), 2);
+        assertThat(paths(page2)).containsExactly("dir/", "dir0/");
+
+        var page3 = responseMapper.mapFileListing(inventory, version, "", false, page2.getNextCursor(), 2);
+        assertThat(paths(page3)).containsExactly("z");
+        assertThat(page3.hasMore()).isFalse();
+
+        var dir = responseMapper.mapFileListing(inventory, version, "dir", false, null, 10);
+        assertThat(paths(dir)).containsExactly("dir/1", "dir/2", "dir/sub/");
+        assertThat(dir.hasMore()).isFalse();
+    }
+
+    @Test
+    public void shouldPageRecursiveListing() {
+        var inventory = listingInventory();
+        var version = inventory.getHeadVersion();
+
+        var page1 = responseMapper.mapFileListing(inventory, version, "dir", true, null, 2);
+        assertThat(paths(page1)).containsExactly("dir/1", "dir/2");
+
+        var page2 = responseMapper.mapFileListing(inventory, version, "dir", true, page1.getNextCursor(), 2);
+        assertThat(paths(page2)).containsExactly("dir/sub/3");
+        assertThat(page2.hasMore()).isFalse();
+
+        assertThat(paths(responseMapper.mapFileListing(inventory, version, "missing", true, null, 2)))
+                .isEmpty();
+    }
+
+    @Test
+    public void shouldRejectCursorFromAnotherDirectory() {
+        var inventory = listingInventory();
+
+        assertThatThrownBy(
+                        () -> responseMapper.mapFileListing(inventory, inventory.getHeadVersion(), "dir", true, "z", 2))
+                .isInstanceOf(OcflInputException.class);
+    }
+
+    @Test
+    public void shouldDiffAddedRemovedModifiedAndRenamedPaths() {
+        var from = Version.builder()
+                .created(OffsetDateTime.now())
+                .addFile("i1", "f1")
+                .addFile("i2", "f2")
+                .addFile("i3", "f3")
+                .addFile("i4", "d1")
+                .addFile("i4", "d2")
+                .addFile("i7", "a")
+                .addFile("i8", "b")
+                .build();
+        var to = Version.builder()
+                .created(OffsetDateTime.now())
+                .addFile("i5", "f1")
+                .addFile("i2", "g2")
+                .addFile("i6", "n1")
+                .addFile("i4", "d1")
+                .addFile("i4", "d3")
+                .addFile("i8", "a")
+                .build();
+
+        var diffs = responseMapper.diffVersions(from, to).collect(Collectors.toList());
+
+        assertThat(diffs)
+                .containsExactlyInAnyOrder(
+                        diff(FileDiffType.MODIFIED, "f1", "f1", "i5", "i1"),
+                        diff(FileDiffType.RENAMED, "g2", "f2", "i2", "i2"),
+                        diff(FileDiffType.REMOVED, "f3", "f3", null, "i3"),
+                        diff(FileDiffType.RENAMED, "d3", "d2", "i4", "i4"),
+                        diff(FileDiffType.ADDED, "n1", null, "i6", null),
+                        diff(FileDiffType.MODIFIED, "a", "a", "i8", "i7"),
+                        diff(FileDiffType.REMOVED, "b", "b", null, "i8"));
+
+        assertThat(responseMapper.diffVersions(from, from)).isEmpty();
+    }
+
+    @Test
+    public void shouldComputeManyHistoriesInOnePass() {
+        var inventory = Inventory.stubInventory(
+                        "o1", new OcflConfig().setOcflVersion(OcflConstants.DEFAULT_OCFL_VERSION), "o1")
+                .buildFrom()
+                .addFileToManifest("i1", "v1/content/f1")
+                .addFileToManifest("i2", "v2/content/f2")
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("i1", "f1")
+                        .build())
+                .addHeadVersion(Version.builder()
+                        .created(OffsetDateTime.now())
+                        .addFile("i2", "f2")
+                        .build())
+                .build();
+
+        var histories = responseMapper.fileChangeHistories(inventory, List.of("f2", "f1", "bogus"));
+
+        assertThat(histories.keySet()).containsExactly("f2", "f1", "bogus");
+        assertThat(histories.get("f1").getFileChanges())
+                .extracting(FileChange::getChangeType)
+                .containsExactly(FileChangeType.UPDATE, FileChangeType.REMOVE);
+        assertThat(histories.get("f2").getFileChanges())
+                .extracting(FileChange::getChangeType, FileChange::getVersionNum)
+                .containsExactly(tuple(FileChangeType.UPDATE, VersionNum.fromString("v2")));
+        assertThat(histories.get("bogus").getFileChanges()).isEmpty();
+    }
+
+    private FileDiff diff(FileDiffType type, String path, String previousPath, String digest, String previousDigest) {
+        return new FileDiff()
+                .setDiffType(type)
+                .setPath(path)
+                .setPreviousPath(previousPath)
+                .setDigest(digest)
+                .setPreviousDigest(previousDigest);
+    }
+
+    private Inventory listingInventory() {
+        var builder = Inventory.stubInventory(
+                        "o1", new OcflConfig().setOcflVersion(OcflConstants.DEFAULT_OCFL_VERSION), "o1")
+                .buildFrom();
+        var version = Version.builder().created(OffsetDateTime.now());
+
+        for (var path : List.of("z", "dir/sub/3", "dir0/4", "dir/1", "a.txt", "dir.txt", "dir/2")) {
+            builder.addFileToManifest("i-" + path, "v1/content/" + path);
+            version.addFile("i-" + path, path);
+        }
+
+        return builder.addHeadVersion(version.build()).build();
+    }
+
+    // Directories are suffixed with a slash
+    private List<String> paths(FileListing listing) {
+        return listing.getEntries().stream()
+                .map(entry -> entry.isDirectory() ? entry.getPath() + "/" : entry.getPath())
+                .collect(Collectors.toList());
+    }
+
     private void assertFileChanges(List<FileChange> actual, FileChange... expected) {
         assertThat(actual)
                 .usingRecursiveFieldByFieldElementComparatorIgnoringFields("timestamp", "versionInfo.created")
@@ -0,0 +1,144 @@
+package io.ocfl.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(5);
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void coalesceConcurrentCallsForSameKey() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>();
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var first = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("o1", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return 1;
+                }),
+                executor);
+
+        started.await(5, TimeUnit.SECONDS);
+
+        var waiters = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            waiters.add(CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("o1", () -> calls.incrementAndGet() + 100), executor));
+        }
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS));
+        for (var waiter : waiters) {
+            assertEquals(1, waiter.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+
+        // the result is not retained after the call completes
+        assertEquals(2, singleFlight.execute("o1", calls::incrementAndGet));
+    }
+
+    @Test
+    public void propagateExceptionToAllCallers() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var exception = new IllegalStateException("failed");
+
+        var first = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("o1", () -> {
+                    started.countDown();
+                    await(release);
+                    throw exception;
+                }),
+                executor);
+
+        started.await(5, TimeUnit.SECONDS);
+
+        var waiter = CompletableFuture.supplyAsync(() -> singleFlight.execute("o1", () -> 1), executor);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> FutureUtil.join(first)));
+        assertSame(exception, assertThrows(IllegalStateException.class, () -> FutureUtil.join(waiter)));
+    }
+
+    @Test
+    public void doNotJoinCallsThatStartedBeforeCallersStamp() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>();
+        var staleStarted = new CountDownLatch(1);
+        var currentStarted = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var stale = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("o1", 1, () -> {
+                    staleStarted.countDown();
+                    await(release);
+                    return 1;
+                }),
+                executor);
+
+        assertTrue(staleStarted.await(5, TimeUnit.SECONDS));
+
+        var current = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("o1", 2, () -> {
+                    currentStarted.countDown();
+                    await(release);
+                    return 2;
+                }),
+                executor);
+
+        assertTrue(currentStarted.await(5, TimeUnit.SECONDS));
+
+        // later callers join the call that started at the newest stamp, regardless of their own stamp
+        var sameStamp = CompletableFuture.supplyAsync(() -> singleFlight.execute("o1", 2, () -> 3), executor);
+        var olderStamp = CompletableFuture.supplyAsync(() -> singleFlight.execute("o1", 1, () -> 4), executor);
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        assertEquals(1, stale.get(5, TimeUnit.SECONDS));
+        assertEquals(2, current.get(5, TimeUnit.SECONDS));
+        assertEquals(2, sameStamp.get(5, TimeUnit.SECONDS));
+        assertEquals(2, olderStamp.get(5, TimeUnit.SECONDS));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package io.ocfl.core.validation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import io.ocfl.api.DigestAlgorithmRegistry;
 import io.ocfl.api.model.ValidationCode;
+import io.ocfl.api.model.ValidationIssue;
 import io.ocfl.api.model.ValidationResults;
 import io.ocfl.core.storage.filesystem.FileSystemStorage;
+import io.ocfl.core.util.DigestUtil;
+import io.ocfl.core.util.FileUtil;
+import io.ocfl.core.validation.state.ValidationStateStore;
+import io.ocfl.core.validation.state.ValidationStateStores;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.Security;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -22,6 +38,9 @@ public class ValidatorTest {
     private static final String CUSTOM_BAD_FIXTURES = "custom/bad-objects";
     private static final String CUSTOM_GOOD_FIXTURES = "custom/good-objects";
 
+    @TempDir
+    public Path tempDir;
+
     @BeforeAll
     public static void beforeAll() {
         Security.addProvider(new BouncyCastleProvider());
@@ -1496,6 +1515,112 @@ public class ValidatorTest {
         assertInfoCount(results, 0);
     }
 
+    @Test
+    public void skipUnchangedContentWhenValidatingIncrementally() throws IOException {
+        var name = "updates_all_actions";
+        var storageRoot = copyFixture(name);
+        var stateStore = ValidationStateStores.fileSystem(tempDir.resolve("state"));
+
+        var results = incrementalValidator(storageRoot, stateStore, Duration.ofDays(1))
+                .validateObject(name, true);
+        assertNoIssues(results);
+
+        var state = stateStore.load("info:bb123cd4567");
+        assertNotNull(state);
+        assertEquals(4, state.getVersionInventories().size());
+        assertEquals(4, state.getContentFiles().size());
+
+        Files.writeString(
+                storageRoot.resolve(name).resolve("v1/content/my_content/poe.txt"),
+                "corrupt",
+                StandardOpenOption.APPEND);
+
+        results = incrementalValidator(storageRoot, stateStore, Duration.ofDays(1))
+                .validateObject(name, true);
+        assertNoIssues(results);
+
+        results = incrementalValidator(storageRoot, stateStore, Duration.ZERO).validateObject(name, true);
+        assertHasError(
+                results,
+                ValidationCode.E092,
+                "File updates_all_actions/v1/content/my_content/poe.txt failed sha512 fixity check. "
+                        + "Expected: 69f54f2e9f4568f7df4a4c3b07e4cbda4ba3bba7913c5218add6dea891817a80ce829b877d7a84ce47f93cbad8aa522bf7dd8eda2778e16bdf3c47cf49ee3bdf; "
+                        + "Actual: 0f9138c95e1348b92dcaeb1cee9f16cae694a3bcff44050919b3c33d9d974bb8230e5d3b6e9dd90e4febb4abeccd9aaa4f0322d8441527af1703e3588644b6ec");
+        assertNull(stateStore.load("info:bb123cd4567"));
+    }
+
+    @Test
+    public void validateChangedVersionInventoriesWhenValidatingIncrementally() throws IOException {
+        var name = "updates_all_actions";
+        var storageRoot = copyFixture(name);
+        var stateStore = ValidationStateStores.fileSystem(tempDir.resolve("state"));
+        var validator = incrementalValidator(storageRoot, stateStore, Duration.ofDays(1));
+
+        assertNoIssues(validator.validateObject(name, false));
+
+        var inventoryPath = storageRoot.resolve(name).resolve("v2/inventory.json");
+        Files.writeString(
+                inventoryPath, Files.readString(inventoryPath).replace("\"First version\"", "\"Changed version\""));
+        Files.writeString(
+                storageRoot.resolve(name).resolve("v2/inventory.json.sha512"),
+                DigestUtil.computeDigestHex(DigestAlgorithmRegistry.sha512, inventoryPath) + "  inventory.json\n");
+
+        var results = validator.validateObject(name, false);
+        assertErrorCount(results, 0);
+        assertWarningsCount(results, 1);
+        assertEquals(ValidationCode.W011, results.getWarnings().get(0).getCode());
+    }
+
+    @Test
+    public void reportSameIssuesInSameOrderWhenValidatingVersionsConcurrently() throws IOException {
+        for (var root : List.of(OFFICIAL_BAD_FIXTURES, OFFICIAL_WARN_FIXTURES, CUSTOM_BAD_FIXTURES)) {
+            var rootPath = Paths.get("src/test/resources/fixtures", root);
+            var storage = new FileSystemStorage(rootPath);
+            var sequential = new Validator(storage);
+            var concurrent = new Validator(storage, null, null, 4);
+
+            try (var objects = Files.list(rootPath)) {
+                for (var object : objects.filter(Files::isDirectory).collect(Collectors.toList())) {
+                    var name = object.getFileName().toString();
+                    var expected = sequential.validateObject(name, true);
+                    var actual = concurrent.validateObject(name, true);
+
+                    assertEquals(issues(expected.getErrors()), issues(actual.getErrors()), name);
+                    assertEquals(issues(expected.getWarnings()), issues(actual.getWarnings()), name);
+                    assertEquals(issues(expected.getInfos()), issues(actual.getInfos()), name);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void validateGoodObjectsWhenValidatingVersionsConcurrently() {
+        var validator = new Validator(
+                new FileSystemStorage(Paths.get("src/test/resources/fixtures", "official/good-objects")),
+                null,
+                null,
+                4);
+
+        assertNoIssues(validator.validateObject("updates_all_actions", true));
+        assertNoIssues(validator.validateObject("spec-ex-full", true));
+        assertNoIssues(validator.validateObject("updates_three_versions_one_file", true));
+    }
+
+    private List<String> issues(List<ValidationIssue> issues) {
+        return issues.stream().map(i -> i.getCode() + " " + i.getMessage()).collect(Collectors.toList());
+    }
+
+    private Path copyFixture(String name) {
+        var storageRoot = tempDir.resolve("root");
+        FileUtil.recursiveCopy(
+                Paths.get("src/test/resources/fixtures/official/good-objects", name), storageRoot.resolve(name));
+        return storageRoot;
+    }
+
+    private Validator incrementalValidator(Path storageRoot, ValidationStateStore stateStore, Duration maxAge) {
+        return new Validator(new FileSystemStorage(storageRoot), stateStore, maxAge);
+    }
+
     private void assertHasError(ValidationResults results, ValidationCode code, String message) {
         for (var error : results.getErrors()) {
             if (error.getCode() == code && Objects.equals(error.getMessage(), message)) {
@@ -0,0 +1,102 @@
+package io.ocfl.core.validation.state;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.mchange.v2.c3p0.ComboPooledDataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ValidationStateStoreTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private static ComboPooledDataSource dataSource;
+
+    @BeforeAll
+    public static void beforeAll() {
+        dataSource = new ComboPooledDataSource();
+        dataSource.setJdbcUrl(System.getProperty("db.url", "jdbc:h2:mem:test"));
+        dataSource.setUser(System.getProperty("db.user", ""));
+        dataSource.setPassword(System.getProperty("db.password", ""));
+    }
+
+    @Test
+    public void shouldSaveLoadAndDeleteStateOnFileSystem() throws Exception {
+        var store = ValidationStateStores.fileSystem(tempDir.resolve("state"));
+
+        verifyRoundTrip(store);
+
+        try (var files = Files.list(tempDir.resolve("state"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void shouldReturnNullWhenFileSystemStateIsCorrupt() throws Exception {
+        var dir = tempDir.resolve("state");
+        var store = ValidationStateStores.fileSystem(dir);
+        var state = state("obj1");
+
+        store.save(state);
+
+        try (var files = Files.list(dir)) {
+            Files.writeString(files.findFirst().get(), "{not json");
+        }
+
+        assertNull(store.load("obj1"));
+    }
+
+    @Test
+    public void shouldSaveLoadAndDeleteStateInDatabase() {
+        var tableName = "validation_" + UUID.randomUUID().toString().replaceAll("-", "");
+        var store = ValidationStateStores.database(dataSource, tableName);
+
+        verifyRoundTrip(store);
+    }
+
+    private void verifyRoundTrip(ValidationStateStore store) {
+        assertNull(store.load("obj1"));
+
+        var state = state("obj1");
+        store.save(state);
+        assertState(state, store.load("obj1"));
+
+        state.getVersionInventories().put("v2", "def");
+        store.save(state);
+        assertState(state, store.load("obj1"));
+
+        assertNull(store.load("obj2"));
+
+        store.delete("obj1");
+        assertNull(store.load("obj1"));
+    }
+
+    private ValidationState state(String objectId) {
+        var state = new ValidationState();
+        state.setObjectId(objectId);
+        state.setDigestAlgorithm("sha512");
+        state.setFullValidationTimestamp(OffsetDateTime.now(ZoneOffset.UTC).withNano(0));
+        state.getVersionInventories().put("v1", "abc");
+        state.getContentFiles().put("v1/content/file1.txt", "sha512:123");
+        return state;
+    }
+
+    private void assertState(ValidationState expected, ValidationState actual) {
+        assertEquals(expected.getObjectId(), actual.getObjectId());
+        assertEquals(expected.getDigestAlgorithm(), actual.getDigestAlgorithm());
+        assertEquals(
+                expected.getFullValidationTimestamp().toInstant(),
+                actual.getFullValidationTimestamp().toInstant());
+        assertEquals(Map.copyOf(expected.getVersionInventories()), Map.copyOf(actual.getVersionInventories()));
+        assertEquals(Map.copyOf(expected.getContentFiles()), Map.copyOf(actual.getContentFiles()));
+    }
+}
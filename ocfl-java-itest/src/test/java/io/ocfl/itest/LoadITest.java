@@ -1,29 +1,48 @@
 package io.ocfl.itest;
 
+import com.mchange.v2.c3p0.ComboPooledDataSource;
 import io.micrometer.core.instrument.Metrics;
 import io.ocfl.api.MutableOcflRepository;
 import io.ocfl.api.OcflRepository;
+import io.ocfl.api.exception.LockException;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.VersionInfo;
 import io.ocfl.aws.OcflS3Client;
 import io.ocfl.core.OcflRepositoryBuilder;
 import io.ocfl.core.cache.NoOpCache;
 import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
+import io.ocfl.core.lock.ObjectLockBuilder;
 import io.ocfl.core.util.FileUtil;
 import io.ocfl.core.util.UncheckedFiles;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.HdrHistogram.ConcurrentHistogram;
 import org.HdrHistogram.Histogram;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -43,7 +62,7 @@ public class LoadITest {
     @TempDir
     public Path tempRoot;
 
-    private static final Histogram histogram = new Histogram(3600000000000L, 3);
+    private static final Histogram histogram = new ConcurrentHistogram(3600000000000L, 3);
 
     @Test
     public void fsPutObjectSmallFilesTest() throws InterruptedException {
@@ -249,6 +268,473 @@ public class LoadITest {
         transferManager.close();
     }
 
+    @Test
+    public void s3CopySyncVsAsyncTest() throws InterruptedException {
+        var requestConcurrency = 100;
+        var duration = Duration.ofMinutes(2);
+        var objectPath = createTestObject(1, 128 * KB);
+        var prefix = UUID.randomUUID().toString();
+        var threadMx = ManagementFactory.getThreadMXBean();
+
+        var s3Client = S3AsyncClient.crtBuilder().region(Region.US_EAST_2).build();
+        var transferManager = S3TransferManager.builder().s3Client(s3Client).build();
+        var cloudClient = OcflS3Client.builder()
+                .s3Client(s3Client)
+                .transferManager(transferManager)
+                .bucket("pwinckles-ocfl")
+                .repoPrefix(prefix)
+                .build();
+
+        var srcKey = "src/file-0";
+        cloudClient.uploadFile(objectPath.resolve("file-0"), srcKey);
+
+        // Sync: every in-flight copy occupies a thread that is blocked until S3 responds
+        var syncCount = new AtomicLong();
+        threadMx.resetPeakThreadCount();
+        var threads = new ArrayList<Thread>(requestConcurrency);
+        for (var i = 0; i < requestConcurrency; i++) {
+            threads.add(createThread(duration, id -> {
+                cloudClient.copyObject(srcKey, "sync/" + id);
+                syncCount.incrementAndGet();
+            }));
+        }
+        startThreads(threads);
+        joinThreads(threads);
+        var syncPeakThreads = threadMx.getPeakThreadCount();
+
+        // Async: the same number of in-flight copies, issued from a single thread
+        var asyncCount = new AtomicLong();
+        var permits = new Semaphore(requestConcurrency);
+        threadMx.resetPeakThreadCount();
+        var end = Instant.now().plus(duration);
+        var count = 0;
+        while (Instant.now().isBefore(end)) {
+            permits.acquire();
+            cloudClient.copyObjectAsync(srcKey, "async/" + count++).whenComplete((result, e) -> {
+                if (e == null) {
+                    asyncCount.incrementAndGet();
+                }
+                permits.release();
+            });
+        }
+        permits.acquire(requestConcurrency);
+        var asyncPeakThreads = threadMx.getPeakThreadCount();
+
+        System.out.printf(
+                "copyObject results with %d concurrent requests: sync=%.1f/s peakThreads=%d async=%.1f/s peakThreads=%d%n",
+                requestConcurrency,
+                syncCount.get() / (double) duration.toSeconds(),
+                syncPeakThreads,
+                asyncCount.get() / (double) duration.toSeconds(),
+                asyncPeakThreads);
+
+        // TODO Don't forget to delete from S3!
+        s3Client.close();
+        transferManager.close();
+    }
+
+    @Test
+    public void fsDescribeObjectSyncVsAsyncTest() throws InterruptedException {
+        var requestConcurrency = 1000;
+        var duration = Duration.ofMinutes(2);
+        var objectCount = 100;
+
+        var objectPath = createTestObject(10, 128 * KB);
+        var versionInfo =
+                new VersionInfo().setUser("Peter", "pwinckles@example.com").setMessage("Testing");
+
+        var asyncRepo = new OcflRepositoryBuilder()
+                .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                .inventoryCache(new NoOpCache<>())
+                .storage(storage -> storage.fileSystem(UncheckedFiles.createDirectories(tempRoot.resolve("ocfl"))))
+                .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp")))
+                .asyncConcurrencyLimit(64, requestConcurrency)
+                .buildAsync();
+        var repo = asyncRepo.syncRepository();
+
+        var objectIds = new ArrayList<String>(objectCount);
+        for (var i = 0; i < objectCount; i++) {
+            var objectId = UUID.randomUUID().toString();
+            repo.putObject(ObjectVersionId.head(objectId), objectPath, versionInfo);
+            objectIds.add(objectId);
+        }
+
+        // Sync: every in-flight request occupies a platform thread
+        var syncCount = new AtomicLong();
+        var threads = new ArrayList<Thread>(requestConcurrency);
+        for (var i = 0; i < requestConcurrency; i++) {
+            threads.add(createThread(duration, id -> {
+                repo.describeObject(objectIds.get(ThreadLocalRandom.current().nextInt(objectCount)));
+                syncCount.incrementAndGet();
+            }));
+        }
+        startThreads(threads);
+        joinThreads(threads);
+
+        // Async: the same number of in-flight requests, issued without blocking a thread each
+        var asyncCount = new AtomicLong();
+        var permits = new Semaphore(requestConcurrency);
+        var end = Instant.now().plus(duration);
+        while (Instant.now().isBefore(end)) {
+            permits.acquire();
+            asyncRepo
+                    .describeObject(objectIds.get(ThreadLocalRandom.current().nextInt(objectCount)))
+                    .whenComplete((result, e) -> {
+                        if (e == null) {
+                            asyncCount.incrementAndGet();
+                        }
+                        permits.release();
+                    });
+        }
+        permits.acquire(requestConcurrency);
+        asyncRepo.close();
+
+        System.out.printf(
+                "describeObject throughput with %d concurrent requests: sync=%.1f/s async=%.1f/s%n",
+                requestConcurrency,
+                syncCount.get() / (double) duration.toSeconds(),
+                asyncCount.get() / (double) duration.toSeconds());
+    }
+
+    @Test
+    public void fsSmallUpdateMemoryVsDiskStagingTest() throws InterruptedException {
+        var threadCount = 10;
+        var duration = Duration.ofMinutes(2);
+        var metadata = "{\"title\": \"small metadata update\"}".repeat(64);
+
+        for (var threshold : List.of(0L, 64L * KB)) {
+            // Many small updates are recorded concurrently, so the histogram must be thread safe
+            var latencies = new ConcurrentHistogram(3600000000000L, 3);
+
+            var repo = new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .inventoryCache(new NoOpCache<>())
+                    .storage(storage ->
+                            storage.fileSystem(UncheckedFiles.createDirectories(tempRoot.resolve("ocfl-" + threshold))))
+                    .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp-" + threshold)))
+                    .memoryStagingThreshold(threshold)
+                    .build();
+
+            var versionInfo =
+                    new VersionInfo().setUser("Peter", "pwinckles@example.com").setMessage("Testing");
+
+            var threads = new ArrayList<Thread>(threadCount);
+
+            for (var i = 0; i < threadCount; i++) {
+                threads.add(createThread(duration, objectId -> {
+                    var start = System.nanoTime();
+                    repo.updateObject(ObjectVersionId.head(objectId), versionInfo, updater -> {
+                        updater.writeFile(
+                                new ByteArrayInputStream(metadata.getBytes(StandardCharsets.UTF_8)), "metadata.json");
+                    });
+                    var end = System.nanoTime();
+                    latencies.recordValue(end - start);
+                }));
+            }
+
+            startThreads(threads);
+            joinThreads(threads);
+            repo.close();
+
+            System.out.printf("Small update results with memoryStagingThreshold=%d%n", threshold);
+            latencies.outputPercentileDistribution(System.out, 1_000_000.0);
+        }
+    }
+
+    @Test
+    public void fsCommitCrossDeviceVsStorageRootWorkDirTest() throws InterruptedException {
+        // The work directory must be on a different filesystem than tempRoot for the cross-device numbers to be useful
+        var crossDeviceWorkDir = Path.of(System.getProperty("crossDeviceWorkDir", "/dev/shm"));
+        var fileCount = 10;
+        var fileSize = MB;
+        var threadCount = 4;
+        var duration = Duration.ofMinutes(2);
+
+        for (var workDirInStorageRoot : List.of(false, true)) {
+            var name = workDirInStorageRoot ? "storage-root" : "cross-device";
+            var repo = new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .inventoryCache(new NoOpCache<>())
+                    .storage(storage -> storage.fileSystem(UncheckedFiles.createDirectories(tempRoot.resolve(name))))
+                    .workDir(UncheckedFiles.createDirectories(
+                            crossDeviceWorkDir.resolve("ocfl-load-" + UUID.randomUUID())))
+                    .workDirInStorageRoot(workDirInStorageRoot)
+                    .build();
+
+            runPutTest(repo, fileCount, fileSize, threadCount, duration, "fs-" + name, true);
+            repo.close();
+        }
+    }
+
+    @Test
+    public void fsValidateManyVersionsSequentialVsParallelTest() {
+        var versionCount = 150;
+        var filesPerVersion = 10;
+        var warmupIterations = 2;
+        var iterations = 5;
+        var objectId = "many-versions";
+        var storageRoot = UncheckedFiles.createDirectories(tempRoot.resolve("ocfl-validate"));
+
+        var repo = new OcflRepositoryBuilder()
+                .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                .inventoryCache(new NoOpCache<>())
+                .storage(storage -> storage.fileSystem(storageRoot))
+                .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp-validate")))
+                .build();
+
+        var versionInfo =
+                new VersionInfo().setUser("Peter", "pwinckles@example.com").setMessage("Testing");
+
+        for (var v = 0; v < versionCount; v++) {
+            var version = v;
+            repo.updateObject(ObjectVersionId.head(objectId), versionInfo, updater -> {
+                for (var f = 0; f < filesPerVersion; f++) {
+                    updater.writeFile(
+                            new ByteArrayInputStream((version + "-" + f).getBytes(StandardCharsets.UTF_8)),
+                            "v" + version + "/file-" + f + ".txt");
+                }
+            });
+        }
+        repo.close();
+
+        for (var parallelism : List.of(1, 8)) {
+            var latencies = new ConcurrentHistogram(3600000000000L, 3);
+            var validateRepo = new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .inventoryCache(new NoOpCache<>())
+                    .storage(storage -> storage.fileSystem(storageRoot).validationParallelism(parallelism))
+                    .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp-validate")))
+                    .build();
+
+            // Parallel speedup depends on the number of available cores, and is not possible with only 1
+            for (var i = 0; i < warmupIterations; i++) {
+                validateRepo.validateObject(objectId, false);
+            }
+
+            for (var i = 0; i < iterations; i++) {
+                var start = System.nanoTime();
+                var results = validateRepo.validateObject(objectId, false);
+                var end = System.nanoTime();
+                if (results.hasErrors()) {
+                    throw new IllegalStateException("Validation failed: " + results.getErrors());
+                }
+                latencies.recordValue(end - start);
+            }
+
+            validateRepo.close();
+
+            System.out.printf(
+                    "Validation results for %d versions with validationParallelism=%d%n", versionCount, parallelism);
+            latencies.outputPercentileDistribution(System.out, 1_000_000.0);
+        }
+    }
+
+    @Test
+    public void dbLockContentionAdvisoryVsTableTest() throws InterruptedException {
+        // Advisory locks are only supported on PostgreSQL, so db.url must point at a PostgreSQL database
+        var dataSource = createDataSource();
+        var threadCount = 16;
+        var duration = Duration.ofMinutes(2);
+        var holdTime = Duration.ofMillis(5);
+
+        // 1 object id contended by every thread, vs a distinct object id on every acquisition
+        for (var objectCount : List.of(1, 0)) {
+            for (var advisoryLock : List.of(false, true)) {
+                var latencies = new ConcurrentHistogram(3600000000000L, 3);
+                var acquired = new AtomicLong();
+                var failed = new AtomicLong();
+
+                var lock = new ObjectLockBuilder()
+                        .dataSource(dataSource)
+                        .advisoryLock(advisoryLock)
+                        .waitTime(10, TimeUnit.SECONDS)
+                        .build();
+
+                var threads = new ArrayList<Thread>(threadCount);
+
+                for (var i = 0; i < threadCount; i++) {
+                    threads.add(createThread(duration, id -> {
+                        var objectId = objectCount == 0
+                                ? id
+                                : "contended-" + ThreadLocalRandom.current().nextInt(objectCount);
+                        var start = System.nanoTime();
+                        try {
+                            lock.doInWriteLock(objectId, () -> {
+                                var end = System.nanoTime();
+                                latencies.recordValue(end - start);
+                                acquired.incrementAndGet();
+                                try {
+                                    TimeUnit.NANOSECONDS.sleep(holdTime.toNanos());
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            });
+                        } catch (LockException e) {
+                            failed.incrementAndGet();
+                        }
+                    }));
+                }
+
+                startThreads(threads);
+                joinThreads(threads);
+
+                System.out.printf(
+                        "Lock results for advisoryLock=%s contendedObjects=%s threads=%d: acquired=%.1f/s failed=%d%n",
+                        advisoryLock,
+                        objectCount == 0 ? "none" : objectCount,
+                        threadCount,
+                        acquired.get() / (double) duration.toSeconds(),
+                        failed.get());
+                latencies.outputPercentileDistribution(System.out, 1_000_000.0);
+            }
+        }
+
+        dataSource.close();
+    }
+
+    @Test
+    public void dbInventoryCompressedVsUncompressedTest() throws InterruptedException, SQLException {
+        var dataSource = createDataSource();
+        var versionCount = 5;
+        var filesPerVersion = 1000;
+        var threadCount = 10;
+        var duration = Duration.ofMinutes(2);
+        var objectId = "large-manifest";
+
+        var versionInfo =
+                new VersionInfo().setUser("Peter", "pwinckles@example.com").setMessage("Testing");
+
+        for (var compressInventory : List.of(false, true)) {
+            var name = compressInventory ? "compressed" : "uncompressed";
+            var tableName = "ocfl_load_details_" + name;
+            var latencies = new ConcurrentHistogram(3600000000000L, 3);
+
+            var repo = new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .inventoryCache(new NoOpCache<>())
+                    .objectDetailsDb(
+                            db -> db.dataSource(dataSource).tableName(tableName).compressInventory(compressInventory))
+                    .storage(storage -> storage.fileSystem(UncheckedFiles.createDirectories(tempRoot.resolve(name))))
+                    .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp-" + name)))
+                    .build();
+
+            for (var v = 0; v < versionCount; v++) {
+                var version = v;
+                repo.updateObject(ObjectVersionId.head(objectId), versionInfo, updater -> {
+                    for (var f = 0; f < filesPerVersion; f++) {
+                        updater.writeFile(
+                                new ByteArrayInputStream((version + "-" + f).getBytes(StandardCharsets.UTF_8)),
+                                "v" + version + "/file-" + f + ".txt");
+                    }
+                });
+            }
+
+            var rowSize = 0;
+            try (var connection = dataSource.getConnection();
+                    var statement = connection.prepareStatement(
+                            "SELECT inventory FROM " + tableName + " WHERE object_id = ?")) {
+                statement.setString(1, objectId);
+                try (var rs = statement.executeQuery()) {
+                    if (rs.next()) {
+                        rowSize = rs.getBytes(1).length;
+                    }
+                }
+            }
+
+            // The inventory cache is disabled, so every describe reads, decodes, and parses the stored inventory
+            var threads = new ArrayList<Thread>(threadCount);
+
+            for (var i = 0; i < threadCount; i++) {
+                threads.add(createThread(duration, id -> {
+                    var start = System.nanoTime();
+                    repo.describeObject(objectId);
+                    var end = System.nanoTime();
+                    latencies.recordValue(end - start);
+                }));
+            }
+
+            startThreads(threads);
+            joinThreads(threads);
+            repo.close();
+
+            try (var connection = dataSource.getConnection();
+                    var statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + tableName);
+            }
+
+            System.out.printf(
+                    "Inventory read results with compressInventory=%s files=%d: inventory column=%d bytes%n",
+                    compressInventory, versionCount * filesPerVersion, rowSize);
+            latencies.outputPercentileDistribution(System.out, 1_000_000.0);
+        }
+
+        dataSource.close();
+    }
+
+    @Test
+    public void dbCommitSharedVsSeparateLockConnectionTest() throws InterruptedException {
+        var dataSource = createDataSource();
+        var threadCount = 10;
+        var duration = Duration.ofMinutes(2);
+        var metadata = "{\"title\": \"small metadata update\"}";
+
+        for (var shareConnection : List.of(false, true)) {
+            var name = shareConnection ? "shared" : "separate";
+            var latencies = new ConcurrentHistogram(3600000000000L, 3);
+            var commits = new AtomicLong();
+            var connections = new AtomicLong();
+            var roundTrips = new AtomicLong();
+
+            // The lock and the details database must use the same DataSource instance to share a connection
+            var countingDataSource = countingDataSource(dataSource, connections, roundTrips);
+
+            var repo = new OcflRepositoryBuilder()
+                    .defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                    .inventoryCache(new NoOpCache<>())
+                    .objectLock(lock -> lock.dataSource(countingDataSource).shareConnection(shareConnection))
+                    .objectDetailsDb(db -> db.dataSource(countingDataSource))
+                    .storage(storage -> storage.fileSystem(UncheckedFiles.createDirectories(tempRoot.resolve(name))))
+                    .workDir(UncheckedFiles.createDirectories(tempRoot.resolve("temp-" + name)))
+                    .build();
+
+            var versionInfo =
+                    new VersionInfo().setUser("Peter", "pwinckles@example.com").setMessage("Testing");
+
+            connections.set(0);
+            roundTrips.set(0);
+
+            var threads = new ArrayList<Thread>(threadCount);
+
+            for (var i = 0; i < threadCount; i++) {
+                threads.add(createThread(duration, objectId -> {
+                    var start = System.nanoTime();
+                    repo.updateObject(ObjectVersionId.head(objectId), versionInfo, updater -> {
+                        updater.writeFile(
+                                new ByteArrayInputStream(metadata.getBytes(StandardCharsets.UTF_8)), "metadata.json");
+                    });
+                    var end = System.nanoTime();
+                    latencies.recordValue(end - start);
+                    commits.incrementAndGet();
+                }));
+            }
+
+            startThreads(threads);
+            joinThreads(threads);
+            repo.close();
+
+            System.out.printf(
+                    "Commit results with shareConnection=%s threads=%d: commits=%.1f/s connections/commit=%.2f round trips/commit=%.2f%n",
+                    shareConnection,
+                    threadCount,
+                    commits.get() / (double) duration.toSeconds(),
+                    connections.get() / (double) commits.get(),
+                    roundTrips.get() / (double) commits.get());
+            latencies.outputPercentileDistribution(System.out, 1_000_000.0);
+        }
+
+        dataSource.close();
+    }
+
     private void runPutTest(
             OcflRepository repo,
             int fileCount,
@@ -382,6 +868,70 @@ public class LoadITest {
                 .build();
     }
 
+    private ComboPooledDataSource createDataSource() {
+        var dataSource = new ComboPooledDataSource();
+        dataSource.setJdbcUrl(System.getProperty("db.url", "jdbc:postgresql://localhost/postgres"));
+        dataSource.setUser(System.getProperty("db.user", ""));
+        dataSource.setPassword(System.getProperty("db.password", ""));
+        // Advisory locks hold a connection while waiting, so the pool must allow one per thread
+        dataSource.setMaxPoolSize(64);
+        return dataSource;
+    }
+
+    /**
+     * Counts connection checkouts, and the statement executions, commits, and rollbacks that go to the database.
+     */
+    private DataSource countingDataSource(DataSource delegate, AtomicLong connections, AtomicLong roundTrips) {
+        return proxy(DataSource.class, delegate, (method, result) -> {
+            if (method.getName().equals("getConnection")) {
+                connections.incrementAndGet();
+                return proxy(Connection.class, (Connection) result, (connectionMethod, connectionResult) -> {
+                    var methodName = connectionMethod.getName();
+                    if (methodName.equals("commit") || methodName.equals("rollback")) {
+                        roundTrips.incrementAndGet();
+                    } else if (connectionResult instanceof Statement) {
+                        return proxy(
+                                statementType(connectionResult),
+                                (Statement) connectionResult,
+                                (statementMethod, statementResult) -> {
+                                    if (statementMethod.getName().startsWith("execute")) {
+                                        roundTrips.incrementAndGet();
+                                    }
+                                    return statementResult;
+                                });
+                    }
+                    return connectionResult;
+                });
+            }
+            return result;
+        });
+    }
+
+    private Class<? extends Statement> statementType(Object statement) {
+        if (statement instanceof CallableStatement) {
+            return CallableStatement.class;
+        } else if (statement instanceof PreparedStatement) {
+            return PreparedStatement.class;
+        }
+        return Statement.class;
+    }
+
+    /**
+     * Creates a proxy that invokes every method on the delegate, and then passes the method and its result to the
+     * interceptor, which returns the result to return to the caller. Only the delegate's interface is proxied, so the
+     * interceptor's wrapped results must be the declared return type.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<? extends T> type, T delegate, BiFunction<Method, Object, Object> interceptor) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            try {
+                return interceptor.apply(method, method.invoke(delegate, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
     private MutableOcflRepository createS3Repo() {
         //        var s3Client = S3AsyncClient.builder()
         //                .region(Region.US_EAST_2)
@@ -13,11 +13,15 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,8 +45,13 @@ import io.ocfl.api.exception.PathConstraintException;
 import io.ocfl.api.exception.RepositoryConfigurationException;
 import io.ocfl.api.exception.ValidationException;
 import io.ocfl.api.io.FixityCheckInputStream;
+import io.ocfl.api.model.ArchiveFormat;
 import io.ocfl.api.model.DigestAlgorithm;
 import io.ocfl.api.model.FileChangeType;
+import io.ocfl.api.model.FileDiff;
+import io.ocfl.api.model.FileDiffType;
+import io.ocfl.api.model.FileListingEntry;
+import io.ocfl.api.model.LogicalPathFilter;
 import io.ocfl.api.model.ObjectVersionId;
 import io.ocfl.api.model.OcflObjectVersionFile;
 import io.ocfl.api.model.OcflVersion;
@@ -58,11 +67,20 @@ import io.ocfl.core.extension.storage.layout.config.FlatLayoutConfig;
 import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
 import io.ocfl.core.extension.storage.layout.config.NTupleOmitPrefixStorageLayoutConfig;
 import io.ocfl.core.model.Inventory;
+import io.ocfl.core.util.DigestUtil;
+import io.ocfl.core.util.FileUtil;
 import io.ocfl.itest.ext.TestLayoutExtension;
 import io.ocfl.itest.ext.TestLayoutExtensionConfig;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -72,15 +90,24 @@ import java.security.DigestInputStream;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -352,6 +379,132 @@ public abstract class OcflITest {
         verifyStream(sourcePathV1.resolve("file2"), files.getFile("file2"));
     }
 
+    @Test
+    public void lazyLoadSingleObjectFiles() throws IOException {
+        var repoName = "repo3";
+        var repo = defaultRepo(repoName);
+
+        var objectId = "o1";
+
+        var sourcePathV1 = ITestHelper.sourceObjectPath(objectId, "v1");
+        var sourcePathV2 = ITestHelper.sourceObjectPath(objectId, "v2");
+
+        repo.putObject(ObjectVersionId.head(objectId), sourcePathV1, defaultVersionInfo);
+        repo.putObject(ObjectVersionId.head(objectId), sourcePathV2, defaultVersionInfo.setMessage("second"));
+
+        var file = repo.getObjectFile(ObjectVersionId.version(objectId, "v2"), "dir1/file3");
+        var expected = repo.getObject(ObjectVersionId.version(objectId, "v2")).getFile("dir1/file3");
+        verifyStream(sourcePathV2.resolve("dir1/file3"), file);
+        assertEquals(expected.getStorageRelativePath(), file.getStorageRelativePath());
+        assertEquals(expected.getFixity(), file.getFixity());
+
+        assertNull(repo.getObjectFile(ObjectVersionId.version(objectId, "v1"), "dir1/file3"));
+
+        var files = repo.getObjectFiles(ObjectVersionId.version(objectId, "v1"), List.of("file2", "bogus", "file1"));
+        assertEquals(List.of("file2", "file1"), new ArrayList<>(files.keySet()));
+        verifyStream(sourcePathV1.resolve("file1"), files.get("file1"));
+        verifyStream(sourcePathV1.resolve("file2"), files.get("file2"));
+
+        assertThrows(NotFoundException.class, () -> repo.getObjectFile(ObjectVersionId.head("bogus"), "file1"));
+    }
+
+    @Test
+    public void lazyLoadSingleObjectFilesWhenNotOverridden() throws IOException {
+        var repoName = "repo3-default";
+        var repo = defaultRepo(repoName);
+        var defaultRepo = defaultMethodsOnly(repo);
+
+        var objectId = "o1";
+
+        var sourcePathV1 = ITestHelper.sourceObjectPath(objectId, "v1");
+        var sourcePathV2 = ITestHelper.sourceObjectPath(objectId, "v2");
+
+        repo.putObject(ObjectVersionId.head(objectId), sourcePathV1, defaultVersionInfo);
+        repo.putObject(ObjectVersionId.head(objectId), sourcePathV2, defaultVersionInfo.setMessage("second"));
+
+        var file = defaultRepo.getObjectFile(ObjectVersionId.version(objectId, "v2"), "dir1/file3");
+        verifyStream(sourcePathV2.resolve("dir1/file3"), file);
+        assertEquals(
+                repo.getObjectFile(ObjectVersionId.version(objectId, "v2"), "dir1/file3")
+                        .getFixity(),
+                file.getFixity());
+
+        assertNull(defaultRepo.getObjectFile(ObjectVersionId.version(objectId, "v1"), "dir1/file3"));
+
+        var files =
+                defaultRepo.getObjectFiles(ObjectVersionId.version(objectId, "v1"), List.of("file2", "bogus", "file1"));
+        assertEquals(List.of("file2", "file1"), new ArrayList<>(files.keySet()));
+        verifyStream(sourcePathV1.resolve("file1"), files.get("file1"));
+        verifyStream(sourcePathV1.resolve("file2"), files.get("file2"));
+    }
+
+    @Test
+    public void listObjectFilesOnePageAtATime() {
+        var repoName = "list-files";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeFile(ITestHelper.streamString("1"), "a/1.txt")
+                    .writeFile(ITestHelper.streamString("2"), "a/b/2.txt")
+                    .writeFile(ITestHelper.streamString("3"), "a/c/3.txt")
+                    .writeFile(ITestHelper.streamString("4"), "a/4.txt")
+                    .writeFile(ITestHelper.streamString("5"), "root.txt");
+        });
+
+        var entries = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var page = repo.listObjectFiles(ObjectVersionId.head(objectId), "a/", false, cursor, 2);
+            assertThat(page.getEntries().size(), lessThanOrEqualTo(2));
+            page.getEntries()
+                    .forEach(entry -> entries.add(entry.isDirectory() ? entry.getPath() + "/" : entry.getPath()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of("a/1.txt", "a/4.txt", "a/b/", "a/c/"), entries);
+
+        var recursive = repo.listObjectFiles(ObjectVersionId.head(objectId), "", true, null, 10);
+        assertEquals(
+                List.of("a/1.txt", "a/4.txt", "a/b/2.txt", "a/c/3.txt", "root.txt"),
+                recursive.getEntries().stream().map(FileListingEntry::getPath).collect(Collectors.toList()));
+        assertFalse(recursive.hasMore());
+        assertEquals(
+                repo.getObjectFile(ObjectVersionId.head(objectId), "root.txt").getFixity(),
+                recursive.getEntries().get(4).getFileDetails().getFixity());
+    }
+
+    @Test
+    public void listObjectFilesOnePageAtATimeWhenNotOverridden() {
+        var repoName = "list-files-default";
+        var repo = defaultRepo(repoName);
+        var defaultRepo = defaultMethodsOnly(repo);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeFile(ITestHelper.streamString("1"), "a/1.txt")
+                    .writeFile(ITestHelper.streamString("2"), "a/b/2.txt")
+                    .writeFile(ITestHelper.streamString("3"), "a/c/3.txt")
+                    .writeFile(ITestHelper.streamString("4"), "a/4.txt")
+                    .writeFile(ITestHelper.streamString("5"), "root.txt");
+        });
+
+        for (var recursive : List.of(true, false)) {
+            for (var directory : List.of("", "a", "/a/", "a/b")) {
+                String cursor = null;
+                do {
+                    var expected =
+                            repo.listObjectFiles(ObjectVersionId.head(objectId), directory, recursive, cursor, 2);
+                    var actual = defaultRepo.listObjectFiles(
+                            ObjectVersionId.head(objectId), directory, recursive, cursor, 2);
+                    assertEquals(expected.getEntries(), actual.getEntries());
+                    assertEquals(expected.getNextCursor(), actual.getNextCursor());
+                    cursor = actual.getNextCursor();
+                } while (cursor != null);
+            }
+        }
+    }
+
     @Test
     public void renameAndRemoveFilesAddedInTheCurrentVersion() {
         var repoName = "repo17";
@@ -489,6 +642,243 @@ public abstract class OcflITest {
         assertSame(objectDetails.getHeadVersion(), objectDetails.getVersion(VersionNum.fromString("v3")));
     }
 
+    @Test
+    public void putObjectsShouldReportResultForEachObject() {
+        var repoName = "repo-bulk-put";
+        var repo = defaultRepo(repoName, builder -> builder.bulkParallelism(2));
+
+        var objects = new LinkedHashMap<String, Path>();
+        objects.put("o1", ITestHelper.sourceObjectPath("o1", "v1"));
+        objects.put("o2", ITestHelper.sourceObjectPath("o2", "v1"));
+        objects.put("missing", ITestHelper.sourceObjectPath("missing", "v1"));
+        objects.put("o3", ITestHelper.sourceObjectPath("o3", "v1"));
+
+        var results = repo.putObjects(objects, defaultVersionInfo);
+
+        assertThat(results.keySet(), contains("o1", "o2", "missing", "o3"));
+        for (var objectId : List.of("o1", "o2", "o3")) {
+            var result = results.get(objectId);
+            assertTrue(result.isSuccess(), objectId);
+            assertEquals(ObjectVersionId.version(objectId, "v1"), result.getResult());
+
+            var outputPath = outputPath(repoName, objectId);
+            repo.getObject(ObjectVersionId.head(objectId), outputPath);
+            ITestHelper.verifyDirectoryContentsSame(
+                    objects.get(objectId), outputPath.getFileName().toString(), outputPath);
+        }
+
+        var failed = results.get("missing");
+        assertFalse(failed.isSuccess());
+        assertNotNull(failed.getException());
+        assertFalse(repo.containsObject("missing"));
+    }
+
+    @Test
+    public void describeObjectsShouldReportResultForEachObject() {
+        var repoName = "repo-bulk-describe";
+        var repo = defaultRepo(repoName, builder -> builder.bulkParallelism(2));
+
+        var objectIds = List.of("o1", "o2", "o3", "o4", "o5");
+        for (var objectId : List.of("o1", "o2", "o3", "o5")) {
+            repo.putObject(
+                    ObjectVersionId.head(objectId), ITestHelper.sourceObjectPath(objectId, "v1"), defaultVersionInfo);
+        }
+
+        var results = repo.describeObjects(objectIds);
+
+        assertThat(results.keySet(), contains(objectIds.toArray(new String[0])));
+        for (var objectId : List.of("o1", "o2", "o3", "o5")) {
+            var result = results.get(objectId);
+            assertTrue(result.isSuccess(), objectId);
+            assertEquals(objectId, result.getResult().getId());
+            assertEquals(VersionNum.fromString("v1"), result.getResult().getHeadVersionNum());
+        }
+
+        var missing = results.get("o4");
+        assertFalse(missing.isSuccess());
+        assertThat(missing.getException(), instanceOf(NotFoundException.class));
+    }
+
+    @Test
+    public void updateObjectStagedInMemoryShouldNotCreateStagingDir() throws IOException {
+        var repoName = "repo-memory-staging";
+        var repo = defaultRepo(repoName, builder -> builder.memoryStagingThreshold(1024));
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "a/file1.txt")
+                    .writeFile(ITestHelper.streamString("file2"), "b/file2.txt")
+                    .writeFile(ITestHelper.streamString("removed"), "removed.txt")
+                    .removeFile("removed.txt")
+                    .addFileFixity("a/file1.txt", DigestAlgorithmRegistry.md5, "826e8142e6baabe8af779f5f490cf5f5");
+            assertEquals(0, countWorkDirEntries());
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "c/duplicate.txt")
+                    .writeFile(ITestHelper.streamString("replaced"), "b/file2.txt", OcflOption.OVERWRITE)
+                    .renameFile("a/file1.txt", "a/renamed.txt");
+            assertEquals(0, countWorkDirEntries());
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        assertThat(
+                object.getFiles().stream().map(OcflObjectVersionFile::getPath).collect(Collectors.toList()),
+                containsInAnyOrder("a/renamed.txt", "b/file2.txt", "c/duplicate.txt"));
+        assertFileContent("file1", object.getFile("a/renamed.txt"));
+        assertFileContent("file1", object.getFile("c/duplicate.txt"));
+        assertFileContent("replaced", object.getFile("b/file2.txt"));
+        assertEquals(
+                "826e8142e6baabe8af779f5f490cf5f5",
+                repo.getObject(ObjectVersionId.version(objectId, 1))
+                        .getFile("a/file1.txt")
+                        .getFixity()
+                        .get(DigestAlgorithmRegistry.md5));
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+        assertEquals(0, countWorkDirEntries());
+    }
+
+    @Test
+    public void updateObjectStagedInMemoryWhenPathOverwrittenWithExistingContent() throws IOException {
+        var repoName = "repo-memory-staging-overwrite";
+        var repo = defaultRepo(repoName, builder -> builder.memoryStagingThreshold(1024));
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.writeFile(ITestHelper.streamString("existing"), "existing.txt");
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(ITestHelper.streamString("replaced"), "a.txt")
+                    .writeFile(ITestHelper.streamString("shared"), "b.txt")
+                    .writeFile(ITestHelper.streamString("shared"), "c.txt")
+                    .writeFile(ITestHelper.streamString("existing"), "a.txt", OcflOption.OVERWRITE)
+                    .writeFile(ITestHelper.streamString("existing"), "b.txt", OcflOption.OVERWRITE);
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        assertThat(
+                object.getFiles().stream().map(OcflObjectVersionFile::getPath).collect(Collectors.toList()),
+                containsInAnyOrder("existing.txt", "a.txt", "b.txt", "c.txt"));
+        assertFileContent("existing", object.getFile("a.txt"));
+        assertFileContent("existing", object.getFile("b.txt"));
+        assertFileContent("shared", object.getFile("c.txt"));
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+    }
+
+    @Test
+    public void updateObjectShouldStageConcurrentLargeWritesInMemory() throws IOException {
+        var repoName = "repo-memory-staging-concurrent";
+        var repo = defaultRepo(repoName, builder -> builder.memoryStagingThreshold(512 * 1024));
+
+        var objectId = "o1";
+        var contents = IntStream.range(0, 4)
+                .mapToObj(i -> String.valueOf(i).repeat(100 * 1024))
+                .collect(Collectors.toList());
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            IntStream.range(0, contents.size())
+                    .parallel()
+                    .forEach(i -> updater.writeFile(ITestHelper.streamString(contents.get(i)), "file" + i));
+            assertEquals(0, countWorkDirEntries());
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        for (int i = 0; i < contents.size(); i++) {
+            assertFileContent(contents.get(i), object.getFile("file" + i));
+        }
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+    }
+
+    @Test
+    public void computeConfiguredFixityAlgorithmsForNewFiles() throws IOException {
+        var repoName = "repo-configured-fixity";
+        var fixityAlgorithms = Set.of(DigestAlgorithmRegistry.md5, DigestAlgorithmRegistry.sha1);
+        var repo = defaultRepo(repoName, builder -> builder.fixityAlgorithms(Set.of(
+                        DigestAlgorithmRegistry.md5, DigestAlgorithmRegistry.sha1, DigestAlgorithmRegistry.sha512))
+                .memoryStagingThreshold(16));
+
+        var objectId = "o1";
+        var sourcePathV2 = copyDir(ITestHelper.sourceObjectPath(objectId, "v2"), inputDir.resolve("v2"));
+
+        repo.putObject(
+                ObjectVersionId.head(objectId),
+                ITestHelper.sourceObjectPath(objectId, "v1"),
+                defaultVersionInfo.setMessage("1"));
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(ITestHelper.streamString("in memory"), "memory.txt")
+                    .addFileFixity(
+                            "memory.txt",
+                            DigestAlgorithmRegistry.md5,
+                            DigestUtil.computeDigestHex(DigestAlgorithmRegistry.md5, "in memory"))
+                    .writeFile(ITestHelper.streamString("spilled to the staging directory"), "spilled.txt")
+                    .addPath(sourcePathV2, "moved", OcflOption.MOVE_SOURCE);
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+
+        assertThat(object.getFiles().size(), greaterThan(3));
+
+        for (var file : object.getFiles()) {
+            byte[] content;
+            try (var stream = file.getStream()) {
+                content = stream.readAllBytes();
+            }
+            for (var algorithm : fixityAlgorithms) {
+                assertEquals(
+                        DigestUtil.computeDigestHex(algorithm, content),
+                        file.getFixity().get(algorithm),
+                        () -> algorithm + " fixity of " + file.getPath());
+            }
+        }
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+    }
+
+    @Test
+    public void updateObjectShouldSpillToStagingDirWhenMemoryThresholdExceeded() throws IOException {
+        var repoName = "repo-memory-staging-spill";
+        var repo = defaultRepo(repoName, builder -> builder.memoryStagingThreshold(16));
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.writeFile(ITestHelper.streamString("small"), "small.txt");
+            assertEquals(0, countWorkDirEntries());
+            updater.writeFile(ITestHelper.streamString("too large to fit in memory"), "large.txt")
+                    .addFileFixity("small.txt", DigestAlgorithmRegistry.md5, "eb5c1399a871211c7e7ed732d15e3a8b");
+            assertEquals(1, countWorkDirEntries());
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(ITestHelper.streamString("small2"), "small2.txt")
+                    .addPath(ITestHelper.sourceObjectPath("o1", "v1"), "dir");
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        assertFileContent("small", object.getFile("small.txt"));
+        assertFileContent("too large to fit in memory", object.getFile("large.txt"));
+        assertFileContent("small2", object.getFile("small2.txt"));
+        assertNotNull(object.getFile("dir/file1"));
+        assertEquals(
+                "eb5c1399a871211c7e7ed732d15e3a8b",
+                object.getFile("small.txt").getFixity().get(DigestAlgorithmRegistry.md5));
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+        assertEquals(0, countWorkDirEntries());
+    }
+
     @Test
     public void shouldNotAddAdditionalFixityWhenDefaultAlgorithmSpecified() {
         var repoName = "repo5";
@@ -805,6 +1195,156 @@ public abstract class OcflITest {
                                         "3bafbf08882a2d10133093a1b8433f50563b93c14acd05b79028eb1d12799027241450980651994501423a66c276ae26c43b739bc65c4e16b10c3af6c202aebb"))));
     }
 
+    @Test
+    public void changeHistoriesForManyPaths() {
+        var repo = defaultRepo("change-histories");
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.writeFile(new ByteArrayInputStream("1".getBytes()), "f1")
+                    .writeFile(new ByteArrayInputStream("2".getBytes()), "f2");
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(new ByteArrayInputStream("3".getBytes()), "f3").removeFile("f1");
+        });
+
+        var histories = repo.fileChangeHistories(objectId, List.of("f3", "bogus", "f1", "f2"));
+
+        assertEquals(List.of("f3", "f1", "f2"), new ArrayList<>(histories.keySet()));
+        for (var path : histories.keySet()) {
+            var expected = repo.fileChangeHistory(objectId, path).getFileChanges();
+            var actual = histories.get(path).getFileChanges();
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getChangeType(), actual.get(i).getChangeType());
+                assertEquals(expected.get(i).getObjectVersionId(), actual.get(i).getObjectVersionId());
+            }
+        }
+    }
+
+    @Test
+    public void diffVersionsWhenFilesChanged() {
+        var repoName = "diff-versions";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.putObject(
+                ObjectVersionId.head(objectId), ITestHelper.sourceObjectPath(objectId, "v1"), defaultVersionInfo);
+        repo.putObject(
+                ObjectVersionId.head(objectId), ITestHelper.sourceObjectPath(objectId, "v2"), defaultVersionInfo);
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.renameFile("dir1/file3", "dir2/file3");
+        });
+
+        var v1 = VersionNum.fromString("v1");
+        var v3 = VersionNum.fromString("v3");
+
+        var diffs = repo.diffVersions(objectId, v1, v3)
+                .sorted(Comparator.comparing(FileDiff::getPath))
+                .collect(Collectors.toList());
+
+        var file1 = repo.getObjectFile(ObjectVersionId.version(objectId, "v1"), "file1");
+        var file1V3 = repo.getObjectFile(ObjectVersionId.version(objectId, "v3"), "file1");
+        var file3 = repo.getObjectFile(ObjectVersionId.version(objectId, "v3"), "dir2/file3");
+
+        assertEquals(
+                List.of(
+                        new FileDiff()
+                                .setDiffType(FileDiffType.ADDED)
+                                .setPath("dir2/file3")
+                                .setDigest(file3.getFixity().get(DigestAlgorithmRegistry.sha512)),
+                        new FileDiff()
+                                .setDiffType(FileDiffType.MODIFIED)
+                                .setPath("file1")
+                                .setPreviousPath("file1")
+                                .setDigest(file1V3.getFixity().get(DigestAlgorithmRegistry.sha512))
+                                .setPreviousDigest(file1.getFixity().get(DigestAlgorithmRegistry.sha512))),
+                diffs);
+
+        var renames =
+                repo.diffVersions(objectId, VersionNum.fromString("v2"), v3).collect(Collectors.toList());
+        assertEquals(1, renames.size());
+        assertEquals(FileDiffType.RENAMED, renames.get(0).getDiffType());
+        assertEquals("dir1/file3", renames.get(0).getPreviousPath());
+
+        assertThrows(NotFoundException.class, () -> repo.diffVersions(objectId, v1, VersionNum.fromString("v4")));
+    }
+
+    @Test
+    public void diffVersionsAndChangeHistoriesWhenNotOverridden() {
+        var repoName = "diff-versions-default";
+        var repo = defaultRepo(repoName);
+        var defaultRepo = defaultMethodsOnly(repo);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.writeFile(new ByteArrayInputStream("1".getBytes()), "f1")
+                    .writeFile(new ByteArrayInputStream("2".getBytes()), "f2")
+                    .writeFile(new ByteArrayInputStream("3".getBytes()), "f3")
+                    .writeFile(new ByteArrayInputStream("4".getBytes()), "f4");
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("2"), updater -> {
+            updater.writeFile(new ByteArrayInputStream("5".getBytes()), "f5")
+                    .writeFile(new ByteArrayInputStream("22".getBytes()), "f2", OcflOption.OVERWRITE)
+                    .renameFile("f3", "dir/f3")
+                    .removeFile("f4");
+        });
+
+        var v1 = VersionNum.fromString("v1");
+        var v2 = VersionNum.fromString("v2");
+
+        for (var versions : List.of(List.of(v1, v2), List.of(v2, v1))) {
+            var expected = repo.diffVersions(objectId, versions.get(0), versions.get(1))
+                    .collect(Collectors.toSet());
+            var actual = defaultRepo
+                    .diffVersions(objectId, versions.get(0), versions.get(1))
+                    .collect(Collectors.toSet());
+            assertEquals(4, actual.size());
+            assertEquals(expected, actual);
+        }
+
+        assertThrows(
+                NotFoundException.class, () -> defaultRepo.diffVersions(objectId, v1, VersionNum.fromString("v3")));
+
+        var histories = defaultRepo.fileChangeHistories(objectId, List.of("f3", "bogus", "f1", "f4"));
+
+        assertEquals(List.of("f3", "f1", "f4"), new ArrayList<>(histories.keySet()));
+        assertEquals(2, histories.get("f4").getFileChanges().size());
+        assertThrows(NotFoundException.class, () -> defaultRepo.fileChangeHistories("bogus", List.of("f1")));
+    }
+
+    @Test
+    public void cacheMissingObjectsUntilWrittenByThisRepo() {
+        var repoName = "missing-object-cache";
+        Consumer<OcflRepositoryBuilder> missingCache =
+                builder -> builder.defaultLayoutConfig(new HashedNTupleLayoutConfig())
+                        .missingObjectCache(new CaffeineCache<>(Caffeine.newBuilder()
+                                .expireAfterWrite(Duration.ofMinutes(1))
+                                .build()));
+
+        var repo = defaultRepo(repoName, missingCache);
+        var otherRepo = defaultRepo(repoName);
+
+        assertFalse(repo.containsObject("o1"));
+        assertFalse(repo.containsObject("o2"));
+
+        otherRepo.putObject(ObjectVersionId.head("o1"), ITestHelper.sourceObjectPath("o1", "v1"), defaultVersionInfo);
+
+        // written by another repo, so it's still cached as missing
+        assertFalse(repo.containsObject("o1"));
+        assertThrows(NotFoundException.class, () -> repo.describeObject("o1"));
+
+        repo.invalidateCache("o1");
+        assertTrue(repo.containsObject("o1"));
+
+        repo.putObject(ObjectVersionId.head("o2"), ITestHelper.sourceObjectPath("o1", "v1"), defaultVersionInfo);
+        assertTrue(repo.containsObject("o2"));
+        assertEquals(VersionNum.fromString("v1"), repo.describeObject("o2").getHeadVersionNum());
+    }
+
     @Test
     public void failWhenLogicalPathNotFoundInChangeHistory() {
         var repo = defaultRepo("change-history");
@@ -1053,6 +1593,252 @@ public abstract class OcflITest {
                 () -> repo.getObject(ObjectVersionId.head("o1"), outputPath(repoName, "blah")));
     }
 
+    @Test
+    public void getObjectFilesMatchingPrefixAndGlob() {
+        var repoName = "get-filtered";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeFile(ITestHelper.streamString("1"), "a/1.txt")
+                    .writeFile(ITestHelper.streamString("2"), "a/2.xml")
+                    .writeFile(ITestHelper.streamString("3"), "a/b/3.txt")
+                    .writeFile(ITestHelper.streamString("4"), "ab/4.txt")
+                    .writeFile(ITestHelper.streamString("1"), "c/5.txt");
+        });
+
+        var prefixOutput = outputPath(repoName, "prefix");
+        repo.getObject(ObjectVersionId.head(objectId), prefixOutput, LogicalPathFilter.prefix("a/"));
+
+        assertEquals(
+                List.of("a/1.txt", "a/2.xml", "a/b/3.txt"),
+                ITestHelper.listAllPaths(prefixOutput).stream()
+                        .map(path -> FileUtil.pathToStringStandardSeparator(prefixOutput.relativize(path)))
+                        .collect(Collectors.toList()));
+        assertEquals("3", TestHelper.fileToString(prefixOutput.resolve("a/b/3.txt")));
+
+        var globOutput = outputPath(repoName, "glob");
+        repo.getObject(ObjectVersionId.head(objectId), globOutput, LogicalPathFilter.glob("**/*.txt"));
+
+        assertEquals(
+                List.of("a/1.txt", "a/b/3.txt", "ab/4.txt", "c/5.txt"),
+                ITestHelper.listAllPaths(globOutput).stream()
+                        .map(path -> FileUtil.pathToStringStandardSeparator(globOutput.relativize(path)))
+                        .collect(Collectors.toList()));
+        assertEquals("1", TestHelper.fileToString(globOutput.resolve("c/5.txt")));
+
+        var emptyOutput = outputPath(repoName, "empty");
+        repo.getObject(ObjectVersionId.head(objectId), emptyOutput, LogicalPathFilter.matching(path -> false));
+
+        assertTrue(Files.isDirectory(emptyOutput));
+        assertEquals(0, ITestHelper.listAllPaths(emptyOutput).size());
+    }
+
+    @Test
+    public void getObjectFilesOnlyReadsMatchingFiles() {
+        var repoName = "invalid-file-fixity";
+        var repoDir = ITestHelper.sourceRepoPath(repoName);
+        var repo = existingRepo(repoName, repoDir);
+
+        // Only file1 is corrupt
+        var output = outputPath(repoName, "file2");
+        repo.getObject(ObjectVersionId.head("o1"), output, LogicalPathFilter.prefix("file2"));
+        assertTrue(Files.exists(output.resolve("file2")));
+
+        assertThrows(
+                FixityCheckException.class,
+                () -> repo.getObject(
+                        ObjectVersionId.head("o1"), outputPath(repoName, "all"), LogicalPathFilter.glob("file?")));
+    }
+
+    @Test
+    public void getObjectFilesMatchingFilterWhenNotOverridden() {
+        var repoName = "get-filtered-default";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeFile(ITestHelper.streamString("1"), "a/1.txt")
+                    .writeFile(ITestHelper.streamString("2"), "a/2.xml")
+                    .writeFile(ITestHelper.streamString("3"), "b/3.txt");
+        });
+
+        var output = outputPath(repoName, "glob");
+        defaultMethodsOnly(repo).getObject(ObjectVersionId.head(objectId), output, LogicalPathFilter.glob("**/*.txt"));
+
+        assertEquals(
+                List.of("a/1.txt", "b/3.txt"),
+                ITestHelper.listAllPaths(output).stream()
+                        .map(path -> FileUtil.pathToStringStandardSeparator(output.relativize(path)))
+                        .collect(Collectors.toList()));
+        assertEquals("3", TestHelper.fileToString(output.resolve("b/3.txt")));
+    }
+
+    @Test
+    public void getObjectAsZipArchiveWhenExists() throws IOException {
+        var repoName = "repo3";
+        var repoRoot = ITestHelper.expectedRepoPath(repoName);
+        var repo = existingRepo(repoName, repoRoot);
+
+        var expected = outputPath(repoName, "o1v2");
+        repo.getObject(ObjectVersionId.version("o1", "v2"), expected);
+
+        var archive = new ByteArrayOutputStream();
+        repo.getObject(ObjectVersionId.version("o1", "v2"), ArchiveFormat.ZIP, archive);
+
+        var output = outputPath(repoName, "o1v2-zip");
+        unzip(archive.toByteArray(), output);
+
+        ITestHelper.verifyDirectoryContentsSame(expected, "o1v2-zip", output);
+    }
+
+    @Test
+    public void exportObjectAsZipArchiveWhenExists() throws IOException {
+        var repoName = "repo3";
+        var repoRoot = ITestHelper.expectedRepoPath(repoName);
+        var repo = existingRepo(repoName, repoRoot);
+
+        var archive = new ByteArrayOutputStream();
+        repo.exportObject("o1", ArchiveFormat.ZIP, Channels.newChannel(archive));
+
+        var output = outputPath(repoName, "o1");
+        unzip(archive.toByteArray(), output);
+
+        ITestHelper.verifyDirectoryContentsSame(
+                repoRoot.resolve("235/2da/728/2352da7280f1decc3acf1ba84eb945c9fc2b7b541094e1d0992dbffd1b6664cc"),
+                "o1",
+                output);
+    }
+
+    @Test
+    public void exportObjectAsArchiveWhileObjectIsUpdated() throws IOException {
+        var repoName = "export-archive-while-updated";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.writeFile(inputStream("file1"), "file1.txt");
+        });
+
+        var archive = new ByteArrayOutputStream();
+        var updated = new AtomicBoolean(false);
+        var out = new FilterOutputStream(archive) {
+            @Override
+            public void write(int b) throws IOException {
+                updateOnce();
+                super.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                updateOnce();
+                out.write(b, off, len);
+            }
+
+            private void updateOnce() {
+                if (updated.compareAndSet(false, true)) {
+                    repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+                        updater.writeFile(inputStream("file2"), "file2.txt");
+                    });
+                }
+            }
+        };
+
+        repo.exportObject(objectId, ArchiveFormat.ZIP, out);
+
+        assertTrue(updated.get());
+        assertEquals(VersionNum.fromString("v2"), repo.describeObject(objectId).getHeadVersionNum());
+
+        var output = outputPath(repoName, objectId);
+        unzip(archive.toByteArray(), output);
+
+        assertTrue(Files.exists(output.resolve("v1/content/file1.txt")));
+        assertFalse(Files.exists(output.resolve("v2")));
+        assertEquals(
+                Files.readString(output.resolve("v1/inventory.json")),
+                Files.readString(output.resolve("inventory.json")));
+    }
+
+    @Test
+    public void putObjectFromTarArchiveWhenArchivedFromAnotherRepo() throws IOException {
+        var repoName = "repo3";
+        var repoRoot = ITestHelper.expectedRepoPath(repoName);
+        var sourceRepo = existingRepo(repoName, repoRoot);
+
+        var archive = new ByteArrayOutputStream();
+        sourceRepo.getObject(ObjectVersionId.version("o1", "v2"), ArchiveFormat.TAR, archive);
+
+        var repo = defaultRepo("put-tar-archive");
+        var objectId = "o2";
+
+        repo.putObject(
+                ObjectVersionId.head(objectId),
+                new ByteArrayInputStream(archive.toByteArray()),
+                ArchiveFormat.TAR,
+                new VersionInfo().setMessage("from archive"));
+
+        var expected = outputPath(repoName, "o1v2");
+        sourceRepo.getObject(ObjectVersionId.version("o1", "v2"), expected);
+
+        var output = outputPath("put-tar-archive", objectId);
+        repo.getObject(ObjectVersionId.head(objectId), output);
+
+        ITestHelper.verifyDirectoryContentsSame(expected, objectId, output);
+        assertEquals(
+                "from archive",
+                repo.describeVersion(ObjectVersionId.head(objectId))
+                        .getVersionInfo()
+                        .getMessage());
+    }
+
+    @Test
+    public void writeZipArchiveToObjectUnderDestinationPath() throws IOException {
+        var repoName = "write-zip-archive";
+        var repo = defaultRepo(repoName);
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "file1.txt");
+        });
+
+        var archive = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(archive)) {
+            zip.putNextEntry(new ZipEntry("dir/"));
+            zip.putNextEntry(new ZipEntry("dir/file2.txt"));
+            zip.write("file2".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("file3.txt"));
+            zip.write("file1".getBytes(StandardCharsets.UTF_8));
+        }
+
+        repo.updateObject(ObjectVersionId.head(objectId), new VersionInfo(), updater -> {
+            updater.writeArchive(new ByteArrayInputStream(archive.toByteArray()), ArchiveFormat.ZIP, "sub");
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+
+        assertEquals(
+                Set.of("file1.txt", "sub/dir/file2.txt", "sub/file3.txt"),
+                object.getFiles().stream().map(OcflObjectVersionFile::getPath).collect(Collectors.toSet()));
+        try (var stream = object.getFile("sub/dir/file2.txt").getStream()) {
+            assertEquals("file2", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        // sub/file3.txt has the same content as file1.txt, so it is deduplicated
+        assertEquals(
+                object.getFile("file1.txt").getStorageRelativePath(),
+                object.getFile("sub/file3.txt").getStorageRelativePath());
+    }
+
+    @Test
+    public void failGetObjectAsTarArchiveWhenFileFixityCheckFails() {
+        var repoName = "invalid-file-fixity";
+        var repoDir = ITestHelper.sourceRepoPath(repoName);
+        var repo = existingRepo(repoName, repoDir);
+
+        assertThrows(
+                FixityCheckException.class,
+                () -> repo.getObject(ObjectVersionId.head("o1"), ArchiveFormat.TAR, new ByteArrayOutputStream()));
+    }
+
     @Test
     public void failGetObjectWhenInvalidDigestAlgorithmUsed() {
         var repoName = "invalid-digest-algorithm";
@@ -1847,6 +2633,36 @@ public abstract class OcflITest {
                 });
     }
 
+    @Test
+    public void failExportObjectWhenContentFailsFixityCheckButStillExportEntireObject() {
+        var repoName = "export-fixity";
+        var repo = defaultRepo(repoName);
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo.setMessage("1"), updater -> {
+            updater.unsafeAddPath(
+                    "4cf0ff5673ec65d9900df95502ed92b2605fc602ca20b6901652c7561b302668026095813af6a"
+                            + "db0e663bdcdbe1f276d18bf0de254992a78573ad6574e7ae1f6",
+                    ITestHelper.sourceObjectPath(objectId, "v1").resolve("file1"),
+                    "file1");
+            updater.writeFile(ITestHelper.streamString("file2"), "file2");
+        });
+
+        var output = outputPath(repoName, objectId);
+
+        var e = assertThrows(ValidationException.class, () -> repo.exportObject(objectId, output));
+        var errors = e.getValidationResults().getErrors();
+        assertEquals(1, errors.size(), () -> "Found: " + errors);
+        assertEquals(ValidationCode.E092, errors.get(0).getCode());
+        assertThat(errors.get(0).getMessage(), containsString("failed sha512 fixity check"));
+
+        var unvalidatedOutput = outputPath(repoName, objectId + "-unvalidated");
+        repo.exportObject(objectId, unvalidatedOutput, OcflOption.NO_VALIDATION);
+
+        ITestHelper.verifyDirectoryContentsSame(unvalidatedOutput, objectId, output);
+    }
+
     @Test
     public void exportObjectVersionWhenExists() {
         var repoName = "repo3";
@@ -1988,6 +2804,33 @@ public abstract class OcflITest {
         });
     }
 
+    @Test
+    public void rejectImportObjectWhenContentFailsFixityCheckAndRetainSource() throws IOException {
+        var objectId = "o1";
+        var repoName1 = "repo1";
+        var repoRoot1 = ITestHelper.expectedRepoPath(repoName1);
+        var repo1 = existingRepo(repoName1, repoRoot1);
+
+        var output = outputPath(repoName1, objectId);
+
+        repo1.exportObject(objectId, output);
+
+        var repoName2 = "repo4";
+        var repoRoot2 = ITestHelper.expectedRepoPath(repoName2);
+        var repo2 = existingRepo(repoName2, repoRoot2);
+
+        Files.writeString(output.resolve("v1/content/file1"), "corrupt");
+
+        var e = assertThrows(ValidationException.class, () -> repo2.importObject(output));
+        assertEquals(
+                ValidationCode.E092, e.getValidationResults().getErrors().get(0).getCode());
+        assertThat(e.getMessage(), containsString("file1"));
+
+        assertFalse(repo2.containsObject(objectId));
+        assertTrue(Files.exists(output.resolve("v1/content/file1")));
+        assertTrue(Files.exists(output.resolve("inventory.json")));
+    }
+
     @Test
     public void rejectImportObjectWhenObjectMissingInventory() throws IOException {
         var objectId = "o1";
@@ -2198,6 +3041,32 @@ public abstract class OcflITest {
         });
     }
 
+    @Test
+    public void rejectImportVersionWhenContentFailsFixityCheck() throws IOException {
+        var objectId = "o1";
+
+        var repoName1 = "import-version-1";
+        var repo1 = defaultRepo(repoName1);
+        var repo2 = defaultRepo("import-version-2");
+
+        repo1.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "file1.txt");
+        });
+
+        var output = outputPath(repoName1, objectId);
+
+        repo1.exportVersion(ObjectVersionId.version(objectId, "v1"), output);
+
+        Files.writeString(output.resolve("content/file1.txt"), "corrupt");
+
+        OcflAsserts.assertThrowsWithMessage(FixityCheckException.class, "file1.txt", () -> {
+            repo2.importVersion(output);
+        });
+
+        assertFalse(repo2.containsObject(objectId));
+        assertEquals("corrupt", Files.readString(output.resolve("content/file1.txt")));
+    }
+
     @Test
     public void rejectUpdateWhenConcurrentChangeToPreviousVersion() throws InterruptedException {
         var objectId = "o1";
@@ -2890,4 +3759,54 @@ public abstract class OcflITest {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Wraps the repository so that the interface's default methods are called instead of the repository's overrides.
+     */
+    private OcflRepository defaultMethodsOnly(OcflRepository repo) {
+        return (OcflRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {OcflRepository.class}, (proxy, method, args) -> {
+                    var arguments = args == null ? new Object[0] : args;
+                    if (method.isDefault()) {
+                        return MethodHandles.privateLookupIn(OcflRepository.class, MethodHandles.lookup())
+                                .unreflectSpecial(method, OcflRepository.class)
+                                .asFixedArity()
+                                .bindTo(proxy)
+                                .invokeWithArguments(arguments);
+                    }
+                    try {
+                        return method.invoke(repo, arguments);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private void unzip(byte[] archive, Path output) throws IOException {
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                var destination = output.resolve(entry.getName());
+                if (entry.isDirectory()) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.createDirectories(destination.getParent());
+                    Files.copy(zip, destination);
+                }
+            }
+        }
+    }
+
+    private long countWorkDirEntries() {
+        try (var files = Files.list(workDir)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void assertFileContent(String expected, OcflObjectVersionFile file) throws IOException {
+        try (var stream = file.getStream()) {
+            assertEquals(expected, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -314,6 +315,35 @@ public abstract class StorageTest {
         });
     }
 
+    @Test
+    public void writeDirWhenNotExists() {
+        storage.writeDirectory(
+                Map.of(
+                        "f1.txt",
+                        "f1".getBytes(StandardCharsets.UTF_8),
+                        "b/f2.txt",
+                        "f2".getBytes(StandardCharsets.UTF_8)),
+                "some/d");
+
+        assertThat(
+                storage.listRecursive(""),
+                containsInAnyOrder(Listing.file("some/d/f1.txt"), Listing.file("some/d/b/f2.txt")));
+
+        assertEquals("f1", storage.readToString("some/d/f1.txt"));
+        assertEquals("f2", storage.readToString("some/d/b/f2.txt"));
+    }
+
+    @Test
+    public void failWriteDirWhenExists() {
+        file("d/f3.txt");
+
+        assertThrows(OcflFileAlreadyExistsException.class, () -> {
+            storage.writeDirectory(Map.of("f1.txt", "f1".getBytes(StandardCharsets.UTF_8)), "d");
+        });
+
+        assertThat(storage.listRecursive(""), containsInAnyOrder(Listing.file("d/f3.txt")));
+    }
+
     @Test
     public void moveDirInternalWhenSrcExistsAndDstNotExists() {
         file("some/dir/f1.txt", "f1");
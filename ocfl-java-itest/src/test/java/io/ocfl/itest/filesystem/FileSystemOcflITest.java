@@ -2,23 +2,30 @@ package io.ocfl.itest.filesystem;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.mchange.v2.c3p0.ComboPooledDataSource;
 import io.ocfl.api.OcflConstants;
 import io.ocfl.api.OcflOption;
 import io.ocfl.api.OcflRepository;
+import io.ocfl.api.exception.ObjectOutOfSyncException;
 import io.ocfl.api.exception.OcflInputException;
 import io.ocfl.api.model.ObjectVersionId;
+import io.ocfl.api.model.VersionNum;
 import io.ocfl.core.OcflRepositoryBuilder;
 import io.ocfl.core.cache.NoOpCache;
 import io.ocfl.core.extension.storage.layout.HashedNTupleLayoutExtension;
 import io.ocfl.core.extension.storage.layout.config.FlatLayoutConfig;
 import io.ocfl.core.extension.storage.layout.config.HashedNTupleIdEncapsulationLayoutConfig;
 import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
+import io.ocfl.core.lock.InMemoryObjectLock;
 import io.ocfl.core.path.constraint.ContentPathConstraints;
 import io.ocfl.core.path.mapper.LogicalPathMappers;
+import io.ocfl.core.storage.DefaultOcflStorage;
 import io.ocfl.core.util.FileUtil;
 import io.ocfl.core.util.UncheckedFiles;
 import io.ocfl.itest.ITestHelper;
@@ -26,17 +33,25 @@ import io.ocfl.itest.OcflITest;
 import io.ocfl.itest.TestHelper;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
@@ -178,6 +193,140 @@ public class FileSystemOcflITest extends OcflITest {
         assertFalse(Files.exists(v2ContentPath), "empty content directories should not exist");
     }
 
+    @Test
+    public void exportObjectWithoutLockWhileVersionIsCommitted() throws Exception {
+        var repoName = "export-while-committed";
+        var lock = new InMemoryObjectLock(100, TimeUnit.MILLISECONDS);
+        var repo = defaultRepo(repoName, builder -> builder.defaultLayoutConfig(new FlatLayoutConfig())
+                .objectLock(lock));
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "file1.txt");
+        });
+
+        // A commit that has moved its version into the object, but not yet replaced the root inventory
+        var objectRoot = repoDir(repoName).resolve(objectId);
+        Files.createDirectories(objectRoot.resolve("v2/content"));
+        Files.writeString(objectRoot.resolve("v2/content/file2.txt"), "file2");
+
+        var held = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var holder = executor.submit(() -> lock.doInWriteLock(objectId, () -> {
+                held.countDown();
+                release.await();
+                return null;
+            }));
+            held.await();
+
+            var output = outputPath(repoName, objectId);
+            repo.exportObject(objectId, output);
+
+            release.countDown();
+            holder.get();
+
+            assertTrue(Files.exists(output.resolve("v1/content/file1.txt")));
+            assertFalse(Files.exists(output.resolve("v2")));
+            assertEquals(
+                    Files.readString(output.resolve("v1/inventory.json")),
+                    Files.readString(output.resolve("inventory.json")));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rollbackVersionWhenConcurrentWriterChangesDetailsWithOptimisticLocking() throws Exception {
+        var repoName = "optimistic-concurrent-writers";
+        var objectId = "o1";
+
+        var dataSource = new ComboPooledDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:optimistic-writers;DB_CLOSE_DELAY=-1");
+
+        var reachedUpdate = new CountDownLatch(1);
+        var resumeUpdate = new CountDownLatch(1);
+        var pauseUpdate = new AtomicBoolean(false);
+        // Pauses the first writer after it has written its version to storage, but before it updates the object details
+        var pausingDataSource =
+                pauseBeforeStatement(dataSource, "AND inventory_digest = ?", pauseUpdate, reachedUpdate, resumeUpdate);
+
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var repo1 = defaultRepo(repoName, builder -> builder.defaultLayoutConfig(new FlatLayoutConfig())
+                    .objectDetailsDb(db -> db.dataSource(pausingDataSource)
+                            .tableName("details")
+                            .optimisticLocking(true)));
+            var repo2 = existingRepo(repoName, null, builder -> builder.defaultLayoutConfig(new FlatLayoutConfig())
+                    .objectDetailsDb(
+                            db -> db.dataSource(dataSource).tableName("details").optimisticLocking(true)));
+
+            repo1.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+                updater.writeFile(ITestHelper.streamString("file1"), "file1.txt");
+            });
+
+            pauseUpdate.set(true);
+
+            var writer1 = executor.submit(() -> repo1.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+                updater.writeFile(ITestHelper.streamString("file2"), "file2.txt");
+            }));
+
+            reachedUpdate.await();
+
+            assertThrows(ObjectOutOfSyncException.class, () -> {
+                repo2.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+                    updater.writeFile(ITestHelper.streamString("file3"), "file3.txt");
+                });
+            });
+
+            resumeUpdate.countDown();
+
+            var e = assertThrows(ExecutionException.class, writer1::get);
+            assertThat(e.getCause(), instanceOf(ObjectOutOfSyncException.class));
+
+            assertFalse(Files.exists(repoDir(repoName).resolve(objectId).resolve("v2")));
+            assertEquals(
+                    VersionNum.fromString("v1"), repo2.describeObject(objectId).getHeadVersionNum());
+            assertTrue(repo2.validateObject(objectId, true).getErrors().isEmpty());
+
+            repo2.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+                updater.writeFile(ITestHelper.streamString("file3"), "file3.txt");
+            });
+            assertEquals(
+                    VersionNum.fromString("v2"), repo1.describeObject(objectId).getHeadVersionNum());
+        } finally {
+            resumeUpdate.countDown();
+            executor.shutdownNow();
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void assembleVersionsInStorageRootWhenWorkDirInStorageRootEnabled() {
+        var repoName = "storage-root-work-dir";
+        var repo = defaultRepo(repoName, builder -> builder.workDirInStorageRoot(true));
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), null, updater -> {
+            updater.writeFile(ITestHelper.streamString("file1"), "file1");
+        });
+        repo.putObject(ObjectVersionId.head(objectId), ITestHelper.sourceObjectPath(objectId, "v1"), null);
+
+        var storageRootWorkDir = repoDir(repoName).resolve(DefaultOcflStorage.STORAGE_ROOT_WORK_DIR);
+
+        assertTrue(Files.isDirectory(storageRootWorkDir), "storage root work dir should exist");
+        assertEquals(0, ITestHelper.listAllPaths(storageRootWorkDir).size());
+        assertThat(repo.listObjectIds().collect(Collectors.toList()), containsInAnyOrder(objectId));
+        assertEquals(2, repo.describeObject(objectId).getVersionMap().size());
+        assertTrue(repo.validateObject(objectId, true).getErrors().isEmpty());
+    }
+
     // There appears to be a bug with s3mock's copy object that makes this test fail for some reason
     @Test
     public void writeToObjectConcurrently() {
@@ -365,6 +514,40 @@ public class FileSystemOcflITest extends OcflITest {
                 .collect(Collectors.toList());
     }
 
+    private DataSource pauseBeforeStatement(
+            DataSource delegate,
+            String sqlFragment,
+            AtomicBoolean pause,
+            CountDownLatch reached,
+            CountDownLatch resume) {
+        return (DataSource) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {DataSource.class}, (proxy, method, args) -> {
+                    var result = invoke(method, delegate, args);
+                    if (!method.getName().equals("getConnection")) {
+                        return result;
+                    }
+                    var connection = (Connection) result;
+                    return Proxy.newProxyInstance(
+                            getClass().getClassLoader(), new Class<?>[] {Connection.class}, (p, m, a) -> {
+                                if (m.getName().equals("prepareStatement")
+                                        && ((String) a[0]).contains(sqlFragment)
+                                        && pause.compareAndSet(true, false)) {
+                                    reached.countDown();
+                                    resume.await();
+                                }
+                                return invoke(m, connection, a);
+                            });
+                });
+    }
+
+    private Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
     private Path repoDir(String name) {
         return reposDir.resolve(name);
     }
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Assertions;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -64,6 +65,8 @@ public class S3ITestHelper {
                         .buildWithDefaults(AttributeMap.builder()
                                 .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
                                 .build()))
+                // s3mock does not decode aws-chunked part uploads that include checksum trailers
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
                 .build();
     }
 
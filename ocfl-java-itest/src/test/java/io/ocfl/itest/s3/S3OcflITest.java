@@ -2,8 +2,13 @@ package io.ocfl.itest.s3;
 
 import static io.ocfl.itest.TestHelper.inputStream;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.adobe.testing.s3mock.junit5.S3MockExtension;
@@ -22,14 +27,17 @@ import io.ocfl.core.extension.storage.layout.config.HashedNTupleIdEncapsulationL
 import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
 import io.ocfl.core.path.constraint.ContentPathConstraints;
 import io.ocfl.core.path.mapper.LogicalPathMappers;
+import io.ocfl.core.storage.DefaultOcflStorage;
 import io.ocfl.core.storage.cloud.CloudClient;
 import io.ocfl.core.util.FileUtil;
 import io.ocfl.itest.ITestHelper;
 import io.ocfl.itest.OcflITest;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -157,6 +165,111 @@ public class S3OcflITest extends OcflITest {
         }
     }
 
+    @Test
+    public void streamStagedFilesShouldBePromotedIntoVersion() throws IOException {
+        var repoName = "stream-staging";
+        var repo = streamStagingRepo(repoName);
+
+        var objectId = "o1";
+        var large = new byte[9 * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(large);
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.writeFile(inputStream("file1"), "a/file1.txt")
+                    .writeFile(inputStream("file1"), "b/duplicate.txt")
+                    .writeFile(inputStream("replaced"), "b/file2.txt")
+                    .writeFile(inputStream("file2"), "b/file2.txt", OcflOption.OVERWRITE)
+                    .writeFile(new ByteArrayInputStream(large), "large.bin");
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        assertEquals(
+                "file1", new String(object.getFile("a/file1.txt").getStream().readAllBytes()));
+        assertEquals(
+                "file1",
+                new String(object.getFile("b/duplicate.txt").getStream().readAllBytes()));
+        assertEquals(
+                "file2", new String(object.getFile("b/file2.txt").getStream().readAllBytes()));
+        try (var stream = object.getFile("large.bin").getStream()) {
+            assertArrayEquals(large, stream.readAllBytes());
+        }
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+        assertThat(stagedFiles(repoName), empty());
+    }
+
+    @Test
+    public void streamStagedFilesShouldBeDeletedWhenPathOverwrittenWithExistingContent() throws IOException {
+        var repoName = "stream-staging-overwrite";
+        var repo = streamStagingRepo(repoName);
+
+        var objectId = "o1";
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.writeFile(inputStream("existing"), "existing.txt");
+        });
+
+        repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+            updater.writeFile(inputStream("replaced"), "a.txt")
+                    .writeFile(inputStream("shared"), "b.txt")
+                    .writeFile(inputStream("shared"), "c.txt")
+                    .writeFile(inputStream("existing"), "a.txt", OcflOption.OVERWRITE)
+                    .writeFile(inputStream("existing"), "b.txt", OcflOption.OVERWRITE);
+            assertEquals(1, stagedFiles(repoName).size());
+        });
+
+        var object = repo.getObject(ObjectVersionId.head(objectId));
+        assertEquals("existing", new String(object.getFile("a.txt").getStream().readAllBytes()));
+        assertEquals("existing", new String(object.getFile("b.txt").getStream().readAllBytes()));
+        assertEquals("shared", new String(object.getFile("c.txt").getStream().readAllBytes()));
+
+        var results = repo.validateObject(objectId, true);
+        assertEquals(0, results.getErrors().size(), () -> results.getErrors().toString());
+        assertThat(stagedFiles(repoName), empty());
+    }
+
+    @Test
+    public void streamStagedFilesShouldBeDeletedWhenUpdateFails() {
+        var repoName = "stream-staging-fail";
+        var repo = streamStagingRepo(repoName);
+
+        var objectId = "o1";
+
+        assertThrows(IllegalStateException.class, () -> {
+            repo.updateObject(ObjectVersionId.head(objectId), defaultVersionInfo, updater -> {
+                updater.writeFile(inputStream("file1"), "file1.txt");
+                assertEquals(1, stagedFiles(repoName).size());
+                throw new IllegalStateException("failed");
+            });
+        });
+
+        assertFalse(repo.containsObject(objectId));
+        assertThat(stagedFiles(repoName), empty());
+    }
+
+    @Test
+    public void staleStreamStagedFilesShouldBeDeletedWhenRepoInitialized() {
+        var repoName = "stream-staging-stale";
+        var repo = streamStagingRepo(repoName);
+
+        repo.updateObject(ObjectVersionId.head("o1"), defaultVersionInfo, updater -> {
+            updater.writeFile(inputStream("file1"), "file1.txt");
+        });
+
+        var cloudClient = createCloudClient(repoName);
+        var stale = DefaultOcflStorage.STREAM_STAGING_DIR + "/"
+                + (System.currentTimeMillis() - Duration.ofDays(2).toMillis()) + "-" + UUID.randomUUID();
+        var recent = DefaultOcflStorage.STREAM_STAGING_DIR + "/" + System.currentTimeMillis() + "-" + UUID.randomUUID();
+        cloudClient.uploadBytes(stale, "stale".getBytes(StandardCharsets.UTF_8), null);
+        cloudClient.uploadBytes(recent, "recent".getBytes(StandardCharsets.UTF_8), null);
+
+        var reopened = streamStagingRepo(repoName);
+
+        assertThat(stagedFiles(repoName), contains(recent));
+        assertTrue(reopened.containsObject("o1"));
+    }
+
     // Doesn't work with mock https://github.com/adobe/S3Mock/issues/215
     @Test
     @EnabledIfEnvironmentVariable(named = ENV_ACCESS_KEY, matches = ".+")
@@ -442,6 +555,20 @@ public class S3OcflITest extends OcflITest {
         return "lock_" + UUID.randomUUID().toString().replaceAll("-", "");
     }
 
+    private OcflRepository streamStagingRepo(String name) {
+        return defaultRepo(
+                name,
+                builder -> builder.storage(storage -> storage.objectMapper(ITestHelper.prettyPrintMapper())
+                        .cloud(createCloudClient(name))
+                        .streamStaging(true)));
+    }
+
+    private List<String> stagedFiles(String name) {
+        return listFilesInRepo(name).stream()
+                .filter(file -> file.startsWith(DefaultOcflStorage.STREAM_STAGING_DIR))
+                .collect(Collectors.toList());
+    }
+
     private CloudClient createCloudClient(String name) {
         repoPrefixes.add(name);
 